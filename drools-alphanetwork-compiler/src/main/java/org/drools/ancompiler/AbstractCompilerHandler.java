@@ -36,8 +36,18 @@ abstract class AbstractCompilerHandler extends NetworkHandlerAdaptor {
 
     private static final String MAP_VARIABLE_NAME_SUFFIX = "ToNodeId";
 
+    private static final String READ_ACCESSOR_VARIABLE_NAME_SUFFIX = "ReadAccessor";
+
+    protected static final String HASHED_ALPHAS_VARIABLE_NAME_PREFIX = "hashedAlphas";
+
     protected static final String RANGE_INDEX_VARIABLE_NAME_PREFIX = "rangeIndex";
 
+    /**
+     * Number of groups of hashed alphas encountered so far. Every handler traverses the network in the same order,
+     * so the n-th group gets the same variable names in all of them.
+     */
+    private int hashedAlphasGroups;
+
     public static Class<?> getVariableType(AlphaNode alphaNode) {
 
         // for alphas, we use the constraint of the alpha for the declaration
@@ -74,8 +84,16 @@ abstract class AbstractCompilerHandler extends NetworkHandlerAdaptor {
         return getVariableName(variableType, sink.getId());
     }
 
-    protected String getVariableName() {
-        return MAP_VARIABLE_NAME_SUFFIX;
+    protected int nextHashedAlphasGroup() {
+        return hashedAlphasGroups++;
+    }
+
+    protected String getHashedAlphasMapVariableName(int group) {
+        return HASHED_ALPHAS_VARIABLE_NAME_PREFIX + group + MAP_VARIABLE_NAME_SUFFIX;
+    }
+
+    protected String getHashedAlphasReadAccessorVariableName(int group) {
+        return HASHED_ALPHAS_VARIABLE_NAME_PREFIX + group + READ_ACCESSOR_VARIABLE_NAME_SUFFIX;
     }
 
     /**
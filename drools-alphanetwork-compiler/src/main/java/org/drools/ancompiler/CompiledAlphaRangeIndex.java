@@ -0,0 +1,161 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.ancompiler;
+
+import java.util.Collection;
+
+import org.drools.base.base.ValueType;
+import org.drools.base.rule.IndexableConstraint;
+import org.drools.base.rule.accessor.ReadAccessor;
+import org.drools.base.util.index.ConstraintTypeOperator;
+import org.drools.core.reteoo.AlphaNode;
+import org.drools.core.util.index.AlphaRangeIndex;
+
+/**
+ * Flattened, read only copy of an {@link AlphaRangeIndex} used by the generated subclasses of {@link CompiledNetwork}.
+ * <p/>
+ * The alpha nodes are stored in the same order of the {@link AlphaRangeIndex}: first the <code>&lt;</code> and
+ * <code>&lt;=</code> constraints and then the <code>&gt;=</code> and <code>&gt;</code> ones, both sorted by key.
+ * The nodes matching a given value are then always a contiguous slice of this array, whose bounds are found with
+ * a binary search on each side, so the generated code can propagate them with a plain loop and a switch on the node
+ * id without allocating any collection.
+ */
+public class CompiledAlphaRangeIndex {
+
+    private final ReadAccessor fieldExtractor;
+
+    private final int[] nodeIds;
+
+    /**
+     * Number of <code>&lt;</code> and <code>&lt;=</code> constraints, which are stored before the other ones
+     */
+    private final int upperBoundsSize;
+
+    /**
+     * True for the constraints not matching a value equal to their key and placed after the matching ones with the same key,
+     * that is <code>&lt;=</code> for the upper bounds and <code>&gt;</code> for the lower bounds
+     */
+    private final boolean[] afterEqualValue;
+
+    /**
+     * Keys of the constraints when the indexed field is an integral number, null otherwise
+     */
+    private final long[] longKeys;
+
+    private final Comparable[] keys;
+
+    public CompiledAlphaRangeIndex(AlphaRangeIndex alphaRangeIndex) {
+        this.fieldExtractor = alphaRangeIndex.getFieldIndex().getFieldExtractor();
+
+        Collection<AlphaNode> alphaNodes = alphaRangeIndex.getAllValues();
+        int size = alphaNodes.size();
+        this.nodeIds = new int[size];
+        this.afterEqualValue = new boolean[size];
+        this.keys = new Comparable[size];
+
+        int i = 0;
+        int upperBounds = 0;
+        for (AlphaNode alphaNode : alphaNodes) {
+            ConstraintTypeOperator constraintType = ((IndexableConstraint) alphaNode.getConstraint()).getConstraintType();
+            boolean upperBound = constraintType == ConstraintTypeOperator.LESS_THAN || constraintType == ConstraintTypeOperator.LESS_OR_EQUAL;
+            if (upperBound) {
+                upperBounds++;
+            }
+            nodeIds[i] = alphaNode.getId();
+            afterEqualValue[i] = constraintType == ConstraintTypeOperator.LESS_OR_EQUAL || constraintType == ConstraintTypeOperator.GREATER_THAN;
+            keys[i] = alphaRangeIndex.getIndexKey(alphaNode);
+            i++;
+        }
+        this.upperBoundsSize = upperBounds;
+
+        if (isIntegralNumber(fieldExtractor.getValueType())) {
+            this.longKeys = new long[size];
+            for (int j = 0; j < size; j++) {
+                longKeys[j] = ((Number) keys[j]).longValue();
+            }
+        } else {
+            this.longKeys = null;
+        }
+    }
+
+    private static boolean isIntegralNumber(ValueType valueType) {
+        return valueType == ValueType.PBYTE_TYPE || valueType == ValueType.BYTE_TYPE ||
+                valueType == ValueType.PSHORT_TYPE || valueType == ValueType.SHORT_TYPE ||
+                valueType == ValueType.PINTEGER_TYPE || valueType == ValueType.INTEGER_TYPE ||
+                valueType == ValueType.PLONG_TYPE || valueType == ValueType.LONG_TYPE;
+    }
+
+    public Object getFieldValue(Object fact) {
+        return fieldExtractor.getValue(fact);
+    }
+
+    /**
+     * Returns the position of the first alpha node matching the given field value
+     */
+    public int matchingStart(Object value) {
+        return value == null ? 0 : firstAfter(0, upperBoundsSize, value);
+    }
+
+    /**
+     * Returns the position following the last alpha node matching the given field value
+     */
+    public int matchingEnd(Object value) {
+        return value == null ? 0 : firstAfter(upperBoundsSize, nodeIds.length, value);
+    }
+
+    public int getNodeId(int position) {
+        return nodeIds[position];
+    }
+
+    public int size() {
+        return nodeIds.length;
+    }
+
+    /**
+     * Binary search of the first position in the given range whose key is greater than the value, or equal to it
+     * for a constraint that sorts after the value
+     */
+    private int firstAfter(int from, int to, Object value) {
+        int low = from;
+        int high = to;
+        if (longKeys != null) {
+            long longValue = ((Number) value).longValue();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                long key = longKeys[mid];
+                if (key > longValue || (key == longValue && afterEqualValue[mid])) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+        } else {
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int comparison = keys[mid].compareTo(value);
+                if (comparison > 0 || (comparison == 0 && afterEqualValue[mid])) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+        }
+        return low;
+    }
+}
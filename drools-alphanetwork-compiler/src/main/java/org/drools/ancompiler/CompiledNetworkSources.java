@@ -26,7 +26,6 @@ import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.PackageDeclaration;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import org.drools.core.reteoo.ObjectTypeNode;
-import org.drools.base.rule.IndexableConstraint;
 import org.drools.base.rule.accessor.ReadAccessor;
 import org.drools.core.util.index.AlphaRangeIndex;
 import org.slf4j.Logger;
@@ -37,7 +36,7 @@ public class CompiledNetworkSources {
     private final Logger logger = LoggerFactory.getLogger(CompiledNetworkSources.class);
 
     private final String source;
-    private final IndexableConstraint indexableConstraint;
+    private final Map<String, ReadAccessor> readAccessorDeclarationMap;
     private final String name;
     private final String sourceName;
     private final ObjectTypeNode objectTypeNode;
@@ -45,14 +44,14 @@ public class CompiledNetworkSources {
     private Collection<CompilationUnit> initClasses;
 
     public CompiledNetworkSources(String source,
-                                  IndexableConstraint indexableConstraint,
+                                  Map<String, ReadAccessor> readAccessorDeclarationMap,
                                   String name,
                                   String sourceName,
                                   ObjectTypeNode objectTypeNode,
                                   Map<String, AlphaRangeIndex> rangeIndexDeclarationMap,
                                   Collection<CompilationUnit> initClasses) {
         this.source = source;
-        this.indexableConstraint = indexableConstraint;
+        this.readAccessorDeclarationMap = readAccessorDeclarationMap;
         this.name = name;
         this.sourceName = sourceName;
         this.objectTypeNode = objectTypeNode;
@@ -88,17 +87,13 @@ public class CompiledNetworkSources {
 
     public CompiledNetwork newCompiledNetworkInstance(Class<?> aClass) {
         try {
-            return (CompiledNetwork) aClass.getDeclaredConstructor(ReadAccessor.class, Map.class)
-                    .newInstance(getFieldExtractor(), rangeIndexDeclarationMap);
+            return (CompiledNetwork) aClass.getDeclaredConstructor(Map.class, Map.class)
+                    .newInstance(readAccessorDeclarationMap, rangeIndexDeclarationMap);
         } catch (Exception e) {
             throw new CouldNotCreateAlphaNetworkCompilerException(e);
         }
     }
 
-    private ReadAccessor getFieldExtractor() {
-        return indexableConstraint == null ? null : indexableConstraint.getFieldExtractor();
-    }
-
     public Map<String, String> getAllGeneratedSources() {
         Map<String, String> allGeneratedSources = new HashMap<>();
 
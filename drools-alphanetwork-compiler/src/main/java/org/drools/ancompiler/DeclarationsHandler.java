@@ -18,8 +18,10 @@
  */
 package org.drools.ancompiler;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.Map;
@@ -33,6 +35,7 @@ import org.drools.core.reteoo.Sink;
 import org.drools.core.reteoo.WindowNode;
 import org.drools.base.rule.ContextEntry;
 import org.drools.base.rule.IndexableConstraint;
+import org.drools.base.rule.accessor.ReadAccessor;
 import org.drools.core.util.index.AlphaRangeIndex;
 
 /**
@@ -44,17 +47,20 @@ import org.drools.core.util.index.AlphaRangeIndex;
  * <li>{@link BetaNode}s</li>
  * <li>A {@link Map} for each set of hashed {@link AlphaNode}s. The keys are the hashed values, and the values are
  * the IDs of the alphas</li>
+ * <li>A {@link ReadAccessor} for each set of hashed {@link AlphaNode}s, reading the hashed field</li>
+ * <li>A {@link CompiledAlphaRangeIndex} for each {@link AlphaRangeIndex}</li>
  */
 public class DeclarationsHandler extends AbstractCompilerHandler {
     private static final String PRIVATE_MODIFIER = "private";
 
     /**
-     * This field keeps track of the current set of hashed AlphaNodes for a ClassReader.
+     * This field keeps track of the current set of hashed AlphaNodes for a ClassReader, on top of the ones
+     * enclosing it.
      *
      * @see #startHashedAlphaNodes(org.kie.base.ClassFieldReader)
      * @see #startHashedAlphaNode(org.kie.reteoo.AlphaNode, Object)
      */
-    private HashedAlphasDeclaration currentHashedAlpha;
+    private final Deque<HashedAlphasDeclaration> currentHashedAlphas = new ArrayDeque<>();
 
     private Map<String, AlphaRangeIndex> rangeIndexDeclarationMap = new HashMap<>();
 
@@ -136,23 +142,34 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
 
     @Override
     public void startHashedAlphaNodes(IndexableConstraint indexableConstraint) {
-        final String variableName = getVariableName();
+        final int group = nextHashedAlphasGroup();
+        final String variableName = getHashedAlphasMapVariableName(group);
+        final String readAccessorVariableName = getHashedAlphasReadAccessorVariableName(group);
 
         // we create a new hashed alpha that will be used to keep track of the hashes values to node ID for each
         // class field reader.
-        currentHashedAlpha = new HashedAlphasDeclaration(variableName,
-                                                         ValueType.STRING_TYPE);
+        HashedAlphasDeclaration hashedAlpha = new HashedAlphasDeclaration(variableName,
+                                                                          ValueType.STRING_TYPE,
+                                                                          readAccessorVariableName,
+                                                                          indexableConstraint.getFieldExtractor());
 
-        // add the new declaration
-        hashedAlphaDeclarations.add(currentHashedAlpha);
+        // add the new declaration, groups can be nested when the hashed alphas have hashed children on another field
+        hashedAlphaDeclarations.add(hashedAlpha);
+        currentHashedAlphas.push(hashedAlpha);
 
         final String alphaMap = getVariableDeclaration(variableName);
         builder.append(alphaMap).append(NEWLINE);
+        builder.append(PRIVATE_MODIFIER + " " + ReadAccessor.class.getCanonicalName() + " " + readAccessorVariableName + ";").append(NEWLINE);
+    }
+
+    @Override
+    public void endHashedAlphaNodes(IndexableConstraint indexableConstraint) {
+        currentHashedAlphas.pop();
     }
 
     @Override
     public void startHashedAlphaNode(AlphaNode hashedAlpha, Object hashedValue) {
-        currentHashedAlpha.add(hashedValue, String.valueOf(hashedAlpha.getId()));
+        currentHashedAlphas.peek().add(hashedValue, String.valueOf(hashedAlpha.getId()));
     }
 
     @Override
@@ -166,7 +183,7 @@ public class DeclarationsHandler extends AbstractCompilerHandler {
         String comment = firstNode.toString();
         String variableName = getRangeIndexVariableName(alphaRangeIndex, minId);
         rangeIndexDeclarationMap.put(variableName, alphaRangeIndex);
-        return PRIVATE_MODIFIER + " " + AlphaRangeIndex.class.getName() + " " + variableName + "; // including " + comment + " etc.";
+        return PRIVATE_MODIFIER + " " + CompiledAlphaRangeIndex.class.getName() + " " + variableName + "; // including " + comment + " etc.";
     }
 
     public Map<String, AlphaRangeIndex> getRangeIndexDeclarationMap() {
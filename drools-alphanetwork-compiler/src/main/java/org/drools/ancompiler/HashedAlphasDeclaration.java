@@ -19,6 +19,7 @@
 package org.drools.ancompiler;
 
 import org.drools.base.base.ValueType;
+import org.drools.base.rule.accessor.ReadAccessor;
 
 import java.util.Map;
 import java.util.HashMap;
@@ -34,6 +35,8 @@ import java.util.Collections;
 public class HashedAlphasDeclaration {
     private final String variableName;
     private final ValueType valueType;
+    private final String readAccessorVariableName;
+    private final ReadAccessor readAccessor;
 
     /**
      * This map contains keys which are different values of the same field and the node id that of the
@@ -41,9 +44,11 @@ public class HashedAlphasDeclaration {
      */
     private final Map<Object, String> hashedValuesToNodeIds = new HashMap<>();
 
-    HashedAlphasDeclaration(String variableName,ValueType valueType) {
+    HashedAlphasDeclaration(String variableName, ValueType valueType, String readAccessorVariableName, ReadAccessor readAccessor) {
         this.variableName = variableName;
         this.valueType = valueType;
+        this.readAccessorVariableName = readAccessorVariableName;
+        this.readAccessor = readAccessor;
     }
 
     public ValueType getValueType() {
@@ -54,6 +59,17 @@ public class HashedAlphasDeclaration {
         return variableName;
     }
 
+    /**
+     * Name of the variable holding the {@link ReadAccessor} of the field these alphas are hashed on
+     */
+    public String getReadAccessorVariableName() {
+        return readAccessorVariableName;
+    }
+
+    public ReadAccessor getReadAccessor() {
+        return readAccessor;
+    }
+
     void add(Object hashedValue, String nodeId) {
         hashedValuesToNodeIds.put(hashedValue, nodeId);
     }
@@ -43,6 +43,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -115,13 +116,6 @@ public class ObjectTypeNodeCompiler {
         DebugHandler debugHandler = new DebugHandler();
         parser.accept(debugHandler);
 
-        // After the first parsing we decide whether to traverse hashedAlphaNodes or not
-
-        if(parser.getIndexableConstraints().size() > 1) {
-            logger.warn("Alpha Network Compiler with multiple Indexable Constraints is not supported, reverting to non hashed-ANC. This might be slower ");
-            parser.setTraverseHashedAlphaNodes(false);
-        }
-
         createAdditionalFields(builder);
 
         // create declarations
@@ -183,7 +177,7 @@ public class ObjectTypeNodeCompiler {
 
         return new CompiledNetworkSources(
                 sourceCode,
-                parser.getIndexableConstraint(),
+                readAccessorDeclarationMap(hashedAlphaDeclarations),
                 getName(),
                 getSourceName(),
                 objectTypeNode,
@@ -235,7 +229,6 @@ public class ObjectTypeNodeCompiler {
                 append(CompiledNetwork.class.getName()).append("{ ").append(NEWLINE);
 
         builder.append(String.format("private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(%s.class);%n", generatedClassSimpleName));
-        builder.append(ReadAccessor.class.getCanonicalName() + " readAccessor;\n");
     }
 
     /**
@@ -247,13 +240,15 @@ public class ObjectTypeNodeCompiler {
      *                                maps for the generate class
      */
     private void createConstructor(Collection<HashedAlphasDeclaration> hashedAlphaDeclarations, Map<String, AlphaRangeIndex> rangeIndexDeclarationMap) {
-        builder.append("public ").append(generatedClassSimpleName).append("(" + ReadAccessor.class.getCanonicalName() + " readAccessor, java.util.Map<String, " + AlphaRangeIndex.class.getCanonicalName() + "> rangeIndexDeclarationMap) {").append(NEWLINE);
+        builder.append("public ").append(generatedClassSimpleName).append("(java.util.Map<String, " + ReadAccessor.class.getCanonicalName() + "> readAccessorDeclarationMap, java.util.Map<String, " + AlphaRangeIndex.class.getCanonicalName() + "> rangeIndexDeclarationMap) {").append(NEWLINE);
 
-        builder.append("this.readAccessor = readAccessor;\n");
         // for each hashed alpha, we need to fill in the map member variable with the hashed values to node Ids
         for (HashedAlphasDeclaration declaration : hashedAlphaDeclarations) {
             String mapVariableName = declaration.getVariableName();
 
+            builder.append("this." + declaration.getReadAccessorVariableName() + " = readAccessorDeclarationMap.get(\"" + declaration.getReadAccessorVariableName() + "\");");
+            builder.append(NEWLINE);
+
             for (Object hashedValue : declaration.getHashedValues()) {
                 Object value = hashedValue;
 
@@ -287,13 +282,21 @@ public class ObjectTypeNodeCompiler {
 
         // Range Index
         for (String variableName : rangeIndexDeclarationMap.keySet()) {
-            builder.append("this." + variableName + " = rangeIndexDeclarationMap.get(\"" + variableName + "\");");
+            builder.append("this." + variableName + " = new " + CompiledAlphaRangeIndex.class.getCanonicalName() + "(rangeIndexDeclarationMap.get(\"" + variableName + "\"));");
             builder.append(NEWLINE);
         }
 
         builder.append("}").append(NEWLINE);
     }
 
+    private static Map<String, ReadAccessor> readAccessorDeclarationMap(Collection<HashedAlphasDeclaration> hashedAlphaDeclarations) {
+        Map<String, ReadAccessor> readAccessorDeclarationMap = new HashMap<>();
+        for (HashedAlphasDeclaration declaration : hashedAlphaDeclarations) {
+            readAccessorDeclarationMap.put(declaration.getReadAccessorVariableName(), declaration.getReadAccessor());
+        }
+        return readAccessorDeclarationMap;
+    }
+
     /**
      * Returns the fully qualified name of the generated subclass of {@link CompiledNetwork}
      *
@@ -19,6 +19,7 @@
 package org.drools.ancompiler;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,7 +64,7 @@ public class ObjectTypeNodeParser {
     private final ObjectTypeNode objectTypeNode;
     private LinkedHashSet<IndexableConstraint> indexableConstraints = new LinkedHashSet<>();
 
-    // When we have more than one indexable constraints we disable traversing of HashedAlphaNode
+    // When disabled, the hashed alpha nodes are reported as non-hashed ones
     private boolean traverseHashedAlphaNodes = true;
 
     public void setTraverseHashedAlphaNodes(boolean traverseHashedAlphaNodes) {
@@ -138,39 +139,52 @@ public class ObjectTypeNodeParser {
     }
 
     private void traverseHashedAlphaNodes(Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> hashedAlphaNodes, NetworkHandler handler) {
-        if (hashedAlphaNodes != null && !hashedAlphaNodes.isEmpty()) {
-            AlphaNode firstAlpha = hashedAlphaNodes.values().iterator().next();
-            IndexableConstraint hashedFieldReader = getClassFieldReaderForHashedAlpha(firstAlpha);
-            indexableConstraints.add(hashedFieldReader);
-
-            // start the hashed alphas
-            handler.startHashedAlphaNodes(hashedFieldReader);
-
-            AlphaNode optionalNullAlphaNodeCase = null;
-            for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
-                CompositeObjectSinkAdapter.HashKey hashKey = entry.getKey();
-                AlphaNode alphaNode = entry.getValue();
-
-                final Object objectValue = hashKey.getObjectValue();
-                if (objectValue != null) {
-                    handler.startHashedAlphaNode(alphaNode, objectValue);
-                    // traverse the propagator for each alpha
-                    traversePropagator(alphaNode.getObjectSinkPropagator(), handler);
-                    handler.endHashedAlphaNode(alphaNode, hashKey.getObjectValue());
-                } else {
-                    optionalNullAlphaNodeCase = alphaNode;
-                }
-            }
+        if (hashedAlphaNodes == null || hashedAlphaNodes.isEmpty()) {
+            return;
+        }
+        // the same propagator can hash its alphas on more than one field, each field is reported as a separate group
+        Map<Integer, Map<CompositeObjectSinkAdapter.HashKey, AlphaNode>> hashedAlphaNodesByField = new LinkedHashMap<>();
+        for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
+            hashedAlphaNodesByField.computeIfAbsent(entry.getKey().getIndex(), index -> new LinkedHashMap<>())
+                    .put(entry.getKey(), entry.getValue());
+        }
+        for (Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> fieldHashedAlphaNodes : hashedAlphaNodesByField.values()) {
+            traverseFieldHashedAlphaNodes(fieldHashedAlphaNodes, handler);
+        }
+    }
+
+    private void traverseFieldHashedAlphaNodes(Map<CompositeObjectSinkAdapter.HashKey, AlphaNode> hashedAlphaNodes, NetworkHandler handler) {
+        AlphaNode firstAlpha = hashedAlphaNodes.values().iterator().next();
+        IndexableConstraint hashedFieldReader = getClassFieldReaderForHashedAlpha(firstAlpha);
+        indexableConstraints.add(hashedFieldReader);
 
-            // end of the hashed alphas
-            handler.endHashedAlphaNodes(hashedFieldReader);
+        // start the hashed alphas
+        handler.startHashedAlphaNodes(hashedFieldReader);
 
-            if (optionalNullAlphaNodeCase != null) {
-                handler.nullCaseAlphaNodeStart(optionalNullAlphaNodeCase);
-                traversePropagator(optionalNullAlphaNodeCase.getObjectSinkPropagator(), handler);
-                handler.nullCaseAlphaNodeEnd(optionalNullAlphaNodeCase);
+        AlphaNode optionalNullAlphaNodeCase = null;
+        for (Map.Entry<CompositeObjectSinkAdapter.HashKey, AlphaNode> entry : hashedAlphaNodes.entrySet()) {
+            CompositeObjectSinkAdapter.HashKey hashKey = entry.getKey();
+            AlphaNode alphaNode = entry.getValue();
+
+            final Object objectValue = hashKey.getObjectValue();
+            if (objectValue != null) {
+                handler.startHashedAlphaNode(alphaNode, objectValue);
+                // traverse the propagator for each alpha
+                traversePropagator(alphaNode.getObjectSinkPropagator(), handler);
+                handler.endHashedAlphaNode(alphaNode, hashKey.getObjectValue());
+            } else {
+                optionalNullAlphaNodeCase = alphaNode;
             }
         }
+
+        // end of the hashed alphas
+        handler.endHashedAlphaNodes(hashedFieldReader);
+
+        if (optionalNullAlphaNodeCase != null) {
+            handler.nullCaseAlphaNodeStart(optionalNullAlphaNodeCase);
+            traversePropagator(optionalNullAlphaNodeCase.getObjectSinkPropagator(), handler);
+            handler.nullCaseAlphaNodeEnd(optionalNullAlphaNodeCase);
+        }
     }
 
     private void traverseRangeIndexedAlphaNodes(Map<CompositeObjectSinkAdapter.FieldIndex, AlphaRangeIndex> rangeIndexMap, NetworkHandler handler) {
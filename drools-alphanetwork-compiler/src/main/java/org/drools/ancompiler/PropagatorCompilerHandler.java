@@ -46,7 +46,7 @@ import com.github.javaparser.ast.expr.VariableDeclarationExpr;
 import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.BreakStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
-import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
 import com.github.javaparser.ast.stmt.IfStmt;
 import com.github.javaparser.ast.stmt.Statement;
 import com.github.javaparser.ast.stmt.SwitchEntry;
@@ -68,7 +68,6 @@ import org.drools.core.common.PropagationContext;
 import org.drools.base.rule.accessor.ReadAccessor;
 import org.drools.core.util.index.AlphaRangeIndex;
 
-import static com.github.javaparser.StaticJavaParser.parseExpression;
 import static com.github.javaparser.StaticJavaParser.parseStatement;
 import static com.github.javaparser.StaticJavaParser.parseType;
 import static com.github.javaparser.ast.NodeList.nodeList;
@@ -90,7 +89,11 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     protected static final String MODIFY_PREVIOUS_TUPLE_PARAM_NAME = "modifyPreviousTuples";
     protected static final String LOCAL_FACT_VAR_NAME = "fact";
 
-    private Class<?> fieldType;
+    /**
+     * Groups of hashed alphas being compiled, the innermost first
+     */
+    private final Deque<HashedAlphasGroup> hashedAlphasGroups = new ArrayDeque<>();
+    private HashedAlphasGroup lastHashedAlphasGroup;
 
     protected BlockStmt allStatements = new BlockStmt();
     protected Deque<Node> currentStatement = new ArrayDeque<>();
@@ -157,17 +160,22 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     @Override
     public void startHashedAlphaNodes(IndexableConstraint indexableConstraint) {
         final ReadAccessor fieldExtractor = indexableConstraint.getFieldExtractor();
-        fieldType = fieldExtractor.getExtractToClass();
+        final int group = nextHashedAlphasGroup();
+        final Class<?> fieldType = fieldExtractor.getExtractToClass();
+        final String switchVariableName = "switchVar" + group;
         BlockStmt currentBlockStatement = getCurrentBlockStatement();
 
+        MethodCallExpr readValue = new MethodCallExpr(new NameExpr(getHashedAlphasReadAccessorVariableName(group)),
+                                                      "getValue",
+                                                      nodeList(factExpression()));
+
         final SwitchStmt switchStmt;
         final Statement nullCheck;
         if (canInlineValue(fieldType)) {
 
-            String switchVariableName = "switchVar";
             ExpressionStmt switchVariable = localVariableWithCastInitializer(toJPType(fieldType),
                                                                              switchVariableName,
-                                                                             parseExpression("readAccessor.getValue(fact)"));
+                                                                             readValue);
 
             currentBlockStatement.addStatement(switchVariable);
             switchStmt = new SwitchStmt().setSelector(new NameExpr(switchVariableName));
@@ -181,11 +189,15 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
             }
         } else { // Hashable but not inlinable
 
-            String localVariableName = "NodeId";
+            String localVariableName = "NodeId" + group;
+
+            currentBlockStatement.addStatement(localVariable(parseType("java.lang.Object"), switchVariableName, readValue));
 
             ExpressionStmt expressionStmt = localVariableWithCastInitializer(parseType("java.lang.Integer"),
                                                                              localVariableName,
-                                                                             parseExpression("ToNodeId.get(readAccessor.getValue(fact))"));
+                                                                             new MethodCallExpr(new NameExpr(getHashedAlphasMapVariableName(group)),
+                                                                                                "get",
+                                                                                                nodeList(new NameExpr(switchVariableName))));
 
             currentBlockStatement.addStatement(expressionStmt);
 
@@ -199,6 +211,40 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
 
         currentBlockStatement.addStatement(nullCheck);
         this.currentStatement.push(switchStmt);
+        this.hashedAlphasGroups.push(new HashedAlphasGroup(fieldType, switchVariableName));
+    }
+
+    @Override
+    public void endHashedAlphaNodes(IndexableConstraint hashedFieldReader) {
+        this.currentStatement.pop();
+        this.lastHashedAlphasGroup = this.hashedAlphasGroups.pop();
+    }
+
+    @Override
+    public void nullCaseAlphaNodeStart(AlphaNode hashedAlpha) {
+        // the null case is reported right after the end of its group, so the switch variable is still in scope
+        IfStmt ifStatement = new IfStmt()
+                .setCondition(new BinaryExpr(new NameExpr(lastHashedAlphasGroup.switchVariableName), new NullLiteralExpr(), BinaryExpr.Operator.EQUALS))
+                .setThenStmt(new BlockStmt());
+
+        getCurrentBlockStatement().addStatement(ifStatement);
+        currentStatement.push(ifStatement);
+    }
+
+    @Override
+    public void nullCaseAlphaNodeEnd(AlphaNode hashedAlpha) {
+        currentStatement.pop();
+    }
+
+    /**
+     * The body of each switch entry is extracted to a method receiving only the fact handle, so the local fact
+     * variable can be used only outside of them
+     */
+    private Expression factExpression() {
+        boolean insideSwitchEntry = getCurrentBlockStatement().findAncestor(SwitchEntry.class).isPresent();
+        return insideSwitchEntry ?
+                new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject") :
+                new NameExpr(LOCAL_FACT_VAR_NAME);
     }
 
     protected boolean canInlineValue(Class<?> fieldType) {
@@ -209,7 +255,7 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     public void startHashedAlphaNode(AlphaNode hashedAlpha, Object hashedValue) {
         SwitchEntry newSwitchEntry = new SwitchEntry();
 
-        if (canInlineValue(fieldType)) {
+        if (canInlineValue(hashedAlphasGroups.getFirst().fieldType)) {
             final Expression quotedHashedValue;
             if (hashedValue instanceof String) {
                 quotedHashedValue = new StringLiteralExpr((String) hashedValue);
@@ -234,28 +280,27 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
     @Override
     public void startRangeIndex(AlphaRangeIndex alphaRangeIndex) {
         String rangeIndexVariableName = getRangeIndexVariableName(alphaRangeIndex, getMinIdFromRangeIndex(alphaRangeIndex));
-        String matchingResultVariableName = rangeIndexVariableName + "_result";
-        String matchingNodeVariableName = matchingResultVariableName + "_node";
-
-        ExpressionStmt matchingResultVariable = localVariable(parseType("java.util.Collection<org.drools.core.reteoo.AlphaNode>"),
-                                                              matchingResultVariableName,
-                                                              new MethodCallExpr(new NameExpr(rangeIndexVariableName),
-                                                                                 "getMatchingAlphaNodes",
-                                                                                 nodeList(new MethodCallExpr(new NameExpr(FACT_HANDLE_PARAM_NAME), "getObject"))));
+        String valueVariableName = rangeIndexVariableName + "_value";
+        String endVariableName = rangeIndexVariableName + "_end";
+        String positionVariableName = rangeIndexVariableName + "_position";
 
         final BlockStmt currentBlockStatement = getCurrentBlockStatement();
 
-        currentBlockStatement.addStatement(matchingResultVariable);
+        // the matching alpha nodes are a contiguous slice of the compiled range index, see CompiledAlphaRangeIndex
+        currentBlockStatement.addStatement(parseStatement(String.format("Object %s = %s.getFieldValue(%s.getObject());",
+                                                                        valueVariableName, rangeIndexVariableName, FACT_HANDLE_PARAM_NAME)));
+        currentBlockStatement.addStatement(parseStatement(String.format("int %s = %s.matchingEnd(%s);",
+                                                                        endVariableName, rangeIndexVariableName, valueVariableName)));
 
-        BlockStmt body = new BlockStmt();
-        ForEachStmt forEachStmt = new ForEachStmt(new VariableDeclarationExpr(parseType("org.drools.core.reteoo.AlphaNode"), matchingNodeVariableName),
-                                                  new NameExpr(matchingResultVariableName), body);
-
-        currentBlockStatement.addStatement(forEachStmt);
+        ForStmt forStmt = parseStatement(String.format("for (int %1$s = %2$s.matchingStart(%3$s); %1$s < %4$s; %1$s++) { }",
+                                                       positionVariableName, rangeIndexVariableName, valueVariableName, endVariableName)).asForStmt();
+        currentBlockStatement.addStatement(forStmt);
 
-        SwitchStmt switchStatement = new SwitchStmt().setSelector(new MethodCallExpr(new NameExpr(matchingNodeVariableName), "getId"));
+        SwitchStmt switchStatement = new SwitchStmt().setSelector(new MethodCallExpr(new NameExpr(rangeIndexVariableName),
+                                                                                     "getNodeId",
+                                                                                     nodeList(new NameExpr(positionVariableName))));
         this.currentStatement.push(switchStatement);
-        body.addStatement(switchStatement);
+        forStmt.getBody().asBlockStmt().addStatement(switchStatement);
     }
 
     @Override
@@ -414,4 +459,15 @@ public abstract class PropagatorCompilerHandler extends AbstractCompilerHandler
                         new VariableDeclarator(type, variableName,
                                                source)));
     }
+
+    private static class HashedAlphasGroup {
+
+        private final Class<?> fieldType;
+        private final String switchVariableName;
+
+        private HashedAlphasGroup(Class<?> fieldType, String switchVariableName) {
+            this.fieldType = fieldType;
+            this.switchVariableName = switchVariableName;
+        }
+    }
 }
@@ -31,9 +31,6 @@ public class MultipleIndexableConstraintsTest extends BaseModelTest {
         super(testRunType);
     }
 
-    /* Currently we don't support multiple indexable constraints in the ANC, so this test will pass because
-        it disables the switch generation and the inlining. See DROOLS-5947
-     */
     @Test
     public void testMultipleIndexedConstraintTest() {
         final StringBuilder rule =
@@ -84,4 +81,73 @@ public class MultipleIndexableConstraintsTest extends BaseModelTest {
                 " results.add($p);\n" +
                 "end\n";
     }
+
+    @Test
+    public void testSiblingIndexedConstraintsOnDifferentFields() {
+        final StringBuilder rule =
+                new StringBuilder("global java.util.List results;\n" +
+                                          "import " + Person.class.getCanonicalName() + ";\n");
+
+        for (String name : new String[]{"a", "b", "c"}) {
+            rule.append("rule name_" + name + " when\n" +
+                                "    $p : Person( name == \"" + name + "\" )\n" +
+                                "then\n" +
+                                " results.add(drools.getRule().getName());\n" +
+                                "end\n");
+        }
+        for (int age = 1; age <= 3; age++) {
+            rule.append("rule age_" + age + " when\n" +
+                                "    $p : Person( age == " + age + " )\n" +
+                                "then\n" +
+                                " results.add(drools.getRule().getName());\n" +
+                                "end\n");
+        }
+
+        KieSession ksession = getKieSession(rule.toString());
+        ArrayList<Object> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        try {
+            ksession.insert(new Person("a", 2));
+            ksession.insert(new Person("c", 7));
+            ksession.insert(new Person("d", 3));
+            ksession.fireAllRules();
+            assertThat(results).containsExactlyInAnyOrder("name_a", "age_2", "name_c", "age_3");
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testNullCaseOfHashedConstraints() {
+        final StringBuilder rule =
+                new StringBuilder("global java.util.List results;\n" +
+                                          "import " + Person.class.getCanonicalName() + ";\n");
+
+        for (String name : new String[]{"a", "b", "c"}) {
+            rule.append("rule name_" + name + " when\n" +
+                                "    $p : Person( name == \"" + name + "\" )\n" +
+                                "then\n" +
+                                " results.add(drools.getRule().getName());\n" +
+                                "end\n");
+        }
+        rule.append("rule name_null when\n" +
+                            "    $p : Person( name == null )\n" +
+                            "then\n" +
+                            " results.add(drools.getRule().getName());\n" +
+                            "end\n");
+
+        KieSession ksession = getKieSession(rule.toString());
+        ArrayList<Object> results = new ArrayList<>();
+        ksession.setGlobal("results", results);
+
+        try {
+            ksession.insert(new Person("b", 1));
+            ksession.insert(new Person(null, 2));
+            ksession.fireAllRules();
+            assertThat(results).containsExactlyInAnyOrder("name_b", "name_null");
+        } finally {
+            ksession.dispose();
+        }
+    }
 }
@@ -20,5 +20,10 @@ package org.drools.compiler.kie.builder.impl;
 
 public interface KieBaseUpdater extends Runnable {
 
-
+    /**
+     * Performs the part of the update that doesn't need to modify the KieBase, like building the packages of the new
+     * KieModule. It is invoked by the thread requesting the update before this updater is enqueued as a modification
+     * of the KieBase, so it doesn't block the sessions created from it.
+     */
+    default void prepare() { }
 }
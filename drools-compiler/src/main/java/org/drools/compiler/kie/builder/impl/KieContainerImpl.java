@@ -243,7 +243,12 @@ public class KieContainerImpl
     }
 
     private Results update( InternalKieModule currentKM, InternalKieModule newKM ) {
+        long diffStart = System.nanoTime();
         final KieJarChangeSet cs = currentKM.getChanges( newKM );
+        if (log.isInfoEnabled()) {
+            log.info( "Computed changes from " + currentKM.getReleaseId() + " to " + newKM.getReleaseId() + " in " + elapsedMillis( diffStart ) + " ms: " +
+                      cs.getChanges().size() + " changed resources" );
+        }
         List<String> modifiedClassNames = getModifiedClasses(cs);
         final boolean modifyingUsedClass = isModifyingUsedClass( modifiedClassNames, getClassLoader() ) || isModifyingUsedFunction(cs);
         final Collection<Class<?>> modifiedClasses = reinitModifiedClasses( newKM, modifiedClassNames, getClassLoader(), modifyingUsedClass );
@@ -298,7 +303,20 @@ public class KieContainerImpl
                                                                           )))
                         .forEach(compositeUpdater::add);
 
-                kBase.enqueueModification(compositeUpdater);
+                // build what is possible before locking the kbase, so its sessions are paused only to apply the changes
+                long prepareStart = System.nanoTime();
+                compositeUpdater.prepare();
+                if (log.isInfoEnabled()) {
+                    log.info( "Prepared update of KieBase " + kbaseName + " in " + elapsedMillis( prepareStart ) + " ms" );
+                }
+
+                kBase.enqueueModification(() -> {
+                    long applyStart = System.nanoTime();
+                    compositeUpdater.run();
+                    if (log.isInfoEnabled()) {
+                        log.info( "Applied update of KieBase " + kbaseName + " in " + elapsedMillis( applyStart ) + " ms" );
+                    }
+                });
 
             }
         }
@@ -314,6 +332,10 @@ public class KieContainerImpl
         return results;
     }
 
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
     public static class CompositeRunnable implements Runnable {
 
         private final List<Runnable> runnables = new ArrayList<>();
@@ -326,6 +348,17 @@ public class KieContainerImpl
             runnables.addAll( runnableList );
         }
 
+        /**
+         * Prepares all the {@link KieBaseUpdater}s of this composite, see {@link KieBaseUpdater#prepare()}
+         */
+        void prepare() {
+            for (Runnable runnable : runnables) {
+                if (runnable instanceof KieBaseUpdater) {
+                    (( KieBaseUpdater ) runnable).prepare();
+                }
+            }
+        }
+
         @Override
         public void run() {
             runnables.forEach( Runnable::run );
@@ -67,6 +67,26 @@ public class AccumulateUtil {
             } else if (Number.class.isAssignableFrom( exprClass )) {
                 functionName = "minN";
             }
+        } else if (functionName.equals("orderedMax") || functionName.equals("orderedMin")) {
+            final Class<?> exprClass = convertFromPrimitiveType( exprClassSupplier.get() );
+            if (exprClass == Integer.class) {
+                functionName += "I";
+            } else if (exprClass == Long.class) {
+                functionName += "L";
+            } else if (exprClass == Double.class) {
+                functionName += "D";
+            } else if (Number.class.isAssignableFrom( exprClass )) {
+                functionName += "N";
+            }
+        } else if (functionName.equals("median")) {
+            final Class<?> exprClass = convertFromPrimitiveType( exprClassSupplier.get() );
+            if (exprClass == Integer.class) {
+                functionName = "medianI";
+            } else if (exprClass == Long.class) {
+                functionName = "medianL";
+            } else if (exprClass == Double.class) {
+                functionName = "medianD";
+            }
         }
         return functionName;
     }
@@ -21,6 +21,7 @@ package org.drools.core;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.JDKTimerService;
 import org.drools.core.time.impl.PseudoClockScheduler;
+import org.drools.core.time.impl.SharedTimerService;
 
 /**
  * This enum represents all engine supported clocks
@@ -33,6 +34,16 @@ public enum ClockType {
         }
     },
 
+    /**
+     * A realtime clock where the timers of all the sessions are scheduled by
+     * a single JVM-wide thread instead of a thread pool for each session
+     */
+    SHARED_REALTIME_CLOCK("sharedrealtime") {
+        public SharedTimerService createInstance() {
+            return new SharedTimerService();
+        }
+    },
+
     /**
      * A Pseudo clock is a clock that is completely controlled by the
      * client application. It is usually used during simulations or tests
@@ -67,6 +78,8 @@ public enum ClockType {
             return PSEUDO_CLOCK;
         } else if( REALTIME_CLOCK.getId().equalsIgnoreCase( id ) ) {
             return REALTIME_CLOCK;
+        } else if( SHARED_REALTIME_CLOCK.getId().equalsIgnoreCase( id ) ) {
+            return SHARED_REALTIME_CLOCK;
         }
         throw new IllegalArgumentException( "Illegal enum value '" + id + "' for ClockType" );
     }
@@ -784,7 +784,15 @@ public class RuleBaseConfiguration  extends BaseConfiguration<KieBaseOption, Sin
     }
 
     public boolean isParallelExecution() {
-        return this.parallelExecution == ParallelExecutionOption.FULLY_PARALLEL;
+        return this.parallelExecution == ParallelExecutionOption.FULLY_PARALLEL || isPartitionedPropagation();
+    }
+
+    /**
+     * Returns true if each partition of the rulebase propagates the facts inserted
+     * into it as soon as they are enqueued, concurrently with the other partitions.
+     */
+    public boolean isPartitionedPropagation() {
+        return this.parallelExecution == ParallelExecutionOption.PARTITIONED;
     }
 
     /**
@@ -40,8 +40,10 @@ import org.kie.api.runtime.conf.TimedRuleExecutionFilter;
 import org.kie.api.runtime.conf.TimedRuleExecutionOption;
 import org.kie.internal.conf.CompositeConfiguration;
 import org.kie.internal.conf.InternalPropertiesConfiguration;
+import org.kie.internal.runtime.conf.ExpirationSchedulingOption;
 import org.kie.internal.runtime.conf.ForceEagerActivationFilter;
 import org.kie.internal.runtime.conf.ForceEagerActivationOption;
+import org.kie.internal.runtime.conf.PropagationListOption;
 
 public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption, SingleValueKieSessionOption, MultiValueKieSessionOption> implements KieSessionConfiguration, InternalPropertiesConfiguration, Externalizable {
 
@@ -62,6 +64,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
 
     private QueryListenerOption            queryListener;
 
+    private PropagationListOption          propagationList;
+
+    private ExpirationSchedulingOption     expirationScheduling;
+
     public void writeExternal(ObjectOutput out) throws IOException {
         super.writeExternal(out);
         out.writeObject( queryListener );
@@ -99,6 +105,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         setBeliefSystemType( BeliefSystemType.resolveBeliefSystemType( getPropertyValue( BeliefSystemTypeOption.PROPERTY_NAME, BeliefSystemType.SIMPLE.getId() ) ) );
 
         setQueryListenerOption( QueryListenerOption.determineQueryListenerClassOption( getPropertyValue( QueryListenerOption.PROPERTY_NAME, QueryListenerOption.STANDARD.getAsString() ) ) );
+
+        setPropagationListOption( PropagationListOption.determinePropagationList( getPropertyValue( PropagationListOption.PROPERTY_NAME, PropagationListOption.SYNCHRONIZED.getAsString() ) ) );
+
+        setExpirationSchedulingOption( ExpirationSchedulingOption.determineExpirationScheduling( getPropertyValue( ExpirationSchedulingOption.PROPERTY_NAME, ExpirationSchedulingOption.JOBS.getAsString() ) ) );
     }
 
     public void setDirectFiring(boolean directFiring) {
@@ -164,6 +174,24 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
         this.queryListener = queryListener;
     }
 
+    public PropagationListOption getPropagationListOption() {
+        return this.propagationList;
+    }
+
+    public void setPropagationListOption( PropagationListOption propagationList ) {
+        checkCanChange();
+        this.propagationList = propagationList;
+    }
+
+    public ExpirationSchedulingOption getExpirationSchedulingOption() {
+        return this.expirationScheduling;
+    }
+
+    public void setExpirationSchedulingOption( ExpirationSchedulingOption expirationScheduling ) {
+        checkCanChange();
+        this.expirationScheduling = expirationScheduling;
+    }
+
 
     public final <T extends KieSessionOption> void setOption(T option) {
         switch (option.propertyName()) {
@@ -191,6 +219,14 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setQueryListenerOption((QueryListenerOption) option);
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                setPropagationListOption((PropagationListOption) option);
+                break;
+            }
+            case ExpirationSchedulingOption.PROPERTY_NAME: {
+                setExpirationSchedulingOption((ExpirationSchedulingOption) option);
+                break;
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 setBeliefSystemType(((BeliefSystemType.resolveBeliefSystemType(((BeliefSystemTypeOption) option).getBeliefSystemType()))));
                 break;
@@ -215,6 +251,12 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
             case QueryListenerOption.PROPERTY_NAME: {
                 return (T) getQueryListenerOption();
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                return (T) getPropagationListOption();
+            }
+            case ExpirationSchedulingOption.PROPERTY_NAME: {
+                return (T) getExpirationSchedulingOption();
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 return (T) BeliefSystemTypeOption.get( this.getBeliefSystemType().getId() );
             }
@@ -260,6 +302,16 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 setQueryListenerOption(QueryListenerOption.determineQueryListenerClassOption(property));
                 break;
             }
+            case PropagationListOption.PROPERTY_NAME: {
+                String property = StringUtils.isEmpty(value) ? PropagationListOption.SYNCHRONIZED.getAsString() : value;
+                setPropagationListOption(PropagationListOption.determinePropagationList(property));
+                break;
+            }
+            case ExpirationSchedulingOption.PROPERTY_NAME: {
+                String property = StringUtils.isEmpty(value) ? ExpirationSchedulingOption.JOBS.getAsString() : value;
+                setExpirationSchedulingOption(ExpirationSchedulingOption.determineExpirationScheduling(property));
+                break;
+            }
             case BeliefSystemTypeOption.PROPERTY_NAME: {
                 setBeliefSystemType(StringUtils.isEmpty(value) ? BeliefSystemType.SIMPLE : BeliefSystemType.resolveBeliefSystemType(value));
                 break;
@@ -282,6 +334,10 @@ public class RuleSessionConfiguration extends BaseConfiguration<KieSessionOption
                 return Boolean.toString(isAccumulateNullPropagation());
             } case QueryListenerOption.PROPERTY_NAME: {
                 return getQueryListenerOption().getAsString();
+            } case PropagationListOption.PROPERTY_NAME: {
+                return getPropagationListOption().getAsString();
+            } case ExpirationSchedulingOption.PROPERTY_NAME: {
+                return getExpirationSchedulingOption().getAsString();
             } case BeliefSystemTypeOption.PROPERTY_NAME: {
                 return getBeliefSystemType().getId();
             }
@@ -54,6 +54,19 @@ public interface WorkingMemoryEntryPoint extends EntryPoint {
     FactHandle insert(Object object,
                       boolean dynamic);
 
+    /**
+     * Inserts the first <code>length</code> objects of the given array as a single operation,
+     * storing the fact handle of each object at the same index of <code>handles</code>.
+     * Implementations may propagate the whole batch through the network at once.
+     */
+    default void insertAll(Object[] objects,
+                           int length,
+                           FactHandle[] handles) {
+        for (int i = 0; i < length; i++) {
+            handles[i] = insert(objects[i]);
+        }
+    }
+
     /**
      * Internal method called by the engine when the session is being disposed, so that the entry point
      * can proceed with the necessary clean ups.
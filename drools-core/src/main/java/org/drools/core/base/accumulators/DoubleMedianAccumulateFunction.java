@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import org.drools.core.util.AbstractOrderedBag;
+import org.drools.core.util.DoubleOrderedBag;
+
+/**
+ * An implementation of an accumulator capable of calculating median values, also efficiently supporting reverse.
+ * As for {@link MedianAccumulateFunction}, with an even number of values the median is the mean of the two middle ones.
+ */
+public class DoubleMedianAccumulateFunction extends PercentileAccumulateFunction {
+
+    public DoubleMedianAccumulateFunction() {
+        super( 50, DoubleOrderedBag::new, Double.class );
+    }
+
+    @Override
+    protected Object resultOf(AbstractOrderedBag values) {
+        DoubleOrderedBag bag = (DoubleOrderedBag) values;
+        int size = bag.size();
+        double lower = bag.get( (size - 1) / 2 );
+        return size % 2 == 1 ? lower : (lower + bag.get( size / 2 )) / 2;
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.math.BigDecimal;
+
+import org.drools.core.util.AbstractOrderedBag;
+import org.drools.core.util.NumberOrderedBag;
+
+/**
+ * An implementation of an accumulator capable of calculating median values, also efficiently supporting reverse.
+ * With an even number of values the median is the mean of the two middle ones, calculated as a BigDecimal if
+ * any of them is a BigDecimal or a BigInteger and as a Double otherwise.
+ */
+public class MedianAccumulateFunction extends PercentileAccumulateFunction {
+
+    private static final BigDecimal TWO = BigDecimal.valueOf( 2 );
+
+    public MedianAccumulateFunction() {
+        super( 50, NumberOrderedBag::new, Number.class );
+    }
+
+    @Override
+    protected Object resultOf(AbstractOrderedBag values) {
+        int size = values.size();
+        Number lower = (Number) values.valueAt( (size - 1) / 2 );
+        if (size % 2 == 1) {
+            return lower;
+        }
+        Number upper = (Number) values.valueAt( size / 2 );
+        if (NumberOrderedBag.compare( lower, upper ) == 0) {
+            return lower;
+        }
+        if (NumberOrderedBag.isBig( lower ) || NumberOrderedBag.isBig( upper )) {
+            return NumberOrderedBag.toBigDecimal( lower ).add( NumberOrderedBag.toBigDecimal( upper ) ).divide( TWO );
+        }
+        return (lower.doubleValue() + upper.doubleValue()) / 2;
+    }
+}
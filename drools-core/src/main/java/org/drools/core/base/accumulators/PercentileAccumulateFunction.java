@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.function.Supplier;
+
+import org.drools.core.util.AbstractOrderedBag;
+
+/**
+ * Base class for the accumulators calculating the value at a given percentile (where 0 is the min, 100 the max
+ * and 50 the lower median) of the accumulated values. The values are kept in an {@link AbstractOrderedBag},
+ * so both accumulate and reverse are O(log n) and, differently from {@link MinAccumulateFunction} and
+ * {@link MaxAccumulateFunction}, retracting the current result never requires to recalculate it from scratch.
+ * Subclasses define the percentile and the bag specialization to be used for a given type of values.
+ */
+public abstract class PercentileAccumulateFunction extends AbstractAccumulateFunction<PercentileAccumulateFunction.PercentileData> {
+
+    private final double percentile;
+
+    private final Supplier<AbstractOrderedBag> bagSupplier;
+
+    private final Class<?> resultType;
+
+    protected PercentileAccumulateFunction(double percentile, Supplier<AbstractOrderedBag> bagSupplier, Class<?> resultType) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException( "Percentile must be between 0 and 100 but was " + percentile );
+        }
+        this.percentile = percentile;
+        this.bagSupplier = bagSupplier;
+        this.resultType = resultType;
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException {
+
+    }
+
+    public static class PercentileData implements Externalizable {
+        public AbstractOrderedBag values;
+        public Object result;
+
+        public PercentileData() {}
+
+        public PercentileData(AbstractOrderedBag values) {
+            this.values = values;
+        }
+
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            values = (AbstractOrderedBag) in.readObject();
+            result = in.readObject();
+        }
+
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(values);
+            out.writeObject(result);
+        }
+
+        @Override
+        public String toString() {
+            return "percentile";
+        }
+    }
+
+    public PercentileData createContext() {
+        return new PercentileData( bagSupplier.get() );
+    }
+
+    public void init(PercentileData data) {
+        data.values.clear();
+        data.result = null;
+    }
+
+    public void accumulate(PercentileData data,
+                           Object value) {
+        if (value != null) {
+            data.values.addValue( value );
+            data.result = resultOf( data.values );
+        }
+    }
+
+    public void reverse(PercentileData data,
+                        Object value) {
+        if (value != null) {
+            data.values.removeValue( value );
+            data.result = data.values.isEmpty() ? null : resultOf( data.values );
+        }
+    }
+
+    /**
+     * Calculates the result on the given non empty bag of accumulated values
+     */
+    protected Object resultOf(AbstractOrderedBag values) {
+        return values.valueAtPercentile( percentile );
+    }
+
+    public Object getResult(PercentileData data) {
+        return data.result;
+    }
+
+    public boolean supportsReverse() {
+        return true;
+    }
+
+    public Class<?> getResultType() {
+        return resultType;
+    }
+}
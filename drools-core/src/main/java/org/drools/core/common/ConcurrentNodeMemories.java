@@ -18,6 +18,7 @@
  */
 package org.drools.core.common;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReferenceArray;
@@ -35,6 +36,12 @@ public class ConcurrentNodeMemories implements NodeMemories {
 
     private AtomicReferenceArray<Memory> memories;
 
+    // ids of the memories currently created, so that a reset doesn't have to scan the whole memories array
+    private int[] createdMemoryIds = new int[16];
+    private int createdMemoriesCount;
+    // position + 1 of each memory id in createdMemoryIds, 0 if the memory isn't created
+    private int[] createdMemoryPositions = new int[16];
+
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final InternalRuleBase ruleBase;
 
@@ -45,20 +52,33 @@ public class ConcurrentNodeMemories implements NodeMemories {
 
     public void clearNodeMemory( MemoryFactory node ) {
         if ( peekNodeMemory(node.getMemoryId()) != null ) {
-            this.memories.set(node.getMemoryId(), null);
+            synchronized (this) {
+                this.memories.set(node.getMemoryId(), null);
+                unregisterCreatedMemory(node.getMemoryId());
+            }
         }
     }
 
     public void clear() {
         this.memories = new AtomicReferenceArray<>( this.ruleBase.getMemoryCount() );
+        synchronized (this) {
+            this.createdMemoriesCount = 0;
+            this.createdMemoryPositions = new int[createdMemoryPositions.length];
+        }
     }
 
     public void resetAllMemories(StatefulKnowledgeSession session) {
         InternalRuleBase kBase = (InternalRuleBase) session.getKieBase();
         Set<SegmentMemory> smemSet = new HashSet<>();
 
-        for (int i = 0; i < memories.length(); i++) {
-            Memory memory = memories.get(i);
+        int[] ids;
+        int count;
+        synchronized (this) {
+            count = createdMemoriesCount;
+            ids = Arrays.copyOf( createdMemoryIds, count );
+        }
+        for (int i = 0; i < count; i++) {
+            Memory memory = peekNodeMemory(ids[i]);
             if (memory != null) {
                 memory.reset();
                 smemSet.add(memory.getSegmentMemory());
@@ -103,14 +123,49 @@ public class ConcurrentNodeMemories implements NodeMemories {
             // need to try again in a synchronized code block to make sure
             // it was not created yet
             Memory memory = node.createMemory( this.ruleBase.getRuleBaseConfiguration(), reteEvaluator );
-            return this.memories.compareAndSet( node.getMemoryId(), null, memory ) ?
-                    memory :
-                    this.memories.get( node.getMemoryId() );
+            if ( this.memories.compareAndSet( node.getMemoryId(), null, memory ) ) {
+                registerCreatedMemory( node.getMemoryId() );
+                return memory;
+            }
+            return this.memories.get( node.getMemoryId() );
         } finally {
             this.lock.readLock().unlock();
         }
     }
 
+    private synchronized void registerCreatedMemory( int memoryId ) {
+        if ( memoryId >= createdMemoryPositions.length ) {
+            createdMemoryPositions = Arrays.copyOf( createdMemoryPositions, Math.max( createdMemoryPositions.length * 2, memoryId + 1 ) );
+        }
+        if ( createdMemoryPositions[memoryId] != 0 ) {
+            return;
+        }
+        if ( createdMemoriesCount == createdMemoryIds.length ) {
+            createdMemoryIds = Arrays.copyOf( createdMemoryIds, createdMemoryIds.length * 2 );
+        }
+        createdMemoryIds[createdMemoriesCount++] = memoryId;
+        createdMemoryPositions[memoryId] = createdMemoriesCount;
+    }
+
+    private void unregisterCreatedMemory( int memoryId ) {
+        int position = memoryId < createdMemoryPositions.length ? createdMemoryPositions[memoryId] - 1 : -1;
+        if ( position < 0 ) {
+            return;
+        }
+        // moves the last id in place of the removed one
+        int lastId = createdMemoryIds[--createdMemoriesCount];
+        createdMemoryIds[position] = lastId;
+        createdMemoryPositions[lastId] = position + 1;
+        createdMemoryPositions[memoryId] = 0;
+    }
+
+    /**
+     * Returns the number of memories currently tracked for being reset
+     */
+    synchronized int getCreatedMemoriesCount() {
+        return createdMemoriesCount;
+    }
+
     private void resize( int newSize ) {
         try {
             this.lock.writeLock().lock();
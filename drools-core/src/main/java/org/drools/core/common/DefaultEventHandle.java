@@ -23,6 +23,7 @@ import org.drools.base.time.JobHandle;
 import org.drools.core.WorkingMemoryEntryPoint;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.DefaultJobHandle;
+import org.drools.core.time.impl.TimerWheel;
 import org.drools.core.util.LinkedList;
 import org.kie.api.runtime.rule.EventHandle;
 
@@ -285,7 +286,7 @@ public class DefaultEventHandle extends DefaultFactHandle implements EventHandle
                 TimerService clock = reteEvaluator.getTimerService();
                 while ( !jobs.isEmpty() ) {
                     JobHandle job = jobs.removeFirst();
-                    clock.removeJob(job);
+                    TimerWheel.removeJob(clock, job);
                 }
             }
         }
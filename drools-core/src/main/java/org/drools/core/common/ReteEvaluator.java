@@ -38,6 +38,7 @@ import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.consequence.KnowledgeHelper;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.TimerJobInstance;
+import org.drools.core.time.impl.TimerWheel;
 import org.kie.api.runtime.Calendars;
 import org.kie.api.runtime.rule.AgendaFilter;
 import org.kie.api.runtime.rule.EntryPoint;
@@ -89,7 +90,17 @@ public interface ReteEvaluator extends ValueResolver {
 
     default Collection<TimerJobInstance> getTimerJobInstances(long id) {
         TimerService timerService = getTimerService();
-        return timerService != null ? timerService.getTimerJobInstances(id) : Collections.emptyList();
+        Collection<TimerJobInstance> timers = timerService != null ? timerService.getTimerJobInstances(id) : Collections.emptyList();
+        TimerWheel timerWheel = getTimerWheel();
+        return timerWheel != null ? timerWheel.mergeTimerJobInstances(timers) : timers;
+    }
+
+    /**
+     * Returns the timing wheel used to schedule the expiration of events,
+     * or null if they are scheduled as jobs on the timer service.
+     */
+    default TimerWheel getTimerWheel() {
+        return null;
     }
 
     void addPropagation(PropagationEntry propagationEntry);
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.marshalling;
+
+import java.io.IOException;
+
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+
+/**
+ * A strategy context that can also be written as a sequence of increments, each one carrying only the entries
+ * added since the previous increment. The objects written by an increment keep being referenced by the following
+ * ones, so their identity is preserved across increments when they are read back in the same order.
+ */
+public interface IncrementalStrategyContext extends ObjectMarshallingStrategy.Context {
+
+    /**
+     * Writes the entries added since the last increment and forgets them, returns null if there is none
+     */
+    byte[] writeIncrement() throws IOException;
+
+    /**
+     * Reads the next increment written by {@link #writeIncrement()}, adding its entries to this context
+     */
+    void readIncrement(byte[] increment, ClassLoader classLoader) throws IOException, ClassNotFoundException;
+}
@@ -18,12 +18,16 @@
  */
 package org.drools.core.marshalling;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.drools.base.common.DroolsObjectInputStream;
+import org.drools.base.common.DroolsObjectOutputStream;
 import org.kie.api.marshalling.ObjectMarshallingStrategy;
 import org.kie.api.marshalling.ObjectMarshallingStrategyAcceptor;
 
@@ -66,7 +70,7 @@ public class SerializablePlaceholderResolverStrategy
                           Object object) throws IOException {
         
         SerializablePlaceholderStrategyContext ctx = (SerializablePlaceholderStrategyContext)context;
-        int index = ctx.data.size();
+        int index = ctx.written + ctx.data.size();
         ctx.data.add( object );
         return intToByteArray( index );
     }
@@ -83,12 +87,22 @@ public class SerializablePlaceholderResolverStrategy
         return new SerializablePlaceholderStrategyContext();
     }
     
-    protected static class SerializablePlaceholderStrategyContext implements Context {
+    protected static class SerializablePlaceholderStrategyContext implements IncrementalStrategyContext {
         // this data map is used when marshalling out objects in order
         // to preserve graph references without cloning objects all over
         // the place.
         public List<Object> data = new ArrayList<>();
 
+        // number of objects already written by the previous increments and no longer kept in data
+        private int written;
+
+        // the increments share a single serialization stream, so an object referenced by several increments is written once
+        private ByteArrayOutputStream incrementBuffer;
+        private ObjectOutputStream incrementOutput;
+
+        private IncrementInputStream incrementSource;
+        private ObjectInputStream incrementInput;
+
         @SuppressWarnings("unchecked")
         public void read(ObjectInputStream ois) throws IOException,
                                                ClassNotFoundException {
@@ -98,6 +112,73 @@ public class SerializablePlaceholderResolverStrategy
         public void write(ObjectOutputStream oos) throws IOException {
             oos.writeObject( this.data );
         }
+
+        public byte[] writeIncrement() throws IOException {
+            if ( data.isEmpty() ) {
+                return null;
+            }
+            if ( incrementOutput == null ) {
+                incrementBuffer = new ByteArrayOutputStream();
+                incrementOutput = new DroolsObjectOutputStream( incrementBuffer );
+            }
+            incrementOutput.writeObject( new ArrayList<>( data ) );
+            incrementOutput.flush();
+            byte[] increment = incrementBuffer.toByteArray();
+            incrementBuffer.reset();
+            written += data.size();
+            data.clear();
+            return increment;
+        }
+
+        @SuppressWarnings("unchecked")
+        public void readIncrement(byte[] increment, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+            if ( incrementInput == null ) {
+                incrementSource = new IncrementInputStream();
+                incrementSource.next( increment );
+                incrementInput = new DroolsObjectInputStream( incrementSource, classLoader );
+            } else {
+                incrementSource.next( increment );
+            }
+            this.data.addAll( (List<Object>) incrementInput.readObject() );
+        }
+    }
+
+    /**
+     * Feeds an object input stream with one increment at a time
+     */
+    private static class IncrementInputStream extends InputStream {
+
+        private byte[] buffer = new byte[0];
+        private int position;
+
+        private void next(byte[] increment) {
+            this.buffer = increment;
+            this.position = 0;
+        }
+
+        @Override
+        public int read() {
+            return position < buffer.length ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if ( len == 0 ) {
+                return 0;
+            }
+            if ( position >= buffer.length ) {
+                return -1;
+            }
+            int read = Math.min( len, buffer.length - position );
+            System.arraycopy( buffer, position, b, off, read );
+            position += read;
+            return read;
+        }
+
+        @Override
+        public int available() {
+            return buffer.length - position;
+        }
     }
 
     @Override
@@ -0,0 +1,193 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.drools.core.common.ReteEvaluator;
+
+/**
+ * A multi-producer single-consumer PropagationList that never blocks the threads adding entries.
+ *
+ * New entries are pushed on a stack whose head is updated through a CAS, while the consuming thread detaches
+ * the whole stack in a single atomic swap and reverses it, so that entries are still flushed in insertion order.
+ * The thread waiting on rest during a fireUntilHalt is parked and unparked instead of using the object monitor.
+ */
+public class LockFreePropagationList implements PropagationList {
+
+    private final ReteEvaluator reteEvaluator;
+
+    private final AtomicReference<PropagationEntry> head = new AtomicReference<>();
+
+    private volatile Thread waiter;
+
+    private volatile boolean pendingNotification = false;
+
+    private volatile boolean disposed = false;
+
+    private volatile boolean hasEntriesDeferringExpiration = false;
+
+    private volatile boolean firingUntilHalt = false;
+
+    public LockFreePropagationList(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    @Override
+    public void addEntry(final PropagationEntry entry) {
+        if (entry.requiresImmediateFlushing()) {
+            if (entry.isCalledFromRHS()) {
+                entry.execute(reteEvaluator);
+            } else {
+                reteEvaluator.getActivationsManager().executeTask( new ExecutableEntry() {
+                    @Override
+                    public void execute() {
+                        if (entry instanceof PhreakTimerNode.TimerAction) {
+                            ( (PhreakTimerNode.TimerAction) entry ).execute( reteEvaluator, true );
+                        } else {
+                            entry.execute( reteEvaluator );
+                        }
+                    }
+
+                    @Override
+                    public void enqueue() {
+                        internalAddEntry( entry );
+                    }
+                } );
+            }
+        } else {
+            internalAddEntry( entry );
+        }
+    }
+
+    void internalAddEntry( PropagationEntry entry ) {
+        PropagationEntry currentHead;
+        do {
+            currentHead = head.get();
+            entry.setNext( currentHead );
+        } while ( !head.compareAndSet( currentHead, entry ) );
+
+        // the flag must be raised after the entry is visible, see takeAll
+        if (entry.defersExpiration()) {
+            hasEntriesDeferringExpiration = true;
+        }
+        if (currentHead == null && firingUntilHalt) {
+            notifyWaitOnRest();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+    }
+
+    @Override
+    public void flush() {
+        flush( takeAll() );
+    }
+
+    @Override
+    public void flush(PropagationEntry currentHead) {
+        for (PropagationEntry entry = currentHead; !disposed && entry != null; entry = entry.getNext()) {
+            entry.execute(reteEvaluator);
+        }
+    }
+
+    @Override
+    public boolean hasEntriesDeferringExpiration() {
+        return hasEntriesDeferringExpiration;
+    }
+
+    @Override
+    public PropagationEntry takeAll() {
+        // reset the flag before detaching the entries: a producer racing with this method could only leave it
+        // conservatively raised, never lowered while an entry deferring the expiration is still pending
+        hasEntriesDeferringExpiration = false;
+        return reverse( head.getAndSet( null ) );
+    }
+
+    private static PropagationEntry reverse( PropagationEntry entry ) {
+        PropagationEntry reversed = null;
+        while (entry != null) {
+            PropagationEntry next = entry.getNext();
+            entry.setNext( reversed );
+            reversed = entry;
+            entry = next;
+        }
+        return reversed;
+    }
+
+    @Override
+    public void reset() {
+        head.set( null );
+        disposed = false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() == null;
+    }
+
+    @Override
+    public void waitOnRest() {
+        waiter = Thread.currentThread();
+        try {
+            // the waiter must be published before checking for pending work, while notifyWaitOnRest raises the
+            // flag before reading the waiter, so at least one of the 2 threads always sees the other
+            if (!pendingNotification && head.get() == null) {
+                LockSupport.park( this );
+            }
+        } finally {
+            waiter = null;
+            pendingNotification = false;
+        }
+    }
+
+    @Override
+    public void notifyWaitOnRest() {
+        pendingNotification = true;
+        Thread currentWaiter = waiter;
+        if (currentWaiter != null) {
+            LockSupport.unpark( currentWaiter );
+        }
+    }
+
+    @Override
+    public Iterator<PropagationEntry> iterator() {
+        List<PropagationEntry> entries = new ArrayList<>();
+        for (PropagationEntry entry = head.get(); entry != null; entry = entry.getNext()) {
+            entries.add( entry );
+        }
+        Collections.reverse( entries );
+        return entries.iterator();
+    }
+
+    @Override
+    public void onEngineInactive() { }
+
+    @Override
+    public void setFiringUntilHalt( boolean firingUntilHalt ) {
+        this.firingUntilHalt = firingUntilHalt;
+    }
+}
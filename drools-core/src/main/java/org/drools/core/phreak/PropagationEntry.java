@@ -46,6 +46,7 @@ import org.drools.core.reteoo.TerminalNode;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.impl.DefaultJobHandle;
 import org.drools.core.time.impl.PointInTimeTrigger;
+import org.drools.core.time.impl.TimerWheel;
 
 import static org.drools.base.rule.TypeDeclaration.NEVER_EXPIRES;
 import static org.drools.core.reteoo.EntryPointNode.removeRightTuplesMatchingOTN;
@@ -275,8 +276,11 @@ public interface PropagationEntry {
                 reteEvaluator.addPropagation( action );
             } else {
                 JobContext jobctx = new ObjectTypeNode.ExpireJobContext( action, reteEvaluator );
-                DefaultJobHandle jobHandle = (DefaultJobHandle) reteEvaluator.getTimerService()
-                                                                             .scheduleJob( job, jobctx, PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) );
+                TimerWheel timerWheel = reteEvaluator.getTimerWheel();
+                DefaultJobHandle jobHandle = timerWheel != null ?
+                        timerWheel.scheduleJob( job, jobctx, nextTimestamp ) :
+                        (DefaultJobHandle) reteEvaluator.getTimerService()
+                                                        .scheduleJob( job, jobctx, PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) );
                 jobctx.setJobHandle( jobHandle );
                 eventFactHandle.addJob( jobHandle );
             }
@@ -311,6 +315,81 @@ public interface PropagationEntry {
         }
     }
 
+    class InsertBatch extends AbstractPropagationEntry implements Externalizable {
+        private InternalFactHandle[] handles;
+        private PropagationContext[] contexts;
+        private ObjectTypeConf[] objectTypeConfs;
+        private int size;
+
+        public InsertBatch() { }
+
+        public InsertBatch( InternalFactHandle[] handles, PropagationContext[] contexts, ObjectTypeConf[] objectTypeConfs, int size, ReteEvaluator reteEvaluator ) {
+            this.handles = handles;
+            this.contexts = contexts;
+            this.objectTypeConfs = objectTypeConfs;
+            this.size = size;
+
+            long insertionTime = -1;
+            for (int i = 0; i < size; i++) {
+                if ( handles[i].isEvent() ) {
+                    if (insertionTime < 0) {
+                        insertionTime = reteEvaluator.getTimerService().getCurrentTime();
+                    }
+                    Insert.scheduleExpiration(reteEvaluator, handles[i], contexts[i], objectTypeConfs[i], insertionTime);
+                }
+            }
+        }
+
+        public static void execute( InternalFactHandle[] handles, PropagationContext[] contexts, ObjectTypeConf[] objectTypeConfs, int size, ReteEvaluator reteEvaluator ) {
+            for (int i = 0; i < size; i++) {
+                Insert.execute( handles[i], contexts[i], reteEvaluator, objectTypeConfs[i] );
+            }
+        }
+
+        public void internalExecute(ReteEvaluator reteEvaluator ) {
+            for (int i = 0; i < size; i++) {
+                Insert.propagate( handles[i], contexts[i], reteEvaluator, objectTypeConfs[i] );
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public InternalFactHandle getHandle(int index) {
+            return handles[index];
+        }
+
+        @Override
+        public String toString() {
+            return "Insert of " + size + " facts";
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException {
+            out.writeObject(next);
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeObject(handles[i]);
+                out.writeObject(contexts[i]);
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+            this.next = (PropagationEntry) in.readObject();
+            this.size = in.readInt();
+            this.handles = new InternalFactHandle[size];
+            this.contexts = new PropagationContext[size];
+            // as for a single Insert, the object type confs are looked up again when propagating
+            this.objectTypeConfs = new ObjectTypeConf[size];
+            for (int i = 0; i < size; i++) {
+                this.handles[i] = (InternalFactHandle) in.readObject();
+                this.contexts[i] = (PropagationContext) in.readObject();
+            }
+        }
+    }
+
     class Update extends AbstractPropagationEntry implements Externalizable {
         private InternalFactHandle handle;
         private PropagationContext context;
@@ -203,6 +203,30 @@ public class EntryPointNode extends ObjectSource implements ObjectSink {
     }
 
 
+    /**
+     * Asserts the first <code>size</code> handles of the given arrays, enqueuing them as a single
+     * propagation entry instead of one entry per fact.
+     */
+    public void assertObjects(final InternalFactHandle[] handles,
+                              final PropagationContext[] contexts,
+                              final ObjectTypeConf[] objectTypeConfs,
+                              final int size,
+                              final ReteEvaluator reteEvaluator) {
+        if ( size == 0 ) {
+            return;
+        }
+        if ( log.isTraceEnabled() ) {
+            log.trace("Insert batch of {} facts", size);
+        }
+
+        if ( parallelExecution || !reteEvaluator.isThreadSafe() ) {
+            PropagationEntry.InsertBatch.execute( handles, contexts, objectTypeConfs, size, reteEvaluator );
+        } else {
+            reteEvaluator.addPropagation( new PropagationEntry.InsertBatch( handles, contexts, objectTypeConfs, size, reteEvaluator ) );
+        }
+    }
+
+
     public void modifyObject(final InternalFactHandle handle,
                              final PropagationContext pctx,
                              final ObjectTypeConf objectTypeConf,
@@ -41,6 +41,7 @@ import org.drools.core.time.Job;
 import org.drools.core.time.JobContext;
 import org.drools.core.time.TimerService;
 import org.drools.core.time.impl.PointInTimeTrigger;
+import org.drools.core.time.impl.TimerWheel;
 import org.kie.api.runtime.rule.FactHandle;
 
 public class SlidingTimeWindow
@@ -159,7 +160,7 @@ public class SlidingTimeWindow
             }
         }
         if ( queue.isEmpty() && queue.getJobHandle() != null ) {
-            reteEvaluator.getTimerService().removeJob( queue.getJobHandle() );
+            TimerWheel.removeJob( reteEvaluator.getTimerService(), queue.getJobHandle() );
         }
     }
 
@@ -205,11 +206,14 @@ public class SlidingTimeWindow
                 // if there exists already another job it meeans that the new one to be created
                 // has to be triggered before the existing one and then we can remove the old one
                 if ( context.getJobHandle() != null ) {
-                    reteEvaluator.getTimerService().removeJob( context.getJobHandle() );
+                    TimerWheel.removeJob( clock, context.getJobHandle() );
                 }
 
                 JobContext jobctx = new BehaviorJobContext( nodeId, reteEvaluator, this, context);
-                JobHandle handle = clock.scheduleJob( job,
+                TimerWheel timerWheel = reteEvaluator.getTimerWheel();
+                JobHandle handle = timerWheel != null ?
+                                   timerWheel.scheduleJob( job, jobctx, nextTimestamp ) :
+                                   clock.scheduleJob( job,
                                                       jobctx,
                                                       PointInTimeTrigger.createPointInTimeTrigger( nextTimestamp, null ) );
                 jobctx.setJobHandle( handle );
@@ -0,0 +1,379 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.time.InternalSchedulerService;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.kie.api.time.SessionClock;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A realtime TimerService where all the sessions of the JVM share the same scheduler thread,
+ * instead of owning a ScheduledThreadPoolExecutor each as with the {@link JDKTimerService}.
+ *
+ * The scheduler thread only keeps the delay queue of all the jobs and hands the due ones over
+ * to their session. The jobs of a session are executed one at a time, in the order they became
+ * due, on virtual threads when the JVM supports them, otherwise on the shared drools executor.
+ */
+public class SharedTimerService implements TimerService, SessionClock, InternalSchedulerService {
+
+    private static final Logger logger = LoggerFactory.getLogger( SharedTimerService.class );
+
+    // max number of due jobs executed in a row before giving the executor thread back
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    private final AtomicLong idCounter = new AtomicLong( 0L );
+
+    private TimerJobFactoryManager jobFactoryManager = DefaultTimerJobFactoryManager.INSTANCE;
+
+    // the jobs scheduled before a reset or a shutdown belong to an older generation and are discarded
+    private volatile int generation;
+    private volatile boolean shutdown;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Queue<SharedTask> dueTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public void setTimerJobFactoryManager(TimerJobFactoryManager timerJobFactoryManager) {
+        this.jobFactoryManager = timerJobFactoryManager;
+    }
+
+    public TimerJobFactoryManager getTimerJobFactoryManager() {
+        return this.jobFactoryManager;
+    }
+
+    /**
+     * @inheritDoc
+     */
+    public long getCurrentTime() {
+        return System.currentTimeMillis();
+    }
+
+    public void reset() {
+        discardPendingJobs();
+        this.idCounter.set( 0L );
+    }
+
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        discardPendingJobs();
+    }
+
+    private void discardPendingJobs() {
+        generation++;
+        dueTasks.clear();
+        SharedScheduler.INSTANCE.discarded( pending.getAndSet( 0 ) );
+    }
+
+    public JobHandle scheduleJob(Job job, JobContext ctx, Trigger trigger) {
+        Date date = trigger.hasNextFireTime();
+        if (date == null) {
+            return null;
+        }
+        SharedJobHandle jobHandle = new SharedJobHandle( idCounter.getAndIncrement() );
+        TimerJobInstance jobInstance = jobFactoryManager.createTimerJobInstance( job, ctx, trigger, jobHandle, this );
+        jobHandle.setTimerJobInstance( jobInstance );
+        internalSchedule( jobInstance );
+        return jobHandle;
+    }
+
+    public void internalSchedule(TimerJobInstance timerJobInstance) {
+        if (shutdown) {
+            return;
+        }
+        Date date = timerJobInstance.getTrigger().hasNextFireTime();
+        SharedTask task = new SharedTask( this, generation, timerJobInstance, date.getTime() );
+        ((SharedJobHandle) timerJobInstance.getJobHandle()).setTask( task );
+        jobFactoryManager.addTimerJobInstance( timerJobInstance );
+        pending.incrementAndGet();
+        SharedScheduler.INSTANCE.schedule( task );
+    }
+
+    public void removeJob(JobHandle jobHandle) {
+        jobHandle.cancel();
+        jobFactoryManager.removeTimerJobInstance( jobHandle );
+        SharedTask task = ((SharedJobHandle) jobHandle).getTask();
+        if (task != null && task.queued) {
+            SharedScheduler.INSTANCE.cancelled();
+        }
+    }
+
+    public long getTimeToNextJob() {
+        return 0;
+    }
+
+    public Collection<TimerJobInstance> getTimerJobInstances(long id) {
+        return jobFactoryManager.getTimerJobInstances();
+    }
+
+    private void dispatch(SharedTask task) {
+        dueTasks.add( task );
+        if (draining.compareAndSet( false, true )) {
+            JobExecutorHolder.EXECUTOR.execute( this::drain );
+        }
+    }
+
+    private void drain() {
+        int executed = 0;
+        while (true) {
+            SharedTask task = dueTasks.poll();
+            if (task == null) {
+                draining.set( false );
+                // a job may have become due after the poll and before releasing the flag
+                if (dueTasks.isEmpty() || !draining.compareAndSet( false, true )) {
+                    return;
+                }
+                continue;
+            }
+            if (!task.isStale()) {
+                task.execute();
+            }
+            if (++executed == DRAIN_BATCH_SIZE) {
+                // keep the draining flag and continue on a new task, to be fair with the other sessions
+                JobExecutorHolder.EXECUTOR.execute( this::drain );
+                return;
+            }
+        }
+    }
+
+    public static class SharedJobHandle extends DefaultJobHandle implements JobHandle {
+
+        private static final long serialVersionUID = 510l;
+
+        private transient SharedTask task;
+
+        public SharedJobHandle(long id) {
+            super( id );
+        }
+
+        SharedTask getTask() {
+            return task;
+        }
+
+        void setTask(SharedTask task) {
+            this.task = task;
+        }
+    }
+
+    static class SharedTask implements Comparable<SharedTask> {
+
+        private static final AtomicLong sequence = new AtomicLong();
+
+        private final SharedTimerService owner;
+        private final int generation;
+        private final TimerJobInstance timerJobInstance;
+        private final long time;
+        private final long seq = sequence.getAndIncrement();
+
+        private volatile boolean queued = true;
+
+        SharedTask(SharedTimerService owner, int generation, TimerJobInstance timerJobInstance, long time) {
+            this.owner = owner;
+            this.generation = generation;
+            this.timerJobInstance = timerJobInstance;
+            this.time = time;
+        }
+
+        boolean isStale() {
+            return owner.shutdown || owner.generation != generation || timerJobInstance.getJobHandle().isCancel();
+        }
+
+        void dequeued() {
+            queued = false;
+            if (owner.generation == generation) {
+                owner.pending.decrementAndGet();
+            }
+        }
+
+        void execute() {
+            try {
+                ((Callable<Void>) timerJobInstance).call();
+            } catch (Exception e) {
+                // already logged by the timer job instance
+                logger.debug( "Timer job failed", e );
+            }
+        }
+
+        @Override
+        public int compareTo(SharedTask other) {
+            int byTime = Long.compare( time, other.time );
+            return byTime != 0 ? byTime : Long.compare( seq, other.seq );
+        }
+    }
+
+    /**
+     * The JVM-wide scheduler. Its daemon thread is started with the first scheduled job.
+     */
+    static class SharedScheduler implements Runnable {
+
+        static final SharedScheduler INSTANCE = new SharedScheduler();
+
+        // the stale tasks are removed from the head of the queue, or all at once when they are too many
+        private static final int MIN_PURGE_THRESHOLD = 1024;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition available = lock.newCondition();
+        private final PriorityQueue<SharedTask> queue = new PriorityQueue<>();
+
+        private int staleCount;
+        private Thread thread;
+
+        void schedule(SharedTask task) {
+            lock.lock();
+            try {
+                queue.add( task );
+                if (thread == null) {
+                    thread = new Thread( this, "drools-shared-timer" );
+                    thread.setDaemon( true );
+                    thread.start();
+                } else if (queue.peek() == task) {
+                    available.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void cancelled() {
+            discarded( 1 );
+        }
+
+        void discarded(int count) {
+            if (count <= 0) {
+                return;
+            }
+            lock.lock();
+            try {
+                staleCount += count;
+                if (staleCount > MIN_PURGE_THRESHOLD && staleCount > queue.size() / 2) {
+                    purge();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void purge() {
+            List<SharedTask> live = new ArrayList<>( queue.size() );
+            for (SharedTask task : queue) {
+                if (task.isStale()) {
+                    task.dequeued();
+                } else {
+                    live.add( task );
+                }
+            }
+            queue.clear();
+            queue.addAll( live );
+            staleCount = 0;
+        }
+
+        @Override
+        public void run() {
+            List<SharedTask> due = new ArrayList<>();
+            while (true) {
+                lock.lock();
+                try {
+                    awaitDueTasks( due );
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    lock.unlock();
+                }
+                for (SharedTask task : due) {
+                    task.owner.dispatch( task );
+                }
+                due.clear();
+            }
+        }
+
+        private void awaitDueTasks(List<SharedTask> due) throws InterruptedException {
+            while (true) {
+                long now = System.currentTimeMillis();
+                SharedTask head;
+                while ((head = queue.peek()) != null && (head.time <= now || head.isStale())) {
+                    queue.poll();
+                    if (head.isStale()) {
+                        if (staleCount > 0) {
+                            staleCount--;
+                        }
+                    } else {
+                        due.add( head );
+                    }
+                    head.dequeued();
+                }
+                if (!due.isEmpty()) {
+                    return;
+                }
+                if (head == null) {
+                    available.await();
+                } else {
+                    available.await( head.time - now, TimeUnit.MILLISECONDS );
+                }
+            }
+        }
+    }
+
+    private static class JobExecutorHolder {
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                return (Executor) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+            } catch (ReflectiveOperationException e) {
+                // virtual threads are available only since Java 21
+                return ExecutorProviderFactory.getExecutorProvider().getExecutor();
+            }
+        }
+    }
+}
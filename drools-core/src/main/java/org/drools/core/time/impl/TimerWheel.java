@@ -0,0 +1,429 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hierarchical timing wheel used to schedule the expiration of events.
+ *
+ * Each level has 64 slots, the slots of the first level are 1 ms wide and every further level
+ * is 64 times coarser, so that 11 levels cover the whole range of a long timestamp. An entry
+ * is stored in the lowest level where its deadline still differs from the current time of the
+ * wheel, and it is moved down when the slot holding it is reached. Insertion and cancellation
+ * are O(1) and do not touch the timer service.
+ *
+ * The wheel is driven by a single job on the session's {@link TimerService}, always scheduled
+ * at the start of the earliest non empty slot. When it fires all the entries due by then are
+ * executed as one batch, ordered by deadline and scheduling order. This works with any timer
+ * service, including the {@link PseudoClockScheduler}, where the job fires exactly at the
+ * deadline of the expiring entries.
+ */
+public class TimerWheel {
+
+    private static final Logger logger = LoggerFactory.getLogger( TimerWheel.class );
+
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final int SLOT_MASK = SLOTS - 1;
+    static final int LEVELS = 11;
+
+    private static final TickJob TICK_JOB = new TickJob();
+
+    private static final Comparator<Entry> DUE_ORDER = Comparator.comparingLong( (Entry e) -> e.when ).thenComparingLong( Entry::getId );
+
+    private final ReteEvaluator reteEvaluator;
+
+    private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+    private final long[] occupied = new long[LEVELS];
+
+    // the times inside the wheel are relative to this origin, so they are never negative
+    private long origin;
+    // all the entries due at or before this relative time have already been handed out
+    private long current;
+
+    private long sequence;
+    private int size;
+
+    private JobHandle tickHandle;
+    private long tickTime = Long.MAX_VALUE;
+
+    public TimerWheel(ReteEvaluator reteEvaluator) {
+        this.reteEvaluator = reteEvaluator;
+    }
+
+    /**
+     * Schedules the given job to be executed once at the given timestamp. The returned handle
+     * can be cancelled either directly or through {@link #removeJob(TimerService, JobHandle)}.
+     */
+    public synchronized Entry scheduleJob(Job job, JobContext ctx, long timestamp) {
+        TimerService timerService = reteEvaluator.getTimerService();
+        if ( size == 0 ) {
+            origin = timerService.getCurrentTime();
+            current = 0;
+        }
+        Entry entry = new Entry( this, job, ctx, timestamp, sequence++ );
+        insert( entry, toRelative( timestamp ) );
+        size++;
+        scheduleTick( timerService );
+        return entry;
+    }
+
+    /**
+     * Removes a job previously scheduled either on this wheel or directly on the timer service.
+     */
+    public static void removeJob(TimerService timerService, JobHandle jobHandle) {
+        if ( jobHandle instanceof Entry ) {
+            jobHandle.cancel();
+        } else {
+            timerService.removeJob( jobHandle );
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Forgets all the pending entries. It has to be invoked when the timer service
+     * is reset, since this also drops the job driving the wheel.
+     */
+    public synchronized void reset() {
+        for ( int level = 0; level < LEVELS; level++ ) {
+            for ( int slot = 0; slot < SLOTS; slot++ ) {
+                for ( Entry entry = slots[level][slot]; entry != null; entry = entry.nextInSlot ) {
+                    entry.level = -1;
+                }
+                slots[level][slot] = null;
+            }
+            occupied[level] = 0L;
+        }
+        size = 0;
+        sequence = 0;
+        tickHandle = null;
+        tickTime = Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the given timer job instances without the one driving this wheel, followed by
+     * the entries still pending in the wheel, so that they can be marshalled like any other timer.
+     * As for the jobs, the entries are not exposed when the timer service does not track its jobs.
+     */
+    public synchronized Collection<TimerJobInstance> mergeTimerJobInstances(Collection<TimerJobInstance> timers) {
+        if ( reteEvaluator.getTimerService().getTimerJobFactoryManager() == DefaultTimerJobFactoryManager.INSTANCE ) {
+            return timers;
+        }
+        List<TimerJobInstance> merged = new ArrayList<>( timers.size() + size );
+        for ( TimerJobInstance timer : timers ) {
+            if ( timer.getJobHandle() != tickHandle ) {
+                merged.add( timer );
+            }
+        }
+        for ( int level = 0; level < LEVELS; level++ ) {
+            for ( int slot = 0; slot < SLOTS; slot++ ) {
+                for ( Entry entry = slots[level][slot]; entry != null; entry = entry.nextInSlot ) {
+                    merged.add( entry );
+                }
+            }
+        }
+        return merged;
+    }
+
+    void tick() {
+        List<Entry> due;
+        synchronized ( this ) {
+            tickHandle = null;
+            tickTime = Long.MAX_VALUE;
+            TimerService timerService = reteEvaluator.getTimerService();
+            due = advance( toRelative( timerService.getCurrentTime() ) );
+            scheduleTick( timerService );
+        }
+        for ( Entry entry : due ) {
+            if ( !entry.canceled ) {
+                try {
+                    entry.job.execute( entry.ctx );
+                } catch (Exception e) {
+                    // a failing job must not prevent the other entries of the batch from being executed
+                    logger.error( "Exception executing timer wheel job: ", e );
+                }
+            }
+        }
+    }
+
+    private List<Entry> advance(long target) {
+        List<Entry> due = Collections.emptyList();
+        int level;
+        while ( ( level = lowestOccupiedLevel() ) >= 0 ) {
+            int slot = Long.numberOfTrailingZeros( occupied[level] );
+            long slotStart = slotStart( level, slot );
+            if ( slotStart > target ) {
+                break;
+            }
+            current = slotStart;
+            Entry entry = slots[level][slot];
+            slots[level][slot] = null;
+            occupied[level] &= ~(1L << slot);
+            while ( entry != null ) {
+                Entry nextInSlot = entry.nextInSlot;
+                entry.nextInSlot = null;
+                entry.previousInSlot = null;
+                if ( entry.when == current ) {
+                    if ( due.isEmpty() ) {
+                        due = new ArrayList<>();
+                    }
+                    entry.level = -1;
+                    due.add( entry );
+                    size--;
+                } else {
+                    // cascade the entry to a finer level
+                    insert( entry, entry.when );
+                }
+                entry = nextInSlot;
+            }
+        }
+        if ( target > current ) {
+            current = target;
+        }
+        if ( due.size() > 1 ) {
+            due.sort( DUE_ORDER );
+        }
+        return due;
+    }
+
+    private void scheduleTick(TimerService timerService) {
+        int level = lowestOccupiedLevel();
+        if ( level < 0 ) {
+            return;
+        }
+        long nextTick = origin + slotStart( level, Long.numberOfTrailingZeros( occupied[level] ) );
+        // never schedule the tick in the past, the wheel may lag behind the clock when it has been idle
+        nextTick = Math.max( nextTick, timerService.getCurrentTime() );
+        if ( tickHandle != null ) {
+            if ( tickTime <= nextTick ) {
+                // the tick already scheduled is early enough, it will reschedule itself when fired
+                return;
+            }
+            timerService.removeJob( tickHandle );
+        }
+        TickJobContext ctx = new TickJobContext( this );
+        tickHandle = timerService.scheduleJob( TICK_JOB, ctx, new PointInTimeTrigger( nextTick ) );
+        ctx.setJobHandle( tickHandle );
+        tickTime = nextTick;
+    }
+
+    private void insert(Entry entry, long relative) {
+        // the level is given by the most significant group of bits where the deadline differs from the current time
+        int level = ( 63 - Long.numberOfLeadingZeros( relative ^ current ) ) / SLOT_BITS;
+        int slot = (int) ( relative >>> ( SLOT_BITS * level ) ) & SLOT_MASK;
+        Entry head = slots[level][slot];
+        entry.when = relative;
+        entry.nextInSlot = head;
+        if ( head != null ) {
+            head.previousInSlot = entry;
+        }
+        slots[level][slot] = entry;
+        occupied[level] |= 1L << slot;
+        entry.level = level;
+        entry.slot = slot;
+    }
+
+    private synchronized void cancel(Entry entry) {
+        if ( entry.canceled ) {
+            return;
+        }
+        entry.canceled = true;
+        if ( entry.level < 0 ) {
+            // already handed out or dropped by a reset
+            return;
+        }
+        if ( entry.previousInSlot != null ) {
+            entry.previousInSlot.nextInSlot = entry.nextInSlot;
+        } else {
+            slots[entry.level][entry.slot] = entry.nextInSlot;
+            if ( entry.nextInSlot == null ) {
+                occupied[entry.level] &= ~(1L << entry.slot);
+            }
+        }
+        if ( entry.nextInSlot != null ) {
+            entry.nextInSlot.previousInSlot = entry.previousInSlot;
+        }
+        entry.nextInSlot = null;
+        entry.previousInSlot = null;
+        entry.level = -1;
+        size--;
+    }
+
+    private long toRelative(long timestamp) {
+        long relative = timestamp - origin;
+        if ( relative < 0 && timestamp > origin ) {
+            // overflow of a deadline far in the future
+            return Long.MAX_VALUE;
+        }
+        if ( relative <= current ) {
+            // past deadlines, e.g. when the realtime clock moved backwards, are fired with the next tick
+            return current + 1;
+        }
+        return relative;
+    }
+
+    private int lowestOccupiedLevel() {
+        for ( int level = 0; level < LEVELS; level++ ) {
+            if ( occupied[level] != 0L ) {
+                return level;
+            }
+        }
+        return -1;
+    }
+
+    private long slotStart(int level, int slot) {
+        int blockShift = SLOT_BITS * ( level + 1 );
+        long block = blockShift >= Long.SIZE ? 0L : ( current >>> blockShift ) << blockShift;
+        return block | ( (long) slot << ( SLOT_BITS * level ) );
+    }
+
+    /**
+     * A job scheduled on the wheel. It is also its own {@link TimerJobInstance}, so that the
+     * marshallers can serialize it in the same way as a job scheduled on the timer service.
+     */
+    public static class Entry extends DefaultJobHandle implements TimerJobInstance {
+
+        private static final long serialVersionUID = 510l;
+
+        private final transient TimerWheel wheel;
+        private final Job job;
+        private final JobContext ctx;
+        private final long deadline;
+
+        private transient Entry previousInSlot;
+        private transient Entry nextInSlot;
+        private transient long when;
+        private transient int level = -1;
+        private transient int slot;
+        private volatile boolean canceled;
+
+        Entry(TimerWheel wheel, Job job, JobContext ctx, long deadline, long id) {
+            super( id );
+            this.wheel = wheel;
+            this.job = job;
+            this.ctx = ctx;
+            this.deadline = deadline;
+            setTimerJobInstance( this );
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        @Override
+        public void cancel() {
+            wheel.cancel( this );
+        }
+
+        @Override
+        public boolean isCancel() {
+            return canceled;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return this;
+        }
+
+        @Override
+        public Job getJob() {
+            return job;
+        }
+
+        @Override
+        public Trigger getTrigger() {
+            return new PointInTimeTrigger( deadline );
+        }
+
+        @Override
+        public JobContext getJobContext() {
+            return ctx;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode( this );
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj;
+        }
+
+        @Override
+        public String toString() {
+            return "TimerWheel.Entry #" + getId() + " @ " + deadline;
+        }
+    }
+
+    public static class TickJob implements Job {
+
+        @Override
+        public void execute(JobContext ctx) {
+            ((TickJobContext) ctx).wheel.tick();
+        }
+    }
+
+    public static class TickJobContext implements JobContext {
+
+        private final transient TimerWheel wheel;
+        private JobHandle jobHandle;
+
+        public TickJobContext(TimerWheel wheel) {
+            this.wheel = wheel;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return wheel.reteEvaluator;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A counted multiset whose distinct values are kept in an AVL tree laid out on parallel int arrays, so that
+ * adding and removing a value, as well as selecting the value at a given rank, are O(log n) operations.
+ * Each node also keeps the total number of values in its subtree, which is what makes the rank selection
+ * (and then min, max and percentiles) possible without scanning the bag.
+ *
+ * Subclasses store the keys, possibly in primitive arrays, and compare them with the pending key,
+ * i.e. the value currently being added or removed.
+ */
+public abstract class AbstractOrderedBag implements Serializable {
+
+    protected static final int NIL = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] left;
+    private int[] right;
+    private int[] height;
+    private int[] count;
+    private int[] weight;
+
+    private int root;
+    private int freeList;
+    private int nextNode;
+
+    private int size;
+
+    protected AbstractOrderedBag() {
+        clear();
+    }
+
+    /**
+     * Allocates the keys storage for the given capacity, preserving the keys already stored.
+     */
+    protected abstract void ensureKeysCapacity(int capacity);
+
+    /**
+     * Compares the pending key with the one stored at the given node.
+     */
+    protected abstract int compareToPending(int node);
+
+    protected abstract void storePending(int node);
+
+    protected abstract void clearKey(int node);
+
+    public abstract void addValue(Object value);
+
+    public abstract boolean removeValue(Object value);
+
+    public abstract Object valueAt(int rank);
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        left = new int[DEFAULT_CAPACITY];
+        right = new int[DEFAULT_CAPACITY];
+        height = new int[DEFAULT_CAPACITY];
+        count = new int[DEFAULT_CAPACITY];
+        weight = new int[DEFAULT_CAPACITY];
+        ensureKeysCapacity(DEFAULT_CAPACITY);
+        root = NIL;
+        freeList = NIL;
+        nextNode = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the value at the given percentile, using the lower nearest rank, so that 0 is the min,
+     * 100 is the max and 50 is the lower median.
+     */
+    public Object valueAtPercentile(double percentile) {
+        return valueAt( (int) (percentile * (size - 1) / 100) );
+    }
+
+    protected final void addPending() {
+        if (freeList == NIL && nextNode == left.length) {
+            // grow before descending the tree, as the recursion writes into the node arrays
+            grow();
+        }
+        root = insert(root);
+        size++;
+    }
+
+    protected final boolean removePending() {
+        int before = size;
+        root = delete(root);
+        return size < before;
+    }
+
+    protected final int firstNode() {
+        checkNotEmpty();
+        int node = root;
+        while (left[node] != NIL) {
+            node = left[node];
+        }
+        return node;
+    }
+
+    protected final int lastNode() {
+        checkNotEmpty();
+        int node = root;
+        while (right[node] != NIL) {
+            node = right[node];
+        }
+        return node;
+    }
+
+    protected final int nodeAt(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException( "Rank " + rank + " out of bounds for size " + size );
+        }
+        int node = root;
+        while (true) {
+            int leftWeight = weight[left[node]];
+            if (rank < leftWeight) {
+                node = left[node];
+            } else {
+                rank -= leftWeight;
+                if (rank < count[node]) {
+                    return node;
+                }
+                rank -= count[node];
+                node = right[node];
+            }
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private void grow() {
+        int capacity = left.length * 2;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        height = Arrays.copyOf(height, capacity);
+        count = Arrays.copyOf(count, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        ensureKeysCapacity(capacity);
+    }
+
+    private int newNode() {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            node = nextNode++;
+        }
+        left[node] = NIL;
+        right[node] = NIL;
+        height[node] = 1;
+        count[node] = 1;
+        weight[node] = 1;
+        storePending(node);
+        return node;
+    }
+
+    private void freeNode(int node) {
+        clearKey(node);
+        right[node] = NIL;
+        left[node] = freeList;
+        freeList = node;
+    }
+
+    private int insert(int node) {
+        if (node == NIL) {
+            return newNode();
+        }
+        int c = compareToPending(node);
+        if (c == 0) {
+            count[node]++;
+            weight[node]++;
+            return node;
+        }
+        if (c < 0) {
+            left[node] = insert(left[node]);
+        } else {
+            right[node] = insert(right[node]);
+        }
+        return rebalance(node);
+    }
+
+    private int delete(int node) {
+        if (node == NIL) {
+            return NIL;
+        }
+        int c = compareToPending(node);
+        if (c < 0) {
+            left[node] = delete(left[node]);
+        } else if (c > 0) {
+            right[node] = delete(right[node]);
+        } else {
+            size--;
+            if (count[node] > 1) {
+                count[node]--;
+                weight[node]--;
+                return node;
+            }
+            if (left[node] == NIL || right[node] == NIL) {
+                int child = left[node] != NIL ? left[node] : right[node];
+                freeNode(node);
+                return child;
+            }
+            // replace the deleted node with its successor, moving the node rather than its key
+            int successor = right[node];
+            while (left[successor] != NIL) {
+                successor = left[successor];
+            }
+            right[successor] = detachFirst(right[node]);
+            left[successor] = left[node];
+            freeNode(node);
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private int detachFirst(int node) {
+        if (left[node] == NIL) {
+            return right[node];
+        }
+        left[node] = detachFirst(left[node]);
+        return rebalance(node);
+    }
+
+    private void update(int node) {
+        int l = left[node];
+        int r = right[node];
+        height[node] = 1 + Math.max(height[l], height[r]);
+        weight[node] = count[node] + weight[l] + weight[r];
+    }
+
+    private int rebalance(int node) {
+        update(node);
+        int balance = height[left[node]] - height[right[node]];
+        if (balance > 1) {
+            if (height[left[left[node]]] < height[right[left[node]]]) {
+                left[node] = rotateLeft(left[node]);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height[right[right[node]]] < height[left[right[node]]]) {
+                right[node] = rotateRight(right[node]);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+}
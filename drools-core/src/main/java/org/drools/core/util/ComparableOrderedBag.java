@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.util.Arrays;
+
+/**
+ * An {@link AbstractOrderedBag} of values ordered by their natural ordering.
+ */
+public class ComparableOrderedBag extends AbstractOrderedBag {
+
+    // initialized by the super constructor through ensureKeysCapacity
+    private Comparable[] keys;
+
+    private Comparable pending;
+
+    public void add(Comparable value) {
+        pending = value;
+        addPending();
+        pending = null;
+    }
+
+    public boolean remove(Comparable value) {
+        pending = value;
+        boolean removed = removePending();
+        pending = null;
+        return removed;
+    }
+
+    public Comparable min() {
+        return keys[firstNode()];
+    }
+
+    public Comparable max() {
+        return keys[lastNode()];
+    }
+
+    public Comparable get(int rank) {
+        return keys[nodeAt(rank)];
+    }
+
+    @Override
+    public void addValue(Object value) {
+        add( (Comparable) value );
+    }
+
+    @Override
+    public boolean removeValue(Object value) {
+        return remove( (Comparable) value );
+    }
+
+    @Override
+    public Object valueAt(int rank) {
+        return get(rank);
+    }
+
+    @Override
+    protected void ensureKeysCapacity(int capacity) {
+        keys = keys == null || keys.length > capacity ? new Comparable[capacity] : Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    protected int compareToPending(int node) {
+        return pending.compareTo(keys[node]);
+    }
+
+    @Override
+    protected void storePending(int node) {
+        keys[node] = pending;
+    }
+
+    @Override
+    protected void clearKey(int node) {
+        keys[node] = null;
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.util.Arrays;
+
+/**
+ * An {@link AbstractOrderedBag} of int values, stored unboxed.
+ */
+public class IntOrderedBag extends AbstractOrderedBag {
+
+    // initialized by the super constructor through ensureKeysCapacity
+    private int[] keys;
+
+    private int pending;
+
+    public void add(int value) {
+        pending = value;
+        addPending();
+    }
+
+    public boolean remove(int value) {
+        pending = value;
+        return removePending();
+    }
+
+    public int min() {
+        return keys[firstNode()];
+    }
+
+    public int max() {
+        return keys[lastNode()];
+    }
+
+    public int get(int rank) {
+        return keys[nodeAt(rank)];
+    }
+
+    @Override
+    public void addValue(Object value) {
+        add( ((Number) value).intValue() );
+    }
+
+    @Override
+    public boolean removeValue(Object value) {
+        return remove( ((Number) value).intValue() );
+    }
+
+    @Override
+    public Object valueAt(int rank) {
+        return get(rank);
+    }
+
+    @Override
+    protected void ensureKeysCapacity(int capacity) {
+        keys = keys == null || keys.length > capacity ? new int[capacity] : Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    protected int compareToPending(int node) {
+        return Integer.compare(pending, keys[node]);
+    }
+
+    @Override
+    protected void storePending(int node) {
+        keys[node] = pending;
+    }
+
+    @Override
+    protected void clearKey(int node) { }
+}
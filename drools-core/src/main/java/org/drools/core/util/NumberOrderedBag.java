@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link AbstractOrderedBag} of numbers of any type, ordered by their numeric value. The original instances
+ * are stored and returned, so that the precision and the type of BigDecimal and BigInteger values are preserved.
+ * Numbers with the same numeric value but a different type, like 1 and 1.0, are counted in the same node
+ * and represented by the first one added.
+ */
+public class NumberOrderedBag extends AbstractOrderedBag {
+
+    // initialized by the super constructor through ensureKeysCapacity
+    private Number[] keys;
+
+    private Number pending;
+
+    public void add(Number value) {
+        pending = value;
+        addPending();
+        pending = null;
+    }
+
+    public boolean remove(Number value) {
+        pending = value;
+        boolean removed = removePending();
+        pending = null;
+        return removed;
+    }
+
+    public Number min() {
+        return keys[firstNode()];
+    }
+
+    public Number max() {
+        return keys[lastNode()];
+    }
+
+    public Number get(int rank) {
+        return keys[nodeAt(rank)];
+    }
+
+    @Override
+    public void addValue(Object value) {
+        add( (Number) value );
+    }
+
+    @Override
+    public boolean removeValue(Object value) {
+        return remove( (Number) value );
+    }
+
+    @Override
+    public Object valueAt(int rank) {
+        return get(rank);
+    }
+
+    @Override
+    protected void ensureKeysCapacity(int capacity) {
+        keys = keys == null || keys.length > capacity ? new Number[capacity] : Arrays.copyOf(keys, capacity);
+    }
+
+    @Override
+    protected int compareToPending(int node) {
+        return compare(pending, keys[node]);
+    }
+
+    @Override
+    protected void storePending(int node) {
+        keys[node] = pending;
+    }
+
+    @Override
+    protected void clearKey(int node) {
+        keys[node] = null;
+    }
+
+    public static int compare(Number n1, Number n2) {
+        if (isIntegral(n1) && isIntegral(n2)) {
+            return Long.compare(n1.longValue(), n2.longValue());
+        }
+        if ((isBig(n1) || isBig(n2)) && isFinite(n1) && isFinite(n2)) {
+            return toBigDecimal(n1).compareTo(toBigDecimal(n2));
+        }
+        return Double.compare(n1.doubleValue(), n2.doubleValue());
+    }
+
+    public static boolean isBig(Number n) {
+        return n instanceof BigDecimal || n instanceof BigInteger;
+    }
+
+    public static BigDecimal toBigDecimal(Number n) {
+        if (n instanceof BigDecimal) {
+            return (BigDecimal) n;
+        }
+        if (n instanceof BigInteger) {
+            return new BigDecimal((BigInteger) n);
+        }
+        return isIntegral(n) ? BigDecimal.valueOf(n.longValue()) : BigDecimal.valueOf(n.doubleValue());
+    }
+
+    private static boolean isIntegral(Number n) {
+        return n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte ||
+                n instanceof AtomicInteger || n instanceof AtomicLong;
+    }
+
+    private static boolean isFinite(Number n) {
+        return isBig(n) || isIntegral(n) || Double.isFinite(n.doubleValue());
+    }
+}
@@ -22,14 +22,29 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * A pool of resources that are created on demand and reset when released.
+ * A released resource is first offered to an affinity slot chosen from the releasing thread, so that a thread
+ * repeatedly taking and releasing a resource gets the same one back without contending on the shared queue.
+ */
 public class ScalablePool<T> {
 
+    private static final int SLOTS = Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 4 - 1 );
+
+    private final AtomicReferenceArray<T> slots = new AtomicReferenceArray<>( SLOTS );
     private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<>();
     private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder resetTime = new LongAdder();
+
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
@@ -47,25 +62,89 @@ public class ScalablePool<T> {
     }
 
     public T get() {
-        T t = pool.poll();
+        int slot = slotIndex();
+        T t = slots.getAndSet( slot, null );
+        if (t == null) {
+            t = pool.poll();
+        }
+        if (t == null) {
+            t = stealFromOtherSlots( slot );
+        }
         if (t != null) {
+            hits.increment();
             return t;
         }
 
+        misses.increment();
         t = this.supplier.get();
         resources.add( t );
         return t;
     }
 
     public void release(T t) {
+        long start = System.nanoTime();
         resetter.accept( t );
-        pool.offer( t );
+        resetTime.add( System.nanoTime() - start );
+        resets.increment();
+        if (!slots.compareAndSet( slotIndex(), null, t )) {
+            pool.offer( t );
+        }
+    }
+
+    private T stealFromOtherSlots(int slot) {
+        for (int i = 1; i < SLOTS; i++) {
+            int other = (slot + i) & (SLOTS - 1);
+            if (slots.get( other ) != null) {
+                T t = slots.getAndSet( other, null );
+                if (t != null) {
+                    return t;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int slotIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & (SLOTS - 1);
+    }
+
+    /**
+     * Returns how many times a pooled resource was reused
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns how many times a new resource had to be created because none was available in the pool
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getResets() {
+        return resets.sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent resetting the released resources
+     */
+    public long getResetTimeNanos() {
+        return resetTime.sum();
+    }
+
+    public int getSize() {
+        return resources.size();
     }
 
     public void shutdown() {
         for (T t : resources) {
             disposer.accept( t );
         }
+        for (int i = 0; i < SLOTS; i++) {
+            slots.set( i, null );
+        }
         pool.clear();
         resources.clear();
     }
@@ -0,0 +1,375 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.base.util.IndexedValueReader;
+import org.drools.core.reteoo.AbstractTuple;
+import org.drools.core.reteoo.Tuple;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.AbstractHashTable.Index;
+import org.drools.core.util.FastIterator;
+import org.drools.core.util.Iterator;
+import org.drools.core.util.LinkedList;
+
+/**
+ * Base class for the equality TupleMemory specialized for a single indexed field of a known primitive or String type.
+ *
+ * Differently from TupleIndexHashTable, buckets are not chained: the keys are stored in a primitive array, owned by
+ * the subclass, that is probed linearly (open addressing), while the TupleLists holding the tuples are kept in a
+ * parallel array at the same position. Empty buckets are removed shifting back the following entries, so the table
+ * never contains tombstones. Tuples having a null value for the indexed field are kept in a separate bucket.
+ */
+public abstract class AbstractPrimitiveTupleIndexHashTable implements TupleMemory {
+
+    protected static final int DEFAULT_CAPACITY = 16;
+
+    protected static final float LOAD_FACTOR = 0.5f;
+
+    private final Index index;
+
+    protected final IndexedValueReader fieldIndex;
+
+    protected final boolean left;
+
+    protected TupleList[] table;
+
+    protected int mask;
+
+    private int threshold;
+
+    private int size;
+
+    private int factSize;
+
+    private TupleList nullBucket;
+
+    private transient FullFastIterator fullFastIterator;
+
+    protected AbstractPrimitiveTupleIndexHashTable(Index index, boolean left) {
+        this.index = index;
+        this.fieldIndex = index.getFieldIndex(0);
+        this.left = left;
+        init( DEFAULT_CAPACITY );
+    }
+
+    private void init(int capacity) {
+        this.table = new TupleList[capacity];
+        this.mask = capacity - 1;
+        this.threshold = (int) (capacity * LOAD_FACTOR);
+        allocateKeys( capacity );
+    }
+
+    /**
+     * Creates the array of keys of the given capacity, discarding the former one.
+     */
+    protected abstract void allocateKeys(int capacity);
+
+    /**
+     * Returns the position of the bucket for the given not null value if present,
+     * otherwise -(insertion point + 1) where insertion point is the first free position in the probing sequence.
+     */
+    protected abstract int findSlot(Object value);
+
+    /**
+     * Returns the position of a bucket currently stored in this table.
+     */
+    protected abstract int findSlot(TupleList bucket);
+
+    /**
+     * Creates a new bucket for the given not null value, storing its key at the given position.
+     */
+    protected abstract TupleList createBucket(Object value, int slot);
+
+    /**
+     * Stores an existing bucket, and its key, at the first free position of its probing sequence.
+     */
+    protected abstract void placeBucket(TupleList bucket);
+
+    /**
+     * Returns the position where the key currently stored at the given position would be placed without collisions.
+     */
+    protected abstract int idealSlot(int slot);
+
+    protected abstract void moveKey(int from, int to);
+
+    protected abstract void clearKey(int slot);
+
+    protected abstract boolean bucketMatches(TupleList bucket, Object value);
+
+    protected static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public Tuple getFirst(Tuple tuple) {
+        TupleList bucket = get( fieldIndex.indexedValueOf( tuple, !left ) );
+        return bucket != null ? bucket.getFirst() : null;
+    }
+
+    private TupleList get(Object value) {
+        if (value == null) {
+            return nullBucket;
+        }
+        int slot = findSlot( value );
+        return slot >= 0 ? table[slot] : null;
+    }
+
+    private TupleList getOrCreate(Object value) {
+        if (value == null) {
+            if (nullBucket == null) {
+                nullBucket = new TupleList();
+            }
+            return nullBucket;
+        }
+
+        int slot = findSlot( value );
+        if (slot >= 0) {
+            return table[slot];
+        }
+
+        slot = -slot - 1;
+        TupleList bucket = createBucket( value, slot );
+        table[slot] = bucket;
+        if ( ++size >= threshold ) {
+            resize( table.length * 2 );
+        }
+        return bucket;
+    }
+
+    private void resize(int capacity) {
+        TupleList[] oldTable = table;
+        init( capacity );
+        for (TupleList bucket : oldTable) {
+            if (bucket != null) {
+                placeBucket( bucket );
+            }
+        }
+    }
+
+    private void removeBucket(TupleList bucket) {
+        if (bucket == nullBucket) {
+            nullBucket = null;
+            return;
+        }
+        shiftSlots( findSlot( bucket ) );
+        size--;
+    }
+
+    /**
+     * Removes the bucket at the given position shifting back the entries of the same probing sequence.
+     */
+    private void shiftSlots(int pos) {
+        int last;
+        while (true) {
+            last = pos;
+            pos = (pos + 1) & mask;
+            while (true) {
+                if (table[pos] == null) {
+                    table[last] = null;
+                    clearKey( last );
+                    return;
+                }
+                int ideal = idealSlot( pos );
+                if (last <= pos ? last >= ideal || ideal > pos : last >= ideal && ideal > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            table[last] = table[pos];
+            moveKey( pos, last );
+        }
+    }
+
+    @Override
+    public void add(Tuple tuple) {
+        getOrCreate( fieldIndex.indexedValueOf( tuple, left ) ).add( tuple );
+        factSize++;
+    }
+
+    @Override
+    public void remove(Tuple tuple) {
+        TupleList bucket = tuple.getMemory();
+        bucket.remove( tuple );
+        factSize--;
+        if (bucket.getFirst() == null) {
+            removeBucket( bucket );
+        }
+        tuple.clear();
+    }
+
+    @Override
+    public void removeAdd(Tuple tuple) {
+        TupleList bucket = tuple.getMemory();
+        Object value = fieldIndex.indexedValueOf( tuple, left );
+        bucket.remove( tuple );
+
+        if ( bucket == nullBucket ? value == null : value != null && bucketMatches( bucket, value ) ) {
+            // it's the same bucket, so re-use and return
+            bucket.add( tuple );
+            return;
+        }
+
+        factSize--;
+        if (bucket.getFirst() == null) {
+            removeBucket( bucket );
+        }
+        getOrCreate( value ).add( tuple );
+        factSize++;
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return factSize;
+    }
+
+    @Override
+    public Index getIndex() {
+        return index;
+    }
+
+    @Override
+    public IndexType getIndexType() {
+        return IndexType.EQUAL;
+    }
+
+    @Override
+    public Iterator<Tuple> iterator() {
+        return new TupleIterator( new FullFastIterator() );
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fastIterator() {
+        return LinkedList.fastIterator;
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fullFastIterator() {
+        if (fullFastIterator == null) {
+            fullFastIterator = new FullFastIterator();
+        } else {
+            fullFastIterator.reset();
+        }
+        return fullFastIterator;
+    }
+
+    @Override
+    public FastIterator<AbstractTuple> fullFastIterator(AbstractTuple tuple) {
+        if (fullFastIterator == null) {
+            fullFastIterator = new FullFastIterator();
+        }
+        fullFastIterator.resume( tuple.getMemory() );
+        return fullFastIterator;
+    }
+
+    @Override
+    public Tuple[] toArray() {
+        Tuple[] result = new Tuple[factSize];
+        int i = 0;
+        Iterator<Tuple> it = iterator();
+        for (Tuple tuple = it.next(); tuple != null; tuple = it.next()) {
+            result[i++] = tuple;
+        }
+        return result;
+    }
+
+    @Override
+    public void clear() {
+        init( DEFAULT_CAPACITY );
+        this.size = 0;
+        this.factSize = 0;
+        this.nullBucket = null;
+        this.fullFastIterator = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        Iterator<Tuple> it = iterator();
+        for ( Tuple tuple = it.next(); tuple != null; tuple = it.next() ) {
+            builder.append(tuple).append("\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Iterates the buckets in table order, the bucket of the null values being the last one.
+     */
+    private class FullFastIterator implements FastIterator<AbstractTuple> {
+
+        // the position of the next bucket to be visited, where table.length stands for the null bucket
+        private int row;
+
+        void reset() {
+            row = 0;
+        }
+
+        void resume(TupleList bucket) {
+            row = (bucket == nullBucket ? table.length : findSlot( bucket )) + 1;
+        }
+
+        @Override
+        public AbstractTuple next(AbstractTuple tuple) {
+            if (tuple != null) {
+                AbstractTuple next = tuple.getNext();
+                if (next != null) {
+                    return next;
+                }
+            }
+
+            TupleList[] currentTable = table;
+            while (row < currentTable.length) {
+                TupleList bucket = currentTable[row++];
+                if (bucket != null) {
+                    return (AbstractTuple) bucket.getFirst();
+                }
+            }
+
+            if (row++ == currentTable.length && nullBucket != null) {
+                return (AbstractTuple) nullBucket.getFirst();
+            }
+            return null;
+        }
+
+        @Override
+        public boolean isFullIterator() {
+            return true;
+        }
+    }
+
+    private static class TupleIterator implements Iterator<Tuple> {
+        private final FullFastIterator fullFastIterator;
+        private AbstractTuple tuple;
+
+        private TupleIterator(FullFastIterator fullFastIterator) {
+            this.fullFastIterator = fullFastIterator;
+        }
+
+        @Override
+        public Tuple next() {
+            tuple = fullFastIterator.next( tuple );
+            return tuple;
+        }
+    }
+}
@@ -89,6 +89,13 @@ public class AlphaRangeIndex implements Externalizable {
         size--;
     }
 
+    /**
+     * Returns the key under which the given alpha node is indexed, converted to the type of the indexed field
+     */
+    public Comparable getIndexKey(AlphaNode alphaNode) {
+        return extractKey((IndexableConstraint) alphaNode.getConstraint());
+    }
+
     private Comparable extractKey(IndexableConstraint constraint) {
         FieldValue field = constraint.getField();
         ValueType valueType = fieldIndex.getFieldExtractor().getValueType();
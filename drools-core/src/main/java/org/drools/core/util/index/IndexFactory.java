@@ -48,7 +48,8 @@ public interface IndexFactory {
         }
 
         if (indexSpec.getConstraintType() == ConstraintTypeOperator.EQUAL) {
-            return IndexMemory.createEqualityMemory(indexSpec, false);
+            TupleMemory primitiveMemory = IndexMemory.createPrimitiveEqualityMemory(indexSpec, false);
+            return primitiveMemory != null ? primitiveMemory : IndexMemory.createEqualityMemory(indexSpec, false);
         }
 
         if (indexSpec.getConstraintType().isComparison()) {
@@ -67,7 +68,8 @@ public interface IndexFactory {
         }
 
         if (indexSpec.getConstraintType() == ConstraintTypeOperator.EQUAL) {
-            return IndexMemory.createEqualityMemory(indexSpec, true);
+            TupleMemory primitiveMemory = IndexMemory.createPrimitiveEqualityMemory(indexSpec, true);
+            return primitiveMemory != null ? primitiveMemory : IndexMemory.createEqualityMemory(indexSpec, true);
         }
 
         if (indexSpec.getConstraintType().isComparison()) {
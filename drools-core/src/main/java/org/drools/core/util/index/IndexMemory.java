@@ -79,9 +79,12 @@ public class IndexMemory {
 
     private static ComparisonMemoryType COMPARISON_MEMORY_TYPE; // did not set this as final, as some tests need to change this
 
+    private static boolean PRIMITIVE_EQUALITY_MEMORY; // did not set this as final, as some tests need to change this
+
     static {
         EQUALITY_MEMORY_TYPE = EqualityMemoryType.get(getConfig("org.drools.equalitymemory", DEFAULT_INDEX));
         COMPARISON_MEMORY_TYPE = ComparisonMemoryType.get(getConfig("org.drools.comparisonmemory", DEFAULT_INDEX));
+        PRIMITIVE_EQUALITY_MEMORY = Boolean.parseBoolean(getConfig("org.drools.equalitymemory.primitive", "true"));
     }
 
     public static EqualityMemoryType getEqualityMemoryType() {
@@ -102,10 +105,42 @@ public class IndexMemory {
         ComparisonMemoryFactoryHolder.reinit();
     }
 
+    public static boolean isPrimitiveEqualityMemory() {
+        return PRIMITIVE_EQUALITY_MEMORY;
+    }
+
+    public static void setPrimitiveEqualityMemory(boolean primitiveEqualityMemory) {
+        PRIMITIVE_EQUALITY_MEMORY = primitiveEqualityMemory;
+    }
+
     public static TupleMemory createEqualityMemory(IndexSpec indexSpec, boolean isLeft) {
         return EqualityMemoryFactoryHolder.INSTANCE.createMemory(indexSpec, isLeft);
     }
 
+    /**
+     * Creates an equality memory specialized for the type of the indexed field when the index is made of a single
+     * int, long or String field, or returns null if this is not the case.
+     */
+    public static TupleMemory createPrimitiveEqualityMemory(IndexSpec indexSpec, boolean isLeft) {
+        if (!PRIMITIVE_EQUALITY_MEMORY || EQUALITY_MEMORY_TYPE != EqualityMemoryType.INTERNAL ||
+                indexSpec.getIndexes().length != 1 || indexSpec.isUnification()) {
+            return null;
+        }
+
+        switch (indexSpec.getIndex(0).getRightExtractor().getValueType()) {
+            case PINTEGER_TYPE:
+            case INTEGER_TYPE:
+                return new IntTupleIndexHashTable(indexSpec.getIndex(), isLeft);
+            case PLONG_TYPE:
+            case LONG_TYPE:
+                return new LongTupleIndexHashTable(indexSpec.getIndex(), isLeft);
+            case STRING_TYPE:
+                return new StringTupleIndexHashTable(indexSpec.getIndex(), isLeft);
+            default:
+                return null;
+        }
+    }
+
     public static TupleMemory createComparisonMemory(IndexSpec indexSpec, boolean isLeft) {
         return ComparisonMemoryFactoryHolder.INSTANCE.createMemory(indexSpec, isLeft);
     }
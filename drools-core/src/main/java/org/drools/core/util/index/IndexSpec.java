@@ -37,6 +37,7 @@ import static org.drools.base.util.index.IndexUtil.isEqualIndexable;
 public class IndexSpec {
     private ConstraintTypeOperator constraintType = ConstraintTypeOperator.UNKNOWN;
     private IndexedValueReader[]   indexes;
+    private boolean                unification;
 
     public IndexSpec(short nodeType, BetaConstraint[] constraints, RuleBaseConfiguration config) {
         init(nodeType, constraints, config);
@@ -96,6 +97,14 @@ public class IndexSpec {
         return indexes[pos];
     }
 
+    /**
+     * Returns true if the first indexed constraint unifies a query argument, so that the indexed value
+     * of a left tuple may not be of the type of the indexed field.
+     */
+    public boolean isUnification() {
+        return unification;
+    }
+
     public void init(short nodeType, BetaConstraint[] constraints, RuleBaseConfiguration config) {
         int keyDepth = config.getCompositeKeyDepth();
         IndexPrecedenceOption indexPrecedenceOption = config.getIndexPrecedenceOption();
@@ -107,6 +116,7 @@ public class IndexSpec {
             List<IndexedValueReader> indexList = new ArrayList<>();
             if (isEqualIndexable(constraints[firstIndexableConstraint])) {
                 indexList.add(((IndexableConstraint) constraints[firstIndexableConstraint]).getFieldIndex());
+                unification = ((IndexableConstraint) constraints[firstIndexableConstraint]).isUnification();
             }
 
             // look for other EQUAL constraint to eventually add them to the index
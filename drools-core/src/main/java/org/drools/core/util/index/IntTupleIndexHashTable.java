@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.core.util.AbstractHashTable.Index;
+
+/**
+ * Equality TupleMemory for a single indexed field of type int, storing its keys unboxed.
+ */
+public class IntTupleIndexHashTable extends AbstractPrimitiveTupleIndexHashTable {
+
+    private int[] keys;
+
+    public IntTupleIndexHashTable(Index index, boolean left) {
+        super( index, left );
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        keys = new int[capacity];
+    }
+
+    private int probe(int key) {
+        int pos = mix( key ) & mask;
+        while (table[pos] != null) {
+            if (keys[pos] == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    @Override
+    protected int findSlot(Object value) {
+        return probe( ((Number) value).intValue() );
+    }
+
+    @Override
+    protected int findSlot(TupleList bucket) {
+        return probe( ((IntTupleList) bucket).key );
+    }
+
+    @Override
+    protected TupleList createBucket(Object value, int slot) {
+        int key = ((Number) value).intValue();
+        keys[slot] = key;
+        return new IntTupleList( key );
+    }
+
+    @Override
+    protected void placeBucket(TupleList bucket) {
+        int key = ((IntTupleList) bucket).key;
+        int slot = -probe( key ) - 1;
+        keys[slot] = key;
+        table[slot] = bucket;
+    }
+
+    @Override
+    protected int idealSlot(int slot) {
+        return mix( keys[slot] ) & mask;
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void clearKey(int slot) {
+        // nothing to release
+    }
+
+    @Override
+    protected boolean bucketMatches(TupleList bucket, Object value) {
+        return ((IntTupleList) bucket).key == ((Number) value).intValue();
+    }
+
+    static class IntTupleList extends TupleList {
+        private final int key;
+
+        IntTupleList(int key) {
+            this.key = key;
+        }
+    }
+}
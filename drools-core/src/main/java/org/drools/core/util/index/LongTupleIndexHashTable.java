@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.core.util.AbstractHashTable.Index;
+
+/**
+ * Equality TupleMemory for a single indexed field of type long, storing its keys unboxed.
+ */
+public class LongTupleIndexHashTable extends AbstractPrimitiveTupleIndexHashTable {
+
+    private long[] keys;
+
+    public LongTupleIndexHashTable(Index index, boolean left) {
+        super( index, left );
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        keys = new long[capacity];
+    }
+
+    private static int hash(long key) {
+        return mix( (int) (key ^ (key >>> 32)) );
+    }
+
+    private int probe(long key) {
+        int pos = hash( key ) & mask;
+        while (table[pos] != null) {
+            if (keys[pos] == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    @Override
+    protected int findSlot(Object value) {
+        return probe( ((Number) value).longValue() );
+    }
+
+    @Override
+    protected int findSlot(TupleList bucket) {
+        return probe( ((LongTupleList) bucket).key );
+    }
+
+    @Override
+    protected TupleList createBucket(Object value, int slot) {
+        long key = ((Number) value).longValue();
+        keys[slot] = key;
+        return new LongTupleList( key );
+    }
+
+    @Override
+    protected void placeBucket(TupleList bucket) {
+        long key = ((LongTupleList) bucket).key;
+        int slot = -probe( key ) - 1;
+        keys[slot] = key;
+        table[slot] = bucket;
+    }
+
+    @Override
+    protected int idealSlot(int slot) {
+        return hash( keys[slot] ) & mask;
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        keys[to] = keys[from];
+    }
+
+    @Override
+    protected void clearKey(int slot) {
+        // nothing to release
+    }
+
+    @Override
+    protected boolean bucketMatches(TupleList bucket, Object value) {
+        return ((LongTupleList) bucket).key == ((Number) value).longValue();
+    }
+
+    static class LongTupleList extends TupleList {
+        private final long key;
+
+        LongTupleList(long key) {
+            this.key = key;
+        }
+    }
+}
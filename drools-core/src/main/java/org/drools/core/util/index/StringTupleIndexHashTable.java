@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import org.drools.core.util.AbstractHashTable.Index;
+
+/**
+ * Equality TupleMemory for a single indexed field of type String. The hash of each key is cached in a parallel
+ * int array, so probing only dereferences the String when the hashes already match.
+ */
+public class StringTupleIndexHashTable extends AbstractPrimitiveTupleIndexHashTable {
+
+    private String[] keys;
+
+    private int[] hashes;
+
+    public StringTupleIndexHashTable(Index index, boolean left) {
+        super( index, left );
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        keys = new String[capacity];
+        hashes = new int[capacity];
+    }
+
+    private int probe(String key, int hash) {
+        int pos = hash & mask;
+        while (table[pos] != null) {
+            if (hashes[pos] == hash && key.equals( keys[pos] )) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -pos - 1;
+    }
+
+    @Override
+    protected int findSlot(Object value) {
+        String key = (String) value;
+        return probe( key, mix( key.hashCode() ) );
+    }
+
+    @Override
+    protected int findSlot(TupleList bucket) {
+        String key = ((StringTupleList) bucket).key;
+        return probe( key, mix( key.hashCode() ) );
+    }
+
+    @Override
+    protected TupleList createBucket(Object value, int slot) {
+        String key = (String) value;
+        keys[slot] = key;
+        hashes[slot] = mix( key.hashCode() );
+        return new StringTupleList( key );
+    }
+
+    @Override
+    protected void placeBucket(TupleList bucket) {
+        String key = ((StringTupleList) bucket).key;
+        int hash = mix( key.hashCode() );
+        int slot = -probe( key, hash ) - 1;
+        keys[slot] = key;
+        hashes[slot] = hash;
+        table[slot] = bucket;
+    }
+
+    @Override
+    protected int idealSlot(int slot) {
+        return hashes[slot] & mask;
+    }
+
+    @Override
+    protected void moveKey(int from, int to) {
+        keys[to] = keys[from];
+        hashes[to] = hashes[from];
+    }
+
+    @Override
+    protected void clearKey(int slot) {
+        keys[slot] = null;
+    }
+
+    @Override
+    protected boolean bucketMatches(TupleList bucket, Object value) {
+        return ((StringTupleList) bucket).key.equals( value );
+    }
+
+    static class StringTupleList extends TupleList {
+        private final String key;
+
+        StringTupleList(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.base.accumulators;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.drools.core.base.accumulators.PercentileAccumulateFunction.PercentileData;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PercentileAccumulateFunctionTest {
+
+    @Test
+    public void testReverseCurrentMax() {
+        IntegerOrderedMaxAccumulateFunction function = new IntegerOrderedMaxAccumulateFunction();
+        PercentileData data = function.initContext( function.createContext() );
+
+        assertThat(function.supportsReverse()).isTrue();
+        assertThat(function.getResult(data)).isNull();
+
+        function.accumulate(data, 3);
+        function.accumulate(data, 7);
+        function.accumulate(data, 7);
+        function.accumulate(data, 1);
+        assertThat(function.getResult(data)).isEqualTo(7);
+
+        assertThat(function.tryReverse(data, 7)).isTrue();
+        assertThat(function.getResult(data)).isEqualTo(7);
+        assertThat(function.tryReverse(data, 7)).isTrue();
+        assertThat(function.getResult(data)).isEqualTo(3);
+
+        function.reverse(data, 3);
+        function.reverse(data, 1);
+        assertThat(function.getResult(data)).isNull();
+    }
+
+    @Test
+    public void testMedian() {
+        MedianAccumulateFunction function = new MedianAccumulateFunction();
+        PercentileData data = function.initContext( function.createContext() );
+
+        function.accumulate(data, 4.0);
+        function.accumulate(data, 1);
+        function.accumulate(data, 9L);
+        assertThat(function.getResult(data)).isEqualTo(4.0);
+
+        // with an even count the median is the mean of the two middle values
+        function.reverse(data, 4.0);
+        assertThat(function.getResult(data)).isEqualTo(5.0);
+
+        function.accumulate(data, 3);
+        function.accumulate(data, 7);
+        assertThat(function.getResult(data)).isEqualTo(5.0);
+
+        function.reverse(data, 9L);
+        assertThat(function.getResult(data)).isEqualTo(3);
+    }
+
+    @Test
+    public void testBigDecimalMedian() {
+        MedianAccumulateFunction function = new MedianAccumulateFunction();
+        PercentileData data = function.initContext( function.createContext() );
+
+        BigDecimal middle = new BigDecimal("2.50");
+        function.accumulate(data, new BigDecimal("0.10"));
+        function.accumulate(data, middle);
+        function.accumulate(data, new BigDecimal("10000000000000000000.01"));
+        assertThat(function.getResult(data)).isSameAs(middle);
+
+        function.accumulate(data, new BigDecimal("3.05"));
+        assertThat(function.getResult(data)).isEqualTo(new BigDecimal("2.775"));
+
+        function.accumulate(data, 3);
+        function.accumulate(data, 1.5);
+        assertThat(function.getResult(data)).isEqualTo(new BigDecimal("2.75"));
+    }
+
+    @Test
+    public void testIntegerMedianWithEvenCount() {
+        IntegerMedianAccumulateFunction function = new IntegerMedianAccumulateFunction();
+        PercentileData data = function.initContext( function.createContext() );
+
+        function.accumulate(data, 8);
+        function.accumulate(data, 2);
+        function.accumulate(data, 4);
+        function.accumulate(data, 6);
+        // as for the generic median, with an even count the result is the mean of the two middle values
+        assertThat(function.getResult(data)).isEqualTo(5.0);
+
+        function.reverse(data, 8);
+        assertThat(function.getResult(data)).isEqualTo(4.0);
+    }
+
+    @Test
+    public void testDoubleMedianAndMinMax() {
+        DoubleMedianAccumulateFunction median = new DoubleMedianAccumulateFunction();
+        DoubleOrderedMinAccumulateFunction min = new DoubleOrderedMinAccumulateFunction();
+        DoubleOrderedMaxAccumulateFunction max = new DoubleOrderedMaxAccumulateFunction();
+        PercentileData medianData = median.initContext( median.createContext() );
+        PercentileData minData = min.initContext( min.createContext() );
+        PercentileData maxData = max.initContext( max.createContext() );
+
+        for (double d : new double[] { 2.5, -1.0, 7.25, 4.0 }) {
+            median.accumulate(medianData, d);
+            min.accumulate(minData, d);
+            max.accumulate(maxData, d);
+        }
+        assertThat(median.getResult(medianData)).isEqualTo(3.25);
+        assertThat(min.getResult(minData)).isEqualTo(-1.0);
+        assertThat(max.getResult(maxData)).isEqualTo(7.25);
+
+        median.reverse(medianData, -1.0);
+        min.reverse(minData, -1.0);
+        max.reverse(maxData, 7.25);
+        assertThat(median.getResult(medianData)).isEqualTo(4.0);
+        assertThat(min.getResult(minData)).isEqualTo(2.5);
+        assertThat(max.getResult(maxData)).isEqualTo(4.0);
+    }
+
+    @Test
+    public void testNumericMinMaxKeepOriginalInstances() {
+        NumericOrderedMaxAccumulateFunction max = new NumericOrderedMaxAccumulateFunction();
+        NumericOrderedMinAccumulateFunction min = new NumericOrderedMinAccumulateFunction();
+        PercentileData maxData = max.initContext( max.createContext() );
+        PercentileData minData = min.initContext( min.createContext() );
+
+        BigDecimal big = new BigDecimal("9007199254740993.25");
+        BigInteger small = new BigInteger("-9007199254740993");
+        for (Number n : new Number[] { big, 9007199254740992L, small, 2.5 }) {
+            max.accumulate(maxData, n);
+            min.accumulate(minData, n);
+        }
+        assertThat(max.getResult(maxData)).isSameAs(big);
+        assertThat(min.getResult(minData)).isSameAs(small);
+
+        max.reverse(maxData, big);
+        min.reverse(minData, small);
+        assertThat(max.getResult(maxData)).isEqualTo(9007199254740992L);
+        assertThat(min.getResult(minData)).isEqualTo(2.5);
+    }
+
+    @Test
+    public void testComparableMin() {
+        OrderedMinAccumulateFunction function = new OrderedMinAccumulateFunction();
+        PercentileData data = function.initContext( function.createContext() );
+
+        function.accumulate(data, "b");
+        function.accumulate(data, "a");
+        assertThat(function.getResult(data)).isEqualTo("a");
+
+        function.reverse(data, "a");
+        assertThat(function.getResult(data)).isEqualTo("b");
+    }
+}
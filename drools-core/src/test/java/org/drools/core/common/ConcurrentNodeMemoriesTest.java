@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.common;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.impl.InternalRuleBase;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.internal.runtime.StatefulKnowledgeSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class ConcurrentNodeMemoriesTest {
+
+    @Test
+    public void testClearedMemoriesAreNotTracked() {
+        InternalRuleBase ruleBase = mockRuleBase();
+        ConcurrentNodeMemories memories = new ConcurrentNodeMemories(ruleBase);
+        MemoryFactory<Memory> node = new TestMemoryFactory(2);
+
+        for (int i = 0; i < 1000; i++) {
+            memories.getNodeMemory(node, null);
+            assertThat(memories.getCreatedMemoriesCount()).isEqualTo(1);
+            memories.clearNodeMemory(node);
+            assertThat(memories.getCreatedMemoriesCount()).isZero();
+        }
+    }
+
+    @Test
+    public void testResetOnlyCreatedMemories() {
+        InternalRuleBase ruleBase = mockRuleBase();
+        ConcurrentNodeMemories memories = new ConcurrentNodeMemories(ruleBase);
+        MemoryFactory<Memory> first = new TestMemoryFactory(0);
+        MemoryFactory<Memory> second = new TestMemoryFactory(1);
+        MemoryFactory<Memory> third = new TestMemoryFactory(40);
+
+        Memory firstMemory = memories.getNodeMemory(first, null);
+        Memory secondMemory = memories.getNodeMemory(second, null);
+        Memory thirdMemory = memories.getNodeMemory(third, null);
+        memories.clearNodeMemory(first);
+        assertThat(memories.getCreatedMemoriesCount()).isEqualTo(2);
+
+        StatefulKnowledgeSession session = mock(StatefulKnowledgeSession.class);
+        when(session.getKieBase()).thenReturn((KieBase) ruleBase);
+        memories.resetAllMemories(session);
+
+        verify(firstMemory, never()).reset();
+        verify(secondMemory).reset();
+        verify(thirdMemory).reset();
+    }
+
+    private static InternalRuleBase mockRuleBase() {
+        InternalRuleBase ruleBase = mock(InternalRuleBase.class, withSettings().extraInterfaces(KieBase.class));
+        when(ruleBase.getMemoryCount()).thenReturn(4);
+        return ruleBase;
+    }
+
+    private static class TestMemoryFactory implements MemoryFactory<Memory> {
+
+        private final int memoryId;
+
+        private TestMemoryFactory(int memoryId) {
+            this.memoryId = memoryId;
+        }
+
+        @Override
+        public int getMemoryId() {
+            return memoryId;
+        }
+
+        @Override
+        public Memory createMemory(RuleBaseConfiguration config, ReteEvaluator reteEvaluator) {
+            return mock(Memory.class);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.drools.core.common.ReteEvaluator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LockFreePropagationListTest {
+
+    @Test
+    public void testTakeAllPreservesInsertionOrder() {
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        assertThat(list.isEmpty()).isTrue();
+
+        for (int i = 0; i < 5; i++) {
+            list.addEntry( new RecordingEntry( 0, i, null ) );
+        }
+        assertThat(list.isEmpty()).isFalse();
+
+        List<Integer> iterated = new ArrayList<>();
+        list.iterator().forEachRemaining( e -> iterated.add( ((RecordingEntry) e).sequence ) );
+        assertThat(iterated).containsExactly( 0, 1, 2, 3, 4 );
+
+        List<Integer> taken = new ArrayList<>();
+        for (PropagationEntry entry = list.takeAll(); entry != null; entry = entry.getNext()) {
+            taken.add( ((RecordingEntry) entry).sequence );
+        }
+        assertThat(taken).containsExactly( 0, 1, 2, 3, 4 );
+        assertThat(list.isEmpty()).isTrue();
+        assertThat(list.takeAll()).isNull();
+    }
+
+    @Test
+    public void testEntriesDeferringExpiration() {
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        list.addEntry( new RecordingEntry( 0, 0, null ) );
+        assertThat(list.hasEntriesDeferringExpiration()).isFalse();
+
+        list.addEntry( new RecordingEntry( 0, 1, null ) {
+            @Override
+            public boolean defersExpiration() {
+                return true;
+            }
+        } );
+        assertThat(list.hasEntriesDeferringExpiration()).isTrue();
+
+        list.takeAll();
+        assertThat(list.hasEntriesDeferringExpiration()).isFalse();
+    }
+
+    @Test(timeout = 20000)
+    public void testConcurrentProducers() throws Exception {
+        int producers = 8;
+        int entriesPerProducer = 50_000;
+
+        LockFreePropagationList list = new LockFreePropagationList( null );
+        list.setFiringUntilHalt( true );
+
+        List<List<Integer>> received = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            received.add( new ArrayList<>() );
+        }
+
+        CountDownLatch start = new CountDownLatch( 1 );
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread( () -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException( e );
+                }
+                for (int i = 0; i < entriesPerProducer; i++) {
+                    list.addEntry( new RecordingEntry( producer, i, received ) );
+                }
+            } );
+            thread.start();
+            threads.add( thread );
+        }
+
+        AtomicBoolean producing = new AtomicBoolean( true );
+        Thread consumer = new Thread( () -> {
+            while (producing.get() || !list.isEmpty()) {
+                PropagationEntry head = list.takeAll();
+                if (head == null) {
+                    list.waitOnRest();
+                } else {
+                    list.flush( head );
+                }
+            }
+        } );
+        consumer.start();
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        producing.set( false );
+        list.notifyWaitOnRest();
+        consumer.join( TimeUnit.SECONDS.toMillis( 10 ) );
+
+        assertThat(consumer.isAlive()).isFalse();
+        for (List<Integer> sequences : received) {
+            assertThat(sequences).hasSize( entriesPerProducer );
+            for (int i = 0; i < entriesPerProducer; i++) {
+                // entries of the same producer must be flushed in the order they have been added
+                assertThat(sequences.get( i )).isEqualTo( i );
+            }
+        }
+    }
+
+    private static class RecordingEntry extends PropagationEntry.AbstractPropagationEntry {
+        private final int producer;
+        private final int sequence;
+        private final List<List<Integer>> received;
+
+        private RecordingEntry( int producer, int sequence, List<List<Integer>> received ) {
+            this.producer = producer;
+            this.sequence = sequence;
+            this.received = received;
+        }
+
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) {
+            internalExecute( reteEvaluator );
+        }
+
+        @Override
+        public void internalExecute( ReteEvaluator reteEvaluator ) {
+            received.get( producer ).add( sequence );
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.phreak.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.phreak.LockFreePropagationList;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.PropagationList;
+import org.drools.core.phreak.SynchronizedPropagationList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time needed by a single consumer, like the thread running a fireUntilHalt, to drain the
+ * propagations concurrently enqueued by a varying number of producer threads.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropagationListBenchmark {
+
+    public enum ListType {
+        SYNCHRONIZED, LOCK_FREE;
+
+        PropagationList create() {
+            return this == SYNCHRONIZED ? new SynchronizedPropagationList( null ) : new LockFreePropagationList( null );
+        }
+    }
+
+    @Param({"1", "4", "16"})
+    private int producers;
+
+    @Param({"100000"})
+    private int entriesPerProducer;
+
+    @Param({"SYNCHRONIZED", "LOCK_FREE"})
+    private ListType listType;
+
+    private ExecutorService executor;
+
+    private PropagationList propagationList;
+
+    @Setup(Level.Trial)
+    public void setUpExecutor() {
+        executor = Executors.newFixedThreadPool( producers );
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        propagationList = listType.create();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long drain() throws InterruptedException {
+        CountDownLatch start = new CountDownLatch( 1 );
+        for (int i = 0; i < producers; i++) {
+            executor.execute( () -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < entriesPerProducer; j++) {
+                    propagationList.addEntry( new NoOpEntry() );
+                }
+            } );
+        }
+        start.countDown();
+
+        long expected = (long) producers * entriesPerProducer;
+        long consumed = 0;
+        while (consumed < expected) {
+            PropagationEntry head = propagationList.takeAll();
+            if (head == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            for (PropagationEntry entry = head; entry != null; entry = entry.getNext()) {
+                entry.execute( null );
+                consumed++;
+            }
+        }
+        return consumed;
+    }
+
+    private static class NoOpEntry extends PropagationEntry.AbstractPropagationEntry {
+        @Override
+        public void execute( ReteEvaluator reteEvaluator ) { }
+
+        @Override
+        public void internalExecute( ReteEvaluator reteEvaluator ) { }
+    }
+}
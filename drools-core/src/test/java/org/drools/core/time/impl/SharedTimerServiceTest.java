@@ -0,0 +1,182 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.drools.base.time.JobHandle;
+import org.drools.base.time.Trigger;
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.JDKTimerServiceTest.DelayedTrigger;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJob;
+import org.drools.core.time.impl.JDKTimerServiceTest.HelloWorldJobContext;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedTimerServiceTest {
+
+    @Test
+    public void testClockTypeCreatesSharedTimerService() {
+        assertThat(createTimerService()).isInstanceOf(SharedTimerService.class);
+        assertThat(ClockType.resolveClockType("sharedrealtime")).isEqualTo(ClockType.SHARED_REALTIME_CLOCK);
+    }
+
+    @Test
+    public void testSingleExecutionJob() throws Exception {
+        TimerService timeService = createTimerService();
+        Trigger trigger = new DelayedTrigger( 100 );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(1);
+    }
+
+    @Test
+    public void testRepeatedExecutionJob() throws Exception {
+        TimerService timeService = createTimerService();
+        Trigger trigger = new DelayedTrigger(  new long[] { 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 500 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(3);
+    }
+
+    @Test
+    public void testRepeatedExecutionJobWithRemove() throws Exception {
+        TimerService timeService = createTimerService();
+        Trigger trigger = new DelayedTrigger(  new long[] {100, 100, 100, 100, 100, 100, 100, 100} );
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        ctx.setLimit( 3 );
+        timeService.scheduleJob( new HelloWorldJob(), ctx,  trigger);
+        Thread.sleep( 1000 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).hasSize(5);
+    }
+
+    @Test
+    public void testRemovedJobIsNotExecuted() throws Exception {
+        TimerService timeService = createTimerService();
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.removeJob( timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( 100 ) ) );
+        Thread.sleep( 300 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).isEmpty();
+        assertThat(timeService.getTimerJobInstances( 0 )).isEmpty();
+    }
+
+    @Test
+    public void testResetDiscardsPendingJobs() throws Exception {
+        TimerService timeService = createTimerService();
+        HelloWorldJobContext ctx = new HelloWorldJobContext( "hello world", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), ctx, new DelayedTrigger( 100 ) );
+        timeService.reset();
+
+        HelloWorldJobContext other = new HelloWorldJobContext( "other", timeService);
+        timeService.scheduleJob( new HelloWorldJob(), other, new DelayedTrigger( 100 ) );
+        Thread.sleep( 300 );
+        timeService.shutdown();
+        assertThat(ctx.getList()).isEmpty();
+        assertThat(other.getList()).hasSize(1);
+    }
+
+    @Test
+    public void testJobsOfManyServicesShareTheScheduler() throws Exception {
+        int services = 200;
+        int jobsPerService = 10;
+        CountDownLatch latch = new CountDownLatch( services * jobsPerService );
+        List<TimerService> timerServices = new ArrayList<>();
+        List<SerialCheckJobContext> contexts = new ArrayList<>();
+        for ( int i = 0; i < services; i++ ) {
+            TimerService timeService = createTimerService();
+            SerialCheckJobContext ctx = new SerialCheckJobContext( latch );
+            for ( int j = 0; j < jobsPerService; j++ ) {
+                timeService.scheduleJob( new SerialCheckJob(), ctx, new DelayedTrigger( 50 + j % 3 ) );
+            }
+            timerServices.add( timeService );
+            contexts.add( ctx );
+        }
+
+        assertThat(latch.await( 10, TimeUnit.SECONDS )).isTrue();
+        timerServices.forEach( TimerService::shutdown );
+
+        // the jobs of a single service are never executed concurrently
+        for ( SerialCheckJobContext ctx : contexts ) {
+            assertThat(ctx.executed.get()).isEqualTo(jobsPerService);
+            assertThat(ctx.overlapping.get()).isZero();
+        }
+    }
+
+    private static TimerService createTimerService() {
+        SessionConfiguration config = RuleBaseFactory.newKnowledgeSessionConfiguration().as(SessionConfiguration.KEY);
+        config.setClockType(ClockType.SHARED_REALTIME_CLOCK);
+        return config.createTimerService();
+    }
+
+    public static class SerialCheckJob implements Job {
+        public void execute(JobContext c) {
+            SerialCheckJobContext ctx = (SerialCheckJobContext) c;
+            if ( ctx.running.incrementAndGet() > 1 ) {
+                ctx.overlapping.incrementAndGet();
+            }
+            Thread.yield();
+            ctx.running.decrementAndGet();
+            ctx.executed.incrementAndGet();
+            ctx.latch.countDown();
+        }
+    }
+
+    public static class SerialCheckJobContext implements JobContext {
+        private final CountDownLatch latch;
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger overlapping = new AtomicInteger();
+        private final AtomicInteger executed = new AtomicInteger();
+
+        private JobHandle jobHandle;
+
+        public SerialCheckJobContext(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        public JobHandle getJobHandle() {
+            return this.jobHandle;
+        }
+
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return null;
+        }
+    }
+}
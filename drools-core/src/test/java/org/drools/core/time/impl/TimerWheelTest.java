@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.time.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.time.JobHandle;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TimerWheelTest {
+
+    private PseudoClockScheduler scheduler = new PseudoClockScheduler();
+
+    private TimerService timerService = scheduler;
+
+    private final List<String> fired = Collections.synchronizedList(new ArrayList<>());
+
+    @After
+    public void tearDown() {
+        timerService.shutdown();
+    }
+
+    @Test
+    public void entriesFireAtTheirDeadlinesOnEveryLevel() {
+        TimerWheel wheel = createWheel();
+        long[] deadlines = { 5, 63, 64, 70, 4095, 5000, 300_000, 20_000_000, 3_000_000_000L };
+        for (int i = deadlines.length - 1; i >= 0; i--) {
+            wheel.scheduleJob(new RecordingJob("" + deadlines[i]), new TestJobContext(), deadlines[i]);
+        }
+        assertThat(wheel.size()).isEqualTo(deadlines.length);
+
+        scheduler.advanceTime(4, TimeUnit.MILLISECONDS);
+        assertThat(fired).isEmpty();
+
+        scheduler.advanceTime(3_000_000_000L, TimeUnit.MILLISECONDS);
+        List<String> expected = new ArrayList<>();
+        for (long deadline : deadlines) {
+            // each entry fires with the clock set to its own deadline
+            expected.add(deadline + "@" + deadline);
+        }
+        assertThat(fired).containsExactlyElementsOf(expected);
+        assertThat(wheel.size()).isZero();
+        assertThat(scheduler.getTimeToNextJob()).isEqualTo(-1L);
+    }
+
+    @Test
+    public void entriesOfTheSameSlotFireAsOneBatchWithASingleJob() {
+        TimerWheel wheel = createWheel();
+        for (int i = 0; i < 1000; i++) {
+            wheel.scheduleJob(new RecordingJob("" + i), new TestJobContext(), 100 + (i % 2));
+        }
+        // only the job driving the wheel is scheduled on the timer service
+        assertThat(scheduler.queue).hasSize(1);
+
+        scheduler.advanceTime(100, TimeUnit.MILLISECONDS);
+        assertThat(fired).hasSize(500);
+        for (int i = 0; i < 500; i++) {
+            // same deadline entries keep the order in which they have been scheduled
+            assertThat(fired.get(i)).isEqualTo((i * 2) + "@100");
+        }
+
+        scheduler.advanceTime(1, TimeUnit.MILLISECONDS);
+        assertThat(fired).hasSize(1000);
+        assertThat(fired.get(999)).isEqualTo("999@101");
+    }
+
+    @Test
+    public void cancelledEntriesDoNotFire() {
+        TimerWheel wheel = createWheel();
+        JobHandle first = wheel.scheduleJob(new RecordingJob("first"), new TestJobContext(), 10);
+        JobHandle second = wheel.scheduleJob(new RecordingJob("second"), new TestJobContext(), 10);
+        JobHandle third = wheel.scheduleJob(new RecordingJob("third"), new TestJobContext(), 1000);
+
+        TimerWheel.removeJob(timerService, first);
+        third.cancel();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(first.isCancel()).isTrue();
+
+        scheduler.advanceTime(2000, TimeUnit.MILLISECONDS);
+        assertThat(fired).containsExactly("second@10");
+        assertThat(second.isCancel()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    public void failingJobDoesNotDropTheRestOfTheBatch() {
+        TimerWheel wheel = createWheel();
+        wheel.scheduleJob(ctx -> { throw new IllegalStateException("boom"); }, new TestJobContext(), 10);
+        wheel.scheduleJob(new RecordingJob("second"), new TestJobContext(), 10);
+        wheel.scheduleJob(new RecordingJob("third"), new TestJobContext(), 1000);
+
+        scheduler.advanceTime(2000, TimeUnit.MILLISECONDS);
+        assertThat(fired).containsExactly("second@10", "third@1000");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    public void earlierEntryReschedulesTheTick() {
+        TimerWheel wheel = createWheel();
+        scheduler.advanceTime(50_000, TimeUnit.MILLISECONDS);
+        wheel.scheduleJob(new RecordingJob("late"), new TestJobContext(), 90_000);
+        wheel.scheduleJob(new RecordingJob("early"), new TestJobContext(), 50_010);
+
+        scheduler.advanceTime(10, TimeUnit.MILLISECONDS);
+        assertThat(fired).containsExactly("early@50010");
+
+        scheduler.advanceTime(40_000, TimeUnit.MILLISECONDS);
+        assertThat(fired).containsExactly("early@50010", "late@90000");
+    }
+
+    @Test
+    public void pendingEntriesAreExposedAsTimerJobInstances() {
+        scheduler.setTimerJobFactoryManager(new TrackableTimeJobFactoryManager());
+        TimerWheel wheel = createWheel();
+        wheel.scheduleJob(new RecordingJob("a"), new TestJobContext(), 10);
+        wheel.scheduleJob(new RecordingJob("b"), new TestJobContext(), 5000);
+
+        Collection<TimerJobInstance> timers = wheel.mergeTimerJobInstances(scheduler.getTimerJobInstances(0));
+        assertThat(timers).hasSize(2);
+        assertThat(timers).extracting(timer -> timer.getTrigger().hasNextFireTime().getTime()).containsExactlyInAnyOrder(10L, 5000L);
+    }
+
+    @Test
+    public void resetDropsAllEntries() {
+        TimerWheel wheel = createWheel();
+        wheel.scheduleJob(new RecordingJob("a"), new TestJobContext(), 10);
+        scheduler.reset();
+        wheel.reset();
+        assertThat(wheel.size()).isZero();
+
+        wheel.scheduleJob(new RecordingJob("b"), new TestJobContext(), 20);
+        scheduler.advanceTime(30, TimeUnit.MILLISECONDS);
+        assertThat(fired).containsExactly("b@20");
+    }
+
+    @Test(timeout = 10000)
+    public void worksWithTheRealtimeTimerService() throws InterruptedException {
+        timerService = new JDKTimerService();
+        TimerWheel wheel = createWheel();
+        CountDownLatch latch = new CountDownLatch(3);
+        long now = timerService.getCurrentTime();
+        for (int i = 1; i <= 3; i++) {
+            wheel.scheduleJob(ctx -> latch.countDown(), new TestJobContext(), now + i * 20);
+        }
+        JobHandle cancelled = wheel.scheduleJob(new RecordingJob("cancelled"), new TestJobContext(), now + 30);
+        cancelled.cancel();
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).isEmpty();
+        assertThat(wheel.size()).isZero();
+    }
+
+    private TimerWheel createWheel() {
+        ReteEvaluator reteEvaluator = mock(ReteEvaluator.class);
+        when(reteEvaluator.getTimerService()).thenReturn(timerService);
+        return new TimerWheel(reteEvaluator);
+    }
+
+    private class RecordingJob implements Job {
+
+        private final String name;
+
+        private RecordingJob(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void execute(JobContext ctx) {
+            fired.add(name + "@" + timerService.getCurrentTime());
+        }
+    }
+
+    private static class TestJobContext implements JobContext {
+
+        private JobHandle jobHandle;
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OrderedBagTest {
+
+    @Test
+    public void testMinMaxWithDuplicates() {
+        IntOrderedBag bag = new IntOrderedBag();
+        bag.add(5);
+        bag.add(3);
+        bag.add(5);
+        bag.add(8);
+
+        assertThat(bag.size()).isEqualTo(4);
+        assertThat(bag.min()).isEqualTo(3);
+        assertThat(bag.max()).isEqualTo(8);
+
+        assertThat(bag.remove(8)).isTrue();
+        assertThat(bag.max()).isEqualTo(5);
+        assertThat(bag.remove(5)).isTrue();
+        assertThat(bag.max()).isEqualTo(5);
+        assertThat(bag.remove(5)).isTrue();
+        assertThat(bag.max()).isEqualTo(3);
+        assertThat(bag.remove(5)).isFalse();
+        assertThat(bag.size()).isEqualTo(1);
+
+        assertThat(bag.remove(3)).isTrue();
+        assertThat(bag.isEmpty()).isTrue();
+        assertThatThrownBy(bag::min).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    public void testPercentile() {
+        LongOrderedBag bag = new LongOrderedBag();
+        for (long i = 10; i > 0; i--) {
+            bag.add(i);
+        }
+
+        assertThat(bag.valueAtPercentile(0)).isEqualTo(1L);
+        assertThat(bag.valueAtPercentile(50)).isEqualTo(5L);
+        assertThat(bag.valueAtPercentile(90)).isEqualTo(9L);
+        assertThat(bag.valueAtPercentile(100)).isEqualTo(10L);
+    }
+
+    @Test
+    public void testComparable() {
+        ComparableOrderedBag bag = new ComparableOrderedBag();
+        bag.add("b");
+        bag.add("c");
+        bag.add("a");
+
+        assertThat(bag.min()).isEqualTo("a");
+        assertThat(bag.get(1)).isEqualTo("b");
+        assertThat(bag.max()).isEqualTo("c");
+    }
+
+    @Test
+    public void testNumbersOfMixedTypes() {
+        NumberOrderedBag bag = new NumberOrderedBag();
+        BigDecimal precise = new BigDecimal("0.1000000000000000000001");
+        bag.add(1);
+        bag.add(precise);
+        bag.add(0.1);
+        bag.add(1.0);
+        bag.add(new BigInteger("100000000000000000000"));
+
+        assertThat(bag.size()).isEqualTo(5);
+        assertThat(bag.min()).isEqualTo(0.1);
+        assertThat(bag.get(1)).isSameAs(precise);
+        // 1 and 1.0 share the same node, represented by the first one added
+        assertThat(bag.get(2)).isEqualTo(1);
+        assertThat(bag.get(3)).isEqualTo(1);
+        assertThat(bag.max()).isEqualTo(new BigInteger("100000000000000000000"));
+
+        assertThat(bag.remove(1.0)).isTrue();
+        assertThat(bag.remove(new BigDecimal("0.10000000000000000000010"))).isTrue();
+        assertThat(bag.remove(precise)).isFalse();
+        assertThat(bag.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstSortedList() {
+        Random random = new Random(0);
+        DoubleOrderedBag bag = new DoubleOrderedBag();
+        List<Double> expected = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                double value = random.nextInt(500);
+                bag.add(value);
+                expected.add(value);
+            } else {
+                Double value = expected.remove(random.nextInt(expected.size()));
+                assertThat(bag.remove(value)).isTrue();
+            }
+
+            assertThat(bag.size()).isEqualTo(expected.size());
+            if (i % 100 == 0) {
+                Collections.sort(expected);
+                for (int rank = 0; rank < expected.size(); rank++) {
+                    assertThat(bag.get(rank)).isEqualTo(expected.get(rank));
+                }
+            }
+        }
+
+        bag.clear();
+        assertThat(bag.isEmpty()).isTrue();
+    }
+}
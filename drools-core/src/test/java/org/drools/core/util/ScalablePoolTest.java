@@ -105,6 +105,11 @@ public class ScalablePoolTest {
         resource4 = pool.get();
         check( monitor, 5, 2, 0 );
 
+        assertThat(pool.getHits()).isEqualTo(5);
+        assertThat(pool.getMisses()).isEqualTo(2);
+        assertThat(pool.getResets()).isEqualTo(2);
+        assertThat(pool.getSize()).isEqualTo(5);
+
         pool.shutdown();
         check( monitor, 5, 2, 5 );
     }
@@ -68,11 +68,37 @@ public class IndexUtilTest {
 
     @Test
     public void createBetaMemoryWithIntEquals_shouldBeTupleIndexHashTable() {
+        RuleBaseConfiguration config = getRuleBaseConfiguration();
+        FakeBetaNodeFieldConstraint intEqualsConstraint = new FakeBetaNodeFieldConstraint(ConstraintTypeOperator.EQUAL, new FakeReadAccessor(ValueType.PINTEGER_TYPE));
+        IndexMemory.setPrimitiveEqualityMemory(false);
+        try {
+            BetaMemory betaMemory = IndexFactory.createBetaMemory(config, NodeTypeEnums.JoinNode, intEqualsConstraint);
+            assertThat(betaMemory.getLeftTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
+            assertThat(betaMemory.getRightTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
+        } finally {
+            IndexMemory.setPrimitiveEqualityMemory(true);
+        }
+    }
+
+    @Test
+    public void createBetaMemoryWithIntEquals_shouldBeIntTupleIndexHashTable() {
         RuleBaseConfiguration config = getRuleBaseConfiguration();
         FakeBetaNodeFieldConstraint intEqualsConstraint = new FakeBetaNodeFieldConstraint(ConstraintTypeOperator.EQUAL, new FakeReadAccessor(ValueType.PINTEGER_TYPE));
         BetaMemory betaMemory = IndexFactory.createBetaMemory(config, NodeTypeEnums.JoinNode, intEqualsConstraint);
-        assertThat(betaMemory.getLeftTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
-        assertThat(betaMemory.getRightTupleMemory()).isInstanceOf(TupleIndexHashTable.class);
+        assertThat(betaMemory.getLeftTupleMemory()).isInstanceOf(IntTupleIndexHashTable.class);
+        assertThat(betaMemory.getRightTupleMemory()).isInstanceOf(IntTupleIndexHashTable.class);
+    }
+
+    @Test
+    public void createBetaMemoryWithLongAndStringEquals_shouldBePrimitiveTupleIndexHashTable() {
+        RuleBaseConfiguration config = getRuleBaseConfiguration();
+        FakeBetaNodeFieldConstraint longEqualsConstraint = new FakeBetaNodeFieldConstraint(ConstraintTypeOperator.EQUAL, new FakeReadAccessor(ValueType.LONG_TYPE));
+        BetaMemory longBetaMemory = IndexFactory.createBetaMemory(config, NodeTypeEnums.JoinNode, longEqualsConstraint);
+        assertThat(longBetaMemory.getRightTupleMemory()).isInstanceOf(LongTupleIndexHashTable.class);
+
+        FakeBetaNodeFieldConstraint stringEqualsConstraint = new FakeBetaNodeFieldConstraint(ConstraintTypeOperator.EQUAL, new FakeReadAccessor(ValueType.STRING_TYPE));
+        BetaMemory stringBetaMemory = IndexFactory.createBetaMemory(config, NodeTypeEnums.JoinNode, stringEqualsConstraint);
+        assertThat(stringBetaMemory.getRightTupleMemory()).isInstanceOf(StringTupleIndexHashTable.class);
     }
 
     private RuleBaseConfiguration getRuleBaseConfiguration() {
@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.core.util.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.drools.base.base.ValueResolver;
+import org.drools.base.base.ValueType;
+import org.drools.base.reteoo.BaseTuple;
+import org.drools.base.rule.accessor.TupleValueExtractor;
+import org.drools.base.util.IndexedValueReader;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.reteoo.AbstractTuple;
+import org.drools.core.reteoo.JoinNodeLeftTuple;
+import org.drools.core.reteoo.RightTupleImpl;
+import org.drools.core.reteoo.Tuple;
+import org.drools.core.reteoo.TupleMemory;
+import org.drools.core.util.FastIterator;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimitiveTupleIndexHashTableTest {
+
+    @Test
+    public void testIntKeys() {
+        AbstractPrimitiveTupleIndexHashTable memory = new IntTupleIndexHashTable(createIndex(ValueType.PINTEGER_TYPE), false);
+        List<Tuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            tuples.add(addRightTuple(memory, i, i % 100));
+        }
+
+        assertThat(memory.size()).isEqualTo(1000);
+        assertThat(bucketSize(memory, 42)).isEqualTo(10);
+        assertThat(memory.getFirst(leftTuple(1000))).isNull();
+
+        for (Tuple tuple : tuples) {
+            memory.remove(tuple);
+        }
+        assertThat(memory.size()).isEqualTo(0);
+        assertThat(memory.getFirst(leftTuple(42))).isNull();
+        assertThat(memory.fullFastIterator().next(null)).isNull();
+    }
+
+    @Test
+    public void testLongKeys() {
+        AbstractPrimitiveTupleIndexHashTable memory = new LongTupleIndexHashTable(createIndex(ValueType.PLONG_TYPE), false);
+        addRightTuple(memory, 1, Long.MAX_VALUE);
+        addRightTuple(memory, 2, Long.MAX_VALUE);
+        addRightTuple(memory, 3, 1L);
+
+        assertThat(bucketSize(memory, Long.MAX_VALUE)).isEqualTo(2);
+        assertThat(bucketSize(memory, 1L)).isEqualTo(1);
+        assertThat(memory.getFirst(leftTuple(2L))).isNull();
+    }
+
+    @Test
+    public void testStringKeys() {
+        AbstractPrimitiveTupleIndexHashTable memory = new StringTupleIndexHashTable(createIndex(ValueType.STRING_TYPE), false);
+        addRightTuple(memory, 1, "stilton");
+        addRightTuple(memory, 2, new String("stilton"));
+        addRightTuple(memory, 3, "cheddar");
+
+        assertThat(bucketSize(memory, "stilton")).isEqualTo(2);
+        assertThat(bucketSize(memory, "cheddar")).isEqualTo(1);
+        assertThat(memory.getFirst(leftTuple("brie"))).isNull();
+    }
+
+    @Test
+    public void testNullKeys() {
+        AbstractPrimitiveTupleIndexHashTable memory = new IntTupleIndexHashTable(createIndex(ValueType.INTEGER_TYPE), false);
+        Tuple nullTuple = addRightTuple(memory, 1, null);
+        addRightTuple(memory, 2, 0);
+
+        assertThat(bucketSize(memory, null)).isEqualTo(1);
+        assertThat(bucketSize(memory, 0)).isEqualTo(1);
+        assertThat(iterate(memory.fullFastIterator())).hasSize(2);
+
+        memory.remove(nullTuple);
+        assertThat(memory.getFirst(leftTuple(null))).isNull();
+        assertThat(memory.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRemoveAdd() {
+        AbstractPrimitiveTupleIndexHashTable memory = new IntTupleIndexHashTable(createIndex(ValueType.PINTEGER_TYPE), false);
+        Holder holder = new Holder(1);
+        RightTupleImpl tuple = new RightTupleImpl(new DefaultFactHandle(1, holder), null);
+        memory.add(tuple);
+        addRightTuple(memory, 2, 1);
+
+        holder.value = 2;
+        memory.removeAdd(tuple);
+
+        assertThat(memory.size()).isEqualTo(2);
+        assertThat(bucketSize(memory, 1)).isEqualTo(1);
+        assertThat(memory.getFirst(leftTuple(2))).isSameAs(tuple);
+
+        holder.value = 3;
+        memory.removeAdd(tuple);
+        assertThat(memory.getFirst(leftTuple(2))).isNull();
+        assertThat(memory.getFirst(leftTuple(3))).isSameAs(tuple);
+    }
+
+    @Test
+    public void testFullFastIteratorResume() {
+        AbstractPrimitiveTupleIndexHashTable memory = new IntTupleIndexHashTable(createIndex(ValueType.INTEGER_TYPE), false);
+        for (int i = 0; i < 50; i++) {
+            addRightTuple(memory, i, i % 10 == 0 ? null : i % 7);
+        }
+
+        List<AbstractTuple> all = iterate(memory.fullFastIterator());
+        assertThat(all).hasSize(50);
+        assertThat(new HashSet<>(all)).hasSize(50);
+        assertThat(memory.toArray()).containsExactlyElementsOf(all);
+
+        // resuming from any tuple must visit exactly the tuples following it in the full iteration order
+        for (int i = 0; i < all.size(); i++) {
+            AbstractTuple current = all.get(i);
+            FastIterator<AbstractTuple> it = memory.fullFastIterator(current);
+            List<AbstractTuple> remaining = new ArrayList<>();
+            for (AbstractTuple t = it.next(current); t != null; t = it.next(t)) {
+                remaining.add(t);
+            }
+            assertThat(remaining).containsExactlyElementsOf(all.subList(i + 1, all.size()));
+        }
+    }
+
+    @Test
+    public void testRandomOperationsAgainstReference() {
+        Random random = new Random(0);
+        AbstractPrimitiveTupleIndexHashTable memory = new IntTupleIndexHashTable(createIndex(ValueType.PINTEGER_TYPE), false);
+        Map<Integer, Set<Tuple>> reference = new HashMap<>();
+        List<RightTupleImpl> live = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || live.isEmpty()) {
+                int key = random.nextInt(500);
+                RightTupleImpl tuple = new RightTupleImpl(new DefaultFactHandle(i, new Holder(key)), null);
+                memory.add(tuple);
+                live.add(tuple);
+                reference.computeIfAbsent(key, k -> new HashSet<>()).add(tuple);
+            } else if (op == 1) {
+                RightTupleImpl tuple = live.remove(random.nextInt(live.size()));
+                memory.remove(tuple);
+                reference.get(((Holder) tuple.getFactHandle().getObject()).value).remove(tuple);
+            } else {
+                RightTupleImpl tuple = live.get(random.nextInt(live.size()));
+                Holder holder = (Holder) tuple.getFactHandle().getObject();
+                reference.get(holder.value).remove(tuple);
+                holder.value = random.nextInt(500);
+                reference.computeIfAbsent((Integer) holder.value, k -> new HashSet<>()).add(tuple);
+                memory.removeAdd(tuple);
+            }
+        }
+
+        assertThat(memory.size()).isEqualTo(live.size());
+        for (int key = 0; key < 500; key++) {
+            Set<Tuple> expected = reference.getOrDefault(key, new HashSet<>());
+            Set<Tuple> actual = new HashSet<>();
+            for (Tuple t = memory.getFirst(leftTuple(key)); t != null; t = t.getNext()) {
+                actual.add(t);
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private static RightTupleImpl addRightTuple(TupleMemory memory, int id, Object value) {
+        RightTupleImpl tuple = new RightTupleImpl(new DefaultFactHandle(id, new Holder(value)), null);
+        memory.add(tuple);
+        return tuple;
+    }
+
+    private static JoinNodeLeftTuple leftTuple(Object value) {
+        return new JoinNodeLeftTuple(new DefaultFactHandle(-1, new Holder(value)), null, true);
+    }
+
+    private static int bucketSize(TupleMemory memory, Object value) {
+        int size = 0;
+        for (Tuple t = memory.getFirst(leftTuple(value)); t != null; t = t.getNext()) {
+            assertThat(((Holder) t.getFactHandle().getObject()).value).isEqualTo(value);
+            size++;
+        }
+        return size;
+    }
+
+    private static List<AbstractTuple> iterate(FastIterator<AbstractTuple> it) {
+        List<AbstractTuple> tuples = new ArrayList<>();
+        for (AbstractTuple t = it.next(null); t != null; t = it.next(t)) {
+            tuples.add(t);
+        }
+        return tuples;
+    }
+
+    private static org.drools.core.util.AbstractHashTable.Index createIndex(ValueType valueType) {
+        HolderExtractor extractor = new HolderExtractor(valueType);
+        return new IndexSpec(new IndexedValueReader[] { new IndexedValueReader(extractor, extractor) }).getIndex();
+    }
+
+    private static class Holder {
+        private Object value;
+
+        private Holder(Object value) {
+            this.value = value;
+        }
+    }
+
+    private static class HolderExtractor implements TupleValueExtractor {
+        private final ValueType valueType;
+
+        private HolderExtractor(ValueType valueType) {
+            this.valueType = valueType;
+        }
+
+        @Override
+        public ValueType getValueType() {
+            return valueType;
+        }
+
+        @Override
+        public Object getValue(ValueResolver valueResolver, BaseTuple tuple) {
+            return ((Holder) tuple.getFactHandle().getObject()).value;
+        }
+
+        @Override
+        public TupleValueExtractor clone() {
+            return this;
+        }
+    }
+}
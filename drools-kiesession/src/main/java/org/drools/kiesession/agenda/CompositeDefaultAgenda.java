@@ -42,6 +42,7 @@ import org.drools.core.rule.consequence.InternalMatch;
 import org.drools.core.rule.consequence.KnowledgeHelper;
 import org.drools.core.util.CompositeIterator;
 import org.kie.api.runtime.rule.AgendaFilter;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,6 +53,7 @@ import java.io.ObjectOutput;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
@@ -68,6 +70,8 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     private PropagationList propagationList;
 
+    private boolean partitionedPropagation;
+
     public CompositeDefaultAgenda() { }
 
     public CompositeDefaultAgenda(InternalWorkingMemory workingMemory) {
@@ -78,6 +82,25 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
         }
         // this composite agenda and the first partitioned one share the same propagation list
         this.propagationList = agendas[0].getPropagationList();
+        this.partitionedPropagation = kBase.getRuleBaseConfiguration().isPartitionedPropagation();
+        if (partitionedPropagation) {
+            startPropagationWorkers();
+        }
+    }
+
+    private void startPropagationWorkers() {
+        Executor executor = ExecutorProviderFactory.getExecutorProvider().getExecutor();
+        for ( int i = 0; i < agendas.length; i++ ) {
+            ((PartitionedDefaultAgenda) agendas[i]).startPropagationWorker( executor );
+        }
+    }
+
+    private void stopPropagationWorkers() {
+        for ( int i = 0; i < agendas.length; i++ ) {
+            if (agendas[i] instanceof PartitionedDefaultAgenda) {
+                ((PartitionedDefaultAgenda) agendas[i]).stopPropagationWorker();
+            }
+        }
     }
 
     @Override
@@ -142,7 +165,8 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
             fireCount += iterationFireCount;
             boolean limitReached = ( fireLimit > 0 && fireCount >= fireLimit );
 
-            while ( iterationFireCount > 0 && !limitReached && hasPendingPropagations() ) {
+            // the partition workers may have already propagated the facts inserted by the last iteration
+            while ( iterationFireCount > 0 && !limitReached && ( partitionedPropagation || hasPendingPropagations() ) ) {
                 iterationFireCount = parallelFire( agendaFilter, fireLimit - fireCount );
                 fireCount += iterationFireCount;
                 limitReached = ( fireLimit > 0 && fireCount >= fireLimit );
@@ -207,6 +231,7 @@ public class CompositeDefaultAgenda implements Externalizable, InternalAgenda {
 
     @Override
     public boolean dispose(InternalWorkingMemory wm) {
+        stopPropagationWorkers();
         for ( int i = 0; i < agendas.length; i++ ) {
             agendas[i].getPropagationList().dispose();
         }
@@ -0,0 +1,93 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.kiesession.agenda;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Propagation task owned by a single partition of the rule base. When signalled it is scheduled on the given
+ * executor, drains the propagation queue of its {@link PartitionedDefaultAgenda} and pre-evaluates the network
+ * of the rules belonging to that partition, so that the alpha and beta propagation of inserted facts is spread
+ * across the partitions while the facts are being inserted, instead of waiting for the next fireAllRules.
+ * <p/>
+ * No thread is held while the partition is idle: the task runs only when there is something to propagate and
+ * at most one instance of it is scheduled at any time.
+ */
+public class PartitionPropagationWorker implements Runnable {
+
+    protected static final Logger log = LoggerFactory.getLogger( PartitionPropagationWorker.class );
+
+    private final PartitionedDefaultAgenda agenda;
+
+    private final Executor executor;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile boolean disposed;
+
+    private volatile RuntimeException failure;
+
+    PartitionPropagationWorker(PartitionedDefaultAgenda agenda, Executor executor) {
+        this.agenda = agenda;
+        this.executor = executor;
+    }
+
+    void dispose() {
+        disposed = true;
+    }
+
+    void signal() {
+        if (!disposed && scheduled.compareAndSet( false, true )) {
+            executor.execute( this );
+        }
+    }
+
+    /**
+     * Returns and clears the failure, if any, that happened while this worker was propagating.
+     */
+    RuntimeException takeFailure() {
+        RuntimeException e = failure;
+        failure = null;
+        return e;
+    }
+
+    @Override
+    public void run() {
+        boolean propagated = false;
+        try {
+            if (!disposed) {
+                // skipped if the partition is firing or the session is locked by a user thread, which will flush the queue itself
+                propagated = agenda.tryPropagate();
+            }
+        } catch (RuntimeException e) {
+            log.error( "Error while propagating partition " + agenda.getPartition(), e );
+            failure = e;
+        } finally {
+            scheduled.set( false );
+        }
+        if (propagated) {
+            // entries enqueued while this task was running didn't schedule it again
+            agenda.signalIfPending();
+        }
+    }
+}
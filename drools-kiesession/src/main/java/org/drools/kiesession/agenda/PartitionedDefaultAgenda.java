@@ -18,15 +18,28 @@
  */
 package org.drools.kiesession.agenda;
 
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.common.PropagationContext;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.phreak.RuleAgendaItem;
 import org.drools.core.reteoo.ObjectTypeNode;
+import org.kie.api.runtime.rule.AgendaFilter;
 
 public class PartitionedDefaultAgenda extends DefaultAgenda {
 
     private final int partition;
 
+    // guards the network of this partition when it is propagated by a PartitionPropagationWorker
+    private final ReentrantLock partitionLock = new ReentrantLock();
+
+    private volatile PartitionPropagationWorker worker;
+
     PartitionedDefaultAgenda(InternalWorkingMemory workingMemory,
                              ExecutionStateMachine executionStateMachine,
                              int partition) {
@@ -34,6 +47,151 @@ public class PartitionedDefaultAgenda extends DefaultAgenda {
         this.partition = partition;
     }
 
+    int getPartition() {
+        return partition;
+    }
+
+    void startPropagationWorker(Executor executor) {
+        this.worker = new PartitionPropagationWorker( this, executor );
+    }
+
+    void stopPropagationWorker() {
+        PartitionPropagationWorker w = worker;
+        if (w != null) {
+            worker = null;
+            w.dispose();
+            // waits for a propagation still in progress
+            partitionLock.lock();
+            partitionLock.unlock();
+        }
+    }
+
+    @Override
+    public void addPropagation(PropagationEntry propagationEntry) {
+        super.addPropagation( propagationEntry );
+        PartitionPropagationWorker w = worker;
+        if (w != null) {
+            w.signal();
+        }
+    }
+
+    @Override
+    public void flushPropagations() {
+        if (worker == null) {
+            super.flushPropagations();
+            return;
+        }
+        partitionLock.lock();
+        try {
+            super.flushPropagations();
+        } finally {
+            partitionLock.unlock();
+        }
+    }
+
+    @Override
+    int internalFireAllRules( AgendaFilter agendaFilter, int fireLimit, boolean isInternalFire ) {
+        PartitionPropagationWorker w = worker;
+        if (w == null) {
+            return super.internalFireAllRules( agendaFilter, fireLimit, isInternalFire );
+        }
+        partitionLock.lock();
+        try {
+            rethrowFailure( w );
+            return super.internalFireAllRules( agendaFilter, fireLimit, isInternalFire );
+        } finally {
+            partitionLock.unlock();
+            signalIfPending();
+        }
+    }
+
+    @Override
+    void internalFireUntilHalt( AgendaFilter agendaFilter, boolean isInternalFire ) {
+        PartitionPropagationWorker w = worker;
+        if (w == null) {
+            super.internalFireUntilHalt( agendaFilter, isInternalFire );
+            return;
+        }
+        partitionLock.lock();
+        try {
+            rethrowFailure( w );
+            super.internalFireUntilHalt( agendaFilter, isInternalFire );
+        } finally {
+            partitionLock.unlock();
+            signalIfPending();
+        }
+    }
+
+    @Override
+    public void reset() {
+        PartitionPropagationWorker w = worker;
+        if (w == null) {
+            super.reset();
+            return;
+        }
+        partitionLock.lock();
+        try {
+            w.takeFailure();
+            super.reset();
+        } finally {
+            partitionLock.unlock();
+        }
+    }
+
+    /**
+     * Invoked by the worker of this partition: flushes the pending propagations and evaluates the network
+     * of the dirty rules of this partition, unless another thread is currently firing it or holds the session lock.
+     * <p/>
+     * Only the lock of this partition is taken, so the workers of different partitions propagate concurrently.
+     * The session lock is reserved to the work spanning all the partitions, like queries and batch executions:
+     * the worker backs off while another thread holds it, and that thread flushes every partition under its
+     * partition lock, which waits for a propagation in progress and orders the changes made here to the node
+     * memories before its own reads.
+     *
+     * @return true if the propagation has been performed
+     */
+    boolean tryPropagate() {
+        if (!partitionLock.tryLock()) {
+            return false;
+        }
+        try {
+            if (isSessionLockedByAnotherThread()) {
+                return false;
+            }
+            super.flushPropagations();
+            for (RuleAgendaItem item : new ArrayList<>( getAgendaGroupsManager().getActivations() )) {
+                item.getRuleExecutor().evaluateNetworkIfDirty( this );
+            }
+        } finally {
+            partitionLock.unlock();
+        }
+        return true;
+    }
+
+    private boolean isSessionLockedByAnotherThread() {
+        Lock sessionLock = workingMemory.getLock();
+        if (sessionLock instanceof ReentrantLock) {
+            ReentrantLock lock = (ReentrantLock) sessionLock;
+            return lock.isLocked() && !lock.isHeldByCurrentThread();
+        }
+        return false;
+    }
+
+    void signalIfPending() {
+        // entries enqueued while the lock was held may have been missed by the worker
+        PartitionPropagationWorker w = worker;
+        if (w != null && hasPendingPropagations()) {
+            w.signal();
+        }
+    }
+
+    private static void rethrowFailure(PartitionPropagationWorker w) {
+        RuntimeException e = w.takeFailure();
+        if (e != null) {
+            throw e;
+        }
+    }
+
     /**
      * Do not use this constructor! It should be used just by deserialization.
      */
@@ -240,6 +240,78 @@ public class NamedEntryPoint implements InternalWorkingMemoryEntryPoint, Propert
 
     }
 
+    @Override
+    public void insertAll(Object[] objects, int length, FactHandle[] handles) {
+        if ( length == 0 ) {
+            return;
+        }
+        if ( this.reteEvaluator.isSequential() ) {
+            for (int i = 0; i < length; i++) {
+                handles[i] = insert( objects[i] );
+            }
+            return;
+        }
+
+        try {
+            this.reteEvaluator.startOperation(ReteEvaluator.InternalOperationType.INSERT);
+            this.ruleBase.executeQueuedActions();
+
+            InternalFactHandle[] batch = new InternalFactHandle[length];
+            PropagationContext[] contexts = new PropagationContext[length];
+            ObjectTypeConf[] typeConfs = new ObjectTypeConf[length];
+            int batchSize = 0;
+
+            try {
+                lock();
+                for (int i = 0; i < length; i++) {
+                    Object object = objects[i];
+                    if ( object == null ) {
+                        handles[i] = null;
+                        continue;
+                    }
+
+                    ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
+                    if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+                        // these need the full single insert path, so flush what has been batched so far to keep the insertion order
+                        if ( batchSize > 0 ) {
+                            flushBatch( batch, contexts, typeConfs, batchSize );
+                            batch = new InternalFactHandle[length - i];
+                            contexts = new PropagationContext[length - i];
+                            typeConfs = new ObjectTypeConf[length - i];
+                            batchSize = 0;
+                        }
+                        handles[i] = insert( object );
+                        continue;
+                    }
+
+                    InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+                    if ( handle == null ) {
+                        handle = createHandle( object, typeConf );
+                        PropagationContext pctx = this.pctxFactory.createPropagationContext(this.reteEvaluator.getNextPropagationIdCounter(),
+                                PropagationContext.Type.INSERTION, null, null, handle, entryPoint);
+                        this.objectStore.addHandle( handle, object );
+                        batch[batchSize] = handle;
+                        contexts[batchSize] = pctx;
+                        typeConfs[batchSize++] = typeConf;
+                    }
+                    handles[i] = handle;
+                }
+                flushBatch( batch, contexts, typeConfs, batchSize );
+            } finally {
+                unlock();
+            }
+        } finally {
+            this.reteEvaluator.endOperation(ReteEvaluator.InternalOperationType.INSERT);
+        }
+    }
+
+    private void flushBatch(InternalFactHandle[] batch, PropagationContext[] contexts, ObjectTypeConf[] typeConfs, int batchSize) {
+        this.entryPointNode.assertObjects( batch, contexts, typeConfs, batchSize, this.reteEvaluator );
+        for (int i = 0; i < batchSize; i++) {
+            this.reteEvaluator.getRuleRuntimeEventSupport().fireObjectInserted(contexts[i], batch[i], batch[i].getObject(), this.reteEvaluator);
+        }
+    }
+
     public void insert(InternalFactHandle handle) {
         Object object = handle.getObject();
         ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getOrCreateObjectTypeConf( this.entryPoint, object );
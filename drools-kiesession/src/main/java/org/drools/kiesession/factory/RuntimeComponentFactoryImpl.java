@@ -122,7 +122,11 @@ public class RuntimeComponentFactoryImpl implements Serializable, RuntimeCompone
     }
 
     public StatelessKieSession createStatelessSession(RuleBase ruleBase, KieSessionConfiguration conf) {
-        return new StatelessKnowledgeSessionImpl((InternalKnowledgeBase) ruleBase, conf );
+        InternalKnowledgeBase kbase = (InternalKnowledgeBase) ruleBase;
+        if (kbase.getSessionPool() != null) {
+            return kbase.getSessionPool().newStatelessKieSession( conf != null ? conf : kbase.getSessionConfiguration() );
+        }
+        return new StatelessKnowledgeSessionImpl( kbase, conf );
     }
 
     public KieSessionsPool createSessionsPool(RuleBase ruleBase, int initialSize) {
@@ -47,6 +47,27 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
         pools.clear();
     }
 
+    /**
+     * Returns how many sessions, stateful or stateless, have been served by reusing a pooled one
+     */
+    public long getHits() {
+        return pools.values().stream().mapToLong( StatefulSessionPool::getHits ).sum();
+    }
+
+    /**
+     * Returns how many sessions had to be created because no pooled one was available
+     */
+    public long getMisses() {
+        return pools.values().stream().mapToLong( StatefulSessionPool::getMisses ).sum();
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent resetting the sessions released to this pool
+     */
+    public long getResetTimeNanos() {
+        return pools.values().stream().mapToLong( StatefulSessionPool::getResetTimeNanos ).sum();
+    }
+
     protected StatefulSessionPool getPool( KieSessionConfiguration conf, boolean stateless) {
         return getPool( null, conf, stateless);
     }
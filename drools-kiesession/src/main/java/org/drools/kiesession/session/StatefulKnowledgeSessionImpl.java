@@ -80,6 +80,7 @@ import org.drools.core.runtime.process.InternalProcessRuntime;
 import org.drools.core.runtime.rule.impl.LiveQueryImpl;
 import org.drools.core.runtime.rule.impl.OpenQueryViewChangedEventListenerAdapter;
 import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.TimerWheel;
 import org.drools.util.bitmask.BitMask;
 import org.drools.kiesession.entrypoints.NamedEntryPointsManager;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
@@ -119,6 +120,7 @@ import org.kie.internal.marshalling.MarshallerFactory;
 import org.kie.internal.process.CorrelationAwareProcessRuntime;
 import org.kie.internal.process.CorrelationKey;
 import org.kie.internal.runtime.StatefulKnowledgeSession;
+import org.kie.internal.runtime.conf.ExpirationSchedulingOption;
 
 import java.io.ByteArrayOutputStream;
 import java.io.Externalizable;
@@ -207,6 +209,8 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
     private volatile TimerService timerService;
 
+    private TimerWheel timerWheel;
+
     protected InternalFactHandle initialFactHandle;
 
     private PropagationContextFactory pctxFactory;
@@ -342,6 +346,10 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
 
         this.sequential = conf.isSequential();
 
+        if (ruleSessionConfig.getExpirationSchedulingOption() == ExpirationSchedulingOption.TIMER_WHEEL) {
+            this.timerWheel = new TimerWheel(this);
+        }
+
         this.globalResolver = RuntimeComponentFactory.get().createGlobalResolver(this, this.environment);
 
         if (initInitFactHandle) {
@@ -831,6 +839,16 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
     }
 
     public void reset() {
+        // excludes the propagation workers of a partitioned agenda while the memories are reset
+        this.lock.lock();
+        try {
+            internalReset();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void internalReset() {
         if (nodeMemories != null) {
             nodeMemories.resetAllMemories( this );
         }
@@ -853,6 +871,10 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
             this.timerService.reset();
         }
 
+        if (this.timerWheel != null) {
+            this.timerWheel.reset();
+        }
+
         if (this.processRuntime != null) {
             this.processRuntime.dispose();
             this.processRuntime = null;
@@ -1462,6 +1484,11 @@ public class StatefulKnowledgeSessionImpl extends AbstractRuntime
         return this.timerService;
     }
 
+    @Override
+    public TimerWheel getTimerWheel() {
+        return this.timerWheel;
+    }
+
     protected TimerService createTimerService() {
         return RuntimeComponentFactory.get().createTimerService(this);
     }
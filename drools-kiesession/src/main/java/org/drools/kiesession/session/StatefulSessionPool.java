@@ -45,6 +45,26 @@ public class StatefulSessionPool {
         pool.release( session );
     }
 
+    public long getHits() {
+        return pool.getHits();
+    }
+
+    public long getMisses() {
+        return pool.getMisses();
+    }
+
+    public long getResets() {
+        return pool.getResets();
+    }
+
+    public long getResetTimeNanos() {
+        return pool.getResetTimeNanos();
+    }
+
+    public int getSize() {
+        return pool.getSize();
+    }
+
     public void shutdown() {
         pool.shutdown();
     }
@@ -38,12 +38,12 @@ public class PhreakAsyncReceiveNodeMetric extends PhreakAsyncReceiveNode {
                        TupleSets<LeftTuple> trgLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(node);
+            MetricLogUtils.getInstance().startMetrics(node, srcLeftTuples);
 
             super.doNode(node, memory, sink, reteEvaluator, srcLeftTuples, trgLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
@@ -41,12 +41,12 @@ public class PhreakBranchNodeMetric extends PhreakBranchNode {
                        RuleExecutor executor) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(branchNode);
+            MetricLogUtils.getInstance().startMetrics(branchNode, srcLeftTuples);
 
             super.doNode(branchNode, cbm, sink, activationsManager, srcLeftTuples, trgLeftTuples, stagedLeftTuples, executor);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
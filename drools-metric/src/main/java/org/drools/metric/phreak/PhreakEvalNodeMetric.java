@@ -39,12 +39,12 @@ public class PhreakEvalNodeMetric extends PhreakEvalNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(evalNode);
+            MetricLogUtils.getInstance().startMetrics(evalNode, srcLeftTuples);
 
             super.doNode(evalNode, em, sink, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
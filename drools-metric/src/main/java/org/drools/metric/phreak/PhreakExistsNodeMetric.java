@@ -39,12 +39,12 @@ public class PhreakExistsNodeMetric extends PhreakExistsNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(existsNode);
+            MetricLogUtils.getInstance().startMetrics(existsNode, srcLeftTuples);
 
             super.doNode(existsNode, sink, bm, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
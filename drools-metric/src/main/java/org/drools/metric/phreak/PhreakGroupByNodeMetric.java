@@ -38,12 +38,12 @@ public class PhreakGroupByNodeMetric extends PhreakGroupByNode {
                         TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(accNode);
+            MetricLogUtils.getInstance().startMetrics(accNode, srcLeftTuples);
 
             super.doNode(accNode, sink, am, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
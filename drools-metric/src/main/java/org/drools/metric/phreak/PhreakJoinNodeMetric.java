@@ -38,12 +38,12 @@ public class PhreakJoinNodeMetric extends PhreakJoinNode {
                        TupleSets<LeftTuple> trgLeftTuples,
                        TupleSets<LeftTuple> stagedLeftTuples) {
         try {
-            MetricLogUtils.getInstance().startMetrics(joinNode);
+            MetricLogUtils.getInstance().startMetrics(joinNode, srcLeftTuples);
 
             super.doNode(joinNode, sink, bm, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
@@ -39,12 +39,12 @@ public class PhreakNotNodeMetric extends PhreakNotNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(notNode);
+            MetricLogUtils.getInstance().startMetrics(notNode, srcLeftTuples);
 
             super.doNode(notNode, sink, bm, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
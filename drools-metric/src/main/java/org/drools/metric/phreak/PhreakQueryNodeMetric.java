@@ -39,12 +39,12 @@ public class PhreakQueryNodeMetric extends PhreakQueryNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(queryNode);
+            MetricLogUtils.getInstance().startMetrics(queryNode, srcLeftTuples);
 
             super.doNode(queryNode, qmem, stackEntry, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
@@ -39,12 +39,12 @@ public class PhreakReactiveFromNodeMetric extends PhreakReactiveFromNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(fromNode);
+            MetricLogUtils.getInstance().startMetrics(fromNode, srcLeftTuples);
 
             super.doNode(fromNode, fm, sink, reteEvaluator, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
@@ -43,12 +43,12 @@ public class PhreakTimerNodeMetric extends PhreakTimerNode {
                        TupleSets<LeftTuple> stagedLeftTuples) {
 
         try {
-            MetricLogUtils.getInstance().startMetrics(timerNode);
+            MetricLogUtils.getInstance().startMetrics(timerNode, srcLeftTuples);
 
             super.doNode(timerNode, tm, pmem, smem, sink, activationsManager, srcLeftTuples, trgLeftTuples, stagedLeftTuples);
 
         } finally {
-            MetricLogUtils.getInstance().logAndEndMetrics();
+            MetricLogUtils.getInstance().logAndEndMetrics(trgLeftTuples);
         }
     }
 }
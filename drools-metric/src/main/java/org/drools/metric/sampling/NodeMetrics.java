@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.drools.core.common.BaseNode;
+import org.kie.api.definition.rule.Rule;
+
+/**
+ * The sampled metrics of a single network node.
+ */
+public class NodeMetrics {
+
+    private final long nodeId;
+    private final String nodeType;
+    private final List<String> rules;
+
+    private final LongAdder samples = new LongAdder();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder tuplesIn = new LongAdder();
+    private final LongAdder tuplesOut = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public NodeMetrics(BaseNode node) {
+        this.nodeId = node.getId();
+        this.nodeType = node.getClass().getSimpleName();
+        this.rules = new ArrayList<>();
+        for (Rule rule : node.getAssociatedRules()) {
+            rules.add(rule.getPackageName() + "." + rule.getName());
+        }
+    }
+
+    public void record(long evalCount, long elapsedTimeInNanos, long tuplesInCount, long tuplesOutCount) {
+        samples.increment();
+        evaluations.add(evalCount);
+        tuplesIn.add(tuplesInCount);
+        tuplesOut.add(tuplesOutCount);
+        latency.record(elapsedTimeInNanos);
+    }
+
+    public NodeMetricsSnapshot snapshot(int samplingRate) {
+        return new NodeMetricsSnapshot(nodeId, nodeType, rules, samplingRate, samples.sum(), evaluations.sum(),
+                                       tuplesIn.sum(), tuplesOut.sum(), latency.getMean(),
+                                       latency.getValueAtPercentile(50), latency.getValueAtPercentile(90),
+                                       latency.getValueAtPercentile(99), latency.getMax());
+    }
+
+    public void reset() {
+        samples.reset();
+        evaluations.reset();
+        tuplesIn.reset();
+        tuplesOut.reset();
+        latency.reset();
+    }
+}
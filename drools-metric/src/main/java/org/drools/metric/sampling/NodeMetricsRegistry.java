@@ -0,0 +1,184 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.sampling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.drools.core.common.BaseNode;
+import org.drools.metric.util.MetricLogUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the metrics of the propagations sampled by {@link MetricLogUtils}, keeping a {@link NodeMetrics} per node.
+ * Nodes are weakly referenced, so the metrics of a discarded KieBase are released together with it.
+ */
+public final class NodeMetricsRegistry implements NodeMetricsMXBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeMetricsRegistry.class);
+
+    public static final String OBJECT_NAME = "org.drools.metric:type=NodeMetrics";
+
+    private static final NodeMetricsRegistry INSTANCE = new NodeMetricsRegistry();
+
+    private final Map<NodeKey, NodeMetrics> metrics = new ConcurrentHashMap<>();
+    private final ReferenceQueue<BaseNode> collectedNodes = new ReferenceQueue<>();
+
+    private volatile boolean mbeanRegistered;
+
+    public static NodeMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    private NodeMetricsRegistry() {
+        // No external instances.
+    }
+
+    public void record(BaseNode node, long evalCount, long elapsedTimeInNanos, long tuplesIn, long tuplesOut) {
+        if (node == null) {
+            return;
+        }
+        NodeMetrics nodeMetrics = metrics.get(new LookupKey(node));
+        if (nodeMetrics == null) {
+            expungeCollectedNodes();
+            nodeMetrics = metrics.computeIfAbsent(new NodeKey(node, collectedNodes), k -> new NodeMetrics(node));
+        }
+        nodeMetrics.record(evalCount, elapsedTimeInNanos, tuplesIn, tuplesOut);
+    }
+
+    /**
+     * Returns the metrics sampled so far for every node still alive, ordered by node id.
+     */
+    public List<NodeMetricsSnapshot> snapshot() {
+        expungeCollectedNodes();
+        int samplingRate = getSamplingRate();
+        List<NodeMetricsSnapshot> snapshots = new ArrayList<>();
+        for (NodeMetrics nodeMetrics : metrics.values()) {
+            snapshots.add(nodeMetrics.snapshot(samplingRate));
+        }
+        snapshots.sort(Comparator.comparingLong(NodeMetricsSnapshot::getNodeId));
+        return snapshots;
+    }
+
+    @Override
+    public int getSamplingRate() {
+        return MetricLogUtils.getInstance().getSamplingRate();
+    }
+
+    @Override
+    public void setSamplingRate(int samplingRate) {
+        MetricLogUtils.getInstance().setSamplingRate(samplingRate);
+    }
+
+    @Override
+    public List<NodeMetricsSnapshot> getNodeMetrics() {
+        return snapshot();
+    }
+
+    @Override
+    public void reset() {
+        metrics.clear();
+        expungeCollectedNodes();
+    }
+
+    public void registerMBean() {
+        if (mbeanRegistered) {
+            return;
+        }
+        synchronized (this) {
+            if (mbeanRegistered) {
+                return;
+            }
+            try {
+                MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (!mbs.isRegistered(name)) {
+                    mbs.registerMBean(this, name);
+                }
+                mbeanRegistered = true;
+            } catch (Exception e) {
+                logger.warn("Unable to register the node metrics MBean", e);
+            }
+        }
+    }
+
+    private void expungeCollectedNodes() {
+        Reference<? extends BaseNode> ref;
+        while ((ref = collectedNodes.poll()) != null) {
+            metrics.remove(ref);
+        }
+    }
+
+    private static final class NodeKey extends WeakReference<BaseNode> {
+
+        private final int hash;
+
+        private NodeKey(BaseNode node, ReferenceQueue<BaseNode> queue) {
+            super(node, queue);
+            this.hash = System.identityHashCode(node);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof NodeKey) {
+                BaseNode node = get();
+                return node != null && node == ((NodeKey) obj).get();
+            }
+            return obj instanceof LookupKey && get() == ((LookupKey) obj).node;
+        }
+    }
+
+    private static final class LookupKey {
+
+        private final BaseNode node;
+
+        private LookupKey(BaseNode node) {
+            this.node = node;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(node);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NodeKey && ((NodeKey) obj).get() == node;
+        }
+    }
+}
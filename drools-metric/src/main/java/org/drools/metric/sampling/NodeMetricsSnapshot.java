@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric.sampling;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable view of the metrics sampled for a network node. Counts are the ones observed on the sampled
+ * propagations only; {@link #getEstimatedPropagations()} extrapolates them with the sampling rate.
+ */
+public class NodeMetricsSnapshot {
+
+    private final long nodeId;
+    private final String nodeType;
+    private final List<String> rules;
+    private final int samplingRate;
+    private final long sampledPropagations;
+    private final long evaluations;
+    private final long tuplesIn;
+    private final long tuplesOut;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    public NodeMetricsSnapshot(long nodeId, String nodeType, List<String> rules, int samplingRate, long sampledPropagations,
+                               long evaluations, long tuplesIn, long tuplesOut, double meanNanos,
+                               long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+        this.nodeId = nodeId;
+        this.nodeType = nodeType;
+        this.rules = Collections.unmodifiableList(rules);
+        this.samplingRate = samplingRate;
+        this.sampledPropagations = sampledPropagations;
+        this.evaluations = evaluations;
+        this.tuplesIn = tuplesIn;
+        this.tuplesOut = tuplesOut;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public String getNodeType() {
+        return nodeType;
+    }
+
+    public List<String> getRules() {
+        return rules;
+    }
+
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    public long getSampledPropagations() {
+        return sampledPropagations;
+    }
+
+    public long getEstimatedPropagations() {
+        return sampledPropagations * Math.max(samplingRate, 1);
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getTuplesIn() {
+        return tuplesIn;
+    }
+
+    public long getTuplesOut() {
+        return tuplesOut;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeMetricsSnapshot [nodeId=" + nodeId + ", nodeType=" + nodeType + ", rules=" + rules +
+                ", sampledPropagations=" + sampledPropagations + ", evaluations=" + evaluations +
+                ", tuplesIn=" + tuplesIn + ", tuplesOut=" + tuplesOut + ", meanNanos=" + meanNanos +
+                ", p50Nanos=" + p50Nanos + ", p90Nanos=" + p90Nanos + ", p99Nanos=" + p99Nanos + ", maxNanos=" + maxNanos + "]";
+    }
+}
@@ -19,6 +19,9 @@
 package org.drools.metric.util;
 
 import org.drools.core.common.BaseNode;
+import org.drools.core.common.TupleSets;
+import org.drools.core.reteoo.Tuple;
+import org.drools.metric.sampling.NodeMetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +38,15 @@ public class MetricLogUtils {
     public static final String METRIC_LOGGER_THRESHOLD = "drools.metric.logger.threshold";
     private int threshold = Integer.parseInt(getConfig(METRIC_LOGGER_THRESHOLD, "500")); // microseconds
 
+    /**
+     * When greater than 0, one node evaluation every N (per thread) is sampled into the {@link NodeMetricsRegistry}.
+     * Unlike the logger, sampling can be left on in production.
+     */
+    public static final String METRIC_SAMPLING_RATE = "drools.metric.sampling.rate";
+    private volatile int samplingRate = Integer.parseInt(getConfig(METRIC_SAMPLING_RATE, "0"));
+
     private final ThreadLocal<NodeStats> nodeStats = new ThreadLocal<>();
+    private final ThreadLocal<int[]> samplingCounter = ThreadLocal.withInitial(() -> new int[1]);
 
     private static final MetricLogUtils INSTANCE = new MetricLogUtils();
 
@@ -55,53 +66,116 @@ public class MetricLogUtils {
 
     private MetricLogUtils() {
         // It is not allowed to create instances of util classes.
+        if (samplingRate > 0) {
+            NodeMetricsRegistry.getInstance().registerMBean();
+        }
     }
 
     public int getThreshold() {
         return threshold;
     }
 
+    /**
+     * Metric nodes are created when either the logger or the sampling is enabled, at the time the KieBase is built.
+     */
     public boolean isEnabled() {
-        return enabled;
+        return enabled || samplingRate > 0;
+    }
+
+    public int getSamplingRate() {
+        return samplingRate;
+    }
+
+    public void setSamplingRate(int samplingRate) {
+        this.samplingRate = samplingRate;
+        if (samplingRate > 0) {
+            NodeMetricsRegistry.getInstance().registerMBean();
+        }
     }
 
     public void startMetrics(BaseNode baseNode) {
-        if (enabled) {
-            nodeStats.set(new NodeStats(baseNode));
-        } else {
-            logger.warn("Metrics must not be started when disabled");
+        startMetrics(baseNode, null);
+    }
+
+    public void startMetrics(BaseNode baseNode, TupleSets<? extends Tuple> srcTuples) {
+        // the sampling rate can be set to 0 through JMX while the metric nodes are still in the network,
+        // so there is nothing to start when the logger is disabled and this evaluation is not sampled
+        boolean sampled = isSampled();
+        if (enabled || sampled) {
+            NodeStats stats = new NodeStats(baseNode);
+            if (sampled) {
+                stats.setSampled(countTuples(srcTuples));
+            }
+            nodeStats.set(stats);
         }
     }
 
+    private boolean isSampled() {
+        int rate = samplingRate;
+        if (rate <= 0) {
+            return false;
+        }
+        int[] counter = samplingCounter.get();
+        if (++counter[0] >= rate) {
+            counter[0] = 0;
+            return true;
+        }
+        return false;
+    }
+
+    private static long countTuples(TupleSets<? extends Tuple> tuples) {
+        if (tuples == null) {
+            return 0;
+        }
+        return countStaged(tuples.getInsertFirst()) + countStaged(tuples.getUpdateFirst()) + countStaged(tuples.getDeleteFirst());
+    }
+
+    private static long countStaged(Tuple tuple) {
+        long count = 0;
+        for (Tuple t = tuple; t != null; t = t.getStagedNext()) {
+            count++;
+        }
+        return count;
+    }
+
     public void incrementEvalCount() {
-        if (enabled) {
+        if (isEnabled()) {
             NodeStats stats = nodeStats.get();
             if (stats != null && stats.isStarted()) {
                 stats.incrementEvalCount();
             }
-        } else {
-            logger.warn("Metrics must not be executed when disabled");
         }
     }
 
     public void logAndEndMetrics() {
-        if (enabled) {
+        logAndEndMetrics(null);
+    }
+
+    public void logAndEndMetrics(TupleSets<? extends Tuple> trgTuples) {
+        if (isEnabled()) {
             NodeStats stats = nodeStats.get();
             if (stats != null && stats.isStarted()) {
                 long evalCount = stats.getEvalCount();
                 long elapsedTimeInNanos = (System.nanoTime() - stats.getStartTime());
+                if (stats.isSampled()) {
+                    NodeMetricsRegistry.getInstance().record(stats.getNode(), evalCount, elapsedTimeInNanos,
+                                                             stats.getTuplesIn(), countTuples(trgTuples));
+                }
                 long elapsedTimeInMicro = elapsedTimeInNanos / 1000;
-                if (evalCount > 0 && elapsedTimeInMicro > threshold) {
+                if (enabled && evalCount > 0 && elapsedTimeInMicro > threshold) {
                     if (micrometerAvailable) {
                         MicrometerUtils.INSTANCE.triggerMicrometer(stats.getNode(), evalCount, elapsedTimeInNanos);
                     } else {  // Only log when Micrometer is not enabled.
                         logger.trace("{}, evalCount:{}, elapsedMicro:{}", stats.getNode(), evalCount, elapsedTimeInMicro);
                     }
                 }
-            } else {
+            } else if (enabled) {
                 logger.warn("nodeStats has to be initialized. Call startMetrics() beforehand : stats = {}", stats);
             }
             nodeStats.remove();
+        } else {
+            // the sampling may have been switched off after the metrics of this evaluation were started
+            nodeStats.remove();
         }
     }
 
@@ -28,6 +28,8 @@ public class NodeStats {
     private long evalCount = 0;
     private long startTime = 0;
     private WeakReference<BaseNode> nodeRef = null;
+    private boolean sampled = false;
+    private long tuplesIn = 0;
 
     public NodeStats(BaseNode node) {
         this.started = true;
@@ -48,6 +50,19 @@ public class NodeStats {
         this.evalCount++;
     }
 
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public void setSampled(long tuplesIn) {
+        this.sampled = true;
+        this.tuplesIn = tuplesIn;
+    }
+
+    public long getTuplesIn() {
+        return tuplesIn;
+    }
+
     public long getStartTime() {
         return startTime;
     }
@@ -0,0 +1,138 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.metric;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.drools.metric.sampling.LatencyHistogram;
+import org.drools.metric.sampling.NodeMetricsRegistry;
+import org.drools.metric.sampling.NodeMetricsSnapshot;
+import org.drools.metric.util.MetricLogUtils;
+import org.drools.mvel.compiler.Person;
+import org.junit.After;
+import org.junit.Test;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NodeMetricsSamplingTest extends AbstractMetricTest {
+
+    @After
+    public void resetSampling() {
+        MetricLogUtils.getInstance().setSamplingRate(0);
+        NodeMetricsRegistry.getInstance().reset();
+    }
+
+    @Test
+    public void testSampledJoin() throws Exception {
+        MetricLogUtils.getInstance().setSamplingRate(1);
+
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p1 : Person(age > 5)\n" +
+                        "  $p2 : Person(age > $p1.age)\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+
+        List<Person> personList = IntStream.range(0, 10)
+                .mapToObj(i -> new Person("John" + i, i))
+                .collect(Collectors.toList());
+
+        KieSession ksession = kbase.newKieSession();
+        personList.forEach(ksession::insert);
+        int fired = ksession.fireAllRules();
+        ksession.dispose();
+        assertThat(fired).isEqualTo(6);
+
+        List<NodeMetricsSnapshot> snapshots = NodeMetricsRegistry.getInstance().snapshot();
+        assertThat(snapshots).hasSize(1);
+        NodeMetricsSnapshot join = snapshots.get(0);
+        assertThat(join.getNodeType()).isEqualTo("JoinNode");
+        assertThat(join.getRules()).containsExactly("defaultpkg.R1");
+        assertThat(join.getSampledPropagations()).isPositive();
+        assertThat(join.getEstimatedPropagations()).isEqualTo(join.getSampledPropagations());
+        assertThat(join.getTuplesIn()).isEqualTo(4);
+        assertThat(join.getTuplesOut()).isEqualTo(6);
+        assertThat(join.getMaxNanos()).isGreaterThanOrEqualTo(join.getP50Nanos());
+
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(NodeMetricsRegistry.OBJECT_NAME);
+        assertThat(mbs.getAttribute(name, "SamplingRate")).isEqualTo(1);
+        CompositeData[] nodeMetrics = (CompositeData[]) mbs.getAttribute(name, "NodeMetrics");
+        assertThat(nodeMetrics).hasSize(1);
+        assertThat(nodeMetrics[0].get("tuplesOut")).isEqualTo(6L);
+    }
+
+    @Test
+    public void testSamplingSwitchedOff() throws Exception {
+        MetricLogUtils.getInstance().setSamplingRate(1);
+
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                        "rule R1\n" +
+                        "when\n" +
+                        "  $p1 : Person(age > 5)\n" +
+                        "  $p2 : Person(age > $p1.age)\n" +
+                        "then\n" +
+                        "end\n";
+
+        KieBase kbase = loadKnowledgeBaseFromString(str);
+
+        // the metric nodes stay in the network, but they must not sample anything once the rate is set to 0
+        MetricLogUtils.getInstance().setSamplingRate(0);
+
+        KieSession ksession = kbase.newKieSession();
+        IntStream.range(0, 10).mapToObj(i -> new Person("John" + i, i)).forEach(ksession::insert);
+        int fired = ksession.fireAllRules();
+        ksession.dispose();
+        assertThat(fired).isEqualTo(6);
+
+        assertThat(NodeMetricsRegistry.getInstance().snapshot()).isEmpty();
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMax()).isEqualTo(1_000_000L);
+        assertThat(histogram.getMean()).isEqualTo(500_500.0);
+        assertThat((double) histogram.getValueAtPercentile(50)).isBetween(500_000.0, 500_000.0 * 17 / 16);
+        assertThat((double) histogram.getValueAtPercentile(99)).isBetween(990_000.0, 990_000.0 * 17 / 16);
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(1_000_000L);
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.getValueAtPercentile(50)).isZero();
+    }
+}
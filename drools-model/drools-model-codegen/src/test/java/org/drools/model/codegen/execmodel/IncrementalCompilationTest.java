@@ -20,14 +20,18 @@ package org.drools.model.codegen.execmodel;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.drools.compiler.kie.builder.impl.KieBaseUpdaterFactory;
+import org.drools.compiler.kie.builder.impl.KieBaseUpdaters;
 import org.drools.model.codegen.execmodel.domain.Address;
 import org.drools.model.codegen.execmodel.domain.Person;
 import org.junit.Test;
 import org.kie.api.KieServices;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.internal.utils.KieService;
 import org.kie.api.runtime.KieContainer;
 import org.kie.api.runtime.KieSession;
 import org.kie.internal.builder.conf.AlphaNetworkCompilerOption;
@@ -105,6 +109,61 @@ public class IncrementalCompilationTest extends BaseModelTest {
         assertThat(ksession2.fireAllRules()).isEqualTo(2);
     }
 
+    @Test
+    public void testSessionsKeepWorkingWhileUpdateIsPrepared() throws Exception {
+        String drl1 = "package org.drools.incremental\n" +
+                "import " + Message.class.getCanonicalName() + ";\n" +
+                "rule R1 when\n" +
+                "   $m : Message( value.startsWith(\"H\") )\n" +
+                "then\n" +
+                "end\n";
+
+        String drl2 = "package org.drools.incremental\n" +
+                "import " + Message.class.getCanonicalName() + ";\n" +
+                "rule R2 when\n" +
+                "   $m : Message( value == \"Hello World\" )\n" +
+                "then\n" +
+                "end\n";
+
+        KieServices ks = KieServices.Factory.get();
+
+        ReleaseId releaseId1 = ks.newReleaseId( "org.kie", "test-prepared-upgrade", "1.0.0" );
+        createAndDeployJar( ks, releaseId1, drl1 );
+
+        KieContainer kc = ks.newKieContainer( releaseId1 );
+        KieSession ksession = kc.newKieSession();
+        ksession.insert( new Message( "Hello World" ) );
+        assertThat(ksession.fireAllRules()).isEqualTo(1);
+
+        ReleaseId releaseId2 = ks.newReleaseId( "org.kie", "test-prepared-upgrade", "1.1.0" );
+        createAndDeployJar( ks, releaseId2, drl1, drl2 );
+
+        Collection<KieBaseUpdaterFactory> updaterFactories = KieService.load(KieBaseUpdaters.class).getChildren();
+        PausingKieBaseUpdaterFactory pausingFactory = new PausingKieBaseUpdaterFactory();
+        updaterFactories.add( pausingFactory );
+        try {
+            PausingKieBaseUpdaterFactory.Pause pause = pausingFactory.pauseNextPreparation();
+            Thread updater = new Thread( () -> kc.updateToVersion( releaseId2 ) );
+            updater.start();
+            try {
+                assertThat(pause.awaitPaused()).isTrue();
+
+                // the update is being prepared: the session isn't paused and keeps firing with the old rules
+                ksession.insert( new Message( "Hello World" ) );
+                assertThat(ksession.fireAllRules()).isEqualTo(1);
+            } finally {
+                pause.release();
+                updater.join();
+            }
+        } finally {
+            updaterFactories.remove( pausingFactory );
+        }
+
+        // the prepared update has been applied: R2 fires for the 2 existing messages and both rules for the new one
+        ksession.insert( new Message( "Hello World" ) );
+        assertThat(ksession.fireAllRules()).isEqualTo(4);
+    }
+
     @Test
     public void testKJarUpgradeWithDeclaredType() throws Exception {
         String drl1 = "package org.drools.incremental\n" +
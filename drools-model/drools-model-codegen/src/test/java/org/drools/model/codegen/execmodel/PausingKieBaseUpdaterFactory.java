@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.model.codegen.execmodel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.kie.builder.impl.KieBaseUpdater;
+import org.drools.compiler.kie.builder.impl.KieBaseUpdaterFactory;
+import org.drools.compiler.kie.builder.impl.KieBaseUpdatersContext;
+
+/**
+ * Test updater pausing the preparation of the next KieBase update until it is released,
+ * so that a test can interact with the sessions while the update is being prepared.
+ * It isn't registered as a service: a test adds it to the {@link org.drools.compiler.kie.builder.impl.KieBaseUpdaters}
+ * children only for the duration of the update it needs to pause.
+ */
+public class PausingKieBaseUpdaterFactory implements KieBaseUpdaterFactory {
+
+    private volatile Pause pause;
+
+    public Pause pauseNextPreparation() {
+        pause = new Pause();
+        return pause;
+    }
+
+    @Override
+    public KieBaseUpdater create(KieBaseUpdatersContext ctx) {
+        return new KieBaseUpdater() {
+            @Override
+            public void prepare() {
+                Pause current = pause;
+                if (current != null) {
+                    pause = null;
+                    current.pause();
+                }
+            }
+
+            @Override
+            public void run() { }
+        };
+    }
+
+    public static class Pause {
+
+        private final CountDownLatch paused = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private void pause() {
+            paused.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        public boolean awaitPaused() throws InterruptedException {
+            return paused.await(10, TimeUnit.SECONDS);
+        }
+
+        public void release() {
+            released.countDown();
+        }
+    }
+}
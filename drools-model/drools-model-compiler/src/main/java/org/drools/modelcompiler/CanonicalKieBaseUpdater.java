@@ -47,10 +47,32 @@ import org.kie.internal.builder.ResourceChangeSet;
 
 public class CanonicalKieBaseUpdater extends KieBaseUpdaterImpl {
 
+    private CanonicalKiePackages newPkgs;
+
     public CanonicalKieBaseUpdater( KieBaseUpdaterImplContext ctx ) {
         super(ctx);
     }
 
+    @Override
+    public void prepare() {
+        // the packages of the new kmodule are built from its executable model without touching the kbase
+        getNewPackages();
+    }
+
+    private CanonicalKiePackages getNewPackages() {
+        if (newPkgs == null) {
+            CanonicalKieModule newKM = ( CanonicalKieModule ) ctx.newKM;
+            // To keep compatible the classes generated from declared types the new kmodule has to be loaded with the classloader of the old one
+            newKM.setIncrementalUpdate( true );
+            try {
+                newPkgs = newKM.getKiePackages( ctx.newKieBaseModel );
+            } finally {
+                newKM.setIncrementalUpdate( false );
+            }
+        }
+        return newPkgs;
+    }
+
     @Override
     public void run() {
         CanonicalKieModule oldKM = ( CanonicalKieModule ) ctx.currentKM;
@@ -58,12 +80,9 @@ public class CanonicalKieBaseUpdater extends KieBaseUpdaterImpl {
 
         Map<String, AtomicInteger> globalsCounter = new HashMap<>();
 
-        // To keep compatible the classes generated from declared types the new kmodule has to be loaded with the classloader of the old one
-        newKM.setIncrementalUpdate( true );
-        CanonicalKiePackages newPkgs = newKM.getKiePackages( ctx.newKieBaseModel );
+        CanonicalKiePackages newPkgs = getNewPackages();
         InternalKnowledgeBuilder pkgbuilder = ctx.kbuilder;
         CompositeKnowledgeBuilder ckbuilder = pkgbuilder.batch();
-        newKM.setIncrementalUpdate( false );
 
         removeResources(pkgbuilder);
 
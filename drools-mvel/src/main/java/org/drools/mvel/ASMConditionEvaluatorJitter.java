@@ -106,6 +106,7 @@ import static org.mvel2.asm.Opcodes.IF_ICMPGT;
 import static org.mvel2.asm.Opcodes.IF_ICMPLE;
 import static org.mvel2.asm.Opcodes.IF_ICMPLT;
 import static org.mvel2.asm.Opcodes.IF_ICMPNE;
+import static org.mvel2.asm.Opcodes.ILOAD;
 import static org.mvel2.asm.Opcodes.INSTANCEOF;
 import static org.mvel2.asm.Opcodes.IRETURN;
 import static org.mvel2.asm.Opcodes.LCMP;
@@ -121,6 +122,15 @@ public class ASMConditionEvaluatorJitter {
                                                    EvaluatorWrapper[] operators,
                                                    ClassLoader classLoader,
                                                    BaseTuple tuple) {
+        return jitEvaluator(expression, condition, declarations, operators, classLoader, tupleIndexes(tuple));
+    }
+
+    private static ConditionEvaluator jitEvaluator( String expression,
+                                                    Condition condition,
+                                                    Declaration[] declarations,
+                                                    EvaluatorWrapper[] operators,
+                                                    ClassLoader classLoader,
+                                                    int[] tupleIndexes) {
         ClassGenerator generator = new ClassGenerator(getUniqueClassName(), classLoader)
                 .setInterfaces(ConditionEvaluator.class)
                 .addStaticField(ACC_PRIVATE | ACC_FINAL, "EXPRESSION", String.class, expression)
@@ -129,7 +139,7 @@ public class ASMConditionEvaluatorJitter {
         generator.addMethod(ACC_PUBLIC,
                             "evaluate",
                             generator.methodDescr(boolean.class, FactHandle.class, ValueResolver.class, BaseTuple.class),
-                            new EvaluateMethodGenerator(condition, declarations, operators, tuple));
+                            new EvaluateMethodGenerator(condition, declarations, operators, tupleIndexes));
 
         if (operators.length == 0) {
             generator.addDefaultConstructor(new ClassGenerator.MethodBody() {
@@ -155,6 +165,120 @@ public class ASMConditionEvaluatorJitter {
         return generator.newInstance(Declaration[].class, declarations, EvaluatorWrapper[].class, operators);
     }
 
+    public static ConditionEvaluator jitEvaluator(JitCondition condition, ClassLoader classLoader) {
+        return jitEvaluator(condition.expression, condition.condition, condition.declarations, condition.operators, classLoader, condition.tupleIndexes);
+    }
+
+    /**
+     * Jits the given conditions in a single class, having an evaluate method for each of them, and returns an
+     * evaluator for each condition, in the same order. Each evaluator is an instance of this class dispatching
+     * to its own method through the id received by the constructor.
+     */
+    public static ConditionEvaluator[] jitEvaluators(List<JitCondition> conditions, ClassLoader classLoader) {
+        final int size = conditions.size();
+        ClassGenerator generator = new ClassGenerator(getUniqueName("ConditionEvaluatorBatch"), classLoader)
+                .setInterfaces(ConditionEvaluator.class)
+                .addField(ACC_PRIVATE | ACC_FINAL, "declarations", Declaration[].class)
+                .addField(ACC_PRIVATE | ACC_FINAL, "operators", EvaluatorWrapper[].class)
+                .addField(ACC_PRIVATE | ACC_FINAL, "id", int.class);
+
+        for (int i = 0; i < size; i++) {
+            JitCondition condition = conditions.get(i);
+            generator.addStaticField(ACC_PRIVATE | ACC_FINAL, "EXPRESSION_" + i, String.class, condition.expression);
+            generator.addMethod(ACC_PUBLIC,
+                                "evaluate" + i,
+                                generator.methodDescr(boolean.class, FactHandle.class, ValueResolver.class, BaseTuple.class),
+                                new EvaluateMethodGenerator(condition.condition, condition.declarations, condition.operators, condition.tupleIndexes));
+        }
+
+        generator.addMethod(ACC_PUBLIC,
+                            "evaluate",
+                            generator.methodDescr(boolean.class, FactHandle.class, ValueResolver.class, BaseTuple.class),
+                            new ClassGenerator.MethodBody() {
+                                public void body(MethodVisitor mv) {
+                                    Label[] cases = new Label[size];
+                                    for (int i = 0; i < size; i++) {
+                                        cases[i] = new Label();
+                                    }
+                                    Label unknownId = new Label();
+                                    getFieldFromThis("id", int.class);
+                                    mv.visitTableSwitchInsn(0, size - 1, unknownId, cases);
+                                    for (int i = 0; i < size; i++) {
+                                        mv.visitLabel(cases[i]);
+                                        mv.visitVarInsn(ALOAD, 0);
+                                        mv.visitVarInsn(ALOAD, 1);
+                                        mv.visitVarInsn(ALOAD, 2);
+                                        mv.visitVarInsn(ALOAD, 3);
+                                        invokeThis("evaluate" + i, boolean.class, FactHandle.class, ValueResolver.class, BaseTuple.class);
+                                        mv.visitInsn(IRETURN);
+                                    }
+                                    mv.visitLabel(unknownId);
+                                    mv.visitInsn(ICONST_0);
+                                    mv.visitInsn(IRETURN);
+                                }
+                            });
+
+        generator.addDefaultConstructor(new ClassGenerator.MethodBody() {
+            public void body(MethodVisitor mv) {
+                putFieldInThisFromRegistry("declarations", Declaration[].class, 1);
+                putFieldInThisFromRegistry("operators", EvaluatorWrapper[].class, 2);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ILOAD, 3);
+                putFieldInThis("id", int.class);
+                mv.visitInsn(RETURN);
+            }
+        }, Declaration[].class, EvaluatorWrapper[].class, int.class);
+
+        ConditionEvaluator[] evaluators = new ConditionEvaluator[size];
+        for (int i = 0; i < size; i++) {
+            JitCondition condition = conditions.get(i);
+            evaluators[i] = generator.newInstance(new Class<?>[] { Declaration[].class, EvaluatorWrapper[].class, int.class },
+                                                  new Object[] { condition.declarations, condition.operators, i });
+        }
+        return evaluators;
+    }
+
+    /**
+     * An analyzed condition, together with everything needed to jit it. The tuple it has been analyzed against is
+     * only kept as the indexes of its chain of parents, so that a condition waiting to be jitted doesn't retain any fact.
+     */
+    public static class JitCondition {
+
+        private final String expression;
+        private final Condition condition;
+        private final Declaration[] declarations;
+        private final EvaluatorWrapper[] operators;
+        private final int[] tupleIndexes;
+
+        public JitCondition(String expression, Condition condition, Declaration[] declarations, EvaluatorWrapper[] operators, BaseTuple tuple) {
+            this.expression = expression;
+            this.condition = condition;
+            this.declarations = declarations;
+            this.operators = operators;
+            this.tupleIndexes = tupleIndexes(tuple);
+        }
+
+        public String getExpression() {
+            return expression;
+        }
+    }
+
+    /**
+     * Returns the indexes of the given tuple and of all its parents, the only parts of it used to generate the evaluate method
+     */
+    private static int[] tupleIndexes(BaseTuple tuple) {
+        int size = 0;
+        for (BaseTuple t = tuple; t != null; t = t.getParent()) {
+            size++;
+        }
+        int[] indexes = new int[size];
+        int i = 0;
+        for (BaseTuple t = tuple; t != null; t = t.getParent()) {
+            indexes[i++] = t.getIndex();
+        }
+        return indexes;
+    }
+
     private static String getUniqueClassName() {
         return getUniqueName("ConditionEvaluator");
     }
@@ -171,16 +295,16 @@ public class ASMConditionEvaluatorJitter {
 
         private final Condition condition;
         private final Declaration[] declarations;
-        private final BaseTuple tuple;
+        private final int[] tupleIndexes;
         private final EvaluatorWrapper[] operators;
 
         private int[] declPositions;
 
-        public EvaluateMethodGenerator(Condition condition, Declaration[] declarations, EvaluatorWrapper[] operators, BaseTuple leftTuple) {
+        public EvaluateMethodGenerator(Condition condition, Declaration[] declarations, EvaluatorWrapper[] operators, int[] tupleIndexes) {
             this.condition = condition;
             this.declarations = declarations;
             this.operators = operators;
-            this.tuple = leftTuple;
+            this.tupleIndexes = tupleIndexes;
         }
 
         public void body(MethodVisitor mv) {
@@ -198,14 +322,14 @@ public class ASMConditionEvaluatorJitter {
             declPositions = new int[declarations.length];
             List<GeneratorHelper.DeclarationMatcher> declarationMatchers = matchDeclarationsToTuple(declarations);
 
-            BaseTuple currentTuple = tuple;
+            int currentTuple = 0; // the position in tupleIndexes of the tuple stored in the register 4
             mv.visitVarInsn(ALOAD, 3);
             store(4, Tuple.class);
 
             int decPos = ARGUMENTS;
             for (GeneratorHelper.DeclarationMatcher declarationMatcher : declarationMatchers) {
                 int i = declarationMatcher.getMatcherIndex();
-                if (currentTuple == null || declarationMatcher.getTupleIndex() > currentTuple.getIndex()) {
+                if (currentTuple == tupleIndexes.length || declarationMatcher.getTupleIndex() > tupleIndexes[currentTuple]) {
                     getFieldFromThis("declarations", Declaration[].class);
                     push(i);
                     mv.visitInsn(AALOAD); // declarations[i]
@@ -217,7 +341,7 @@ public class ASMConditionEvaluatorJitter {
                     continue;
                 }
 
-                currentTuple = traverseTuplesUntilDeclaration(currentTuple, declarationMatcher.getTupleIndex(), 4);
+                currentTuple = traverseTupleIndexesUntilDeclaration(currentTuple, declarationMatcher.getTupleIndex(), 4);
 
                 getFieldFromThis("declarations", Declaration[].class);
                 push(i);
@@ -232,6 +356,16 @@ public class ASMConditionEvaluatorJitter {
             }
         }
 
+        private int traverseTupleIndexesUntilDeclaration(int currentTuple, int tupleIndex, int tupleReg) {
+            while (tupleIndexes[currentTuple] != tupleIndex) {
+                mv.visitVarInsn(ALOAD, tupleReg);
+                invokeInterface(BaseTuple.class, "getParent", BaseTuple.class);
+                mv.visitVarInsn(ASTORE, tupleReg); // tuple = tuple.getParent()
+                currentTuple++;
+            }
+            return currentTuple;
+        }
+
         private void jitOperators() {
             if (operators.length == 0) {
                 return;
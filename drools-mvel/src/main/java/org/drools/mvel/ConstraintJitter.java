@@ -0,0 +1,312 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.mvel.ASMConditionEvaluatorJitter.JitCondition;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Jits the hot MVEL constraints in the background.
+ * <p/>
+ * The constraints crossing the jitting threshold are admitted to a bounded queue: when it is full the request is
+ * rejected and the constraint keeps being interpreted until it crosses the threshold again. A single task at a time
+ * drains the queue, picks the constraints evaluated the most times so far, and jits them in batches, generating one
+ * class for all the constraints of a batch sharing the same rule base class loader. If a batch cannot be jitted,
+ * its constraints are jitted one by one, so that a single failure doesn't affect the others.
+ * <p/>
+ * The capacity of the queue and the size of the batches can be configured with the {@value #QUEUE_SIZE_PROPERTY}
+ * and {@value #BATCH_SIZE_PROPERTY} system properties.
+ */
+public class ConstraintJitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConstraintJitter.class);
+
+    public static final String QUEUE_SIZE_PROPERTY = "drools.jittingQueueSize";
+    public static final int DEFAULT_QUEUE_SIZE = 10_000;
+
+    public static final String BATCH_SIZE_PROPERTY = "drools.jittingBatchSize";
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * A constraint waiting to be jitted
+     */
+    public interface Request {
+
+        /**
+         * The number of times the constraint has been evaluated so far, the greater the sooner it is jitted
+         */
+        int getPriority();
+
+        ClassLoader getClassLoader();
+
+        /**
+         * Returns the condition to be jitted, analyzed when the constraint was submitted, or null if it cannot be jitted
+         */
+        JitCondition getCondition();
+
+        void install(ConditionEvaluator evaluator);
+
+        /**
+         * The constraint couldn't be jitted and will stay interpreted
+         */
+        void fail(Throwable cause);
+
+        /**
+         * The queue is full and the constraint will stay interpreted until it asks to be jitted again
+         */
+        void reject();
+    }
+
+    private final int queueSize;
+    private final int batchSize;
+    private final Executor executor;
+
+    private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Requests taken from the queue and not yet jitted, only accessed by the draining task
+     */
+    private final List<Pending> backlog = new ArrayList<>();
+
+    private final AtomicLong compiledCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong generatedClassCount = new AtomicLong();
+    private final AtomicLong compileTimeNanos = new AtomicLong();
+
+    public ConstraintJitter(int queueSize, int batchSize, Executor executor) {
+        if (queueSize < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("The jitting queue and batch sizes must be positive");
+        }
+        this.queueSize = queueSize;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    public static ConstraintJitter getInstance() {
+        return InstanceHolder.instance;
+    }
+
+    /**
+     * Queues the given constraint to be jitted, returning false if it has been rejected because the queue is full
+     */
+    public boolean submit(Request request) {
+        if (pendingCount.incrementAndGet() > queueSize) {
+            pendingCount.decrementAndGet();
+            rejectedCount.incrementAndGet();
+            request.reject();
+            return false;
+        }
+        queue.add(request);
+        scheduleDrain();
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            List<Request> batch;
+            while (!(batch = nextBatch()).isEmpty()) {
+                jit(batch);
+            }
+        } finally {
+            draining.set(false);
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private List<Request> nextBatch() {
+        for (Request request = queue.poll(); request != null; request = queue.poll()) {
+            backlog.add(new Pending(request));
+        }
+        if (backlog.size() > batchSize) {
+            // the priorities keep changing while the constraints are evaluated, so sort on a snapshot of them
+            backlog.forEach(Pending::refreshPriority);
+            backlog.sort(Comparator.comparingInt((Pending p) -> p.priority).reversed());
+        }
+        int size = Math.min(batchSize, backlog.size());
+        List<Request> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(backlog.get(i).request);
+        }
+        backlog.subList(0, size).clear();
+        return batch;
+    }
+
+    private void jit(List<Request> batch) {
+        Map<ClassLoader, List<Request>> byClassLoader = new LinkedHashMap<>();
+        for (Request request : batch) {
+            try {
+                byClassLoader.computeIfAbsent(request.getClassLoader(), cl -> new ArrayList<>()).add(request);
+            } catch (Throwable t) {
+                failed(request, t);
+            }
+        }
+        byClassLoader.forEach(this::jit);
+    }
+
+    private void jit(ClassLoader classLoader, List<Request> requests) {
+        long start = System.nanoTime();
+        List<Request> jittable = new ArrayList<>(requests.size());
+        List<JitCondition> conditions = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            try {
+                JitCondition condition = request.getCondition();
+                if (condition != null) {
+                    jittable.add(request);
+                    conditions.add(condition);
+                } else {
+                    failed(request, null);
+                }
+            } catch (Throwable t) {
+                failed(request, t);
+            }
+        }
+
+        if (conditions.size() > 1) {
+            ConditionEvaluator[] evaluators = null;
+            try {
+                evaluators = ASMConditionEvaluatorJitter.jitEvaluators(conditions, classLoader);
+                generatedClassCount.incrementAndGet();
+            } catch (Throwable t) {
+                logger.debug("Unable to jit a batch of {} constraints, jitting them one by one", conditions.size(), t);
+            }
+            if (evaluators != null) {
+                for (int i = 0; i < evaluators.length; i++) {
+                    compiled(jittable.get(i), evaluators[i]);
+                }
+                compileTimeNanos.addAndGet(System.nanoTime() - start);
+                return;
+            }
+        }
+
+        for (int i = 0; i < conditions.size(); i++) {
+            try {
+                ConditionEvaluator evaluator = ASMConditionEvaluatorJitter.jitEvaluator(conditions.get(i), classLoader);
+                generatedClassCount.incrementAndGet();
+                compiled(jittable.get(i), evaluator);
+            } catch (Throwable t) {
+                failed(jittable.get(i), t);
+            }
+        }
+        compileTimeNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    private void compiled(Request request, ConditionEvaluator evaluator) {
+        request.install(evaluator);
+        compiledCount.incrementAndGet();
+        pendingCount.decrementAndGet();
+    }
+
+    private void failed(Request request, Throwable cause) {
+        try {
+            request.fail(cause);
+        } finally {
+            failedCount.incrementAndGet();
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Number of constraints waiting to be jitted
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public long getCompiledCount() {
+        return compiledCount.get();
+    }
+
+    /**
+     * Number of constraints that couldn't be jitted and stay interpreted
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Number of requests rejected because the queue was full
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getGeneratedClassCount() {
+        return generatedClassCount.get();
+    }
+
+    /**
+     * Total time spent jitting the constraints, in nanoseconds
+     */
+    public long getCompileTimeNanos() {
+        return compileTimeNanos.get();
+    }
+
+    private static class Pending {
+
+        private final Request request;
+        private int priority;
+
+        private Pending(Request request) {
+            this.request = request;
+        }
+
+        private void refreshPriority() {
+            priority = request.getPriority();
+        }
+    }
+
+    private static class InstanceHolder {
+        private static final ConstraintJitter instance = new ConstraintJitter(Integer.getInteger(QUEUE_SIZE_PROPERTY, DEFAULT_QUEUE_SIZE),
+                                                                              Integer.getInteger(BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE),
+                                                                              ExecutorProviderFactory.getExecutorProvider().getExecutor());
+    }
+}
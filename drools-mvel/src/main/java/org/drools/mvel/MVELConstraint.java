@@ -45,6 +45,7 @@ import org.drools.compiler.rule.builder.EvaluatorWrapper;
 import org.drools.core.impl.KnowledgeBaseImpl;
 import org.drools.util.bitmask.BitMask;
 import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.mvel.ASMConditionEvaluatorJitter.JitCondition;
 import org.drools.mvel.ConditionAnalyzer.CombinedCondition;
 import org.drools.mvel.ConditionAnalyzer.Condition;
 import org.drools.mvel.ConditionAnalyzer.EvaluatedExpression;
@@ -60,7 +61,6 @@ import org.drools.wiring.api.classloader.ProjectClassLoader;
 import org.kie.api.KieBaseConfiguration;
 import org.kie.api.runtime.rule.FactHandle;
 import org.kie.api.runtime.rule.Variable;
-import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.kie.internal.conf.ConstraintJittingThresholdOption;
 import org.mvel2.ParserConfiguration;
 import org.mvel2.compiler.CompiledExpression;
@@ -84,7 +84,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.drools.base.reteoo.PropertySpecificUtil.allSetBitMask;
@@ -325,65 +324,127 @@ public class MVELConstraint extends MutableTypeConstraint<ContextEntry> implemen
     }
 
     protected void jitEvaluator(FactHandle handle, ValueResolver valueResolver, BaseTuple tuple) {
-        jitted = true;
-        ExecutorHolder.executor.execute(new ConditionJitter(this, handle, valueResolver, tuple));
+        // analyze the condition now, so that the queued request doesn't retain the session and the facts being evaluated
+        JitCondition condition;
+        ClassLoader classLoader;
+        try {
+            condition = analyzeCondition(handle, valueResolver, tuple, conditionEvaluator);
+            classLoader = getJitClassLoader(valueResolver.getRuleBase());
+        } catch (Throwable t) {
+            jittingFailed(t);
+            jitted = true;
+            return;
+        }
+        if (condition == null) {
+            jitted = true;
+            return;
+        }
+        // jitted is set only once the request is completed, so the invocations keep being counted to prioritize it
+        ConstraintJitter.getInstance().submit(new ConditionJitter(this, condition, classLoader));
     }
 
-    private static class ConditionJitter implements Runnable {
+    private static class ConditionJitter implements ConstraintJitter.Request {
         private MVELConstraint mvelConstraint;
-        private FactHandle rightHandle;
-        private ValueResolver valueResolver;
-        private BaseTuple tuple;
+        private JitCondition condition;
+        private ClassLoader classLoader;
 
-        private ConditionJitter( MVELConstraint mvelConstraint, FactHandle rightHandle, ValueResolver valueResolver, BaseTuple tuple) {
+        private ConditionJitter(MVELConstraint mvelConstraint, JitCondition condition, ClassLoader classLoader) {
             this.mvelConstraint = mvelConstraint;
-            this.rightHandle = rightHandle;
-            this.valueResolver = valueResolver;
-            this.tuple = tuple;
+            this.condition = condition;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        public int getPriority() {
+            return mvelConstraint.invocationCounter.get();
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return classLoader;
         }
 
-        public void run() {
-            mvelConstraint.conditionEvaluator = mvelConstraint.executeJitting(rightHandle, valueResolver, tuple, mvelConstraint.conditionEvaluator);
+        @Override
+        public JitCondition getCondition() {
+            return condition;
+        }
+
+        @Override
+        public void install(ConditionEvaluator evaluator) {
+            mvelConstraint.conditionEvaluator = evaluator;
+            complete();
+        }
+
+        @Override
+        public void fail(Throwable cause) {
+            try {
+                if (cause != null) {
+                    mvelConstraint.jittingFailed(cause);
+                }
+            } finally {
+                complete();
+            }
+        }
+
+        @Override
+        public void reject() {
+            // the queue is full: stay interpreted and try again after another threshold of evaluations
+            mvelConstraint.invocationCounter.set(1);
+            release();
+        }
+
+        private void complete() {
+            mvelConstraint.jitted = true;
+            release();
+        }
+
+        private void release() {
             mvelConstraint = null;
-            rightHandle = null;
-            valueResolver = null;
-            tuple = null;
+            condition = null;
+            classLoader = null;
         }
     }
 
-    private static class ExecutorHolder {
-        private static final Executor executor = ExecutorProviderFactory.getExecutorProvider().getExecutor();
+    private static ClassLoader getJitClassLoader(RuleBase kBase) {
+        return kBase.getRootClassLoader() instanceof ProjectClassLoader ?
+                ((ProjectClassLoader) kBase.getRootClassLoader()).getTypesClassLoader() :
+                kBase.getRootClassLoader();
     }
 
-    private ConditionEvaluator executeJitting(FactHandle handle, ValueResolver valueResolver, BaseTuple tuple, ConditionEvaluator mvelEvaluator) {
-        RuleBase kBase = valueResolver.getRuleBase();
-
+    private JitCondition analyzeCondition(FactHandle handle, ValueResolver valueResolver, BaseTuple tuple, ConditionEvaluator mvelEvaluator) {
         if (!isJmxAvailable()) { // @TODO have Mario check this (mdp feb2023)
-            return mvelEvaluator;
+            return null;
+        }
+        if (analyzedCondition == null) {
+            analyzedCondition = (( MVELConditionEvaluator ) mvelEvaluator).getAnalyzedCondition(handle, valueResolver, tuple);
         }
+        return new JitCondition(expression, analyzedCondition, declarations, operators, tuple);
+    }
 
+    private ConditionEvaluator executeJitting(FactHandle handle, ValueResolver valueResolver, BaseTuple tuple, ConditionEvaluator mvelEvaluator) {
         try {
-            if (analyzedCondition == null) {
-                analyzedCondition = (( MVELConditionEvaluator ) mvelEvaluator).getAnalyzedCondition(handle, valueResolver, tuple);
+            JitCondition condition = analyzeCondition(handle, valueResolver, tuple, mvelEvaluator);
+            if (condition != null) {
+                return ASMConditionEvaluatorJitter.jitEvaluator(condition, getJitClassLoader(valueResolver.getRuleBase()));
             }
-            ClassLoader jitClassLoader = kBase.getRootClassLoader() instanceof ProjectClassLoader ?
-                    ((ProjectClassLoader) kBase.getRootClassLoader()).getTypesClassLoader() :
-                    kBase.getRootClassLoader();
-            return ASMConditionEvaluatorJitter.jitEvaluator(expression, analyzedCondition, declarations, operators, jitClassLoader, tuple);
         } catch (Throwable t) {
-            if (TEST_JITTING) {
-                if (analyzedCondition == null) {
-                    logger.error("Unable to analize condition for expression: " + expression, t);
-                } else {
-                    throw new RuntimeException("Unable to analize condition for expression: " + expression, t);
-                }
+            jittingFailed(t);
+        }
+        return mvelEvaluator;
+    }
+
+    private void jittingFailed(Throwable t) {
+        if (TEST_JITTING) {
+            if (analyzedCondition == null) {
+                logger.error("Unable to analize condition for expression: " + expression, t);
             } else {
-                logger.warn("Exception jitting: {}." +
-                             " This is NOT an error and NOT prevent the correct execution since the constraint will be evaluated in intrepreted mode",
-                            expression);
+                throw new RuntimeException("Unable to analize condition for expression: " + expression, t);
             }
+        } else {
+            logger.warn("Exception jitting: {}." +
+                         " This is NOT an error and NOT prevent the correct execution since the constraint will be evaluated in intrepreted mode",
+                        expression);
         }
-        return mvelEvaluator;
     }
 
     public ContextEntry createContext() {
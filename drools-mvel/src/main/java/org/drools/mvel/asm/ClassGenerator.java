@@ -198,6 +198,14 @@ public class ClassGenerator {
         }
     }
 
+    public <T> T newInstance(Class<?>[] paramTypes, Object[] params) {
+        try {
+            return (T) generateClass().getConstructor(paramTypes).newInstance(params);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     // Accessors
 
     public String getClassDescriptor() {
@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.mvel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.base.rule.Declaration;
+import org.drools.compiler.rule.builder.EvaluatorWrapper;
+import org.drools.core.common.DefaultFactHandle;
+import org.drools.core.test.model.Cheese;
+import org.drools.mvel.ASMConditionEvaluatorJitter.JitCondition;
+import org.junit.Test;
+import org.mvel2.ParserConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConstraintJitterTest {
+
+    @Test
+    public void testRejectWhenQueueIsFull() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> events = new ArrayList<>();
+        ConstraintJitter jitter = new ConstraintJitter(2, 10, tasks::add);
+
+        assertThat(jitter.submit(new FakeRequest("a", 1, events))).isTrue();
+        assertThat(jitter.submit(new FakeRequest("b", 1, events))).isTrue();
+        assertThat(jitter.submit(new FakeRequest("c", 1, events))).isFalse();
+
+        assertThat(events).containsExactly("reject c");
+        assertThat(jitter.getPendingCount()).isEqualTo(2);
+        assertThat(jitter.getRejectedCount()).isEqualTo(1);
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    public void testDrainByDescendingPriority() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> events = new ArrayList<>();
+        ConstraintJitter jitter = new ConstraintJitter(10, 2, tasks::add);
+
+        jitter.submit(new FakeRequest("low", 1, events));
+        jitter.submit(new FakeRequest("high", 100, events));
+        jitter.submit(new FakeRequest("medium", 10, events));
+
+        tasks.remove(0).run();
+
+        // the fake requests have no condition to jit, so each one fails in priority order
+        assertThat(events).containsExactly("fail high", "fail medium", "fail low");
+        assertThat(jitter.getPendingCount()).isZero();
+        assertThat(jitter.getFailedCount()).isEqualTo(3);
+        assertThat(jitter.getCompiledCount()).isZero();
+        assertThat(tasks).isEmpty();
+
+        // once drained the jitter accepts and schedules new requests
+        assertThat(jitter.submit(new FakeRequest("next", 1, events))).isTrue();
+        assertThat(tasks).hasSize(1);
+    }
+
+    @Test
+    public void testJitConstraintsInBatch() {
+        List<Runnable> tasks = new ArrayList<>();
+        List<String> events = new ArrayList<>();
+        ConstraintJitter jitter = new ConstraintJitter(10, 10, tasks::add);
+
+        ConditionRequest stilton = new ConditionRequest("type == \"stilton\"", events);
+        ConditionRequest expensive = new ConditionRequest("price > 10", events);
+        ConditionRequest cheapBrie = new ConditionRequest("type == \"brie\" && price < 5", events);
+        jitter.submit(stilton);
+        jitter.submit(expensive);
+        jitter.submit(cheapBrie);
+
+        tasks.remove(0).run();
+
+        // the three constraints are jitted together in a single class
+        assertThat(events).containsExactlyInAnyOrder("install " + stilton.expression,
+                                                     "install " + expensive.expression,
+                                                     "install " + cheapBrie.expression);
+        assertThat(jitter.getCompiledCount()).isEqualTo(3);
+        assertThat(jitter.getGeneratedClassCount()).isEqualTo(1);
+        assertThat(jitter.getPendingCount()).isZero();
+        assertThat(stilton.evaluator.getClass()).isSameAs(expensive.evaluator.getClass()).isSameAs(cheapBrie.evaluator.getClass());
+
+        DefaultFactHandle expensiveStilton = new DefaultFactHandle(1, new Cheese("stilton", 15));
+        DefaultFactHandle cheapBrieHandle = new DefaultFactHandle(2, new Cheese("brie", 3));
+        DefaultFactHandle brie = new DefaultFactHandle(3, new Cheese("brie", 7));
+
+        assertThat(stilton.evaluator.evaluate(expensiveStilton, null, null)).isTrue();
+        assertThat(stilton.evaluator.evaluate(cheapBrieHandle, null, null)).isFalse();
+        assertThat(expensive.evaluator.evaluate(expensiveStilton, null, null)).isTrue();
+        assertThat(expensive.evaluator.evaluate(brie, null, null)).isFalse();
+        assertThat(cheapBrie.evaluator.evaluate(cheapBrieHandle, null, null)).isTrue();
+        assertThat(cheapBrie.evaluator.evaluate(brie, null, null)).isFalse();
+        assertThat(cheapBrie.evaluator.evaluate(expensiveStilton, null, null)).isFalse();
+    }
+
+    private static class ConditionRequest implements ConstraintJitter.Request {
+
+        private final String expression;
+        private final JitCondition condition;
+        private final List<String> events;
+
+        private ConditionEvaluator evaluator;
+
+        private ConditionRequest(String expression, List<String> events) {
+            this.expression = expression;
+            this.events = events;
+
+            ParserConfiguration configuration = new ParserConfiguration();
+            configuration.addImport(Cheese.class);
+            Declaration[] declarations = new Declaration[0];
+            EvaluatorWrapper[] operators = new EvaluatorWrapper[0];
+            MVELConditionEvaluator mvelEvaluator = new MVELConditionEvaluator(configuration, expression, declarations, operators, Cheese.class.getName());
+            DefaultFactHandle handle = new DefaultFactHandle(0, new Cheese("stilton", 10));
+            this.condition = new JitCondition(expression, mvelEvaluator.getAnalyzedCondition(handle, null, null), declarations, operators, null);
+        }
+
+        @Override
+        public int getPriority() {
+            return 1;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return getClass().getClassLoader();
+        }
+
+        @Override
+        public JitCondition getCondition() {
+            return condition;
+        }
+
+        @Override
+        public void install(ConditionEvaluator evaluator) {
+            this.evaluator = evaluator;
+            events.add("install " + expression);
+        }
+
+        @Override
+        public void fail(Throwable t) {
+            events.add("fail " + expression);
+        }
+
+        @Override
+        public void reject() {
+            events.add("reject " + expression);
+        }
+    }
+
+    private static class FakeRequest implements ConstraintJitter.Request {
+
+        private final String name;
+        private final int priority;
+        private final List<String> events;
+
+        private FakeRequest(String name, int priority, List<String> events) {
+            this.name = name;
+            this.priority = priority;
+            this.events = events;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return getClass().getClassLoader();
+        }
+
+        @Override
+        public JitCondition getCondition() {
+            return null;
+        }
+
+        @Override
+        public void install(ConditionEvaluator evaluator) {
+            events.add("install " + name);
+        }
+
+        @Override
+        public void fail(Throwable t) {
+            events.add("fail " + name);
+        }
+
+        @Override
+        public void reject() {
+            events.add("reject " + name);
+        }
+    }
+}
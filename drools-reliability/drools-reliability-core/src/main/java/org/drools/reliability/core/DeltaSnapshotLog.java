@@ -0,0 +1,367 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File based persistence of the reliable storages, made of a base image and of a log of the deltas checkpointed after it.
+ *
+ * Every checkpoint appends one record containing only the entries changed since the previous one. When the log grows
+ * beyond the configured ratio of the base image, the log is compacted into a new base image. The latest serialized value
+ * of every entry is kept in memory, so that a compaction never has to serialize again the live objects of a session.
+ * Restoring reads the base image and replays the deltas that follow it, so its cost is bounded by their size
+ * and not by the whole history of the sessions.
+ */
+public class DeltaSnapshotLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeltaSnapshotLog.class);
+
+    public static final String BASE_FILE_NAME = "base.snapshot";
+    public static final String DELTA_FILE_NAME = "delta.log";
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    enum Operation {
+        CREATE,
+        PUT,
+        REMOVE,
+        CLEAR,
+        DROP
+    }
+
+    static class Change {
+
+        private final String storageName;
+        private final Operation operation;
+        private final Object key;
+        private final byte[] value;
+
+        Change(String storageName, Operation operation, Object key, byte[] value) {
+            this.storageName = storageName;
+            this.operation = operation;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final Path directory;
+    private final double compactionRatio;
+    private final long compactionMinSize;
+    private final boolean fsync;
+
+    private final Map<String, Map<Object, byte[]>> image = new HashMap<>();
+
+    private FileChannel deltaChannel;
+    private long baseSequence;
+    private long lastSequence;
+    private long baseSize;
+    private long deltaSize;
+    private int compactions;
+
+    public DeltaSnapshotLog(Path directory, double compactionRatio, long compactionMinSize, boolean fsync) {
+        this.directory = directory;
+        this.compactionRatio = compactionRatio;
+        this.compactionMinSize = compactionMinSize;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Restores the image from the base snapshot and the deltas following it, then opens the delta log for appending.
+     */
+    public synchronized void open() {
+        image.clear();
+        baseSequence = 0;
+        lastSequence = 0;
+        baseSize = 0;
+        deltaSize = 0;
+        try {
+            Files.createDirectories(directory);
+            readBase();
+            readDeltas();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void close() {
+        if (deltaChannel != null) {
+            try {
+                deltaChannel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                deltaChannel = null;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the serialized entries of the given storage, or an empty map if it doesn't exist.
+     */
+    public synchronized Map<Object, byte[]> getEntries(String storageName) {
+        Map<Object, byte[]> entries = image.get(storageName);
+        return entries == null ? new HashMap<>() : new HashMap<>(entries);
+    }
+
+    public synchronized boolean containsStorage(String storageName) {
+        return image.containsKey(storageName);
+    }
+
+    public synchronized Set<String> getStorageNames() {
+        return new HashSet<>(image.keySet());
+    }
+
+    public synchronized long getDeltaSize() {
+        return deltaSize;
+    }
+
+    public synchronized int getCompactions() {
+        return compactions;
+    }
+
+    /**
+     * Appends the given changes as a single record and compacts the log when it became too large.
+     */
+    public synchronized void append(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            long sequence = lastSequence + 1;
+            ByteBuffer record = encodeRecord(sequence, changes);
+            deltaSize += record.remaining();
+            while (record.hasRemaining()) {
+                deltaChannel.write(record);
+            }
+            if (fsync) {
+                deltaChannel.force(false);
+            }
+            lastSequence = sequence;
+            changes.forEach(this::apply);
+            if (deltaSize > Math.max(compactionMinSize, (long) (baseSize * compactionRatio))) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the whole image as a new base snapshot and empties the delta log.
+     */
+    public synchronized void compact() {
+        try {
+            Path tmp = directory.resolve(BASE_FILE_NAME + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+                out.writeLong(lastSequence);
+                out.writeInt(image.size());
+                for (Map.Entry<String, Map<Object, byte[]>> storage : image.entrySet()) {
+                    out.writeUTF(storage.getKey());
+                    out.writeInt(storage.getValue().size());
+                    for (Map.Entry<Object, byte[]> entry : storage.getValue().entrySet()) {
+                        out.writeObject(entry.getKey());
+                        out.writeInt(entry.getValue().length);
+                        out.write(entry.getValue());
+                    }
+                }
+                out.flush();
+                channel.force(true);
+                baseSize = channel.size();
+            }
+            Files.move(tmp, directory.resolve(BASE_FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // the deltas already in the base are skipped on restore, so a crash before the truncation is harmless
+            baseSequence = lastSequence;
+            deltaChannel.truncate(0);
+            deltaSize = 0;
+            compactions++;
+            LOG.debug("Compacted the delta log into a base snapshot of {} bytes", baseSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void apply(Change change) {
+        switch (change.operation) {
+            case CREATE:
+                image.computeIfAbsent(change.storageName, name -> new HashMap<>());
+                break;
+            case PUT:
+                image.computeIfAbsent(change.storageName, name -> new HashMap<>()).put(change.key, change.value);
+                break;
+            case REMOVE:
+                image.computeIfAbsent(change.storageName, name -> new HashMap<>()).remove(change.key);
+                break;
+            case CLEAR:
+                image.computeIfAbsent(change.storageName, name -> new HashMap<>()).clear();
+                break;
+            case DROP:
+                image.remove(change.storageName);
+                break;
+        }
+    }
+
+    private void readBase() throws IOException {
+        Path base = directory.resolve(BASE_FILE_NAME);
+        if (!Files.exists(base)) {
+            return;
+        }
+        baseSize = Files.size(base);
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(base)))) {
+            baseSequence = in.readLong();
+            int storages = in.readInt();
+            for (int i = 0; i < storages; i++) {
+                String storageName = in.readUTF();
+                int size = in.readInt();
+                Map<Object, byte[]> entries = new HashMap<>(size * 2);
+                for (int j = 0; j < size; j++) {
+                    Object key = in.readObject();
+                    byte[] value = new byte[in.readInt()];
+                    in.readFully(value);
+                    entries.put(key, value);
+                }
+                image.put(storageName, entries);
+            }
+        } catch (ClassNotFoundException e) {
+            throw new ReliabilityRuntimeException(e);
+        }
+        lastSequence = baseSequence;
+    }
+
+    private void readDeltas() throws IOException {
+        deltaChannel = FileChannel.open(directory.resolve(DELTA_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long validSize = 0;
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(deltaChannel)));
+        while (true) {
+            List<Change> changes;
+            long sequence;
+            int length;
+            try {
+                length = in.readInt();
+                long checksum = in.readLong();
+                if (length < 0 || length > deltaChannel.size() - validSize - RECORD_HEADER_SIZE) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (checksum(payload) != checksum) {
+                    break;
+                }
+                ObjectInputStream payloadIn = new ObjectInputStream(new ByteArrayInputStream(payload));
+                sequence = payloadIn.readLong();
+                changes = readChanges(payloadIn);
+            } catch (EOFException e) {
+                // a record only partially written before a crash is discarded
+                break;
+            }
+            validSize += RECORD_HEADER_SIZE + length;
+            if (sequence > baseSequence) {
+                changes.forEach(this::apply);
+                lastSequence = sequence;
+            }
+        }
+        if (validSize < deltaChannel.size()) {
+            LOG.warn("Discarding {} bytes of incomplete deltas", deltaChannel.size() - validSize);
+            deltaChannel.truncate(validSize);
+        }
+        deltaChannel.position(validSize);
+        deltaSize = validSize;
+    }
+
+    private static List<Change> readChanges(ObjectInputStream in) throws IOException {
+        int size = in.readInt();
+        List<Change> changes = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                String storageName = in.readUTF();
+                Operation operation = Operation.values()[in.readByte()];
+                Object key = in.readObject();
+                byte[] value = null;
+                int valueLength = in.readInt();
+                if (valueLength >= 0) {
+                    value = new byte[valueLength];
+                    in.readFully(value);
+                }
+                changes.add(new Change(storageName, operation, key, value));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new ReliabilityRuntimeException(e);
+        }
+        return changes;
+    }
+
+    private static ByteBuffer encodeRecord(long sequence, List<Change> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeLong(sequence);
+            out.writeInt(changes.size());
+            for (Change change : changes) {
+                out.writeUTF(change.storageName);
+                out.writeByte(change.operation.ordinal());
+                out.writeObject(change.key);
+                if (change.value == null) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(change.value.length);
+                    out.write(change.value);
+                }
+            }
+        }
+        byte[] payload = bytes.toByteArray();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        record.putInt(payload.length);
+        record.putLong(checksum(payload));
+        record.put(payload);
+        record.flip();
+        return record;
+    }
+
+    private static long checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+}
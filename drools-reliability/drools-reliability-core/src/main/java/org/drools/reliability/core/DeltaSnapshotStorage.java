@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.drools.core.common.Storage;
+
+import static org.drools.reliability.core.util.ReliabilityUtils.deserialize;
+import static org.drools.reliability.core.util.ReliabilityUtils.serialize;
+
+/**
+ * Storage keeping its values in memory and tracking the keys changed since its last checkpoint, so that a checkpoint
+ * writes to the {@link DeltaSnapshotLog} only the entries that are actually dirty.
+ * When safepoints are not used every write is immediately checkpointed, otherwise the dirty entries are checkpointed on flush.
+ */
+public class DeltaSnapshotStorage<K, V> implements Storage<K, V> {
+
+    private final DeltaSnapshotLog log;
+
+    private final String storageName;
+
+    private final boolean checkpointOnWrite;
+
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+
+    private final Set<K> dirtyKeys = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("unchecked")
+    public DeltaSnapshotStorage(DeltaSnapshotLog log, String storageName, boolean checkpointOnWrite) {
+        this.log = log;
+        this.storageName = storageName;
+        this.checkpointOnWrite = checkpointOnWrite;
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        log.getEntries(storageName).forEach((key, value) -> values.put((K) key, (V) deserialize(value, classLoader)));
+    }
+
+    @Override
+    public V get(K key) {
+        return values.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V value) {
+        return values.getOrDefault(key, value);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V previousValue = values.put(key, value);
+        dirtyKeys.add(key);
+        if (checkpointOnWrite) {
+            checkpoint();
+        }
+        return previousValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> otherMap) {
+        values.putAll(otherMap);
+        dirtyKeys.addAll(otherMap.keySet());
+        if (checkpointOnWrite) {
+            checkpoint();
+        }
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return values.containsKey(key);
+    }
+
+    @Override
+    public V remove(K key) {
+        V previousValue = values.remove(key);
+        dirtyKeys.add(key);
+        if (checkpointOnWrite) {
+            checkpoint();
+        }
+        return previousValue;
+    }
+
+    @Override
+    public void clear() {
+        values.clear();
+        dirtyKeys.clear();
+        log.append(List.of(new DeltaSnapshotLog.Change(storageName, DeltaSnapshotLog.Operation.CLEAR, null, null)));
+    }
+
+    @Override
+    public Collection<V> values() {
+        return values.values();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return values.keySet();
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public boolean requiresFlush() {
+        return !checkpointOnWrite;
+    }
+
+    @Override
+    public void flush() {
+        checkpoint();
+    }
+
+    public int dirtySize() {
+        return dirtyKeys.size();
+    }
+
+    /**
+     * Writes the entries changed since the previous checkpoint as a single delta.
+     */
+    public void checkpoint() {
+        if (dirtyKeys.isEmpty()) {
+            return;
+        }
+        List<K> keys = new ArrayList<>(dirtyKeys);
+        dirtyKeys.removeAll(keys);
+        List<DeltaSnapshotLog.Change> changes = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            V value = values.get(key);
+            changes.add(value == null ?
+                    new DeltaSnapshotLog.Change(storageName, DeltaSnapshotLog.Operation.REMOVE, key, null) :
+                    new DeltaSnapshotLog.Change(storageName, DeltaSnapshotLog.Operation.PUT, key, serialize(value)));
+        }
+        log.append(changes);
+    }
+}
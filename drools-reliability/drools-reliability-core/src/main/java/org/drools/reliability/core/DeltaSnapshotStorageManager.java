@@ -0,0 +1,182 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.common.Storage;
+import org.drools.util.FileUtils;
+import org.kie.api.runtime.conf.PersistedSessionOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.drools.reliability.core.DeltaSnapshotStorageManagerFactory.FILE_STORAGE_COMPACTION_MIN_SIZE;
+import static org.drools.reliability.core.DeltaSnapshotStorageManagerFactory.FILE_STORAGE_COMPACTION_RATIO;
+import static org.drools.reliability.core.DeltaSnapshotStorageManagerFactory.FILE_STORAGE_DIRECTORY;
+import static org.drools.reliability.core.DeltaSnapshotStorageManagerFactory.FILE_STORAGE_FSYNC;
+import static org.drools.reliability.core.StorageManager.createStorageId;
+import static org.drools.reliability.core.StorageManagerFactory.DELIMITER;
+import static org.drools.reliability.core.StorageManagerFactory.SESSION_STORAGE_PREFIX;
+import static org.drools.reliability.core.StorageManagerFactory.SHARED_STORAGE_PREFIX;
+import static org.drools.util.Config.getConfig;
+
+/**
+ * Storage manager persisting the storages in a local directory as a base snapshot plus the deltas checkpointed after it.
+ */
+public class DeltaSnapshotStorageManager implements TestableStorageManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeltaSnapshotStorageManager.class);
+
+    static final DeltaSnapshotStorageManager INSTANCE = new DeltaSnapshotStorageManager();
+
+    public static final String DEFAULT_DIRECTORY = "global/snapshots";
+    public static final String DEFAULT_COMPACTION_RATIO = "1.0";
+    public static final String DEFAULT_COMPACTION_MIN_SIZE = String.valueOf(1024 * 1024);
+
+    private final Map<String, DeltaSnapshotStorage<?, ?>> storages = new ConcurrentHashMap<>();
+
+    private DeltaSnapshotLog log;
+
+    private DeltaSnapshotStorageManager() {
+    }
+
+    @Override
+    public void initStorageManager() {
+        LOG.info("Using DeltaSnapshotStorageManager");
+        log = new DeltaSnapshotLog(getDirectory(),
+                                   Double.parseDouble(getConfig(FILE_STORAGE_COMPACTION_RATIO, DEFAULT_COMPACTION_RATIO)),
+                                   Long.parseLong(getConfig(FILE_STORAGE_COMPACTION_MIN_SIZE, DEFAULT_COMPACTION_MIN_SIZE)),
+                                   Boolean.parseBoolean(getConfig(FILE_STORAGE_FSYNC, "true")));
+        log.open();
+    }
+
+    @Override
+    public <K, V> Storage<K, V> getOrCreateStorageForSession(ReteEvaluator reteEvaluator, PersistedSessionOption.SafepointStrategy safepointStrategy, String storageName) {
+        // the storage already tracks its dirty entries, so it doesn't need to be wrapped by a BatchingStorageDecorator
+        return getOrCreateStorage(createStorageId(reteEvaluator, storageName), !safepointStrategy.useSafepoints());
+    }
+
+    @Override
+    public <K, V> Storage<K, V> internalGetOrCreateStorageForSession(ReteEvaluator reteEvaluator, String storageName) {
+        return getOrCreateStorage(createStorageId(reteEvaluator, storageName), true);
+    }
+
+    @Override
+    public <K, V> Storage<K, V> getOrCreateSharedStorage(String storageName) {
+        return getOrCreateStorage(SHARED_STORAGE_PREFIX + storageName, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> Storage<K, V> getOrCreateStorage(String storageId, boolean checkpointOnWrite) {
+        return (Storage<K, V>) storages.computeIfAbsent(storageId, id -> {
+            if (!log.containsStorage(id)) {
+                log.append(List.of(new DeltaSnapshotLog.Change(id, DeltaSnapshotLog.Operation.CREATE, null, null)));
+            }
+            return new DeltaSnapshotStorage<>(log, id, checkpointOnWrite);
+        });
+    }
+
+    /**
+     * Checkpoints the dirty entries of all the storages of this manager.
+     */
+    public void checkpoint() {
+        storages.values().forEach(DeltaSnapshotStorage::checkpoint);
+    }
+
+    public DeltaSnapshotLog getLog() {
+        return log;
+    }
+
+    @Override
+    public void close() {
+        storages.clear();
+        log.close();
+    }
+
+    @Override
+    public void removeStorage(String storageName) {
+        storages.remove(storageName);
+        log.append(List.of(new DeltaSnapshotLog.Change(storageName, DeltaSnapshotLog.Operation.DROP, null, null)));
+    }
+
+    @Override
+    public void removeStoragesBySessionId(String sessionId) {
+        getStorageNames()
+                .stream()
+                .filter(storageName -> storageName.startsWith(SESSION_STORAGE_PREFIX + sessionId + DELIMITER))
+                .forEach(this::removeStorage);
+    }
+
+    @Override
+    public void removeAllSessionStorages() {
+        getStorageNames()
+                .stream()
+                .filter(storageName -> storageName.startsWith(SESSION_STORAGE_PREFIX))
+                .forEach(this::removeStorage);
+    }
+
+    @Override
+    public Set<String> getStorageNames() {
+        Set<String> storageNames = new HashSet<>(log.getStorageNames());
+        storageNames.addAll(storages.keySet());
+        return storageNames;
+    }
+
+    //--- test purpose
+
+    @Override
+    public void restart() {
+        // JVM crashed
+        close();
+
+        // Reboot
+        initStorageManager();
+    }
+
+    @Override
+    public void restartWithCleanUp() {
+        // JVM crashed
+        close();
+
+        // remove snapshot files
+        cleanUpDirectory();
+
+        // Reboot
+        initStorageManager();
+    }
+
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    public static void cleanUpDirectory() {
+        FileUtils.deleteDirectory(getDirectory());
+    }
+
+    private static Path getDirectory() {
+        return Path.of(getConfig(FILE_STORAGE_DIRECTORY, DEFAULT_DIRECTORY));
+    }
+}
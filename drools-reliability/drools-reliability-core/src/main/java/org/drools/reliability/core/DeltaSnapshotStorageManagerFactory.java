@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+public class DeltaSnapshotStorageManagerFactory implements StorageManagerFactory {
+
+    public static final String FILE_STORAGE_PREFIX = RELIABILITY_STORAGE_PREFIX + ".file";
+    public static final String FILE_STORAGE_DIRECTORY = FILE_STORAGE_PREFIX + ".dir";
+    public static final String FILE_STORAGE_COMPACTION_RATIO = FILE_STORAGE_PREFIX + ".compaction.ratio";
+    public static final String FILE_STORAGE_COMPACTION_MIN_SIZE = FILE_STORAGE_PREFIX + ".compaction.minsize";
+    public static final String FILE_STORAGE_FSYNC = FILE_STORAGE_PREFIX + ".fsync";
+
+    private final StorageManager storageManager;
+
+    public DeltaSnapshotStorageManagerFactory() {
+        storageManager = DeltaSnapshotStorageManager.INSTANCE;
+
+        // initStorageManager() is called by StorageManagerFactory.Holder.createInstance()
+    }
+
+    @Override
+    public StorageManager getStorageManager() {
+        return storageManager;
+    }
+
+    @Override
+    public int servicePriority() {
+        return 0;
+    }
+
+    @Override
+    public String serviceTag() {
+        return "file";
+    }
+}
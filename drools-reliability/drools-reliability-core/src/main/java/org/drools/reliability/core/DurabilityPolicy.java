@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+/**
+ * Defines when the mutations appended to a {@link WriteBehindLog} are committed to the underlying store.
+ */
+public enum DurabilityPolicy {
+
+    /**
+     * No write-behind: every mutation is written and committed on the engine thread.
+     */
+    SYNC,
+
+    /**
+     * Mutations are written by the background thread and a fireAllRules returns only when they are committed.
+     * The commits requested by concurrently firing sessions are grouped together.
+     */
+    PER_FIRE,
+
+    /**
+     * Mutations are committed by the background thread at most every configured number of milliseconds.
+     */
+    INTERVAL,
+
+    /**
+     * Mutations are committed by the background thread every time the configured number of them is pending.
+     */
+    MUTATIONS
+}
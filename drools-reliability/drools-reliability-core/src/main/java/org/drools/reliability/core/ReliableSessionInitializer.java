@@ -86,14 +86,22 @@ public class ReliableSessionInitializer {
 
         private void onWorkingMemoryAction(InternalWorkingMemory session, PropagationEntry entry) {
             if (entry instanceof PropagationEntry.Insert) {
-                InternalFactHandle fh = ((PropagationEntry.Insert) entry).getHandle();
-                if (fh.isValid()) {
-                    WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
-                    ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
+                storePropagatedHandle(session, ((PropagationEntry.Insert) entry).getHandle());
+            } else if (entry instanceof PropagationEntry.InsertBatch) {
+                PropagationEntry.InsertBatch batch = (PropagationEntry.InsertBatch) entry;
+                for (int i = 0; i < batch.size(); i++) {
+                    storePropagatedHandle(session, batch.getHandle(i));
                 }
             }
         }
 
+        private void storePropagatedHandle(InternalWorkingMemory session, InternalFactHandle fh) {
+            if (fh.isValid()) {
+                WorkingMemoryEntryPoint ep = fh.getEntryPoint(session);
+                ((SimpleReliableObjectStore) ep.getObjectStore()).putIntoPersistedStorage(fh, true);
+            }
+        }
+
         private void populateSessionFromStorage(InternalWorkingMemory session) {
             Map<InternalWorkingMemoryEntryPoint, List<StoredObject>> notPropagatedByEntryPoint = new HashMap<>();
 
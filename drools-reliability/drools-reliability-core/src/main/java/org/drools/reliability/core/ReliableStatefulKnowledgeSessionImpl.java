@@ -74,6 +74,8 @@ public class ReliableStatefulKnowledgeSessionImpl extends StatefulKnowledgeSessi
             ((ReliableGlobalResolver) getGlobalResolver()).updateStorage();
             if (getSessionConfiguration().getPersistedSessionOption().getSafepointStrategy() == PersistedSessionOption.SafepointStrategy.AFTER_FIRE) {
                 safepoint();
+            } else {
+                awaitDurability();
             }
         }
     }
@@ -95,5 +97,13 @@ public class ReliableStatefulKnowledgeSessionImpl extends StatefulKnowledgeSessi
                 && activationsStorage.requiresFlush()) {
             activationsStorage.flush();
         }
+        awaitDurability();
+    }
+
+    private void awaitDurability() {
+        WriteBehindLog writeBehindLog = StorageManagerFactory.get().getStorageManager().getWriteBehindLog();
+        if (writeBehindLog != null) {
+            writeBehindLog.awaitDurability();
+        }
     }
 }
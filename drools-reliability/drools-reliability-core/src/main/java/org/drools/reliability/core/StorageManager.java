@@ -34,6 +34,10 @@ public interface StorageManager {
 
     default <K, V> Storage<K, V> getOrCreateStorageForSession(ReteEvaluator reteEvaluator, PersistedSessionOption.SafepointStrategy safepointStrategy, String storageName) {
         Storage<K, V> storage = internalGetOrCreateStorageForSession(reteEvaluator, storageName);
+        WriteBehindLog writeBehindLog = getWriteBehindLog();
+        if (writeBehindLog != null) {
+            storage = writeBehindLog.decorate(createStorageId(reteEvaluator, storageName), storage);
+        }
         if (safepointStrategy.useSafepoints()) {
             storage = new BatchingStorageDecorator<>(storage);
         }
@@ -44,6 +48,13 @@ public interface StorageManager {
 
     <K, V> Storage<K, V> getOrCreateSharedStorage(String storageName);
 
+    /**
+     * Returns the log applying the session storage mutations in background, or null when they are written synchronously.
+     */
+    default WriteBehindLog getWriteBehindLog() {
+        return null;
+    }
+
     void close();
 
     void removeStorage(String storageName);
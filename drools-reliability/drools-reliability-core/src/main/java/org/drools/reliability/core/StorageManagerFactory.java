@@ -28,6 +28,11 @@ public interface StorageManagerFactory extends KieService {
 
     String RELIABILITY_STORAGE_PREFIX = "drools.reliability.storage";
 
+    String WRITE_BEHIND_PREFIX = RELIABILITY_STORAGE_PREFIX + ".writebehind";
+    String WRITE_BEHIND_POLICY = WRITE_BEHIND_PREFIX + ".policy";
+    String WRITE_BEHIND_INTERVAL = WRITE_BEHIND_PREFIX + ".interval";
+    String WRITE_BEHIND_MUTATIONS = WRITE_BEHIND_PREFIX + ".mutations";
+
     StorageManager getStorageManager();
 
     class Tag {
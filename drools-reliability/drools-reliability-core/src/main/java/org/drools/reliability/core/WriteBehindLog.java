@@ -0,0 +1,326 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.drools.core.common.Storage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.drools.reliability.core.StorageManagerFactory.WRITE_BEHIND_INTERVAL;
+import static org.drools.reliability.core.StorageManagerFactory.WRITE_BEHIND_MUTATIONS;
+import static org.drools.reliability.core.StorageManagerFactory.WRITE_BEHIND_POLICY;
+import static org.drools.util.Config.getConfig;
+
+/**
+ * Log of the mutations made by the sessions on their storages, applied and committed to the underlying store
+ * by a single background thread. Each batch taken by the background thread contains the mutations of all the
+ * sessions appended since the previous one and is committed once, so concurrent sessions share the cost of a commit.
+ *
+ * Values are serialized when appended, so that the background thread writes a snapshot of the value
+ * taken on the engine thread and never reads objects that the engine is still mutating.
+ */
+public class WriteBehindLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WriteBehindLog.class);
+
+    public static final long DEFAULT_INTERVAL = 100;
+    public static final int DEFAULT_MUTATIONS = 1000;
+
+    private final DurabilityPolicy policy;
+    private final long intervalNanos;
+    private final int mutationsThreshold;
+    private final Runnable committer;
+
+    private final Map<String, WriteBehindStorageDecorator<?, ?>> storages = new ConcurrentHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workAvailable = lock.newCondition();
+    private final Condition batchCommitted = lock.newCondition();
+
+    // guarded by lock
+    private List<Mutation> pending = new ArrayList<>();
+    private long oldestPendingNanos;
+    private long appendedSeq;
+    private long requestedSeq;
+    private long committedSeq;
+    private boolean closed;
+    private RuntimeException failure;
+
+    private final Thread thread;
+
+    public WriteBehindLog(DurabilityPolicy policy, long interval, int mutations, Runnable committer) {
+        if (policy == DurabilityPolicy.SYNC) {
+            throw new IllegalArgumentException("A write-behind log cannot be used with durability policy " + policy);
+        }
+        this.policy = policy;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+        this.mutationsThreshold = mutations;
+        this.committer = committer;
+        this.thread = new Thread(this::run, "drools-reliability-write-behind");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Creates a log as configured by the drools.reliability.storage.writebehind.* properties,
+     * or returns null when write-behind is not enabled.
+     */
+    public static WriteBehindLog fromConfig(Runnable committer) {
+        DurabilityPolicy policy = DurabilityPolicy.valueOf(getConfig(WRITE_BEHIND_POLICY, DurabilityPolicy.SYNC.name()).toUpperCase());
+        if (policy == DurabilityPolicy.SYNC) {
+            return null;
+        }
+        long interval = Long.parseLong(getConfig(WRITE_BEHIND_INTERVAL, String.valueOf(DEFAULT_INTERVAL)));
+        int mutations = Integer.parseInt(getConfig(WRITE_BEHIND_MUTATIONS, String.valueOf(DEFAULT_MUTATIONS)));
+        LOG.info("Using write-behind persistence with durability policy {}", policy);
+        return new WriteBehindLog(policy, interval, mutations, committer);
+    }
+
+    public DurabilityPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the write-behind view of the given storage. All the callers asking for the same storage id
+     * share the same view, so that they see each other's not yet applied mutations.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Storage<K, V> decorate(String storageId, Storage<K, V> storage) {
+        return (Storage<K, V>) storages.computeIfAbsent(storageId, id -> new WriteBehindStorageDecorator<>(this, storage));
+    }
+
+    /**
+     * Applies the pending mutations and forgets the view of a storage that is about to be removed.
+     */
+    public void removeStorage(String storageId) {
+        if (storages.containsKey(storageId)) {
+            sync();
+            storages.remove(storageId);
+        }
+    }
+
+    /**
+     * Invoked by the sessions at the end of a fireAllRules and at every safepoint. With the {@link DurabilityPolicy#PER_FIRE}
+     * policy it waits until all the mutations appended so far are committed, otherwise it returns immediately.
+     */
+    public void awaitDurability() {
+        if (policy == DurabilityPolicy.PER_FIRE) {
+            sync();
+        }
+    }
+
+    /**
+     * Waits until all the mutations appended so far are applied and committed.
+     */
+    public void sync() {
+        lock.lock();
+        try {
+            checkFailure();
+            long target = appendedSeq;
+            if (committedSeq >= target) {
+                return;
+            }
+            if (requestedSeq < target) {
+                requestedSeq = target;
+                workAvailable.signal();
+            }
+            while (committedSeq < target) {
+                checkFailure();
+                batchCommitted.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards the pending mutations and stops the background thread, as a crash would do.
+     * A batch already being written is still committed; the sessions waiting for durability fail.
+     */
+    public void abort() {
+        lock.lock();
+        try {
+            closed = true;
+            pending = new ArrayList<>();
+            if (failure == null) {
+                failure = new ReliabilityRuntimeException("The write-behind log has been aborted");
+            }
+            workAvailable.signal();
+            batchCommitted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storages.clear();
+    }
+
+    /**
+     * Commits the pending mutations and stops the background thread.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            workAvailable.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storages.clear();
+    }
+
+    public int pendingMutations() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void append(Mutation mutation) {
+        lock.lock();
+        try {
+            checkFailure();
+            if (closed) {
+                throw new ReliabilityRuntimeException("The write-behind log has been closed");
+            }
+            if (pending.isEmpty()) {
+                oldestPendingNanos = System.nanoTime();
+                if (policy == DurabilityPolicy.INTERVAL) {
+                    workAvailable.signal();
+                }
+            }
+            pending.add(mutation);
+            appendedSeq++;
+            if (policy == DurabilityPolicy.MUTATIONS && pending.size() == mutationsThreshold) {
+                workAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void run() {
+        while (true) {
+            List<Mutation> batch;
+            long batchSeq;
+            lock.lock();
+            try {
+                while (!closed && !isBatchReady()) {
+                    if (policy == DurabilityPolicy.INTERVAL && !pending.isEmpty()) {
+                        workAvailable.awaitNanos(oldestPendingNanos + intervalNanos - System.nanoTime());
+                    } else {
+                        workAvailable.await();
+                    }
+                }
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                batchSeq = appendedSeq;
+                pending = new ArrayList<>();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            RuntimeException batchFailure = null;
+            try {
+                for (Mutation mutation : batch) {
+                    mutation.apply();
+                }
+                committer.run();
+            } catch (RuntimeException e) {
+                LOG.error("Failed to write {} mutations to the reliable storage", batch.size(), e);
+                batchFailure = e instanceof ReliabilityRuntimeException ? e : new ReliabilityRuntimeException(e);
+            }
+
+            lock.lock();
+            try {
+                if (batchFailure != null) {
+                    failure = batchFailure;
+                } else {
+                    committedSeq = batchSeq;
+                    for (Mutation mutation : batch) {
+                        mutation.committed();
+                    }
+                }
+                batchCommitted.signalAll();
+                if (failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean isBatchReady() {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        if (requestedSeq > committedSeq) {
+            return true;
+        }
+        switch (policy) {
+            case INTERVAL:
+                return System.nanoTime() - oldestPendingNanos >= intervalNanos;
+            case MUTATIONS:
+                return pending.size() >= mutationsThreshold;
+            default:
+                return false;
+        }
+    }
+
+    abstract static class Mutation {
+
+        abstract void apply();
+
+        /**
+         * Invoked once the batch containing this mutation has been committed.
+         */
+        void committed() {
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.drools.core.common.Storage;
+
+import static org.drools.reliability.core.util.ReliabilityUtils.deserialize;
+import static org.drools.reliability.core.util.ReliabilityUtils.serialize;
+
+/**
+ * Storage whose mutations are appended to a {@link WriteBehindLog} instead of being written on the caller thread.
+ * The values written through it are kept in an overlay until their mutation is committed, so reads return the instance
+ * last written while it is pending, while the underlying storage receives a serialized snapshot of it. Once committed,
+ * the entry is evicted and reads are served by the underlying storage.
+ */
+public class WriteBehindStorageDecorator<K, V> implements Storage<K, V> {
+
+    private final WriteBehindLog log;
+
+    private final Storage<K, V> storage;
+
+    private final Map<K, WrittenValue<V>> overlay = new ConcurrentHashMap<>();
+
+    WriteBehindStorageDecorator(WriteBehindLog log, Storage<K, V> storage) {
+        this.log = log;
+        this.storage = storage;
+    }
+
+    @Override
+    public V get(K key) {
+        WrittenValue<V> writtenValue = overlay.get(key);
+        return writtenValue != null ? writtenValue.value : storage.get(key);
+    }
+
+    @Override
+    public V getOrDefault(K key, V value) {
+        WrittenValue<V> writtenValue = overlay.get(key);
+        if (writtenValue != null) {
+            return writtenValue.removed ? value : writtenValue.value;
+        }
+        return storage.getOrDefault(key, value);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V previousValue = get(key);
+        WrittenValue<V> writtenValue = new WrittenValue<>(value, false);
+        overlay.put(key, writtenValue);
+        log.append(new Put(key, writtenValue, serialize(value), value.getClass().getClassLoader()));
+        return previousValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> otherMap) {
+        otherMap.forEach(this::put);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        WrittenValue<V> writtenValue = overlay.get(key);
+        return writtenValue != null ? !writtenValue.removed : storage.containsKey(key);
+    }
+
+    @Override
+    public V remove(K key) {
+        V previousValue = get(key);
+        WrittenValue<V> writtenValue = new WrittenValue<>(null, true);
+        overlay.put(key, writtenValue);
+        log.append(new Remove(key, writtenValue));
+        return previousValue;
+    }
+
+    @Override
+    public void clear() {
+        log.sync();
+        overlay.clear();
+        storage.clear();
+    }
+
+    @Override
+    public Collection<V> values() {
+        log.sync();
+        List<V> values = new ArrayList<>();
+        for (K key : storage.keySet()) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        log.sync();
+        return storage.keySet();
+    }
+
+    @Override
+    public int size() {
+        log.sync();
+        return storage.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return overlay.isEmpty() ? storage.isEmpty() : size() == 0;
+    }
+
+    private static class WrittenValue<V> {
+
+        private final V value;
+        private final boolean removed;
+
+        private WrittenValue(V value, boolean removed) {
+            this.value = value;
+            this.removed = removed;
+        }
+    }
+
+    private class Put extends WriteBehindLog.Mutation {
+
+        private final K key;
+        private final WrittenValue<V> writtenValue;
+        private final byte[] value;
+        private final ClassLoader classLoader;
+
+        private Put(K key, WrittenValue<V> writtenValue, byte[] value, ClassLoader classLoader) {
+            this.key = key;
+            this.writtenValue = writtenValue;
+            this.value = value;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void apply() {
+            storage.put(key, (V) deserialize(value, classLoader));
+        }
+
+        @Override
+        void committed() {
+            // a later write of the same key is still pending and keeps its own entry
+            overlay.remove(key, writtenValue);
+        }
+    }
+
+    private class Remove extends WriteBehindLog.Mutation {
+
+        private final K key;
+        private final WrittenValue<V> writtenValue;
+
+        private Remove(K key, WrittenValue<V> writtenValue) {
+            this.key = key;
+            this.writtenValue = writtenValue;
+        }
+
+        @Override
+        void apply() {
+            storage.remove(key);
+        }
+
+        @Override
+        void committed() {
+            overlay.remove(key, writtenValue);
+        }
+    }
+}
@@ -29,12 +29,22 @@ public class H2MVStoreStorage<K, V> implements Storage<K, V> {
 
     private MVMap<K, V> mvMap;
 
+    private final boolean commitOnWrite;
+
     public static <K1, V1> Storage<K1, V1> fromMVMap(MVMap<K1, V1> mvMap) {
-        return new H2MVStoreStorage<>(mvMap);
+        return fromMVMap(mvMap, true);
+    }
+
+    /**
+     * @param commitOnWrite false when the store is committed by someone else, e.g. a write-behind log
+     */
+    public static <K1, V1> Storage<K1, V1> fromMVMap(MVMap<K1, V1> mvMap, boolean commitOnWrite) {
+        return new H2MVStoreStorage<>(mvMap, commitOnWrite);
     }
 
-    private H2MVStoreStorage(MVMap<K, V> mvMap) {
+    private H2MVStoreStorage(MVMap<K, V> mvMap, boolean commitOnWrite) {
         this.mvMap = mvMap;
+        this.commitOnWrite = commitOnWrite;
     }
 
     @Override
@@ -50,14 +60,14 @@ public class H2MVStoreStorage<K, V> implements Storage<K, V> {
     @Override
     public V put(K key, V value) {
         V previousValue = mvMap.put(key, value);
-        mvMap.store.commit();
+        commit();
         return previousValue;
     }
 
     @Override
     public void putAll(Map<? extends K, ? extends V> otherMap) {
         mvMap.putAll(otherMap);
-        mvMap.store.commit();
+        commit();
     }
 
     @Override
@@ -68,14 +78,14 @@ public class H2MVStoreStorage<K, V> implements Storage<K, V> {
     @Override
     public V remove(K key) {
         V previousValue = mvMap.remove(key);
-        mvMap.store.commit();
+        commit();
         return previousValue;
     }
 
     @Override
     public void clear() {
         mvMap.clear();
-        mvMap.store.commit();
+        commit();
     }
 
     @Override
@@ -97,4 +107,10 @@ public class H2MVStoreStorage<K, V> implements Storage<K, V> {
     public boolean isEmpty() {
         return mvMap.isEmpty();
     }
+
+    private void commit() {
+        if (commitOnWrite) {
+            mvMap.store.commit();
+        }
+    }
 }
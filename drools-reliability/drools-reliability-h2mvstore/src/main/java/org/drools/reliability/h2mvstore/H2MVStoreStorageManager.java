@@ -28,6 +28,7 @@ import java.util.Set;
 import org.drools.core.common.ReteEvaluator;
 import org.drools.core.common.Storage;
 import org.drools.reliability.core.TestableStorageManager;
+import org.drools.reliability.core.WriteBehindLog;
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
 import org.slf4j.Logger;
@@ -48,6 +49,8 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
 
     private MVStore mvStore;
 
+    private WriteBehindLog writeBehindLog;
+
     private H2MVStoreStorageManager() {
     }
 
@@ -55,12 +58,13 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
     public void initStorageManager() {
         LOG.info("Using H2MVStoreStorageManager");
         mvStore = MVStore.open(STORE_FILE_NAME);
+        writeBehindLog = WriteBehindLog.fromConfig(() -> mvStore.commit());
     }
 
     @Override
     public <K, V> Storage<K, V> internalGetOrCreateStorageForSession(ReteEvaluator reteEvaluator, String cacheName) {
         MVMap<K, V> mvMap = mvStore.openMap(createStorageId(reteEvaluator, cacheName));
-        return H2MVStoreStorage.fromMVMap(mvMap);
+        return H2MVStoreStorage.fromMVMap(mvMap, writeBehindLog == null);
     }
 
     @Override
@@ -69,13 +73,22 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
         return H2MVStoreStorage.fromMVMap(mvMap);
     }
 
+    @Override
+    public WriteBehindLog getWriteBehindLog() {
+        return writeBehindLog;
+    }
+
     @Override
     public void close() {
+        closeWriteBehindLog();
         mvStore.close();
     }
 
     @Override
     public void removeStorage(String storageName) {
+        if (writeBehindLog != null) {
+            writeBehindLog.removeStorage(storageName);
+        }
         mvStore.removeMap(storageName);
     }
 
@@ -104,7 +117,8 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
 
     @Override
     public void restart() {
-        // JVM crashed
+        // JVM crashed: the mutations not yet written are lost
+        abortWriteBehindLog();
         mvStore.close();
         mvStore = null;
 
@@ -114,7 +128,8 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
 
     @Override
     public void restartWithCleanUp() {
-        // JVM crashed
+        // JVM crashed: the mutations not yet written are lost
+        abortWriteBehindLog();
         mvStore.close();
         mvStore = null;
 
@@ -125,6 +140,20 @@ public class H2MVStoreStorageManager implements TestableStorageManager {
         initStorageManager();
     }
 
+    private void closeWriteBehindLog() {
+        if (writeBehindLog != null) {
+            writeBehindLog.close();
+            writeBehindLog = null;
+        }
+    }
+
+    private void abortWriteBehindLog() {
+        if (writeBehindLog != null) {
+            writeBehindLog.abort();
+            writeBehindLog = null;
+        }
+    }
+
     @Override
     public boolean isRemote() {
         return false;
@@ -20,6 +20,7 @@ package org.drools.reliability.test;
 
 import java.nio.file.Path;
 
+import org.drools.reliability.core.DeltaSnapshotStorageManager;
 import org.drools.reliability.h2mvstore.H2MVStoreStorageManager;
 import org.drools.reliability.infinispan.EmbeddedStorageManager;
 import org.drools.reliability.test.util.TestConfigurationUtils;
@@ -58,6 +59,9 @@ public class BeforeAllMethodExtension implements BeforeAllCallback {
         H2MVStoreStorageManager.cleanUpDatabase();
         LOG.info("### Deleted database file {}", H2MVStoreStorageManager.STORE_FILE_NAME);
 
+        DeltaSnapshotStorageManager.cleanUpDirectory();
+        LOG.info("### Deleted snapshot directory {}", DeltaSnapshotStorageManager.DEFAULT_DIRECTORY);
+
         LOG.info("### Set marshaller to {}", System.getProperty(INFINISPAN_STORAGE_MARSHALLER));
         LOG.info("### Set initializer to {}", System.getProperty(INFINISPAN_STORAGE_SERIALIZATION_CONTEXT_INITIALIZER));
 
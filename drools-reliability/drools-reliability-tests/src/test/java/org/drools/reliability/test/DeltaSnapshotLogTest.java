@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.drools.core.common.Storage;
+import org.drools.reliability.core.DeltaSnapshotLog;
+import org.drools.reliability.core.DeltaSnapshotStorage;
+import org.drools.util.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.test.domain.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaSnapshotLogTest {
+
+    private Path directory;
+
+    private DeltaSnapshotLog log;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("delta-snapshot");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (log != null) {
+            log.close();
+        }
+        FileUtils.deleteDirectory(directory);
+    }
+
+    @Test
+    void checkpoint_shouldWriteOnlyDirtyEntries() {
+        log = openLog(Long.MAX_VALUE);
+        DeltaSnapshotStorage<Long, Person> storage = new DeltaSnapshotStorage<>(log, "persons", false);
+
+        for (long i = 0; i < 100; i++) {
+            storage.put(i, new Person("Person" + i, (int) i));
+        }
+        assertThat(log.getDeltaSize()).isZero();
+        assertThat(storage.dirtySize()).isEqualTo(100);
+
+        storage.flush();
+        long fullCheckpointSize = log.getDeltaSize();
+        assertThat(storage.dirtySize()).isZero();
+
+        storage.get(42L).setAge(43);
+        storage.put(42L, storage.get(42L));
+        storage.remove(7L);
+        storage.flush();
+
+        assertThat(log.getDeltaSize() - fullCheckpointSize).isLessThan(fullCheckpointSize / 10);
+    }
+
+    @Test
+    void restore_shouldReplayBaseAndDeltas() {
+        log = openLog(Long.MAX_VALUE);
+        Storage<Long, Person> storage = new DeltaSnapshotStorage<>(log, "persons", true);
+        storage.put(1L, new Person("Mario", 40));
+        storage.put(2L, new Person("Luigi", 38));
+        log.compact();
+
+        storage.put(3L, new Person("Toad", 30));
+        storage.remove(2L);
+        Storage<String, Object> globals = new DeltaSnapshotStorage<>(log, "globals", true);
+        globals.put("a", "A");
+        log.close();
+
+        log = openLog(Long.MAX_VALUE);
+        Storage<Long, Person> restored = new DeltaSnapshotStorage<>(log, "persons", true);
+
+        assertThat(restored.keySet()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(restored.get(1L).getName()).isEqualTo("Mario");
+        assertThat(restored.get(3L).getName()).isEqualTo("Toad");
+        assertThat(log.getStorageNames()).containsExactlyInAnyOrder("persons", "globals");
+    }
+
+    @Test
+    void compaction_shouldBoundTheDeltaLog() throws IOException {
+        log = openLog(0);
+        Storage<Long, Person> storage = new DeltaSnapshotStorage<>(log, "persons", true);
+
+        Person person = new Person("Mario", 0);
+        for (int i = 0; i < 1000; i++) {
+            person.setAge(i);
+            storage.put(1L, person);
+        }
+
+        assertThat(log.getCompactions()).isPositive();
+        assertThat(log.getDeltaSize()).isLessThanOrEqualTo(Files.size(directory.resolve(DeltaSnapshotLog.BASE_FILE_NAME)));
+        log.close();
+
+        log = openLog(0);
+        Storage<Long, Person> restored = new DeltaSnapshotStorage<>(log, "persons", true);
+        assertThat(restored.get(1L).getAge()).isEqualTo(999);
+    }
+
+    @Test
+    void restore_shouldDiscardIncompleteDelta() throws IOException {
+        log = openLog(Long.MAX_VALUE);
+        Storage<Long, Person> storage = new DeltaSnapshotStorage<>(log, "persons", true);
+        storage.put(1L, new Person("Mario", 40));
+        long validSize = log.getDeltaSize();
+        log.close();
+
+        // simulate a crash while appending a record
+        Files.write(directory.resolve(DeltaSnapshotLog.DELTA_FILE_NAME), new byte[] {0, 0, 1, 0, 42, 42}, StandardOpenOption.APPEND);
+
+        log = openLog(Long.MAX_VALUE);
+        assertThat(log.getDeltaSize()).isEqualTo(validSize);
+        Storage<Long, Person> restored = new DeltaSnapshotStorage<>(log, "persons", true);
+        assertThat(restored.get(1L).getName()).isEqualTo("Mario");
+
+        restored.put(2L, new Person("Luigi", 38));
+        log.close();
+        log = openLog(Long.MAX_VALUE);
+        assertThat(new DeltaSnapshotStorage<Long, Person>(log, "persons", true).keySet()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void clear_shouldBeReplayed() {
+        log = openLog(Long.MAX_VALUE);
+        Storage<String, Object> storage = new DeltaSnapshotStorage<>(log, "activations", true);
+        storage.put("a", true);
+        storage.clear();
+        storage.put("b", true);
+        log.close();
+
+        log = openLog(Long.MAX_VALUE);
+        assertThat(new DeltaSnapshotStorage<String, Object>(log, "activations", true).keySet()).containsExactly("b");
+    }
+
+    private DeltaSnapshotLog openLog(long compactionMinSize) {
+        DeltaSnapshotLog deltaSnapshotLog = new DeltaSnapshotLog(directory, 1.0, compactionMinSize, false);
+        deltaSnapshotLog.open();
+        return deltaSnapshotLog;
+    }
+}
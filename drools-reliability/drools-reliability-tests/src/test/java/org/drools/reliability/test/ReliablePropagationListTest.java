@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.phreak.PropagationEntry;
+import org.drools.kiesession.agenda.DefaultAgenda;
+import org.drools.reliability.core.ReliablePropagationList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.utils.KieHelper;
+import org.test.domain.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(BeforeAllMethodExtension.class)
+class ReliablePropagationListTest {
+
+    private static final String RULE =
+            "import " + Person.class.getCanonicalName() + ";" +
+            "rule R when\n" +
+            "  Person()\n" +
+            "then\n" +
+            "end";
+
+    @Test
+    void writeExternal_shouldMarshalPendingInsertBatch() throws Exception {
+        KieSession ksession = new KieHelper().addContent(RULE, ResourceType.DRL).build().newKieSession();
+        try {
+            Person[] persons = { new Person("Mario", 40), new Person("Toshiya", 35), new Person("Luca", 38) };
+            FactHandle[] handles = new FactHandle[persons.length];
+            ((WorkingMemoryEntryPoint) ksession.getEntryPoint("DEFAULT")).insertAll(persons, persons.length, handles);
+
+            // take the batch before it gets flushed, as a pending propagation persisted by a reliable session
+            PropagationEntry pending = ((DefaultAgenda) ((InternalWorkingMemory) ksession).getAgenda()).getPropagationList().takeAll();
+            assertThat(pending).isInstanceOf(PropagationEntry.InsertBatch.class);
+
+            ReliablePropagationList propagationList = new ReliablePropagationList((InternalWorkingMemory) ksession);
+            propagationList.addEntry(pending);
+
+            Iterator<PropagationEntry> restored = roundTrip(propagationList).iterator();
+            assertThat(restored.hasNext()).isTrue();
+            PropagationEntry entry = restored.next();
+            assertThat(restored.hasNext()).isFalse();
+
+            assertThat(entry).isInstanceOf(PropagationEntry.InsertBatch.class);
+            PropagationEntry.InsertBatch batch = (PropagationEntry.InsertBatch) entry;
+            assertThat(batch.size()).isEqualTo(persons.length);
+            for (int i = 0; i < persons.length; i++) {
+                assertThat(batch.getHandle(i).getId()).isEqualTo(((InternalFactHandle) handles[i]).getId());
+                assertThat(((Person) batch.getHandle(i).getObject()).getName()).isEqualTo(persons[i].getName());
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static ReliablePropagationList roundTrip(ReliablePropagationList propagationList) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+            out.writeObject(propagationList);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            return (ReliablePropagationList) in.readObject();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.reliability.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.drools.core.common.Storage;
+import org.drools.reliability.core.DurabilityPolicy;
+import org.drools.reliability.core.WriteBehindLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.test.domain.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WriteBehindLogTest {
+
+    private final Map<String, Object> persisted = new ConcurrentHashMap<>();
+    private final AtomicInteger commits = new AtomicInteger();
+
+    private WriteBehindLog log;
+
+    @AfterEach
+    void tearDown() {
+        if (log != null) {
+            log.close();
+        }
+    }
+
+    @Test
+    void pendingMutations_shouldBeVisibleBeforeBeingApplied() {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.MUTATIONS, Integer.MAX_VALUE);
+
+        storage.put("a", "A");
+        storage.put("b", "B");
+        storage.remove("b");
+
+        assertThat(persisted).isEmpty();
+        assertThat(storage.get("a")).isEqualTo("A");
+        assertThat(storage.get("b")).isNull();
+        assertThat(storage.containsKey("a")).isTrue();
+        assertThat(storage.containsKey("b")).isFalse();
+        assertThat(storage.getOrDefault("b", "default")).isEqualTo("default");
+        assertThat(log.pendingMutations()).isEqualTo(3);
+
+        assertThat(storage.keySet()).containsExactly("a");
+        assertThat(persisted).containsOnlyKeys("a");
+        assertThat(commits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void sameStorageId_shouldShareTheOverlay() {
+        log = new WriteBehindLog(DurabilityPolicy.MUTATIONS, WriteBehindLog.DEFAULT_INTERVAL, Integer.MAX_VALUE, commits::incrementAndGet);
+        Storage<String, Object> underlying = Storage.fromMap(persisted);
+        Storage<String, Object> storage1 = log.decorate("components", underlying);
+        Storage<String, Object> storage2 = log.decorate("components", underlying);
+
+        storage1.put("a", "A");
+
+        assertThat(storage2.get("a")).isEqualTo("A");
+    }
+
+    @Test
+    void mutationsPolicy_shouldCommitEveryNMutations() throws InterruptedException {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.MUTATIONS, 10);
+
+        for (int i = 0; i < 10; i++) {
+            storage.put("key" + i, i);
+        }
+        waitUntil(() -> persisted.size() == 10);
+        assertThat(commits.get()).isEqualTo(1);
+
+        for (int i = 10; i < 15; i++) {
+            storage.put("key" + i, i);
+        }
+        Thread.sleep(100);
+        assertThat(persisted).hasSize(10);
+
+        log.close();
+        assertThat(persisted).hasSize(15);
+        assertThat(commits.get()).isEqualTo(2);
+        log = null;
+    }
+
+    @Test
+    void intervalPolicy_shouldCommitInBackground() throws InterruptedException {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.INTERVAL, Integer.MAX_VALUE);
+
+        storage.put("a", "A");
+        storage.put("b", "B");
+
+        waitUntil(() -> persisted.size() == 2);
+        assertThat(commits.get()).isPositive();
+    }
+
+    @Test
+    void perFirePolicy_shouldGroupConcurrentCommits() throws InterruptedException {
+        CountDownLatch firstCommitStarted = new CountDownLatch(1);
+        CountDownLatch firstCommitReleased = new CountDownLatch(1);
+        log = new WriteBehindLog(DurabilityPolicy.PER_FIRE, WriteBehindLog.DEFAULT_INTERVAL, Integer.MAX_VALUE, () -> {
+            if (commits.incrementAndGet() == 1) {
+                firstCommitStarted.countDown();
+                try {
+                    firstCommitReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        Storage<String, Object> storage = log.decorate("storage", Storage.fromMap(persisted));
+
+        // the first session fires and its commit is held, so the other sessions fire while it is in progress
+        Thread first = new Thread(() -> {
+            storage.put("first", 0);
+            log.awaitDurability();
+        });
+        first.start();
+        assertThat(firstCommitStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        int sessions = 8;
+        int mutations = 10;
+        CountDownLatch done = new CountDownLatch(sessions);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            String prefix = "session" + i + "_";
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < mutations; j++) {
+                    storage.put(prefix + j, j);
+                }
+                log.awaitDurability();
+                done.countDown();
+            }));
+        }
+        threads.forEach(Thread::start);
+        waitUntil(() -> log.pendingMutations() == sessions * mutations);
+
+        firstCommitReleased.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        first.join();
+
+        // all the mutations appended while the first commit was in progress are committed together
+        assertThat(persisted).hasSize(1 + sessions * mutations);
+        assertThat(commits.get()).isEqualTo(2);
+        assertThat(commits.get()).isLessThan(1 + sessions * mutations);
+    }
+
+    @Test
+    void committedValues_shouldBeEvictedFromTheOverlay() {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.MUTATIONS, Integer.MAX_VALUE);
+
+        Person person = new Person("Mario", 40);
+        storage.put("mario", person);
+        assertThat(storage.get("mario")).isSameAs(person);
+
+        log.sync();
+
+        // once committed the value is read from the underlying storage
+        assertThat(storage.get("mario")).isNotSameAs(person).isSameAs(persisted.get("mario"));
+    }
+
+    @Test
+    void abort_shouldDiscardPendingMutations() {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.MUTATIONS, Integer.MAX_VALUE);
+
+        storage.put("a", "A");
+        log.sync();
+        storage.put("b", "B");
+
+        log.abort();
+        log = null;
+
+        assertThat(persisted).containsOnlyKeys("a");
+        assertThat(commits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void values_shouldBeSnapshotWhenAppended() {
+        Storage<String, Object> storage = createStorage(DurabilityPolicy.MUTATIONS, Integer.MAX_VALUE);
+
+        Person person = new Person("Mario", 40);
+        storage.put("mario", person);
+        person.setAge(41);
+        log.sync();
+
+        assertThat(((Person) persisted.get("mario")).getAge()).isEqualTo(40);
+    }
+
+    private Storage<String, Object> createStorage(DurabilityPolicy policy, int mutations) {
+        log = new WriteBehindLog(policy, 10, mutations, commits::incrementAndGet);
+        return log.decorate("storage", Storage.fromMap(persisted));
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -22,6 +22,7 @@ import org.drools.reliability.core.ReliableGlobalResolverFactory;
 import org.drools.reliability.core.SimpleReliableObjectStoreFactory;
 import org.drools.reliability.core.StorageManagerFactory;
 
+import static org.drools.reliability.test.util.TestConfigurationUtils.Module.FILE;
 import static org.drools.reliability.test.util.TestConfigurationUtils.Module.H2MVSTORE;
 import static org.drools.reliability.test.util.TestConfigurationUtils.Module.INFINISPAN;
 import static org.drools.util.Config.getConfig;
@@ -30,7 +31,8 @@ public class TestConfigurationUtils {
 
     public enum Module {
         INFINISPAN,
-        H2MVSTORE
+        H2MVSTORE,
+        FILE
     }
 
     public static final String DROOLS_RELIABILITY_MODULE_TEST = "drools.reliability.module.test";
@@ -45,6 +47,8 @@ public class TestConfigurationUtils {
             prioritizeInfinispanServices();
         } else if (module == H2MVSTORE) {
             prioritizeH2MVStoreServices();
+        } else if (module == FILE) {
+            prioritizeFileServices();
         } else {
             throw new IllegalStateException("Unknown module: " + module);
         }
@@ -61,4 +65,10 @@ public class TestConfigurationUtils {
         SimpleReliableObjectStoreFactory.get("core");
         StorageManagerFactory.get("h2mvstore");
     }
+
+    private static void prioritizeFileServices() {
+        ReliableGlobalResolverFactory.get("core");
+        SimpleReliableObjectStoreFactory.get("core");
+        StorageManagerFactory.get("file");
+    }
 }
@@ -18,6 +18,9 @@
  */
 package org.drools.ruleunits.api;
 
+import java.util.Collection;
+import java.util.Spliterator;
+
 /**
  * A {@link DataSource} of mutable data.
  * @param <T> The type of objects managed by this DataSource.
@@ -30,6 +33,33 @@ public interface DataStore<T> extends DataSource<T> {
      */
     DataHandle add(T object);
 
+    /**
+     * Adds all the objects of the given array to this DataStore.
+     * Implementations may insert them as a single batch, so prefer this method to repeated {@link #add(Object)}
+     * calls when ingesting many objects at once.
+     */
+    default void addAll(T[] objects) {
+        for (T object : objects) {
+            add(object);
+        }
+    }
+
+    /**
+     * Adds all the objects of the given collection to this DataStore.
+     * @see #addAll(Object[])
+     */
+    default void addAll(Collection<? extends T> objects) {
+        objects.forEach(this::add);
+    }
+
+    /**
+     * Adds all the objects remaining in the given {@link Spliterator} to this DataStore.
+     * @see #addAll(Object[])
+     */
+    default void addAll(Spliterator<? extends T> objects) {
+        objects.forEachRemaining(this::add);
+    }
+
     /**
      * Updates the fact for which the given {@link DataHandle} was assigned with the new
      * fact set as the second parameter in this method.
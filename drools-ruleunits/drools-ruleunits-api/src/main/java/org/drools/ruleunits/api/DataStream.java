@@ -18,6 +18,9 @@
  */
 package org.drools.ruleunits.api;
 
+import java.util.Collection;
+import java.util.Spliterator;
+
 /**
  * A {@link DataSource} of immutable data.
  * By default, this Stream doesn't retain any data and just forwards the facts appended to it to the {@link DataProcessor}s
@@ -32,4 +35,31 @@ public interface DataStream<T> extends DataSource<T> {
      * Append an object to this stream of data.
      */
     void append(T value);
+
+    /**
+     * Append all the objects of the given array to this stream of data.
+     * Implementations may insert them as a single batch, so prefer this method to repeated {@link #append(Object)}
+     * calls when ingesting many objects at once.
+     */
+    default void appendAll(T[] values) {
+        for (T value : values) {
+            append(value);
+        }
+    }
+
+    /**
+     * Append all the objects of the given collection to this stream of data.
+     * @see #appendAll(Object[])
+     */
+    default void appendAll(Collection<? extends T> values) {
+        values.forEach(this::append);
+    }
+
+    /**
+     * Append all the objects remaining in the given {@link Spliterator} to this stream of data.
+     * @see #appendAll(Object[])
+     */
+    default void appendAll(Spliterator<? extends T> values) {
+        values.forEachRemaining(this::append);
+    }
 }
@@ -52,6 +52,23 @@ public class EntryPointDataProcessor implements DataProcessor {
         return fh;
     }
 
+    /**
+     * Inserts the first <code>length</code> objects of the given array as a single batch, associating each of them
+     * with the {@link DataHandle} at the same index of <code>dataHandles</code> when provided.
+     */
+    public FactHandle[] insertAll(DataHandle[] dataHandles, Object[] objects, int length) {
+        FactHandle[] fhs = new FactHandle[length];
+        ((WorkingMemoryEntryPoint) entryPoint).insertAll(objects, length, fhs);
+        if (dataHandles != null) {
+            for (int i = 0; i < length; i++) {
+                if (fhs[i] != null) {
+                    handles.put(dataHandles[i], (InternalFactHandle) fhs[i]);
+                }
+            }
+        }
+        return fhs;
+    }
+
     public void insertLogical(RuleContext ruleContext, Object object) {
         ruleContext.insertLogical(entryPoint, object);
     }
@@ -18,7 +18,9 @@
  */
 package org.drools.ruleunits.impl.datasources;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
@@ -45,4 +47,42 @@ public abstract class AbstractDataSource<T> implements DataSource<T> {
         subscribers.forEach(consumer);
         entryPointSubscribers.forEach(consumer);
     }
+
+    protected void forEachSubscriberInsertAll(Object[] objects, int length) {
+        for (DataProcessor subscriber : subscribers) {
+            for (int i = 0; i < length; i++) {
+                subscriber.insert(objects[i]);
+            }
+        }
+        for (EntryPointDataProcessor subscriber : entryPointSubscribers) {
+            subscriber.insertAll(null, objects, length);
+        }
+    }
+
+    protected static Object[] toArray(Spliterator<?> spliterator) {
+        ArrayCollector collector = new ArrayCollector(spliterator.estimateSize());
+        spliterator.forEachRemaining(collector);
+        return collector.toArray();
+    }
+
+    private static class ArrayCollector implements Consumer<Object> {
+        private Object[] array;
+        private int size;
+
+        ArrayCollector(long estimatedSize) {
+            this.array = new Object[estimatedSize < Integer.MAX_VALUE - 8 ? (int) estimatedSize : 16];
+        }
+
+        @Override
+        public void accept(Object o) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, Math.max(16, size * 2));
+            }
+            array[size++] = o;
+        }
+
+        Object[] toArray() {
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        }
+    }
 }
@@ -18,7 +18,9 @@
  */
 package org.drools.ruleunits.impl.datasources;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import org.drools.ruleunits.api.DataProcessor;
 import org.drools.ruleunits.api.DataStream;
@@ -37,6 +39,28 @@ public class BufferedDataStream<T> extends AbstractDataSource<T> implements Data
         forEachSubscriber(s -> s.insert(value));
     }
 
+    @Override
+    public void appendAll(T[] values) {
+        internalAppendAll(values);
+    }
+
+    @Override
+    public void appendAll(Collection<? extends T> values) {
+        internalAppendAll(values.toArray());
+    }
+
+    @Override
+    public void appendAll(Spliterator<? extends T> values) {
+        internalAppendAll(toArray(values));
+    }
+
+    private void internalAppendAll(Object[] values) {
+        for (Object value : values) {
+            list.add((T) value);
+        }
+        forEachSubscriberInsertAll(values, values.length);
+    }
+
     @Override
     public void subscribe(DataProcessor<T> subscriber) {
         super.subscribe(subscriber);
@@ -18,6 +18,9 @@
  */
 package org.drools.ruleunits.impl.datasources;
 
+import java.util.Collection;
+import java.util.Spliterator;
+
 import org.drools.ruleunits.api.DataStream;
 
 public class DirectDataStream<T> extends AbstractDataSource<T> implements DataStream<T> {
@@ -30,4 +33,21 @@ public class DirectDataStream<T> extends AbstractDataSource<T> implements DataSt
     public void append(T value) {
         forEachSubscriber(s -> s.insert(value));
     }
+
+    @Override
+    public void appendAll(T[] values) {
+        forEachSubscriberInsertAll(values, values.length);
+    }
+
+    @Override
+    public void appendAll(Collection<? extends T> values) {
+        Object[] array = values.toArray();
+        forEachSubscriberInsertAll(array, array.length);
+    }
+
+    @Override
+    public void appendAll(Spliterator<? extends T> values) {
+        Object[] array = toArray(values);
+        forEachSubscriberInsertAll(array, array.length);
+    }
 }
@@ -18,9 +18,11 @@
  */
 package org.drools.ruleunits.impl.datasources;
 
+import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Spliterator;
 
 import org.drools.base.definitions.rule.impl.RuleImpl;
 import org.drools.core.reteoo.TerminalNode;
@@ -29,6 +31,7 @@ import org.drools.util.bitmask.BitMask;
 import org.drools.ruleunits.api.DataHandle;
 import org.drools.ruleunits.api.DataProcessor;
 import org.drools.ruleunits.api.DataStore;
+import org.drools.ruleunits.impl.EntryPointDataProcessor;
 import org.drools.ruleunits.impl.InternalStoreCallback;
 import org.drools.ruleunits.impl.facthandles.RuleUnitInternalFactHandle;
 import org.drools.ruleunits.impl.factory.DataHandleImpl;
@@ -37,7 +40,7 @@ import org.kie.api.runtime.rule.RuleContext;
 
 public class ListDataStore<T> extends AbstractDataSource<T> implements  Iterable<T>, DataStore<T>, InternalStoreCallback {
 
-    private final Map<T, DataHandle> store = new IdentityHashMap<>();
+    private Map<T, DataHandle> store = new IdentityHashMap<>();
 
     protected ListDataStore() {
 
@@ -55,6 +58,46 @@ public class ListDataStore<T> extends AbstractDataSource<T> implements  Iterable
         return dh;
     }
 
+    @Override
+    public void addAll(T[] objects) {
+        internalAddAll(objects);
+    }
+
+    @Override
+    public void addAll(Collection<? extends T> objects) {
+        internalAddAll(objects.toArray());
+    }
+
+    @Override
+    public void addAll(Spliterator<? extends T> objects) {
+        internalAddAll(toArray(objects));
+    }
+
+    private void internalAddAll(Object[] objects) {
+        int length = objects.length;
+        if (length == 0) {
+            return;
+        }
+        if (store.isEmpty()) {
+            // size the store for the whole batch upfront instead of rehashing it while adding
+            store = new IdentityHashMap<>(length);
+        }
+        DataHandle[] handles = new DataHandle[length];
+        for (int i = 0; i < length; i++) {
+            T t = (T) objects[i];
+            handles[i] = createDataHandle(t);
+            store.put(t, handles[i]);
+        }
+        for (DataProcessor subscriber : subscribers) {
+            for (DataHandle dh : handles) {
+                internalInsert(dh, subscriber);
+            }
+        }
+        for (EntryPointDataProcessor subscriber : entryPointSubscribers) {
+            internalInsertAll(handles, objects, subscriber);
+        }
+    }
+
     @Override
     public void addLogical(RuleContext ruleContext, Object object) {
         entryPointSubscribers.forEach(eps -> eps.insertLogical(ruleContext, object));
@@ -94,7 +137,16 @@ public class ListDataStore<T> extends AbstractDataSource<T> implements  Iterable
     @Override
     public void subscribe(DataProcessor processor) {
         super.subscribe(processor);
-        store.values().forEach(dh -> internalInsert(dh, processor));
+        if (processor instanceof EntryPointDataProcessor && !store.isEmpty()) {
+            DataHandle[] handles = store.values().toArray(new DataHandle[store.size()]);
+            Object[] objects = new Object[handles.length];
+            for (int i = 0; i < handles.length; i++) {
+                objects[i] = handles[i].getObject();
+            }
+            internalInsertAll(handles, objects, (EntryPointDataProcessor) processor);
+        } else {
+            store.values().forEach(dh -> internalInsert(dh, processor));
+        }
     }
 
     @Override
@@ -132,7 +184,17 @@ public class ListDataStore<T> extends AbstractDataSource<T> implements  Iterable
     }
 
     private void internalInsert(DataHandle dh, DataProcessor s) {
-        FactHandle fh = s.insert(dh, dh.getObject());
+        bindFactHandle(s.insert(dh, dh.getObject()), dh);
+    }
+
+    private void internalInsertAll(DataHandle[] handles, Object[] objects, EntryPointDataProcessor s) {
+        FactHandle[] fhs = s.insertAll(handles, objects, handles.length);
+        for (int i = 0; i < handles.length; i++) {
+            bindFactHandle(fhs[i], handles[i]);
+        }
+    }
+
+    private void bindFactHandle(FactHandle fh, DataHandle dh) {
         if (fh != null) {
             ((RuleUnitInternalFactHandle) fh).setDataStore(this);
             ((RuleUnitInternalFactHandle) fh).setDataHandle(dh);
@@ -60,6 +60,7 @@ import org.drools.core.rule.accessor.FactHandleFactory;
 import org.drools.core.rule.consequence.InternalMatch;
 import org.drools.core.rule.consequence.KnowledgeHelper;
 import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.TimerWheel;
 import org.drools.util.bitmask.BitMask;
 import org.drools.kiesession.consequence.DefaultKnowledgeHelper;
 import org.drools.kiesession.consequence.StatefulKnowledgeSessionForRHS;
@@ -76,6 +77,7 @@ import org.kie.api.runtime.rule.FactHandle;
 import org.kie.api.runtime.rule.Match;
 import org.kie.api.runtime.rule.QueryResults;
 import org.kie.api.time.SessionClock;
+import org.kie.internal.runtime.conf.ExpirationSchedulingOption;
 
 import java.io.IOException;
 import java.io.ObjectInput;
@@ -110,6 +112,8 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
 
     private final TimerService timerService;
 
+    private final TimerWheel timerWheel;
+
     private Calendars calendars;
 
     private RuleUnits ruleUnits;
@@ -131,6 +135,7 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
         this.activationsManager = new ActivationsManagerImpl(this);
         this.entryPointsManager = RuntimeComponentFactory.get().getEntryPointFactory().createEntryPointsManager(this);
         this.timerService = sessionConfiguration.createTimerService();
+        this.timerWheel = getRuleSessionConfiguration().getExpirationSchedulingOption() == ExpirationSchedulingOption.TIMER_WHEEL ? new TimerWheel(this) : null;
 
         initInitialFact(ruleBase);
     }
@@ -208,6 +213,11 @@ public class RuleUnitExecutorImpl implements ReteEvaluator {
         return timerService;
     }
 
+    @Override
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
     @Override
     public void addPropagation(PropagationEntry propagationEntry) {
         activationsManager.addPropagation( propagationEntry );
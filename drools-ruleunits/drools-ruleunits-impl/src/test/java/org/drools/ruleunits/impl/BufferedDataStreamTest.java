@@ -20,6 +20,7 @@ package org.drools.ruleunits.impl;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.drools.ruleunits.api.DataHandle;
 import org.drools.ruleunits.api.DataProcessor;
@@ -57,6 +58,22 @@ public class BufferedDataStreamTest {
         assertThat(collector.size()).isEqualTo(3);
     }
 
+    @Test
+    public void testAppendAll() {
+        Collector collector = new Collector();
+        DataStream<Integer> integers = DataSource.createBufferedStream(3);
+        integers.appendAll(new Integer[] { 1, 2 });
+        integers.subscribe(collector);
+        assertThat(collector.getList()).containsExactly(1, 2);
+        integers.appendAll(List.of(3, 4));
+        integers.appendAll(IntStream.range(5, 7).boxed().spliterator());
+        assertThat(collector.getList()).containsExactly(1, 2, 3, 4, 5, 6);
+
+        Collector late = new Collector();
+        integers.subscribe(late);
+        assertThat(late.getList()).containsExactly(4, 5, 6);
+    }
+
     private static class Collector<T> implements DataProcessor<T> {
 
         private final List<T> list = new ArrayList<>();
@@ -19,8 +19,10 @@
 package org.drools.ruleunits.impl;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.drools.core.base.RuleNameStartsWithAgendaFilter;
 import org.drools.ruleunits.api.DataHandle;
@@ -153,6 +155,44 @@ public class RuleUnitProviderImplTest {
         }
     }
 
+    @Test
+    public void addAllBeforeCreatingInstance() {
+        HelloWorldUnit unit = new HelloWorldUnit();
+        unit.getStrings().addAll(new String[] { "Hello World", "Hello", new String("Hello World") });
+
+        try ( RuleUnitInstance<HelloWorldUnit> unitInstance = RuleUnitProvider.get().createRuleUnitInstance(unit) ) {
+            assertThat(unitInstance.fire()).isEqualTo(2);
+            assertThat(unit.getResults()).containsExactly("it worked!", "it worked!");
+        }
+    }
+
+    @Test
+    public void addAllAndUpdate() {
+        UpdateTestUnit unit = new UpdateTestUnit();
+
+        try ( RuleUnitInstance<UpdateTestUnit> unitInstance = RuleUnitProvider.get().createRuleUnitInstance(unit) ) {
+
+            unit.getPersons().addAll(List.of(new Person("Mario", 17), new Person("Luca", 20)));
+
+            assertThat(unitInstance.fire()).isEqualTo(3);
+            assertThat(unit.getResults()).containsExactly("ok", "ok");
+        }
+    }
+
+    @Test
+    public void addAllAndRemove() {
+        HelloWorldUnit unit = new HelloWorldUnit();
+
+        try ( RuleUnitInstance<HelloWorldUnit> unitInstance = RuleUnitProvider.get().createRuleUnitInstance(unit) ) {
+            String helloWorld = "Hello World";
+            unit.getStrings().addAll(Stream.of("Hello", helloWorld).spliterator());
+            unit.getStrings().remove(helloWorld);
+
+            assertThat(unitInstance.fire()).isEqualTo(0);
+            assertThat(unit.getResults()).isEmpty();
+        }
+    }
+
     @Test
     public void updateNoDS() {
         UpdateNoDSTestUnit unit = new UpdateNoDSTestUnit();
@@ -21,6 +21,7 @@ package org.drools.serialization.protobuf;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidKeyException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
@@ -42,6 +43,7 @@ import org.drools.base.factmodel.traits.TraitFactory;
 import org.drools.core.impl.InternalRuleBase;
 import org.drools.core.impl.WorkingMemoryReteExpireAction;
 import org.drools.serialization.protobuf.marshalling.ActivationKey;
+import org.drools.core.marshalling.IncrementalStrategyContext;
 import org.drools.core.marshalling.MarshallerReaderContext;
 import org.drools.core.marshalling.MarshallerWriteContext;
 import org.drools.serialization.protobuf.marshalling.MarshallingHelper;
@@ -151,6 +153,46 @@ public class PersisterHelper extends MarshallingHelper {
     
     public static void writeToStreamWithHeader( MarshallerWriteContext context,
                                                 Message payload ) throws IOException {
+        context.write( buildHeader( context, payload, true, false ).toByteArray() );
+    }
+
+    /**
+     * Writes a single record of a streamed session: the record type followed by a length delimited
+     * header carrying the payload, its signature and the strategies data collected while marshalling it.
+     * The strategy contexts are reset afterwards, so that every record can be unmarshalled on its own.
+     */
+    public static void writeRecordWithHeader( MarshallerWriteContext context,
+                                              int recordType,
+                                              Message payload,
+                                              boolean first ) throws IOException {
+        writeRecord( context, recordType, buildHeader( context, payload, first, false ) );
+        context.getStrategyContext().replaceAll( (strategy, ctx) -> strategy.createContext() );
+    }
+
+    /**
+     * Writes a record of a streamed session sharing its strategy contexts with the other records written by this
+     * method: an {@link IncrementalStrategyContext} only writes the entries added since the previous record, so the
+     * objects already written are referenced instead of being copied again, while any other context is written whole
+     * and reset as done by {@link #writeRecordWithHeader}.
+     */
+    public static void writeRecordSharingStrategies( MarshallerWriteContext context,
+                                                     int recordType,
+                                                     Message payload ) throws IOException {
+        writeRecord( context, recordType, buildHeader( context, payload, false, true ) );
+        context.getStrategyContext().replaceAll( (strategy, ctx) -> ctx instanceof IncrementalStrategyContext ? ctx : strategy.createContext() );
+    }
+
+    private static void writeRecord( MarshallerWriteContext context,
+                                     int recordType,
+                                     ProtobufMessages.Header _header ) throws IOException {
+        context.write( recordType );
+        _header.writeDelimitedTo( (OutputStream) context );
+    }
+
+    private static ProtobufMessages.Header buildHeader( MarshallerWriteContext context,
+                                                        Message payload,
+                                                        boolean withRuntimeClasses,
+                                                        boolean incremental ) throws IOException {
         ProtobufMessages.Header.Builder _header = ProtobufMessages.Header.newBuilder();
         _header.setVersion( ProtobufMessages.Version.newBuilder()
                                             .setVersionMajor( Drools.getMajorVersion() )
@@ -158,10 +200,10 @@ public class PersisterHelper extends MarshallingHelper {
                                             .setVersionRevision( Drools.getRevisionVersion() )
                             .build() );
         
-        writeStrategiesIndex( context, _header );
+        writeStrategiesIndex( context, _header, incremental );
 
         InternalRuleBase kBase = context.getKnowledgeBase();
-        if (kBase != null) {
+        if (withRuntimeClasses && kBase != null) {
             TraitFactory traitFactory = RuntimeComponentFactory.get().getTraitFactory(kBase);
             if (traitFactory != null) {
                 writeRuntimeDefinedClasses(traitFactory, context, _header);
@@ -172,7 +214,7 @@ public class PersisterHelper extends MarshallingHelper {
         sign( _header, buff );
         _header.setPayload( ByteString.copyFrom( buff ) );
 
-        context.write( _header.build().toByteArray() );
+        return _header.build();
     }
 
     private static void writeRuntimeDefinedClasses( TraitFactory traitFactory, MarshallerWriteContext context, ProtobufMessages.Header.Builder _header) {
@@ -199,14 +241,20 @@ public class PersisterHelper extends MarshallingHelper {
     }
 
     private static void writeStrategiesIndex( MarshallerWriteContext context,
-                                              ProtobufMessages.Header.Builder _header) throws IOException {
+                                              ProtobufMessages.Header.Builder _header,
+                                              boolean incremental ) throws IOException {
         for( Entry<ObjectMarshallingStrategy,Integer> entry : context.getUsedStrategies().entrySet() ) {
 			Builder _strat = ProtobufMessages.Header.StrategyIndex.newBuilder()
                                      .setId( entry.getValue().intValue() )
                                      .setName( entry.getKey().getName()  );
 			
             Context ctx = context.getStrategyContext().get( entry.getKey() );
-            if( ctx != null ) {
+            if( incremental && ctx instanceof IncrementalStrategyContext ) {
+                byte[] increment = ((IncrementalStrategyContext) ctx).writeIncrement();
+                if ( increment != null ) {
+                    _strat.setData( ByteString.copyFrom( increment ) );
+                }
+            } else if( ctx != null ) {
                 try (Output os = ByteString.newOutput()) {
                     ctx.write( new DroolsObjectOutputStream( os ) );
                     _strat.setData( os.toByteString() );
@@ -233,7 +281,11 @@ public class PersisterHelper extends MarshallingHelper {
     }
     
     private static ProtobufMessages.Header loadStrategiesCheckSignature( MarshallerReaderContext context, ProtobufMessages.Header _header) throws ClassNotFoundException, IOException {
-        loadStrategiesIndex( context, _header );
+        return loadStrategiesCheckSignature( context, _header, false );
+    }
+
+    private static ProtobufMessages.Header loadStrategiesCheckSignature( MarshallerReaderContext context, ProtobufMessages.Header _header, boolean sharingStrategies) throws ClassNotFoundException, IOException {
+        loadStrategiesIndex( context, _header, sharingStrategies );
 
         byte[] sessionbuff = _header.getPayload().toByteArray();
 
@@ -244,20 +296,52 @@ public class PersisterHelper extends MarshallingHelper {
     }
 
     public static ProtobufMessages.Header readFromStreamWithHeaderPreloaded( MarshallerReaderContext context, ExtensionRegistry registry ) throws IOException, ClassNotFoundException {
+        return readFromStreamWithHeaderPreloaded( context, registry, -1 );
+    }
+
+    /**
+     * Same as {@link #readFromStreamWithHeaderPreloaded(MarshallerReaderContext, ExtensionRegistry)} when the first
+     * byte of the stream has already been consumed to detect its format; a negative value means no byte was consumed.
+     */
+    public static ProtobufMessages.Header readFromStreamWithHeaderPreloaded( MarshallerReaderContext context, ExtensionRegistry registry, int firstByte ) throws IOException, ClassNotFoundException {
         // we preload the stream into a byte[] to overcome a message size limit
         // imposed by protobuf as per https://issues.jboss.org/browse/DROOLS-25
-        byte[] preloaded = preload((InputStream) context);
+        byte[] preloaded = preload((InputStream) context, firstByte);
         ProtobufMessages.Header _header = ProtobufMessages.Header.parseFrom( preloaded, registry );
 
         return loadStrategiesCheckSignature(context, _header);
     }
+
+    /**
+     * Reads the header of the next record of a streamed session, whose type has already been consumed.
+     * Only this record is held in memory: protobuf size limits apply per record and not to the whole session.
+     */
+    public static ProtobufMessages.Header readRecordWithHeader( MarshallerReaderContext context, ExtensionRegistry registry ) throws IOException, ClassNotFoundException {
+        return readRecordWithHeader( context, registry, false );
+    }
+
+    /**
+     * Same as {@link #readRecordWithHeader(MarshallerReaderContext, ExtensionRegistry)}, but when sharing the strategies
+     * the record has been written by {@link PersisterHelper#writeRecordSharingStrategies}: its data is added to the
+     * incremental contexts loaded by the previous records instead of replacing them.
+     */
+    public static ProtobufMessages.Header readRecordWithHeader( MarshallerReaderContext context, ExtensionRegistry registry, boolean sharingStrategies ) throws IOException, ClassNotFoundException {
+        ProtobufMessages.Header _header = ProtobufMessages.Header.parseDelimitedFrom( (InputStream) context, registry );
+        if ( _header == null ) {
+            throw new IOException( "Unexpected end of stream while reading a streamed session" );
+        }
+        return loadStrategiesCheckSignature(context, _header, sharingStrategies);
+    }
     
     /* Method that preloads the source stream into a byte array to bypass the message size limitations in Protobuf unmarshalling.
        (Protobuf does not enforce a message size limit when unmarshalling from a byte array)
     */
-    private static byte[] preload(InputStream stream) throws IOException {
+    private static byte[] preload(InputStream stream, int firstByte) throws IOException {
         byte[] buf = new byte[4096];
         ByteArrayOutputStream preloaded = new ByteArrayOutputStream();
+        if (firstByte >= 0) {
+            preloaded.write(firstByte);
+        }
 
         int read;
         while((read = stream.read(buf)) != -1) {
@@ -267,15 +351,18 @@ public class PersisterHelper extends MarshallingHelper {
         return preloaded.toByteArray();
     }
 
-	private static void loadStrategiesIndex( MarshallerReaderContext context, ProtobufMessages.Header _header) throws IOException, ClassNotFoundException {
+	private static void loadStrategiesIndex( MarshallerReaderContext context, ProtobufMessages.Header _header, boolean sharingStrategies) throws IOException, ClassNotFoundException {
         for ( ProtobufMessages.Header.StrategyIndex _entry : _header.getStrategyList() ) {
             ObjectMarshallingStrategy strategyObject = context.getResolverStrategyFactory().getStrategyObject( _entry.getName() );
             if ( strategyObject == null ) {
                 throw new IllegalStateException( "No strategy of type " + _entry.getName() + " available." );
             }
             context.getUsedStrategies().put( _entry.getId(), strategyObject );
-            Context ctx = strategyObject.createContext();
-            context.getStrategyContexts().put( strategyObject, ctx );
+            Context ctx = sharingStrategies ? context.getStrategyContexts().get( strategyObject ) : null;
+            if ( !(ctx instanceof IncrementalStrategyContext) ) {
+                ctx = strategyObject.createContext();
+                context.getStrategyContexts().put( strategyObject, ctx );
+            }
             if( _entry.hasData() && ctx != null ) {
 		        ClassLoader classLoader = null;
                 if (context.getClassLoader() != null ){
@@ -286,7 +373,11 @@ public class PersisterHelper extends MarshallingHelper {
                 if ( classLoader instanceof ProjectClassLoader ) {
                    readRuntimeDefinedClasses( _header, (ProjectClassLoader) classLoader );
                 }
-                ctx.read( new DroolsObjectInputStream( _entry.getData().newInput(), classLoader) );
+                if ( sharingStrategies && ctx instanceof IncrementalStrategyContext ) {
+                    ((IncrementalStrategyContext) ctx).readIncrement( _entry.getData().toByteArray(), classLoader );
+                } else {
+                    ctx.read( new DroolsObjectInputStream( _entry.getData().newInput(), classLoader) );
+                }
             }
         }
     }
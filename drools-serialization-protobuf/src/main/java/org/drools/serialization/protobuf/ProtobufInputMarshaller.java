@@ -120,7 +120,13 @@ public class ProtobufInputMarshaller {
     public static void readSession(StatefulKnowledgeSessionImpl session, ProtobufMarshallerReaderContext context)
             throws IOException, ClassNotFoundException {
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        int firstByte = context.read();
+        if ( firstByte == StreamingProtobufOutputMarshaller.STREAM_MARKER ) {
+            StreamingProtobufInputMarshaller.readSession( session, context );
+            return;
+        }
+
+        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context, firstByte );
         InternalAgenda agenda = resetSession( session, context, _session );
         readSession( _session, session, agenda, context );
     }
@@ -131,7 +137,12 @@ public class ProtobufInputMarshaller {
                                                   SessionConfiguration config,
                                                   KieSessionInitializer initializer) throws IOException, ClassNotFoundException {
 
-        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context );
+        int firstByte = context.read();
+        if ( firstByte == StreamingProtobufOutputMarshaller.STREAM_MARKER ) {
+            return StreamingProtobufInputMarshaller.readSession( context, id, environment, config, initializer );
+        }
+
+        ProtobufMessages.KnowledgeSession _session = loadAndParseSession( context, firstByte );
 
         StatefulKnowledgeSessionImpl session = createAndInitializeSession( context,
                                                                            id,
@@ -150,7 +161,7 @@ public class ProtobufInputMarshaller {
                                      _session);
     }
 
-    private static InternalAgenda resetSession(StatefulKnowledgeSessionImpl session,
+    static InternalAgenda resetSession(StatefulKnowledgeSessionImpl session,
                                               ProtobufMarshallerReaderContext context,
                                               ProtobufMessages.KnowledgeSession _session) {
         session.reset( _session.getRuleData().getLastId(),
@@ -164,7 +175,7 @@ public class ProtobufInputMarshaller {
         return agenda;
     }
 
-    private static StatefulKnowledgeSessionImpl createAndInitializeSession( ProtobufMarshallerReaderContext context,
+    static StatefulKnowledgeSessionImpl createAndInitializeSession( ProtobufMarshallerReaderContext context,
                                                                             int id,
                                                                             Environment environment,
                                                                             SessionConfiguration config,
@@ -182,11 +193,11 @@ public class ProtobufInputMarshaller {
         return session;
     }
 
-    private static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context) throws IOException,
-                                                                                                         ClassNotFoundException {
+    private static ProtobufMessages.KnowledgeSession loadAndParseSession( MarshallerReaderContext context, int firstByte) throws IOException,
+                                                                                                                        ClassNotFoundException {
         ExtensionRegistry registry = PersisterHelper.buildRegistry( context, PROCESS_MARSHALLER);
 
-        ProtobufMessages.Header _header = PersisterHelper.readFromStreamWithHeaderPreloaded( context, registry );
+        ProtobufMessages.Header _header = PersisterHelper.readFromStreamWithHeaderPreloaded( context, registry, firstByte );
 
         return ProtobufMessages.KnowledgeSession.parseFrom( _header.getPayload(), registry );
     }
@@ -237,23 +248,8 @@ public class ProtobufInputMarshaller {
 
         readActionQueue( context, _session.getRuleData() );
 
-        if ( PROCESS_MARSHALLER != null ) {
-            if ( _session.hasProcessData() ) {
-                context.setParameterObject( _session.getProcessData() );
-                PROCESS_MARSHALLER.readProcessInstances( context );
-
-                context.setParameterObject( _session.getProcessData() );
-                PROCESS_MARSHALLER.readWorkItems( context );
-
-                // This actually does ALL timers, due to backwards compatability issues
-                // It will read in old JBPM binaries, but always write to the new binary format.
-                context.setParameterObject( _session.getProcessData() );
-                PROCESS_MARSHALLER.readProcessTimers( context );
-            }
-        } else {
-            if ( _session.hasProcessData() ) {
-                throw new IllegalStateException( "No process marshaller, unable to unmarshall process data." );
-            }
+        if ( _session.hasProcessData() ) {
+            readProcessData( context, _session.getProcessData() );
         }
 
         if ( _session.hasTimers() ) {
@@ -262,6 +258,35 @@ public class ProtobufInputMarshaller {
             }
         }
 
+        completeReadSession( context, agenda );
+
+        return session;
+    }
+
+    static ExtensionRegistry buildRegistry( MarshallerReaderContext context ) {
+        return PersisterHelper.buildRegistry( context, PROCESS_MARSHALLER );
+    }
+
+    static void readProcessData( ProtobufMarshallerReaderContext context,
+                                 ProtobufMessages.ProcessData _pdata ) throws IOException,
+                                                                          ClassNotFoundException {
+        if ( PROCESS_MARSHALLER == null ) {
+            throw new IllegalStateException( "No process marshaller, unable to unmarshall process data." );
+        }
+        context.setParameterObject( _pdata );
+        PROCESS_MARSHALLER.readProcessInstances( context );
+
+        context.setParameterObject( _pdata );
+        PROCESS_MARSHALLER.readWorkItems( context );
+
+        // This actually does ALL timers, due to backwards compatability issues
+        // It will read in old JBPM binaries, but always write to the new binary format.
+        context.setParameterObject( _pdata );
+        PROCESS_MARSHALLER.readProcessTimers( context );
+    }
+
+    static void completeReadSession( ProtobufMarshallerReaderContext context,
+                                     InternalAgenda agenda ) {
         // need to process any eventual left over timer node timers
         if ( ! context.timerNodeSchedulers.isEmpty() ) {
             for ( Map<TupleKey, Scheduler> schedulers : context.timerNodeSchedulers.values() ) {
@@ -276,11 +301,9 @@ public class ProtobufInputMarshaller {
 
         // remove the activations filter
         agenda.setActivationsFilter( null );
-
-        return session;
     }
 
-    private static void readNodeMemories( ProtobufMarshallerReaderContext context,
+    static void readNodeMemories( ProtobufMarshallerReaderContext context,
                                           RuleData _session) {
         for ( ProtobufMessages.NodeMemory _node : _session.getNodeMemoryList() ) {
             Object memory = null;
@@ -453,7 +476,7 @@ public class ProtobufInputMarshaller {
         wm.flushPropagations();
     }
 
-    private static void cleanReaderContexts(List<PropagationContext> pctxs) {
+    static void cleanReaderContexts(List<PropagationContext> pctxs) {
         for ( PropagationContext ctx : pctxs ) {
             ctx.cleanReaderContext();
         }
@@ -610,7 +633,7 @@ public class ProtobufInputMarshaller {
         }
     }
 
-    private static void readActivations( ProtobufMarshallerReaderContext context,
+    static void readActivations( ProtobufMarshallerReaderContext context,
                                          List<ProtobufMessages.Activation> _dormant,
                                          List<ProtobufMessages.Activation> _rneas) {
 
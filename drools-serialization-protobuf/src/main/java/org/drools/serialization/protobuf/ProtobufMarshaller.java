@@ -77,6 +77,8 @@ public class ProtobufMarshaller
     protected MarshallingConfiguration            marshallingConfig;
     protected ObjectMarshallingStrategyStore      strategyStore;
 
+    protected int                                 streamingChunkSize;
+
     public ProtobufMarshaller(KieBase kbase,
                               MarshallingConfiguration marshallingConfig) {
         this.kbase = kbase;
@@ -121,10 +123,27 @@ public class ProtobufMarshaller
                                                                      this.marshallingConfig.isMarshallWorkItems(),
                                                                      ksession.getEnvironment() );
         context.setClockTime( clockTime );
-        ProtobufOutputMarshaller.writeSession( context );
+        if ( streamingChunkSize > 0 ) {
+            StreamingProtobufOutputMarshaller.writeSession( context, streamingChunkSize );
+        } else {
+            ProtobufOutputMarshaller.writeSession( context );
+        }
         context.close();
     }
 
+    public int getStreamingChunkSize() {
+        return streamingChunkSize;
+    }
+
+    /**
+     * When positive, sessions are marshalled as a stream of records holding at most the given number
+     * of facts, matches or timers each, bounding the memory required to marshall and unmarshall them.
+     * Unmarshalling detects the format of the stream, so both formats can always be read back.
+     */
+    public void setStreamingChunkSize( int streamingChunkSize ) {
+        this.streamingChunkSize = streamingChunkSize;
+    }
+
     public MarshallingConfiguration getMarshallingConfiguration() {
         return marshallingConfig;
     }
@@ -103,7 +103,7 @@ import java.util.Map;
  */
 public class ProtobufOutputMarshaller {
 
-    private static ProcessMarshaller processMarshaller = createProcessMarshaller();
+    static ProcessMarshaller processMarshaller = createProcessMarshaller();
 
     private static ProcessMarshaller createProcessMarshaller() {
         try {
@@ -151,7 +151,7 @@ public class ProtobufOutputMarshaller {
                 _ruleData.setInitialFact( _ifh );
             }
 
-            writeAgenda( context, _ruleData );
+            writeAgenda( context, _ruleData, true );
 
             writeNodeMemories( context, _ruleData );
 
@@ -216,7 +216,7 @@ public class ProtobufOutputMarshaller {
         }
     }
 
-    private static void writeObjectTypeConfiguration( ObjectTypeConfigurationRegistry otcr,
+    static void writeObjectTypeConfiguration( ObjectTypeConfigurationRegistry otcr,
     		                                          ProtobufMessages.EntryPoint.Builder _epb) {
         
         Collection<ObjectTypeConf> values = otcr.values();
@@ -234,7 +234,7 @@ public class ProtobufOutputMarshaller {
     	}
 	}
 
-	private static void evaluateRuleActivations(StatefulKnowledgeSessionImpl wm) {
+	static void evaluateRuleActivations(StatefulKnowledgeSessionImpl wm) {
         // need to evaluate all lazy partially evaluated activations before serializing
         boolean dirty = true;
         while ( dirty) {
@@ -256,8 +256,9 @@ public class ProtobufOutputMarshaller {
         }
     }
 
-    private static void writeAgenda( MarshallerWriteContext context,
-                                     ProtobufMessages.RuleData.Builder _ksb) throws IOException {
+    static void writeAgenda( MarshallerWriteContext context,
+                             ProtobufMessages.RuleData.Builder _ksb,
+                             boolean withDormantActivations) throws IOException {
         InternalWorkingMemory wm = context.getWorkingMemory();
         InternalAgenda agenda = wm.getAgenda();
 
@@ -298,20 +299,13 @@ public class ProtobufOutputMarshaller {
         }
         _ab.setFocusStack( _fsb.build() );
 
-        // serialize all dormant activations
-        org.drools.core.util.Iterator it = ActivationIterator.iterator( wm );
-        List<InternalMatch> dormant = new ArrayList<>();
-        for (InternalMatch item = (InternalMatch) it.next(); item != null; item = (InternalMatch) it.next() ) {
-            if ( !item.isQueued() ) {
-                dormant.add( item );
+        if ( withDormantActivations ) {
+            // serialize all dormant activations
+            for ( InternalMatch internalMatch : getDormantActivations( wm ) ) {
+                _ab.addMatch( writeActivation(context, internalMatch, true));
             }
         }
 
-        Collections.sort( dormant, ActivationsSorter.INSTANCE );
-        for ( InternalMatch internalMatch : dormant ) {
-            _ab.addMatch( writeActivation(context, internalMatch, true));
-        }
-
         // serialize all network evaluator activations
         for ( RuleAgendaItem activation : agenda.getAgendaGroupsManager().getActivations() ) {
             // serialize it
@@ -321,8 +315,21 @@ public class ProtobufOutputMarshaller {
         _ksb.setAgenda( _ab.build() );
     }
 
-    private static void writeNodeMemories( MarshallerWriteContext context,
-                                           ProtobufMessages.RuleData.Builder _ksb) throws IOException {
+    static List<InternalMatch> getDormantActivations( InternalWorkingMemory wm ) {
+        org.drools.core.util.Iterator it = ActivationIterator.iterator( wm );
+        List<InternalMatch> dormant = new ArrayList<>();
+        for (InternalMatch item = (InternalMatch) it.next(); item != null; item = (InternalMatch) it.next() ) {
+            if ( !item.isQueued() ) {
+                dormant.add( item );
+            }
+        }
+
+        Collections.sort( dormant, ActivationsSorter.INSTANCE );
+        return dormant;
+    }
+
+    static void writeNodeMemories( MarshallerWriteContext context,
+                                   ProtobufMessages.RuleData.Builder _ksb) throws IOException {
         InternalWorkingMemory wm = context.getWorkingMemory();
         NodeMemories memories = wm.getNodeMemories();
         // only some of the node memories require special serialization handling
@@ -550,9 +557,9 @@ public class ProtobufOutputMarshaller {
         }
     }
 
-    private static ProtobufMessages.FactHandle writeFactHandle( MarshallerWriteContext context,
-                                                                ObjectMarshallingStrategyStore objectMarshallingStrategyStore,
-                                                                InternalFactHandle handle) throws IOException {
+    static ProtobufMessages.FactHandle writeFactHandle( MarshallerWriteContext context,
+                                                        ObjectMarshallingStrategyStore objectMarshallingStrategyStore,
+                                                        InternalFactHandle handle) throws IOException {
         ProtobufMessages.FactHandle.Builder _handle = ProtobufMessages.FactHandle.newBuilder();
 
         _handle.setType( getHandleType( handle ) );
@@ -745,27 +752,9 @@ public class ProtobufOutputMarshaller {
     private static ProtobufMessages.Timers writeTimers(Collection<TimerJobInstance> timers,
                                                        MarshallerWriteContext outCtx) {
         if ( !timers.isEmpty() ) {
-            List<TimerJobInstance> sortedTimers = new ArrayList<>( timers );
-            Collections.sort( sortedTimers,
-                              new Comparator<TimerJobInstance>() {
-                                  public int compare(TimerJobInstance o1,
-                                                     TimerJobInstance o2) {
-                                      return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
-                                  }
-                              } );
-
             ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
-            for ( TimerJobInstance timer : sortedTimers ) {
-                JobContext jctx = timer.getJobContext();
-                if ( jctx instanceof SelfRemovalJobContext ) {
-                    jctx = ((SelfRemovalJobContext) jctx).getJobContext();
-                }
-                if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
-                    !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {                    
-                    continue;
-                }
-                TimersOutputMarshaller writer = ( TimersOutputMarshaller ) outCtx.getWriterForClass( jctx.getClass() );
-                Timer _timer = writer.serialize( jctx, outCtx );
+            for ( TimerJobInstance timer : sortTimers( timers ) ) {
+                Timer _timer = writeTimer( timer, outCtx );
                 if ( _timer != null ) {
                     _timers.addTimer( _timer );
                 }
@@ -775,6 +764,32 @@ public class ProtobufOutputMarshaller {
         return null;
     }
 
+    static List<TimerJobInstance> sortTimers(Collection<TimerJobInstance> timers) {
+        List<TimerJobInstance> sortedTimers = new ArrayList<>( timers );
+        Collections.sort( sortedTimers,
+                          new Comparator<TimerJobInstance>() {
+                              public int compare(TimerJobInstance o1,
+                                                 TimerJobInstance o2) {
+                                  return (int) (o1.getJobHandle().getId() - o2.getJobHandle().getId());
+                              }
+                          } );
+        return sortedTimers;
+    }
+
+    static Timer writeTimer(TimerJobInstance timer,
+                            MarshallerWriteContext outCtx) {
+        JobContext jctx = timer.getJobContext();
+        if ( jctx instanceof SelfRemovalJobContext ) {
+            jctx = ((SelfRemovalJobContext) jctx).getJobContext();
+        }
+        if (jctx instanceof ObjectTypeNode.ExpireJobContext &&
+            !((ObjectTypeNode.ExpireJobContext) jctx).getExpireAction().getFactHandle().isValid()) {
+            return null;
+        }
+        TimersOutputMarshaller writer = ( TimersOutputMarshaller ) outCtx.getWriterForClass( jctx.getClass() );
+        return writer.serialize( jctx, outCtx );
+    }
+
     public static ProtobufMessages.Trigger writeTrigger(Trigger trigger, MarshallerWriteContext outCtx) {
         if ( trigger instanceof CronTrigger ) {
             CronTrigger cronTrigger = (CronTrigger) trigger;
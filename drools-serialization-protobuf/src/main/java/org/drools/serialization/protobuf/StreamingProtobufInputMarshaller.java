@@ -0,0 +1,205 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ExtensionRegistry;
+import org.drools.base.rule.accessor.GlobalResolver;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.common.InternalAgenda;
+import org.drools.core.common.PropagationContext;
+import org.drools.core.time.impl.PseudoClockScheduler;
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
+import org.drools.serialization.protobuf.marshalling.KieSessionInitializer;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.ACTION_QUEUE_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.END_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.FACT_HANDLES_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.MATCHES_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.PROCESS_DATA_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.SESSION_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.TIMERS_RECORD;
+import static org.drools.serialization.protobuf.StreamingProtobufOutputMarshaller.TRUTH_MAINTENANCE_RECORD;
+
+/**
+ * Reads a session written by {@link StreamingProtobufOutputMarshaller} one record at a time,
+ * so that only a single chunk of the session is held in memory while it is being restored.
+ * The stream marker is expected to be already consumed by {@link ProtobufInputMarshaller}.
+ */
+public class StreamingProtobufInputMarshaller {
+
+    private StreamingProtobufInputMarshaller() { }
+
+    public static void readSession( StatefulKnowledgeSessionImpl session,
+                                    ProtobufMarshallerReaderContext context ) throws IOException, ClassNotFoundException {
+        RecordReader reader = new RecordReader( context );
+        ProtobufMessages.KnowledgeSession _session = reader.readSessionRecord();
+        InternalAgenda agenda = ProtobufInputMarshaller.resetSession( session, context, _session );
+        readSession( _session, session, agenda, reader );
+    }
+
+    public static ReadSessionResult readSession( ProtobufMarshallerReaderContext context,
+                                                 int id,
+                                                 Environment environment,
+                                                 SessionConfiguration config,
+                                                 KieSessionInitializer initializer ) throws IOException, ClassNotFoundException {
+        RecordReader reader = new RecordReader( context );
+        ProtobufMessages.KnowledgeSession _session = reader.readSessionRecord();
+
+        StatefulKnowledgeSessionImpl session = ProtobufInputMarshaller.createAndInitializeSession( context,
+                                                                                                   id,
+                                                                                                   environment,
+                                                                                                   config,
+                                                                                                   _session );
+        // Initialize the session before unmarshalling data
+        if ( initializer != null ) {
+            initializer.init( session );
+        }
+
+        // the returned message only contains the session record, facts and timers are not retained
+        return new ReadSessionResult( readSession( _session, session, session.getAgenda(), reader ), _session );
+    }
+
+    private static StatefulKnowledgeSessionImpl readSession( ProtobufMessages.KnowledgeSession _session,
+                                                             StatefulKnowledgeSessionImpl session,
+                                                             InternalAgenda agenda,
+                                                             RecordReader reader ) throws IOException, ClassNotFoundException {
+        ProtobufMarshallerReaderContext context = reader.context;
+
+        GlobalResolver globalResolver = (GlobalResolver) context.env.get( EnvironmentName.GLOBALS );
+        if ( globalResolver != null ) {
+            session.setGlobalResolver( globalResolver );
+        }
+
+        if ( session.getTimerService() instanceof PseudoClockScheduler ) {
+            PseudoClockScheduler clock = (PseudoClockScheduler) session.getTimerService();
+            clock.advanceTime( _session.getTime(),
+                               TimeUnit.MILLISECONDS );
+        }
+
+        context.setWorkingMemory( session );
+
+        // dormant matches must be known by the activations filter before any fact is propagated
+        while ( reader.type == MATCHES_RECORD ) {
+            ProtobufMessages.Agenda _agenda = ProtobufMessages.Agenda.parseFrom( reader.readPayload(), reader.registry );
+            ProtobufInputMarshaller.readActivations( context, _agenda.getMatchList(), Collections.emptyList() );
+            reader.next();
+        }
+
+        ProtobufInputMarshaller.readNodeMemories( context, _session.getRuleData() );
+
+        List<PropagationContext> pctxs = new ArrayList<>();
+
+        if ( _session.getRuleData().hasInitialFact() ) {
+            session.setInitialFactHandle( session.initInitialFact(context) );
+            context.getHandles().put( session.getInitialFactHandle().getId(), session.getInitialFactHandle() );
+        }
+
+        // the entry point records share their strategy contexts, starting from empty ones as they were written
+        context.getStrategyContexts().clear();
+        while ( reader.type == FACT_HANDLES_RECORD || reader.type == TRUTH_MAINTENANCE_RECORD ) {
+            ProtobufMessages.EntryPoint _ep = ProtobufMessages.EntryPoint.parseFrom( reader.readSharedPayload(), reader.registry );
+            WorkingMemoryEntryPoint wmep = context.getWorkingMemory().getEntryPoint( _ep.getEntryPointId() );
+            if ( reader.type == FACT_HANDLES_RECORD ) {
+                ProtobufInputMarshaller.readFactHandles( context, _ep, wmep.getObjectStore(), pctxs );
+            } else {
+                // all the fact handles of this entry point have been read
+                context.getWorkingMemory().getFactHandleFactory().doRecycleIds( context.getHandles().keySet() );
+                ProtobufInputMarshaller.readTruthMaintenanceSystem( session, context, wmep, _ep, pctxs );
+            }
+            reader.next();
+        }
+
+        context.getFilter().evaluateRNEAs( context.getWorkingMemory() );
+        ProtobufInputMarshaller.cleanReaderContexts( pctxs );
+        context.getWorkingMemory().getFactHandleFactory().stopRecycleIds();
+
+        if ( reader.type == ACTION_QUEUE_RECORD ) {
+            ProtobufInputMarshaller.readActionQueue( context, ProtobufMessages.RuleData.parseFrom( reader.readPayload(), reader.registry ) );
+            reader.next();
+        }
+
+        if ( reader.type == PROCESS_DATA_RECORD ) {
+            ProtobufInputMarshaller.readProcessData( context, ProtobufMessages.ProcessData.parseFrom( reader.readPayload(), reader.registry ) );
+            reader.next();
+        }
+
+        while ( reader.type == TIMERS_RECORD ) {
+            ProtobufMessages.Timers _timers = ProtobufMessages.Timers.parseFrom( reader.readPayload(), reader.registry );
+            for ( ProtobufMessages.Timers.Timer _timer : _timers.getTimerList() ) {
+                ProtobufInputMarshaller.readTimer( context, _timer );
+            }
+            reader.next();
+        }
+
+        if ( reader.type != END_RECORD ) {
+            throw new IOException( "Unexpected record of type " + reader.type + " in streamed session" );
+        }
+
+        ProtobufInputMarshaller.completeReadSession( context, agenda );
+
+        return session;
+    }
+
+    private static class RecordReader {
+        private final ProtobufMarshallerReaderContext context;
+        private final ExtensionRegistry registry;
+
+        private int type;
+
+        private RecordReader( ProtobufMarshallerReaderContext context ) {
+            this.context = context;
+            this.registry = ProtobufInputMarshaller.buildRegistry( context );
+        }
+
+        private void next() throws IOException {
+            type = context.read();
+            if ( type < 0 ) {
+                throw new IOException( "Unexpected end of stream while reading a streamed session" );
+            }
+        }
+
+        private ByteString readPayload() throws IOException, ClassNotFoundException {
+            return PersisterHelper.readRecordWithHeader( context, registry ).getPayload();
+        }
+
+        private ByteString readSharedPayload() throws IOException, ClassNotFoundException {
+            return PersisterHelper.readRecordWithHeader( context, registry, true ).getPayload();
+        }
+
+        private ProtobufMessages.KnowledgeSession readSessionRecord() throws IOException, ClassNotFoundException {
+            next();
+            if ( type != SESSION_RECORD ) {
+                throw new IOException( "Streamed session does not start with a session record" );
+            }
+            ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.parseFrom( readPayload(), registry );
+            next();
+            return _session;
+        }
+    }
+}
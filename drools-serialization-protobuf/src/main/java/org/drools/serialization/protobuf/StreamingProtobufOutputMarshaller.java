@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+import org.drools.core.WorkingMemoryEntryPoint;
+import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.marshalling.MarshallerWriteContext;
+import org.drools.core.rule.consequence.InternalMatch;
+import org.drools.core.time.impl.PseudoClockScheduler;
+import org.drools.core.time.impl.TimerJobInstance;
+import org.drools.kiesession.entrypoints.NamedEntryPoint;
+import org.drools.kiesession.session.StatefulKnowledgeSessionImpl;
+import org.kie.api.marshalling.ObjectMarshallingStrategyStore;
+import org.kie.api.runtime.rule.EntryPoint;
+
+/**
+ * An output marshaller writing a session as a sequence of independently encoded records
+ * instead of a single protobuf message. Facts, dormant matches and timers are written in
+ * chunks of a bounded size, so the memory needed to marshall a session no longer grows with
+ * the size of its working memory.
+ *
+ * The stream starts with {@link #STREAM_MARKER}, which can never be the first byte of a
+ * session written by {@link ProtobufOutputMarshaller}, followed by the records in this order:
+ * the session itself, dormant matches, for each entry point its fact handles and its truth
+ * maintenance system, the action queue, the process data, the timers and finally an end record.
+ * Every record is a type byte followed by a length delimited {@link ProtobufMessages.Header}.
+ *
+ * The fact handles and truth maintenance records of all the entry points share the same strategy contexts:
+ * each record only carries the strategy context entries added while marshalling its own objects, and an object
+ * referenced by several chunks is written once, so object identity is preserved across chunks while no record
+ * holds more than its own objects. The other records are marshalled with strategy contexts scoped to the record
+ * containing them.
+ */
+public class StreamingProtobufOutputMarshaller {
+
+    public static final int STREAM_MARKER = 0;
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    static final int SESSION_RECORD = 1;
+    static final int MATCHES_RECORD = 2;
+    static final int FACT_HANDLES_RECORD = 3;
+    static final int TRUTH_MAINTENANCE_RECORD = 4;
+    static final int ACTION_QUEUE_RECORD = 5;
+    static final int PROCESS_DATA_RECORD = 6;
+    static final int TIMERS_RECORD = 7;
+    static final int END_RECORD = 8;
+
+    private StreamingProtobufOutputMarshaller() { }
+
+    public static void writeSession( ProtobufMarshallerWriteContext context ) throws IOException {
+        writeSession( context, DEFAULT_CHUNK_SIZE );
+    }
+
+    public static void writeSession( ProtobufMarshallerWriteContext context, int chunkSize ) throws IOException {
+        if ( chunkSize <= 0 ) {
+            throw new IllegalArgumentException( "The chunk size must be positive: " + chunkSize );
+        }
+
+        StatefulKnowledgeSessionImpl wm = (StatefulKnowledgeSessionImpl) context.getWorkingMemory();
+
+        try {
+            wm.getLock().lock();
+            for (EntryPoint ep : wm.getEntryPoints()) {
+                if (ep instanceof NamedEntryPoint) {
+                    ((NamedEntryPoint)ep).lock();
+                }
+            }
+
+            ProtobufOutputMarshaller.evaluateRuleActivations( wm );
+
+            context.write( STREAM_MARKER );
+
+            writeSessionRecord( context );
+
+            writeMatches( context, chunkSize );
+
+            writeEntryPoints( context, wm, chunkSize );
+
+            ProtobufMessages.RuleData.Builder _actions = ProtobufMessages.RuleData.newBuilder();
+            ProtobufOutputMarshaller.writeActionQueue( context, _actions );
+            if ( _actions.hasActionQueue() ) {
+                PersisterHelper.writeRecordWithHeader( context, ACTION_QUEUE_RECORD, _actions.build(), false );
+            }
+
+            writeProcessData( context );
+
+            writeTimers( context, chunkSize );
+
+            context.write( END_RECORD );
+        } finally {
+            for (EntryPoint ep : wm.getEntryPoints()) {
+                if (ep instanceof NamedEntryPoint) {
+                    ((NamedEntryPoint)ep).unlock();
+                }
+            }
+            wm.getLock().unlock();
+        }
+    }
+
+    private static void writeSessionRecord( MarshallerWriteContext context ) throws IOException {
+        InternalWorkingMemory wm = context.getWorkingMemory();
+
+        ProtobufMessages.RuleData.Builder _ruleData = ProtobufMessages.RuleData.newBuilder();
+
+        long time = 0;
+        if ( wm.getTimerService() instanceof PseudoClockScheduler ) {
+            time = context.getClockTime();
+        }
+        _ruleData.setLastId( wm.getFactHandleFactory().getId() );
+        _ruleData.setLastRecency( wm.getFactHandleFactory().getRecency() );
+
+        InternalFactHandle handle = wm.getInitialFactHandle();
+        if ( handle != null ) {
+            ProtobufMessages.FactHandle _ifh = ProtobufMessages.FactHandle.newBuilder()
+                    .setType( ProtobufMessages.FactHandle.HandleType.INITIAL_FACT )
+                    .setId( handle.getId() )
+                    .setRecency( handle.getRecency() )
+                    .build();
+            _ruleData.setInitialFact( _ifh );
+        }
+
+        // dormant matches are streamed separately, see writeMatches
+        ProtobufOutputMarshaller.writeAgenda( context, _ruleData, false );
+
+        // node memories are needed before propagating any fact, so they travel with the session
+        ProtobufOutputMarshaller.writeNodeMemories( context, _ruleData );
+
+        ProtobufMessages.KnowledgeSession _session = ProtobufMessages.KnowledgeSession.newBuilder()
+                .setMultithread( false )
+                .setTime( time )
+                .setRuleData( _ruleData.build() )
+                .build();
+
+        PersisterHelper.writeRecordWithHeader( context, SESSION_RECORD, _session, true );
+    }
+
+    private static void writeMatches( MarshallerWriteContext context, int chunkSize ) throws IOException {
+        ProtobufMessages.Agenda.Builder _agenda = ProtobufMessages.Agenda.newBuilder();
+        for ( InternalMatch internalMatch : ProtobufOutputMarshaller.getDormantActivations( context.getWorkingMemory() ) ) {
+            _agenda.addMatch( ProtobufOutputMarshaller.writeActivation( context, internalMatch, true ) );
+            if ( _agenda.getMatchCount() == chunkSize ) {
+                PersisterHelper.writeRecordWithHeader( context, MATCHES_RECORD, _agenda.build(), false );
+                _agenda.clear();
+            }
+        }
+        if ( _agenda.getMatchCount() > 0 ) {
+            PersisterHelper.writeRecordWithHeader( context, MATCHES_RECORD, _agenda.build(), false );
+        }
+    }
+
+    private static void writeEntryPoints( MarshallerWriteContext context, StatefulKnowledgeSessionImpl wm, int chunkSize ) throws IOException {
+        try {
+            for ( EntryPoint wmep : wm.getEntryPoints() ) {
+                writeEntryPoint( context, wmep, chunkSize );
+            }
+        } finally {
+            // the contexts shared by the entry point records are not needed by the following ones
+            context.getStrategyContext().replaceAll( (strategy, ctx) -> strategy.createContext() );
+        }
+    }
+
+    private static void writeEntryPoint( MarshallerWriteContext context, EntryPoint wmep, int chunkSize ) throws IOException {
+        ObjectMarshallingStrategyStore objectMarshallingStrategyStore = context.getObjectMarshallingStrategyStore();
+
+        ProtobufMessages.EntryPoint.Builder _epb = ProtobufMessages.EntryPoint.newBuilder();
+        _epb.setEntryPointId( wmep.getEntryPointId() );
+        for ( InternalFactHandle handle : ProtobufOutputMarshaller.orderFacts( ((NamedEntryPoint) wmep).getObjectStore() ) ) {
+            _epb.addHandle( ProtobufOutputMarshaller.writeFactHandle( context, objectMarshallingStrategyStore, handle ) );
+            if ( _epb.getHandleCount() == chunkSize ) {
+                PersisterHelper.writeRecordSharingStrategies( context, FACT_HANDLES_RECORD, _epb.build() );
+                _epb.clearHandle();
+            }
+        }
+        if ( _epb.getHandleCount() > 0 ) {
+            PersisterHelper.writeRecordSharingStrategies( context, FACT_HANDLES_RECORD, _epb.build() );
+        }
+
+        // the truth maintenance record is always written as it also closes the entry point
+        ProtobufMessages.EntryPoint.Builder _tms = ProtobufMessages.EntryPoint.newBuilder();
+        _tms.setEntryPointId( wmep.getEntryPointId() );
+        ProtobufOutputMarshaller.writeObjectTypeConfiguration( ((WorkingMemoryEntryPoint) wmep).getObjectTypeConfigurationRegistry(), _tms );
+        ProtobufOutputMarshaller.writeTruthMaintenanceSystem( context, wmep, _tms );
+        PersisterHelper.writeRecordSharingStrategies( context, TRUTH_MAINTENANCE_RECORD, _tms.build() );
+    }
+
+    private static void writeProcessData( MarshallerWriteContext context ) throws IOException {
+        if ( ProtobufOutputMarshaller.processMarshaller == null ) {
+            return;
+        }
+        ProtobufMessages.ProcessData.Builder _pdata = ProtobufMessages.ProcessData.newBuilder();
+        if ( context.isMarshalProcessInstances() ) {
+            context.setParameterObject( _pdata );
+            ProtobufOutputMarshaller.processMarshaller.writeProcessInstances( context );
+        }
+
+        if ( context.isMarshalWorkItems() ) {
+            context.setParameterObject( _pdata );
+            ProtobufOutputMarshaller.processMarshaller.writeWorkItems( context );
+        }
+
+        // this now just assigns the writer, it will not write out any timer information
+        context.setParameterObject( _pdata );
+        ProtobufOutputMarshaller.processMarshaller.writeProcessTimers( context );
+
+        PersisterHelper.writeRecordWithHeader( context, PROCESS_DATA_RECORD, _pdata.build(), false );
+    }
+
+    private static void writeTimers( MarshallerWriteContext context, int chunkSize ) throws IOException {
+        InternalWorkingMemory wm = context.getWorkingMemory();
+        Collection<TimerJobInstance> timers = wm.getTimerJobInstances( wm.getIdentifier() );
+        if ( timers.isEmpty() ) {
+            return;
+        }
+
+        ProtobufMessages.Timers.Builder _timers = ProtobufMessages.Timers.newBuilder();
+        List<TimerJobInstance> sortedTimers = ProtobufOutputMarshaller.sortTimers( timers );
+        for ( TimerJobInstance timer : sortedTimers ) {
+            ProtobufMessages.Timers.Timer _timer = ProtobufOutputMarshaller.writeTimer( timer, context );
+            if ( _timer != null ) {
+                _timers.addTimer( _timer );
+                if ( _timers.getTimerCount() == chunkSize ) {
+                    PersisterHelper.writeRecordWithHeader( context, TIMERS_RECORD, _timers.build(), false );
+                    _timers.clear();
+                }
+            }
+        }
+        if ( _timers.getTimerCount() > 0 ) {
+            PersisterHelper.writeRecordWithHeader( context, TIMERS_RECORD, _timers.build(), false );
+        }
+    }
+}
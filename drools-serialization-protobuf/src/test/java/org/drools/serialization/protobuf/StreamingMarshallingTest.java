@@ -0,0 +1,310 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.serialization.protobuf;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.impl.EnvironmentFactory;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.marshalling.ClassObjectMarshallingStrategyAcceptor;
+import org.drools.core.marshalling.IncrementalStrategyContext;
+import org.drools.core.marshalling.SerializablePlaceholderResolverStrategy;
+import org.drools.mvel.compiler.Address;
+import org.drools.mvel.compiler.Person;
+import org.drools.serialization.protobuf.marshalling.JavaSerializableResolverStrategy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.conf.EventProcessingOption;
+import org.kie.api.io.ResourceType;
+import org.kie.api.marshalling.ObjectMarshallingStrategy;
+import org.kie.api.runtime.Environment;
+import org.kie.api.runtime.EnvironmentName;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.conf.ClockTypeOption;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.marshalling.MarshallerFactory;
+import org.kie.internal.utils.KieHelper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(Parameterized.class)
+public class StreamingMarshallingTest {
+
+    private static final int CHUNK_SIZE = 4;
+
+    private final ObjectMarshallingStrategy strategy;
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Object[] params() {
+        return new Object[] { new JavaSerializableResolverStrategy( ClassObjectMarshallingStrategyAcceptor.DEFAULT ),
+                              new SerializablePlaceholderResolverStrategy( ClassObjectMarshallingStrategyAcceptor.DEFAULT ) };
+    }
+
+    public StreamingMarshallingTest(ObjectMarshallingStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Test
+    public void testFactsAndMatchesSpanningSeveralChunks() throws Exception {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "rule R1 when\n" +
+                "    $p : Person( age > 10 )\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession(null, newEnvironment());
+        for (int i = 0; i < 25; i++) {
+            ksession.insert(new Person("p" + i, i));
+        }
+        assertThat(ksession.fireAllRules(5)).isEqualTo(5);
+
+        KieSession restored = marshallAndUnmarshall(kbase, ksession, CHUNK_SIZE, null);
+        try {
+            assertThat(restored.getFactCount()).isEqualTo(25);
+            assertThat(restored.fireAllRules()).isEqualTo(9);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testLogicalInsertionsAndEntryPoints() throws Exception {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "rule R1 when\n" +
+                "    $p : Person( age > 10 ) from entry-point \"people\"\n" +
+                "then\n" +
+                "    insertLogical( $p.getName() );\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    String( this == \"p12\" )\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession(null, newEnvironment());
+        for (int i = 0; i < 15; i++) {
+            ksession.getEntryPoint("people").insert(new Person("p" + i, i));
+        }
+        assertThat(ksession.fireAllRules()).isEqualTo(5);
+
+        KieSession restored = marshallAndUnmarshall(kbase, ksession, CHUNK_SIZE, null);
+        try {
+            assertThat(restored.getEntryPoint("people").getFactCount()).isEqualTo(15);
+            assertThat(restored.getFactCount()).isEqualTo(4);
+            assertThat(restored.fireAllRules()).isEqualTo(0);
+
+            restored.getEntryPoint("people").insert(new Person("p12", 12));
+            assertThat(restored.fireAllRules()).isEqualTo(1);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testSharedObjectAcrossChunks() throws Exception {
+        // only the placeholder strategy keeps a table of objects preserving their identity
+        assumeTrue(strategy instanceof SerializablePlaceholderResolverStrategy);
+
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "rule R1 when\n" +
+                "    Person( age > 10 )\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession(null, newEnvironment());
+        Address address = new Address("street", "suburb", "12345");
+        Person p1 = new Person("p1", 1);
+        p1.setAddress(address);
+        Person p2 = new Person("p2", 2);
+        p2.setAddress(address);
+        ksession.insert(p1);
+        ksession.insert(p2);
+
+        // a chunk of a single fact puts the two persons in different records
+        KieSession restored = marshallAndUnmarshall(kbase, ksession, 1, null);
+        try {
+            assertThat(restored.getObjects()).hasSize(2);
+            Person[] restoredPersons = restored.getObjects().toArray(new Person[0]);
+            assertThat(restoredPersons[0].getAddress()).isNotSameAs(address);
+            assertThat(restoredPersons[0].getAddress()).isSameAs(restoredPersons[1].getAddress());
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testStrategyContextIncrements() throws Exception {
+        assumeTrue(strategy instanceof SerializablePlaceholderResolverStrategy);
+
+        Address address = new Address("street", "suburb", "12345");
+        Person p1 = new Person("p1", 1);
+        p1.setAddress(address);
+        Person p2 = new Person("p2", 2);
+        p2.setAddress(address);
+
+        IncrementalStrategyContext writeContext = (IncrementalStrategyContext) strategy.createContext();
+        byte[] index1 = strategy.marshal(writeContext, null, p1);
+        byte[] increment1 = writeContext.writeIncrement();
+        byte[] index2 = strategy.marshal(writeContext, null, p2);
+        byte[] increment2 = writeContext.writeIncrement();
+
+        // each increment only carries its own objects, the address is written once by the first one
+        assertThat(writeContext.writeIncrement()).isNull();
+        assertThat(increment2.length).isLessThan(increment1.length);
+
+        IncrementalStrategyContext readContext = (IncrementalStrategyContext) strategy.createContext();
+        readContext.readIncrement(increment1, getClass().getClassLoader());
+        Person restored1 = (Person) strategy.unmarshal(readContext, null, index1, getClass().getClassLoader());
+        readContext.readIncrement(increment2, getClass().getClassLoader());
+        Person restored2 = (Person) strategy.unmarshal(readContext, null, index2, getClass().getClassLoader());
+
+        assertThat(restored1.getName()).isEqualTo("p1");
+        assertThat(restored2.getName()).isEqualTo("p2");
+        assertThat(restored1.getAddress()).isNotSameAs(address);
+        assertThat(restored1.getAddress()).isSameAs(restored2.getAddress());
+    }
+
+    @Test
+    public void testTimersSpanningSeveralChunks() throws Exception {
+        String str =
+                "rule R1\n" +
+                "    timer ( int: 5s )\n" +
+                "when\n" +
+                "    String()\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build(EventProcessingOption.STREAM);
+        KieSessionConfiguration sessionConfig = RuleBaseFactory.newKnowledgeSessionConfiguration();
+        sessionConfig.setOption(ClockTypeOption.PSEUDO);
+
+        KieSession ksession = kbase.newKieSession(sessionConfig, newEnvironment());
+        for (int i = 0; i < 10; i++) {
+            ksession.insert("s" + i);
+        }
+        assertThat(ksession.fireAllRules()).isEqualTo(0);
+        ksession.<SessionPseudoClock>getSessionClock().advanceTime(2, TimeUnit.SECONDS);
+
+        KieSession restored = marshallAndUnmarshall(kbase, ksession, CHUNK_SIZE, sessionConfig);
+        try {
+            restored.<SessionPseudoClock>getSessionClock().advanceTime(2, TimeUnit.SECONDS);
+            assertThat(restored.fireAllRules()).isEqualTo(0);
+            restored.<SessionPseudoClock>getSessionClock().advanceTime(2, TimeUnit.SECONDS);
+            assertThat(restored.fireAllRules()).isEqualTo(10);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testNonStreamedSessionIsStillReadable() throws Exception {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "rule R1 when\n" +
+                "    Person( age > 10 )\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession(null, newEnvironment());
+        for (int i = 0; i < 15; i++) {
+            ksession.insert(new Person("p" + i, i));
+        }
+
+        ProtobufMarshaller marshaller = newMarshaller(kbase, 0);
+        byte[] serialized = marshall(marshaller, ksession);
+        ksession.dispose();
+
+        marshaller.setStreamingChunkSize(CHUNK_SIZE);
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(serialized), null, newEnvironment());
+        try {
+            assertThat(restored.getFactCount()).isEqualTo(15);
+            assertThat(restored.fireAllRules()).isEqualTo(4);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    @Test
+    public void testUnmarshallIntoExistingSession() throws Exception {
+        String str =
+                "import " + Person.class.getCanonicalName() + "\n" +
+                "rule R1 when\n" +
+                "    Person( age > 10 )\n" +
+                "then\n" +
+                "end\n";
+
+        KieBase kbase = new KieHelper().addContent(str, ResourceType.DRL).build();
+        KieSession ksession = kbase.newKieSession(null, newEnvironment());
+        for (int i = 0; i < 15; i++) {
+            ksession.insert(new Person("p" + i, i));
+        }
+
+        ProtobufMarshaller marshaller = newMarshaller(kbase, CHUNK_SIZE);
+        byte[] serialized = marshall(marshaller, ksession);
+        ksession.dispose();
+
+        KieSession restored = kbase.newKieSession(null, newEnvironment());
+        try {
+            restored.insert(new Person("discarded", 99));
+            marshaller.unmarshall(new ByteArrayInputStream(serialized), restored);
+            assertThat(restored.getFactCount()).isEqualTo(15);
+            assertThat(restored.fireAllRules()).isEqualTo(4);
+        } finally {
+            restored.dispose();
+        }
+    }
+
+    private Environment newEnvironment() {
+        Environment env = EnvironmentFactory.newEnvironment();
+        env.set(EnvironmentName.OBJECT_MARSHALLING_STRATEGIES, new ObjectMarshallingStrategy[] { strategy });
+        return env;
+    }
+
+    private ProtobufMarshaller newMarshaller(KieBase kbase, int chunkSize) {
+        ProtobufMarshaller marshaller = (ProtobufMarshaller) MarshallerFactory.newMarshaller(kbase, new ObjectMarshallingStrategy[] { strategy });
+        marshaller.setStreamingChunkSize(chunkSize);
+        return marshaller;
+    }
+
+    private static byte[] marshall(ProtobufMarshaller marshaller, KieSession ksession) throws Exception {
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+            marshaller.marshall(bos, ksession);
+            return bos.toByteArray();
+        }
+    }
+
+    private KieSession marshallAndUnmarshall(KieBase kbase, KieSession ksession, int chunkSize, KieSessionConfiguration config) throws Exception {
+        ProtobufMarshaller marshaller = newMarshaller(kbase, chunkSize);
+        byte[] serialized = marshall(marshaller, ksession);
+        ksession.dispose();
+        return marshaller.unmarshall(new ByteArrayInputStream(serialized), config, newEnvironment());
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.alpha;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.conf.AlphaRangeIndexThresholdOption;
+import org.kie.internal.conf.AlphaThresholdOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Insertions through an alpha network made of many sibling constraints on the same property, with
+ * and without the hashing of equality constraints and the range indexing of comparison constraints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlphaNetworkBenchmark {
+
+    private static final int FACTS = 10000;
+
+    public enum ConstraintType {
+        EQUALITY("=="), RANGE(">");
+
+        private final String operator;
+
+        ConstraintType(String operator) {
+            this.operator = operator;
+        }
+    }
+
+    @Param({"8", "64"})
+    private int ruleCount;
+
+    @Param({"EQUALITY", "RANGE"})
+    private ConstraintType constraintType;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    @Param({"EXECUTABLE_MODEL", "MVEL"})
+    private BuildType buildType;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+
+    private Person[] persons;
+    private FactHandle[] handles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n");
+        for (int i = 0; i < ruleCount; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+               .append("    Person( age ").append(constraintType.operator).append(" ").append(i).append(" )\n")
+               .append("then\n")
+               .append("end\n");
+        }
+        // sinks are indexed as soon as a second sibling is attached, a threshold of 1 is not supported
+        int threshold = indexed ? 2 : Integer.MAX_VALUE;
+        kieBase = KieBaseBuilder.build(drl.toString(), buildType,
+                                       AlphaThresholdOption.get(threshold),
+                                       AlphaRangeIndexThresholdOption.get(threshold));
+
+        persons = new Person[FACTS];
+        for (int i = 0; i < FACTS; i++) {
+            persons[i] = new Person(i, "Person" + i, i % ruleCount);
+        }
+        handles = new FactHandle[FACTS];
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public void insertAndDelete() {
+        for (int i = 0; i < FACTS; i++) {
+            handles[i] = kieSession.insert(persons[i]);
+        }
+        for (FactHandle handle : handles) {
+            kieSession.delete(handle);
+        }
+    }
+}
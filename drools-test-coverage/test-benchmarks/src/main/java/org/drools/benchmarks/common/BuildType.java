@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import org.drools.compiler.kie.builder.impl.DrlProject;
+import org.drools.model.codegen.ExecutableModelProject;
+import org.kie.api.builder.KieBuilder;
+
+/**
+ * How the rules of a benchmark are compiled, so that every suite can compare
+ * the executable model against the classic MVEL based compilation.
+ */
+public enum BuildType {
+
+    EXECUTABLE_MODEL(ExecutableModelProject.class),
+    MVEL(DrlProject.class);
+
+    private final Class<? extends KieBuilder.ProjectType> projectType;
+
+    BuildType(Class<? extends KieBuilder.ProjectType> projectType) {
+        this.projectType = projectType;
+    }
+
+    public Class<? extends KieBuilder.ProjectType> getProjectType() {
+        return projectType;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.common;
+
+import org.kie.api.KieBase;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.KieServices;
+import org.kie.api.conf.KieBaseOption;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.utils.KieHelper;
+
+public final class KieBaseBuilder {
+
+    private KieBaseBuilder() {
+        // It is not allowed to create instances of util classes.
+    }
+
+    public static KieBase build(String drl, BuildType buildType, KieBaseOption... options) {
+        KieBaseConfiguration kieBaseConf = KieServices.get().newKieBaseConfiguration();
+        for (KieBaseOption option : options) {
+            kieBaseConf.setOption(option);
+        }
+        return new KieHelper().addContent(drl, ResourceType.DRL).build(buildType.getProjectType(), kieBaseConf);
+    }
+}
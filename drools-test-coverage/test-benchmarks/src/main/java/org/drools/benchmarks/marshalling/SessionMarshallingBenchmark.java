@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+import org.drools.serialization.protobuf.ProtobufMarshaller;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.marshalling.MarshallerFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Snapshot and restore time of a session, scaled by its number of facts, comparing the single message
+ * protobuf format (chunk size 0) with the streaming one. The peak heap used during each iteration
+ * is reported as the secondary result "peakHeapMb".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SessionMarshallingBenchmark {
+
+    private static final int CUSTOMERS = 1000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int factCount;
+
+    @Param({"0", "1000"})
+    private int chunkSize;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+    private ProtobufMarshaller marshaller;
+    private byte[] snapshot;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+
+        public double peakHeapMb;
+
+        @Setup(Level.Iteration)
+        public void resetPeak() {
+            System.gc();
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    pool.resetPeakUsage();
+                }
+            }
+            peakHeapMb = 0;
+        }
+
+        void recordPeak() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    peak += pool.getPeakUsage().getUsed();
+                }
+            }
+            peakHeapMb = Math.max(peakHeapMb, peak / (1024.0 * 1024.0));
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setupKieSession() throws IOException {
+        String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                     "import " + Order.class.getCanonicalName() + ";\n" +
+                     "rule Join when\n" +
+                     "    $p : Person( $id : id, age > 30 )\n" +
+                     "    $o : Order( customerId == $id, amount > 10 )\n" +
+                     "then\n" +
+                     "end\n";
+        kieBase = KieBaseBuilder.build(drl, BuildType.EXECUTABLE_MODEL);
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            kieSession.insert(new Person(i, "Customer" + i, 20 + i % 50));
+        }
+        for (int i = 0; i < factCount; i++) {
+            kieSession.insert(new Order(i, i % CUSTOMERS, i % 50));
+        }
+        kieSession.fireAllRules();
+
+        marshaller = (ProtobufMarshaller) MarshallerFactory.newMarshaller(kieBase);
+        marshaller.setStreamingChunkSize(chunkSize);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        marshaller.marshall(baos, kieSession);
+        snapshot = baos.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public long marshall(HeapCounters counters) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        marshaller.marshall(out, kieSession);
+        counters.recordPeak();
+        return out.count;
+    }
+
+    @Benchmark
+    public long unmarshall(HeapCounters counters) throws IOException, ClassNotFoundException {
+        KieSession restored = marshaller.unmarshall(new ByteArrayInputStream(snapshot));
+        counters.recordPeak();
+        long facts = restored.getFactCount();
+        restored.dispose();
+        return facts;
+    }
+
+    /**
+     * Discards the written bytes, so that only the memory needed by the marshaller is measured.
+     */
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
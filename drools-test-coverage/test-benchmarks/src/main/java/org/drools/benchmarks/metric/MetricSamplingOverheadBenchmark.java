@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.metric;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+import org.drools.metric.util.MetricLogUtils;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of the drools-metric node sampling on a join workload. A sampling rate of 0 builds
+ * the plain nodes and is the baseline, 1 samples every node evaluation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricSamplingOverheadBenchmark {
+
+    private static final int CUSTOMERS = 100;
+    private static final int ORDERS = 10000;
+
+    @Param({"0", "1", "100", "10000"})
+    private int samplingRate;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+
+    private Order[] orders;
+    private FactHandle[] handles;
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        // metric nodes are only created if the sampling is enabled when the KieBase is built
+        MetricLogUtils.getInstance().setSamplingRate(samplingRate);
+
+        String drl = "import " + Person.class.getCanonicalName() + ";\n" +
+                     "import " + Order.class.getCanonicalName() + ";\n" +
+                     "rule Join when\n" +
+                     "    $p : Person( $id : id, age > 30 )\n" +
+                     "    $o : Order( customerId == $id, amount > 10 )\n" +
+                     "then\n" +
+                     "end\n";
+        kieBase = KieBaseBuilder.build(drl, BuildType.EXECUTABLE_MODEL);
+
+        orders = new Order[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            orders[i] = new Order(i, i % CUSTOMERS, i % 50);
+        }
+        handles = new FactHandle[ORDERS];
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession() {
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            kieSession.insert(new Person(i, "Customer" + i, 20 + i % 50));
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @TearDown(Level.Trial)
+    public void disableSampling() {
+        MetricLogUtils.getInstance().setSamplingRate(0);
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        for (int i = 0; i < ORDERS; i++) {
+            handles[i] = kieSession.insert(orders[i]);
+        }
+        int fired = kieSession.fireAllRules();
+        for (FactHandle handle : handles) {
+            kieSession.delete(handle);
+        }
+        return fired + kieSession.fireAllRules();
+    }
+}
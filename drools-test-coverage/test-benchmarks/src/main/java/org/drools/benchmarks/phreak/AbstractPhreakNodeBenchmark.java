@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.benchmarks.common.BuildType;
+import org.drools.benchmarks.common.KieBaseBuilder;
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Base class of the benchmarks exercising a single kind of beta node. The working memory contains
+ * {@link #CUSTOMERS} persons and the benchmarks insert, update and delete orders joined to them,
+ * so that the measured time is dominated by the left and right propagations of the node under test.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class AbstractPhreakNodeBenchmark {
+
+    protected static final int CUSTOMERS = 100;
+
+    @Param({"1000", "10000"})
+    protected int factCount;
+
+    @Param({"EXECUTABLE_MODEL", "MVEL"})
+    protected BuildType buildType;
+
+    protected KieBase kieBase;
+    protected KieSession kieSession;
+
+    private Order[] orders;
+    private FactHandle[] handles;
+
+    protected abstract String getDrl();
+
+    @Setup(Level.Trial)
+    public void setupKieBase() {
+        kieBase = KieBaseBuilder.build(getDrl(), buildType);
+        orders = new Order[factCount];
+        for (int i = 0; i < factCount; i++) {
+            orders[i] = new Order(i, i % CUSTOMERS, i % 50);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupKieSession(BenchmarkParams params) {
+        kieSession = kieBase.newKieSession();
+        for (int i = 0; i < CUSTOMERS; i++) {
+            kieSession.insert(new Person(i, "Customer" + i, 20 + i % 50));
+        }
+        handles = new FactHandle[factCount];
+        if (params.getBenchmark().endsWith("update")) {
+            insertOrders();
+        }
+        kieSession.fireAllRules();
+    }
+
+    @TearDown(Level.Iteration)
+    public void disposeKieSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public int insertAndDelete() {
+        insertOrders();
+        int fired = kieSession.fireAllRules();
+        for (FactHandle handle : handles) {
+            kieSession.delete(handle);
+        }
+        return fired + kieSession.fireAllRules();
+    }
+
+    @Benchmark
+    public int update() {
+        for (int i = 0; i < factCount; i++) {
+            Order order = orders[i];
+            order.setAmount((order.getAmount() + 1) % 50);
+            kieSession.update(handles[i], order);
+        }
+        return kieSession.fireAllRules();
+    }
+
+    private void insertOrders() {
+        for (int i = 0; i < factCount; i++) {
+            handles[i] = kieSession.insert(orders[i]);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+
+/**
+ * Propagations through a PhreakAccumulateNode summing the orders of each person, where every
+ * insertion, update or deletion of an order modifies the accumulated result of its person.
+ */
+public class AccumulateNodeBenchmark extends AbstractPhreakNodeBenchmark {
+
+    @Override
+    protected String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Order.class.getCanonicalName() + ";\n" +
+               "rule Accumulate when\n" +
+               "    $p : Person( $id : id )\n" +
+               "    accumulate( Order( customerId == $id, $amount : amount ); $total : sum( $amount ) )\n" +
+               "then\n" +
+               "end\n";
+    }
+}
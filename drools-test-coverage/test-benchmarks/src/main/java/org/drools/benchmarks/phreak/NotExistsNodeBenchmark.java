@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.common.model.Order;
+import org.drools.benchmarks.common.model.Person;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Propagations through a PhreakNotNode or a PhreakExistsNode, whose blockers are the orders of each person.
+ */
+public class NotExistsNodeBenchmark extends AbstractPhreakNodeBenchmark {
+
+    @Param({"not", "exists"})
+    private String quantifier;
+
+    @Override
+    protected String getDrl() {
+        return "import " + Person.class.getCanonicalName() + ";\n" +
+               "import " + Order.class.getCanonicalName() + ";\n" +
+               "rule Quantified when\n" +
+               "    $p : Person( $id : id )\n" +
+               "    " + quantifier + " Order( customerId == $id, amount > 25 )\n" +
+               "then\n" +
+               "end\n";
+    }
+}
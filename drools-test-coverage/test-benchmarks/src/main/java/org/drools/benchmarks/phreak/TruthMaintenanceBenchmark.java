@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.phreak;
+
+import org.drools.benchmarks.common.model.Order;
+
+/**
+ * Logical insertions and retractions through the truth maintenance system, justified by the orders.
+ */
+public class TruthMaintenanceBenchmark extends AbstractPhreakNodeBenchmark {
+
+    @Override
+    protected String getDrl() {
+        return "import " + Order.class.getCanonicalName() + ";\n" +
+               "rule Justify when\n" +
+               "    Order( amount > 10, $customerId : customerId )\n" +
+               "then\n" +
+               "    insertLogical( \"customer-\" + $customerId );\n" +
+               "end\n";
+    }
+}
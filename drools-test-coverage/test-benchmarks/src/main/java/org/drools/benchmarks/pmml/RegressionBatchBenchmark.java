@@ -0,0 +1,130 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.pmml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.pmml.api.enums.MINING_FUNCTION;
+import org.kie.pmml.api.iinterfaces.SerializableFunction;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionModel;
+import org.kie.pmml.models.regression.model.KiePMMLRegressionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scoring of a numeric PMML regression model, one row at a time through the Map based evaluation
+ * and all the rows at once through the columnar batch evaluation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegressionBatchBenchmark {
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"4", "16"})
+    private int predictors;
+
+    @Param({"true", "false"})
+    private boolean withExponent;
+
+    private KiePMMLRegressionModel model;
+    private List<Map<String, Object>> inputRows;
+    private Map<String, double[]> columns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(0);
+        Map<String, SerializableFunction<Double, Double>> numericFunctionMap = new HashMap<>();
+        Map<String, Double> numericCoefficientMap = new HashMap<>();
+        Map<String, Double> numericExponentMap = new HashMap<>();
+        columns = new HashMap<>();
+        for (int i = 0; i < predictors; i++) {
+            String field = "field" + i;
+            double coefficient = random.nextDouble();
+            double exponent = withExponent && i % 2 == 0 ? 2.0 : 1.0;
+            if (exponent != 1.0) {
+                numericFunctionMap.put(field, input -> KiePMMLRegressionTable.evaluateNumericWithExponent(input, coefficient, exponent));
+                numericExponentMap.put(field, exponent);
+            } else {
+                numericFunctionMap.put(field, input -> KiePMMLRegressionTable.evaluateNumericWithoutExponent(input, coefficient));
+            }
+            numericCoefficientMap.put(field, coefficient);
+            double[] column = new double[rows];
+            for (int j = 0; j < rows; j++) {
+                column[j] = random.nextDouble() * 100;
+            }
+            columns.put(field, column);
+        }
+        inputRows = new ArrayList<>(rows);
+        for (int j = 0; j < rows; j++) {
+            Map<String, Object> inputRow = new HashMap<>();
+            for (Map.Entry<String, double[]> column : columns.entrySet()) {
+                inputRow.put(column.getKey(), column.getValue()[j]);
+            }
+            inputRows.add(inputRow);
+        }
+        KiePMMLRegressionTable regressionTable = KiePMMLRegressionTable.builder("table", Collections.emptyList())
+                .withNumericFunctionMap(numericFunctionMap)
+                .withNumericCoefficientMap(numericCoefficientMap)
+                .withNumericExponentMap(numericExponentMap)
+                .withIntercept(1.5)
+                .withResultUpdater(KiePMMLRegressionTable::updateLOGITResult)
+                .withBatchResultUpdater(KiePMMLRegressionTable::updateLOGITResult)
+                .withTargetField("target")
+                .build();
+        model = KiePMMLRegressionModel.builder("benchmark.pmml", "regression", MINING_FUNCTION.REGRESSION)
+                .withAbstractKiePMMLTable(regressionTable)
+                .build();
+    }
+
+    @Benchmark
+    public double[] evaluatePerRow() {
+        double[] result = new double[rows];
+        for (int j = 0; j < rows; j++) {
+            result[j] = (double) model.evaluate(inputRows.get(j), null);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] evaluateBatch() {
+        return model.evaluate(columns);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.benchmarks.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.base.time.JobHandle;
+import org.drools.core.ClockType;
+import org.drools.core.SessionConfiguration;
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.impl.RuleBaseFactory;
+import org.drools.core.time.Job;
+import org.drools.core.time.JobContext;
+import org.drools.core.time.TimerService;
+import org.drools.core.time.impl.PointInTimeTrigger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time needed to fire a burst of timers spread over many concurrently alive sessions, comparing
+ * the thread-per-session realtime clock with the shared realtime clock.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimerServiceBenchmark {
+
+    private static final long TIMER_SPREAD_MS = 100;
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    @Param({"100"})
+    private int timersPerSession;
+
+    @Param({"realtime", "sharedrealtime"})
+    private String clockType;
+
+    private List<TimerService> timerServices;
+
+    @Setup(Level.Iteration)
+    public void setupTimerServices() {
+        SessionConfiguration config = RuleBaseFactory.newKnowledgeSessionConfiguration().as(SessionConfiguration.KEY);
+        config.setClockType(ClockType.resolveClockType(clockType));
+        timerServices = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            timerServices.add(config.createTimerService());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void shutdownTimerServices() {
+        timerServices.forEach(TimerService::shutdown);
+    }
+
+    @Benchmark
+    public long fireTimers() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(sessions * timersPerSession);
+        CountingJob job = new CountingJob();
+        long now = System.currentTimeMillis();
+        for (TimerService timerService : timerServices) {
+            CountingJobContext ctx = new CountingJobContext(latch);
+            for (int i = 0; i < timersPerSession; i++) {
+                timerService.scheduleJob(job, ctx, new PointInTimeTrigger(now + (i % TIMER_SPREAD_MS)));
+            }
+        }
+        latch.await();
+        return latch.getCount();
+    }
+
+    public static class CountingJob implements Job {
+
+        @Override
+        public void execute(JobContext ctx) {
+            ((CountingJobContext) ctx).latch.countDown();
+        }
+    }
+
+    public static class CountingJobContext implements JobContext {
+
+        private final CountDownLatch latch;
+        private JobHandle jobHandle;
+
+        public CountingJobContext(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void setJobHandle(JobHandle jobHandle) {
+            this.jobHandle = jobHandle;
+        }
+
+        @Override
+        public JobHandle getJobHandle() {
+            return jobHandle;
+        }
+
+        @Override
+        public ReteEvaluator getReteEvaluator() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.agenda.generated;
+public class FireAllRulesBenchmark_jmhType extends FireAllRulesBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.alpha.generated;
+public class AlphaNetworkBenchmark_jmhType extends AlphaNetworkBenchmark_jmhType_B3 {
+}
+
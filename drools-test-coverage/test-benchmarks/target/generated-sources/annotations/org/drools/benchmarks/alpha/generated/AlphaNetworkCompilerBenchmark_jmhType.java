@@ -0,0 +1,4 @@
+package org.drools.benchmarks.alpha.generated;
+public class AlphaNetworkCompilerBenchmark_jmhType extends AlphaNetworkCompilerBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.marshalling.generated;
+public class SessionMarshallingBenchmark_HeapCounters_jmhType extends SessionMarshallingBenchmark_HeapCounters_jmhType_B3 {
+}
+
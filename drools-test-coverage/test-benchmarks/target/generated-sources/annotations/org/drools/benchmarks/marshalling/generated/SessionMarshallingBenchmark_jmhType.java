@@ -0,0 +1,4 @@
+package org.drools.benchmarks.marshalling.generated;
+public class SessionMarshallingBenchmark_jmhType extends SessionMarshallingBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.metric.generated;
+public class MetricSamplingOverheadBenchmark_jmhType extends MetricSamplingOverheadBenchmark_jmhType_B3 {
+}
+
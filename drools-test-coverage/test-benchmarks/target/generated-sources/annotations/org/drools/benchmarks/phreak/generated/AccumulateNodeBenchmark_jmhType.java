@@ -0,0 +1,4 @@
+package org.drools.benchmarks.phreak.generated;
+public class AccumulateNodeBenchmark_jmhType extends AccumulateNodeBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.phreak.generated;
+public class JoinNodeBenchmark_jmhType extends JoinNodeBenchmark_jmhType_B3 {
+}
+
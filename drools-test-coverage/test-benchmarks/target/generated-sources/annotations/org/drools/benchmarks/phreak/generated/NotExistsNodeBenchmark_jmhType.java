@@ -0,0 +1,4 @@
+package org.drools.benchmarks.phreak.generated;
+public class NotExistsNodeBenchmark_jmhType extends NotExistsNodeBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.phreak.generated;
+public class TruthMaintenanceBenchmark_jmhType extends TruthMaintenanceBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.pmml.generated;
+public class RegressionBatchBenchmark_jmhType extends RegressionBatchBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.drools.benchmarks.timer.generated;
+public class TimerServiceBenchmark_jmhType extends TimerServiceBenchmark_jmhType_B3 {
+}
+
@@ -1919,6 +1919,44 @@ public class AccumulateTest {
         }
     }
 
+    @Test(timeout = 10000)
+    public void testAccumulateOrderedMinMaxAndMedianWithRetraction() {
+        final String drl = "package org.drools.compiler.test \n" +
+                "import " + Cheese.class.getCanonicalName() + ";\n" +
+                "global java.util.List results \n " +
+                "rule minMaxMedian \n" +
+                "when \n" +
+                "    accumulate( Cheese( $p: price ), $min: orderedMin($p), $max: orderedMax($p), $median: median($p) ) \n" +
+                "then \n" +
+                "    results.add($min); results.add($max); results.add($median); \n" +
+                "end \n";
+
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("accumulate-test", kieBaseTestConfiguration,
+                                                                         drl);
+        final KieSession ksession = kbase.newKieSession();
+        try {
+            final List<Number> results = new ArrayList<>();
+            ksession.setGlobal("results", results);
+
+            final FactHandle brie = ksession.insert(new Cheese("Brie", 17));
+            final FactHandle greyerzer = ksession.insert(new Cheese("Greyerzer", 2));
+            ksession.insert(new Cheese("Emmentaler", 4));
+            ksession.insert(new Cheese("Appenzeller", 6));
+            ksession.insert(new Cheese("Raclette", 3));
+
+            ksession.fireAllRules();
+            assertThat(results).containsExactly(2, 17, 4.0);
+
+            results.clear();
+            ksession.delete(brie);
+            ksession.delete(greyerzer);
+            ksession.fireAllRules();
+            assertThat(results).containsExactly(3, 6, 4.0);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
     @Test(timeout = 10000)
     public void testAccumulateCE() {
         final String drl = "package org.drools.compiler\n" +
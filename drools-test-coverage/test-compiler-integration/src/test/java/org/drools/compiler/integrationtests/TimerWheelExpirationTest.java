@@ -0,0 +1,250 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.common.ReteEvaluator;
+import org.drools.core.time.impl.TimerWheel;
+import org.drools.testcoverage.common.model.StockTick;
+import org.drools.testcoverage.common.util.KieBaseTestConfiguration;
+import org.drools.testcoverage.common.util.KieBaseUtil;
+import org.drools.testcoverage.common.util.KieSessionTestConfiguration;
+import org.drools.testcoverage.common.util.SerializationHelper;
+import org.drools.testcoverage.common.util.TestParametersUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.kie.api.KieBase;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.api.time.SessionPseudoClock;
+import org.kie.internal.runtime.conf.ExpirationSchedulingOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(Parameterized.class)
+public class TimerWheelExpirationTest {
+
+    private final KieBaseTestConfiguration kieBaseTestConfiguration;
+    private final ExpirationSchedulingOption expirationScheduling;
+
+    public TimerWheelExpirationTest(final KieBaseTestConfiguration kieBaseTestConfiguration,
+                                    final ExpirationSchedulingOption expirationScheduling) {
+        this.kieBaseTestConfiguration = kieBaseTestConfiguration;
+        this.expirationScheduling = expirationScheduling;
+    }
+
+    @Parameterized.Parameters(name = "KieBase type={0}, expiration={1}")
+    public static Collection<Object[]> getParameters() {
+        // the expirations scheduled as jobs are the reference behavior for the ones in the timer wheel
+        final List<Object[]> parameters = new ArrayList<>();
+        for (final Object[] kieBaseConfiguration : TestParametersUtil.getKieBaseStreamConfigurations(true)) {
+            for (final ExpirationSchedulingOption option : ExpirationSchedulingOption.values()) {
+                parameters.add(new Object[] { kieBaseConfiguration[0], option });
+            }
+        }
+        return parameters;
+    }
+
+    private static final String EXPIRES_DRL =
+            "package org.drools.test;\n" +
+            "import " + StockTick.class.getCanonicalName() + ";\n" +
+            "declare StockTick\n" +
+            "  @role( event )\n" +
+            "  @timestamp( time )\n" +
+            "  @expires( 10s )\n" +
+            "end\n" +
+            "rule R when\n" +
+            "  StockTick( company == \"ACME\" )\n" +
+            "then\n" +
+            "end\n";
+
+    private static final String WINDOW_DRL =
+            "package org.drools.test;\n" +
+            "import " + StockTick.class.getCanonicalName() + ";\n" +
+            "global java.util.List results;\n" +
+            "declare StockTick\n" +
+            "  @role( event )\n" +
+            "  @timestamp( time )\n" +
+            "end\n" +
+            "rule R when\n" +
+            "  $n : Number() from accumulate( StockTick() over window:time( 5s ), count() )\n" +
+            "then\n" +
+            "  results.add( $n.intValue() );\n" +
+            "end\n";
+
+    @Test
+    public void testExpiresWithPseudoClock() {
+        final KieSession ksession = newSession(EXPIRES_DRL, true);
+        try {
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            for (int i = 0; i < 100; i++) {
+                ksession.insert(new StockTick(i, "ACME", 10, clock.getCurrentTime()));
+                clock.advanceTime(10, TimeUnit.MILLISECONDS);
+            }
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(100);
+            assertPendingExpirations(ksession, 100);
+
+            // the first event has been inserted at 0 and it is still there at 10s
+            clock.advanceTime(9_000, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(100);
+
+            clock.advanceTime(1, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(99);
+
+            clock.advanceTime(500, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(49);
+
+            clock.advanceTime(500, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isZero();
+            assertPendingExpirations(ksession, 0);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testDeletedEventCancelsItsExpiration() {
+        final KieSession ksession = newSession(EXPIRES_DRL, true);
+        try {
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            final FactHandle first = ksession.insert(new StockTick(1, "ACME", 10, 0));
+            ksession.insert(new StockTick(2, "ACME", 10, 0));
+            assertPendingExpirations(ksession, 2);
+
+            ksession.delete(first);
+            ksession.fireAllRules();
+            assertPendingExpirations(ksession, 1);
+
+            clock.advanceTime(10_001, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isZero();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testSlidingTimeWindowWithPseudoClock() {
+        final KieSession ksession = newSession(WINDOW_DRL, true);
+        try {
+            final List<Integer> results = new ArrayList<>();
+            ksession.setGlobal("results", results);
+            final SessionPseudoClock clock = ksession.getSessionClock();
+
+            ksession.insert(new StockTick(1, "ACME", 10, 0));
+            clock.advanceTime(2, TimeUnit.SECONDS);
+            ksession.insert(new StockTick(2, "ACME", 10, 2000));
+            ksession.fireAllRules();
+            assertThat(results).containsExactly(2);
+
+            clock.advanceTime(3, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertThat(results).containsExactly(2, 1);
+
+            clock.advanceTime(2, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertThat(results).containsExactly(2, 1, 0);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test
+    public void testPendingExpirationsAreMarshalled() throws Exception {
+        KieSession ksession = newSession(EXPIRES_DRL, true);
+        try {
+            ksession.insert(new StockTick(1, "ACME", 10, 0));
+            ((SessionPseudoClock) ksession.getSessionClock()).advanceTime(5, TimeUnit.SECONDS);
+            ksession.insert(new StockTick(2, "ACME", 10, 5000));
+            ksession.fireAllRules();
+
+            ksession = SerializationHelper.getSerialisedStatefulKnowledgeSession(ksession, true);
+            assertThat(ksession.getFactCount()).isEqualTo(2);
+
+            final SessionPseudoClock clock = ksession.getSessionClock();
+            clock.advanceTime(5_001, TimeUnit.MILLISECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(1);
+
+            clock.advanceTime(5, TimeUnit.SECONDS);
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isZero();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testExpiresWithRealtimeClock() throws InterruptedException {
+        final String drl =
+                "package org.drools.test;\n" +
+                "import " + StockTick.class.getCanonicalName() + ";\n" +
+                "declare StockTick\n" +
+                "  @role( event )\n" +
+                "  @expires( 100ms )\n" +
+                "end\n" +
+                "rule R when\n" +
+                "  StockTick( company == \"ACME\" )\n" +
+                "then\n" +
+                "end\n";
+        final KieSession ksession = newSession(drl, false);
+        try {
+            for (int i = 0; i < 10; i++) {
+                ksession.insert(new StockTick(i, "ACME", 10, 0));
+            }
+            ksession.fireAllRules();
+            assertThat(ksession.getFactCount()).isEqualTo(10);
+
+            while (ksession.getFactCount() > 0) {
+                Thread.sleep(20);
+                ksession.fireAllRules();
+            }
+            assertPendingExpirations(ksession, 0);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private KieSession newSession(final String drl, final boolean pseudoClock) {
+        final KieBase kbase = KieBaseUtil.getKieBaseFromKieModuleFromDrl("timer-wheel-test", kieBaseTestConfiguration, drl);
+        final KieSessionConfiguration conf = (pseudoClock ? KieSessionTestConfiguration.STATEFUL_PSEUDO : KieSessionTestConfiguration.STATEFUL_REALTIME).getKieSessionConfiguration();
+        conf.setOption(expirationScheduling);
+        return kbase.newKieSession(conf, null);
+    }
+
+    private void assertPendingExpirations(final KieSession ksession, final int expected) {
+        final TimerWheel timerWheel = ((ReteEvaluator) ksession).getTimerWheel();
+        if (expirationScheduling == ExpirationSchedulingOption.TIMER_WHEEL) {
+            assertThat(timerWheel.size()).isEqualTo(expected);
+        } else {
+            assertThat(timerWheel).isNull();
+        }
+    }
+}
@@ -402,6 +402,14 @@ public class KnowledgeBaseConfigurationTest {
         assertThat(config.getOption(ParallelExecutionOption.KEY)).isEqualTo(ParallelExecutionOption.SEQUENTIAL);
         // checking the string based getProperty() method
         assertThat(config.getProperty(ParallelExecutionOption.PROPERTY_NAME)).isEqualTo("sequential");
+
+        // setting the options using the string based setProperty() method
+        config.setProperty( ParallelExecutionOption.PROPERTY_NAME,"partitioned" );
+
+        // checking the type safe getOption() method
+        assertThat(config.getOption(ParallelExecutionOption.KEY)).isEqualTo(ParallelExecutionOption.PARTITIONED);
+        // checking the string based getProperty() method
+        assertThat(config.getProperty(ParallelExecutionOption.PROPERTY_NAME)).isEqualTo("partitioned");
     }
     
     @Test
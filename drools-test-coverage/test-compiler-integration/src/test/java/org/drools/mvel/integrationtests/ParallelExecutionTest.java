@@ -21,6 +21,7 @@ package org.drools.mvel.integrationtests;
 import org.drools.base.base.ClassObjectType;
 import org.drools.base.rule.EntryPointId;
 import org.drools.core.ClockType;
+import org.drools.core.common.InternalAgenda;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.impl.RuleBaseFactory;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
@@ -190,6 +191,139 @@ public class ParallelExecutionTest {
         assertThat(list.size()).isEqualTo(ruleNr);
     }
 
+    @Test(timeout = 40000L)
+    public void testPartitionedWithInsertions() {
+        StringBuilder sb = new StringBuilder( 4000 );
+        sb.append( "global java.util.List list;\n" );
+        int ruleNr = 200;
+
+        for (int i = 0; i < ruleNr; i++) {
+            sb.append( getRule( i, "insert( $i + 10 );\ninsert( \"\" + ($i + 10) );\n" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.PARTITIONED );
+        KieSession ksession = kbase.newKieSession();
+
+        try {
+            assertThat(((InternalWorkingMemory) ksession).getAgenda().isParallelAgenda()).isTrue();
+
+            List<Integer> list = new DebugList<Integer>();
+            ksession.setGlobal( "list", list );
+
+            for (int i = 0; i < 10; i++) {
+                ksession.insert( i );
+                ksession.insert( "" + i );
+            }
+
+            ksession.fireAllRules();
+
+            assertThat(list.size()).isEqualTo(ruleNr);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 40000L)
+    public void testPartitionedPropagatesBeforeFiring() throws InterruptedException {
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < 10; i++) {
+            sb.append( getRule( i, "" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.PARTITIONED );
+        KieSession ksession = kbase.newKieSession();
+
+        try {
+            List<Integer> list = new DebugList<Integer>();
+            ksession.setGlobal( "list", list );
+
+            for (int i = 0; i < 10; i++) {
+                ksession.insert( i );
+                ksession.insert( "" + i );
+            }
+
+            // the partition workers drain the propagation queues without waiting for fireAllRules
+            InternalAgenda agenda = ((InternalWorkingMemory) ksession).getAgenda();
+            while (agenda.hasPendingPropagations()) {
+                Thread.sleep( 10L );
+            }
+            assertThat(list).isEmpty();
+
+            ksession.fireAllRules();
+
+            assertThat(list.size()).isEqualTo(10);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 40000L)
+    public void testPartitionedQueryWhilePropagating() {
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        sb.append( "query matching(int $n) $i : Integer( intValue == $n ) String( toString == $i.toString ) end\n" );
+        for (int i = 0; i < 10; i++) {
+            sb.append( getRule( i, "" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.PARTITIONED );
+        KieSession ksession = kbase.newKieSession();
+
+        try {
+            ksession.setGlobal( "list", new DebugList<Integer>() );
+
+            for (int i = 0; i < 100; i++) {
+                // the query is evaluated while the partition workers may still be propagating the previous insertions
+                ksession.insert( i );
+                ksession.insert( "" + i );
+                assertThat(ksession.getQueryResults( "matching", i ).size()).isEqualTo( 1 );
+            }
+            assertThat(ksession.getFactCount()).isEqualTo( 200 );
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 40000L)
+    public void testPartitionedReset() {
+        StringBuilder sb = new StringBuilder( 400 );
+        sb.append( "global java.util.List list;\n" );
+        for (int i = 0; i < 10; i++) {
+            sb.append( getRule( i, "" ) );
+        }
+
+        final KieModule kieModule = KieUtil.getKieModuleFromDrls("test", kieBaseTestConfiguration, sb.toString());
+        final KieBase kbase = KieBaseUtil.newKieBaseFromKieModuleWithAdditionalOptions(kieModule, kieBaseTestConfiguration, ParallelExecutionOption.PARTITIONED );
+        KieSession ksession = kbase.newKieSession();
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                ksession.insert( i );
+                ksession.insert( "" + i );
+            }
+
+            // the memories are reset while the partition workers may still be propagating
+            ((StatefulKnowledgeSessionImpl) ksession).reset();
+
+            List<Integer> list = new DebugList<Integer>();
+            ksession.setGlobal( "list", list );
+
+            for (int i = 0; i < 5; i++) {
+                ksession.insert( i );
+                ksession.insert( "" + i );
+            }
+            ksession.fireAllRules();
+
+            assertThat(list).containsExactlyInAnyOrder( 0, 1, 2, 3, 4 );
+        } finally {
+            ksession.dispose();
+        }
+    }
+
     private String getRule(int i, String rhs) {
         return getRule( i, rhs, "" );
     }
@@ -31,6 +31,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.drools.core.common.EventSupport;
 import org.drools.core.event.DefaultAgendaEventListener;
 import org.drools.core.event.DefaultRuleRuntimeEventListener;
+import org.drools.kiesession.rulebase.InternalKnowledgeBase;
+import org.drools.kiesession.session.AbstractKieSessionsPool;
 import org.drools.mvel.compiler.FactA;
 import org.drools.mvel.compiler.FactB;
 import org.drools.mvel.compiler.FactC;
@@ -136,6 +138,26 @@ public class SessionsPoolTest {
         checkKieSession( ksession2 );
     }
 
+    @Test
+    public void testPooledKieBaseWithStatelessSession() {
+        KieBaseConfiguration kbConf = KieServices.get().newKieBaseConfiguration();
+        kbConf.setOption(SessionsPoolOption.get(1));
+        KieBase kBase = getKieContainer().newKieBase(kbConf);
+
+        StatelessKieSession session = kBase.newStatelessKieSession();
+        List<String> list = new ArrayList<>();
+        session.setGlobal( "list", list );
+        session.execute( "test" );
+        session.execute( "test" );
+        assertThat(list).containsExactly("test", "test");
+
+        // the stateless session transparently reuses the pooled session of the KieBase
+        AbstractKieSessionsPool pool = (AbstractKieSessionsPool) ((InternalKnowledgeBase) kBase).getSessionPool();
+        assertThat(pool.getHits()).isEqualTo(2);
+        assertThat(pool.getMisses()).isZero();
+        assertThat(pool.getResetTimeNanos()).isPositive();
+    }
+
     @Test
     public void testKieSessionsPoolInMultithreadEnv() throws InterruptedException, ExecutionException {
         KieContainerSessionsPool pool = getKieContainer().newKieSessionsPool( 4 );
@@ -29,6 +29,7 @@ public class ClockTypeOption implements SingleValueKieSessionOption {
 
     public static final ClockTypeOption PSEUDO = ClockTypeOption.get("pseudo");
     public static final ClockTypeOption REALTIME = ClockTypeOption.get("realtime");
+    public static final ClockTypeOption SHARED_REALTIME = ClockTypeOption.get("sharedrealtime");
 
     /**
      * The property name for the clock type configuration
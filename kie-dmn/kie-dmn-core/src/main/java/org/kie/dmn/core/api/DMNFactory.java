@@ -21,9 +21,12 @@ package org.kie.dmn.core.api;
 import org.kie.dmn.api.core.DMNCompiler;
 import org.kie.dmn.api.core.DMNCompilerConfiguration;
 import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.impl.DMNContextArrayImpl;
 import org.kie.dmn.core.impl.DMNContextImpl;
+import org.kie.dmn.core.impl.DMNModelImpl;
 
 public final class DMNFactory {
 
@@ -31,6 +34,14 @@ public final class DMNFactory {
         return new DMNContextImpl();
     }
 
+    /**
+     * Creates a context storing the input data and decisions of the given model in the slots resolved at compile time,
+     * whose clones share the entries until they are modified.
+     */
+    public static DMNContext newContext(DMNModel model) {
+        return new DMNContextArrayImpl(((DMNModelImpl) model).getContextSlots());
+    }
+
     public static DMNCompiler newCompiler() { return new DMNCompilerImpl(); }
 
     public static DMNCompiler newCompiler(DMNCompilerConfiguration dmnCompilerConfig) {
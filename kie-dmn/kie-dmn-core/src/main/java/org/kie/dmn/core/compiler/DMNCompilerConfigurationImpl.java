@@ -86,6 +86,10 @@ public class DMNCompilerConfigurationImpl implements DMNCompilerConfiguration {
             return (T) new ExecModelCompilerOption(properties.get(ExecModelCompilerOption.PROPERTY_NAME));
         } else if (AlphaNetworkOption.class.equals(option)) {
             return (T) new AlphaNetworkOption(properties.get(AlphaNetworkOption.PROPERTY_NAME));
+        } else if (ParallelEvaluationOption.class.equals(option)) {
+            return (T) new ParallelEvaluationOption(properties.get(ParallelEvaluationOption.PROPERTY_NAME));
+        } else if (RegexCacheSizeOption.class.equals(option)) {
+            return (T) new RegexCacheSizeOption(properties.get(RegexCacheSizeOption.PROPERTY_NAME));
         }
         throw new RuntimeException("Unknown option: " + option.toString());
     }
@@ -70,6 +70,8 @@ import org.kie.dmn.core.ast.ItemDefNodeImpl;
 import org.kie.dmn.core.compiler.ImportDMNResolverUtil.ImportType;
 import org.kie.dmn.core.impl.BaseDMNTypeImpl;
 import org.kie.dmn.core.impl.CompositeTypeImpl;
+import org.kie.dmn.core.impl.DMNContextSlots;
+import org.kie.dmn.core.impl.DMNDecisionSchedule;
 import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.core.impl.SimpleFnTypeImpl;
 import org.kie.dmn.core.impl.SimpleTypeImpl;
@@ -206,6 +208,7 @@ public class DMNCompilerImpl implements DMNCompiler {
         }
         DMNModelImpl model = new DMNModelImpl(dmndefs, resource);
         model.setRuntimeTypeCheck(((DMNCompilerConfigurationImpl) dmnCompilerConfig).getOption(RuntimeTypeCheckOption.class).isRuntimeTypeCheck());
+        model.setParallelEvaluation(((DMNCompilerConfigurationImpl) dmnCompilerConfig).getOption(ParallelEvaluationOption.class).isParallelEvaluation());
         DMNCompilerConfigurationImpl cc = (DMNCompilerConfigurationImpl) dmnCompilerConfig;
         List<FEELProfile> helperFEELProfiles = cc.getFeelProfiles();
         DMNFEELHelper feel = new DMNFEELHelper(cc.getRootClassLoader(), helperFEELProfiles);
@@ -472,7 +475,8 @@ public class DMNCompilerImpl implements DMNCompiler {
         }
         
         detectCycles( model );
-
+        model.setDecisionSchedule( DMNDecisionSchedule.of( model ) );
+        model.setContextSlots( DMNContextSlots.of( model ) );
 
     }
     
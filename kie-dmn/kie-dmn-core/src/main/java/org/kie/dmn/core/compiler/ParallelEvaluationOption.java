@@ -0,0 +1,75 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.compiler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Enables the concurrent evaluation of the decisions of a model which do not depend on each other.
+ * <p/>
+ * The independent decisions are evaluated on the given {@link Executor}, the common {@link ForkJoinPool} by default;
+ * an executor creating a virtual thread per task can be used where the JVM provides it.
+ */
+public class ParallelEvaluationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.parallel";
+
+    /**
+     * The default value for this option
+     */
+    public static final boolean DEFAULT_VALUE = false;
+
+    private final boolean parallelEvaluation;
+
+    private final transient Executor executor;
+
+    public ParallelEvaluationOption(boolean value) {
+        this.parallelEvaluation = value;
+        this.executor = null;
+    }
+
+    public ParallelEvaluationOption(String value) {
+        this.parallelEvaluation = value == null ? DEFAULT_VALUE : Boolean.valueOf(value);
+        this.executor = null;
+    }
+
+    public ParallelEvaluationOption(Executor executor) {
+        this.parallelEvaluation = true;
+        this.executor = executor;
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    public Executor getExecutor() {
+        return executor != null ? executor : ForkJoinPool.commonPool();
+    }
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.compiler;
+
+import org.kie.dmn.feel.util.RegexPatternCache;
+
+/**
+ * Sets the maximum size of the cache of the regular expressions compiled by the FEEL matches, replace and split
+ * functions. These functions are shared by every FEEL instance, so differently from the other options this is not
+ * scoped to a single runtime: setting it on a runtime changes the cache size for the whole JVM. Building a compiler
+ * never changes it, the compiler property is only the value read by this option. When not set the size comes from
+ * the {@value #PROPERTY_NAME} system property.
+ */
+public class RegexCacheSizeOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = RegexPatternCache.PROPERTY_NAME;
+
+    /**
+     * The default value for this option
+     */
+    public static final int DEFAULT_VALUE = RegexPatternCache.DEFAULT_SIZE;
+
+    private final int size;
+
+    public RegexCacheSizeOption(int value) {
+        this.size = value;
+    }
+
+    public RegexCacheSizeOption(String value) {
+        this.size = value == null ? RegexPatternCache.getMaximumSize() : Integer.parseInt(value);
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+}
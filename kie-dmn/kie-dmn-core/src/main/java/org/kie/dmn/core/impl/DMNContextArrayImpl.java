@@ -0,0 +1,359 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNMetadata;
+
+/**
+ * A {@link DMNContext} for the evaluation of a given model.
+ * <p/>
+ * The values of the input data and of the decisions of the model are stored in a flat array, using the slots resolved
+ * at compile time by {@link DMNContextSlots}, while any other entry is kept in a map. Both are shared copy-on-write:
+ * {@link #clone()} does not copy any entry, the first write on either the original or the cloned context does.
+ * In the same way pushing a scope does not copy the entries of the scope until they are written.
+ */
+public class DMNContextArrayImpl implements DMNContext {
+
+    private static final Object UNDEFINED = new Object();
+
+    private final DMNContextSlots slots;
+
+    private Object[] values;
+    private int definedSlots;
+    private Map<String, Object> dynamicEntries;
+
+    /**
+     * True when the values and the dynamic entries may be referenced by a clone of this context, and then have to be
+     * copied before being modified
+     */
+    private boolean shared;
+
+    private final List<Scope> stack = new ArrayList<>();
+    private final DMNMetadataImpl metadata;
+
+    private Map<String, Object> entriesView;
+
+    public DMNContextArrayImpl(DMNContextSlots slots) {
+        this.slots = slots;
+        this.values = new Object[slots.size()];
+        Arrays.fill(this.values, UNDEFINED);
+        this.metadata = new DMNMetadataImpl();
+    }
+
+    public DMNContextArrayImpl(DMNContextSlots slots, Map<String, Object> entries) {
+        this(slots);
+        entries.forEach(this::setEntry);
+    }
+
+    private DMNContextArrayImpl(DMNContextArrayImpl original) {
+        this.slots = original.slots;
+        this.values = original.values;
+        this.definedSlots = original.definedSlots;
+        this.dynamicEntries = original.dynamicEntries;
+        this.shared = true;
+        for (Scope scope : original.stack) {
+            scope.owned = false;
+            this.stack.add(new Scope(scope.name, scope.namespace, scope.entries, false));
+        }
+        this.metadata = new DMNMetadataImpl(original.metadata.asMap());
+    }
+
+    @Override
+    public Object set(String name, Object value) {
+        if (stack.isEmpty()) {
+            return setEntry(name, value);
+        } else {
+            return ownScope(stack.size() - 1).put(name, value);
+        }
+    }
+
+    @Override
+    public Object get(String name) {
+        if (stack.isEmpty()) {
+            return getEntry(name);
+        } else {
+            return stack.get(stack.size() - 1).entries.get(name); // Intentional, symbol resolution in scope should limit at the top of the stack (for DMN semantic).
+        }
+    }
+
+    @Override
+    public boolean isDefined(String name) {
+        if (stack.isEmpty()) {
+            return isEntryDefined(name);
+        } else {
+            return stack.get(stack.size() - 1).entries.containsKey(name);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getAll() {
+        if (stack.isEmpty()) {
+            if (entriesView == null) {
+                entriesView = new EntriesView();
+            }
+            return entriesView;
+        } else {
+            // the returned map can be modified by the caller
+            return ownScope(stack.size() - 1);
+        }
+    }
+
+    @Override
+    public void pushScope(String name, String namespace) {
+        Object current = stack.isEmpty() ? getEntry(name) : stack.get(stack.size() - 1).entries.get(name);
+        if (current instanceof Map) {
+            stack.add(new Scope(name, namespace, (Map<String, Object>) current, false));
+        } else {
+            Map<String, Object> scopeEntries = new LinkedHashMap<>();
+            set(name, scopeEntries);
+            stack.add(new Scope(name, namespace, scopeEntries, true));
+        }
+    }
+
+    @Override
+    public void popScope() {
+        if (stack.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        stack.remove(stack.size() - 1);
+    }
+
+    @Override
+    public Optional<String> scopeNamespace() {
+        if (stack.isEmpty()) {
+            return Optional.empty();
+        } else {
+            return Optional.of(stack.get(stack.size() - 1).namespace);
+        }
+    }
+
+    @Override
+    public DMNMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public DMNContext clone() {
+        this.shared = true;
+        return new DMNContextArrayImpl(this);
+    }
+
+    @Override
+    public String toString() {
+        return DMNContextImpl.printContext(new EntriesView(), "");
+    }
+
+    private Object getEntry(String name) {
+        int index = slots.indexOf(name);
+        if (index >= 0) {
+            Object value = values[index];
+            return value != UNDEFINED ? value : null;
+        }
+        return dynamicEntries != null ? dynamicEntries.get(name) : null;
+    }
+
+    private boolean isEntryDefined(String name) {
+        int index = slots.indexOf(name);
+        if (index >= 0) {
+            return values[index] != UNDEFINED;
+        }
+        return dynamicEntries != null && dynamicEntries.containsKey(name);
+    }
+
+    private Object setEntry(String name, Object value) {
+        ownEntries();
+        int index = slots.indexOf(name);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = value;
+            if (previous == UNDEFINED) {
+                definedSlots++;
+                return null;
+            }
+            return previous;
+        }
+        if (dynamicEntries == null) {
+            dynamicEntries = new LinkedHashMap<>();
+        }
+        return dynamicEntries.put(name, value);
+    }
+
+    private Object removeEntry(String name) {
+        if (!isEntryDefined(name)) {
+            return null;
+        }
+        ownEntries();
+        int index = slots.indexOf(name);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = UNDEFINED;
+            definedSlots--;
+            return previous;
+        }
+        return dynamicEntries.remove(name);
+    }
+
+    private void ownEntries() {
+        if (shared) {
+            values = values.clone();
+            if (dynamicEntries != null) {
+                dynamicEntries = new LinkedHashMap<>(dynamicEntries);
+            }
+            shared = false;
+        }
+    }
+
+    /**
+     * Makes the entries of the scope at the given depth modifiable by this context only, copying them and replacing
+     * them in the enclosing scope if they could be referenced by another context
+     */
+    private Map<String, Object> ownScope(int depth) {
+        Scope scope = stack.get(depth);
+        if (!scope.owned) {
+            scope.entries = new LinkedHashMap<>(scope.entries);
+            scope.owned = true;
+            if (depth == 0) {
+                setEntry(scope.name, scope.entries);
+            } else {
+                ownScope(depth - 1).put(scope.name, scope.entries);
+            }
+        }
+        return scope.entries;
+    }
+
+    private static class Scope {
+
+        private final String name;
+        private final String namespace;
+        private Map<String, Object> entries;
+        private boolean owned;
+
+        private Scope(String name, String namespace, Map<String, Object> entries, boolean owned) {
+            this.name = name;
+            this.namespace = namespace;
+            this.entries = entries;
+            this.owned = owned;
+        }
+    }
+
+    /**
+     * Live view of the entries outside of any scope: the input data and decisions of the model first, then the other
+     * entries in insertion order
+     */
+    private class EntriesView extends AbstractMap<String, Object> {
+
+        @Override
+        public Object get(Object key) {
+            return key instanceof String ? getEntry((String) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && isEntryDefined((String) key);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            return setEntry(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return key instanceof String ? removeEntry((String) key) : null;
+        }
+
+        @Override
+        public int size() {
+            return definedSlots + (dynamicEntries != null ? dynamicEntries.size() : 0);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super Object> action) {
+            Object[] currentValues = values;
+            for (int i = 0; i < currentValues.length; i++) {
+                if (currentValues[i] != UNDEFINED) {
+                    action.accept(slots.getName(i), currentValues[i]);
+                }
+            }
+            if (dynamicEntries != null) {
+                dynamicEntries.forEach(action);
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new EntriesIterator();
+                }
+
+                @Override
+                public int size() {
+                    return EntriesView.this.size();
+                }
+            };
+        }
+    }
+
+    private class EntriesIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final Object[] iteratedValues = values;
+        private final Iterator<Map.Entry<String, Object>> dynamicIterator = dynamicEntries != null ? dynamicEntries.entrySet().iterator() : Collections.emptyIterator();
+        private int nextSlot = nextDefinedSlot(0);
+
+        private int nextDefinedSlot(int from) {
+            int slot = from;
+            while (slot < iteratedValues.length && iteratedValues[slot] == UNDEFINED) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < iteratedValues.length || dynamicIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (nextSlot < iteratedValues.length) {
+                Map.Entry<String, Object> entry = new AbstractMap.SimpleImmutableEntry<>(slots.getName(nextSlot), iteratedValues[nextSlot]);
+                nextSlot = nextDefinedSlot(nextSlot + 1);
+                return entry;
+            }
+            return new AbstractMap.SimpleImmutableEntry<>(dynamicIterator.next());
+        }
+    }
+}
@@ -115,7 +115,7 @@ public class DMNContextImpl implements DMNContext {
         return printContext( entries, "" );
     }
 
-    private String printContext(Map<String, Object> context, String ident ) {
+    static String printContext(Map<String, Object> context, String ident ) {
         StringBuilder builder = new StringBuilder(  );
         builder.append( "{\n" );
         for( Map.Entry e : context.entrySet() ) {
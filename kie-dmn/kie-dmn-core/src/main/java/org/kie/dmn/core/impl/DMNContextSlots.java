@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.ast.InputDataNode;
+
+/**
+ * The names of the input data and of the decisions belonging to the namespace of a model, resolved at compile time
+ * to the slot indexes used by {@link DMNContextArrayImpl}.
+ */
+public class DMNContextSlots {
+
+    private final String[] names;
+
+    private final Map<String, Integer> indexes;
+
+    public DMNContextSlots(List<String> names) {
+        this.indexes = new HashMap<>(names.size() * 2);
+        List<String> uniqueNames = new ArrayList<>(names.size());
+        for (String name : names) {
+            if (name != null && !indexes.containsKey(name)) {
+                indexes.put(name, uniqueNames.size());
+                uniqueNames.add(name);
+            }
+        }
+        this.names = uniqueNames.toArray(new String[0]);
+    }
+
+    public static DMNContextSlots of(DMNModel model) {
+        String namespace = model.getNamespace();
+        List<String> names = new ArrayList<>();
+        for (InputDataNode input : model.getInputs()) {
+            if (namespace.equals(input.getModelNamespace())) {
+                names.add(input.getName());
+            }
+        }
+        for (DecisionNode decision : model.getDecisions()) {
+            if (namespace.equals(decision.getModelNamespace())) {
+                names.add(decision.getName());
+            }
+        }
+        return new DMNContextSlots(names);
+    }
+
+    /**
+     * @return the slot of the given name, or -1 if the name is not known by the model
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index != null ? index : -1;
+    }
+
+    public String getName(int index) {
+        return names[index];
+    }
+
+    public int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.ast.InputDataNode;
+import org.kie.dmn.core.ast.DMNBaseNode;
+
+/**
+ * Topological schedule of the decisions belonging to the namespace of a model, computed once at compile time.
+ * <p/>
+ * The decisions are grouped in levels: a decision only depends on decisions of the previous levels, so the decisions
+ * of the same level can be evaluated concurrently once all the previous levels have been evaluated. Inside each level
+ * the decisions are kept in the same order as {@link DMNModel#getDecisions()}.
+ * <p/>
+ * A decision is isolated when its evaluation only reads the input data and the decisions of the model and the business
+ * knowledge models it invokes do not depend on anything else than other business knowledge models of the model:
+ * only the isolated decisions can be evaluated on another thread, all the others (depending on imported nodes or
+ * decision services, or being part of a dependency cycle) are always evaluated by the calling thread. The business
+ * knowledge models required by an isolated decision are evaluated again by its own evaluation, so that the functions
+ * it invokes are bound to its own result and events.
+ */
+public class DMNDecisionSchedule {
+
+    private final List<List<DecisionNode>> levels;
+
+    private final Map<DecisionNode, Integer> levelByDecision;
+
+    private final Map<DecisionNode, Set<BusinessKnowledgeModelNode>> isolated;
+
+    private DMNDecisionSchedule(List<List<DecisionNode>> levels, Map<DecisionNode, Integer> levelByDecision, Map<DecisionNode, Set<BusinessKnowledgeModelNode>> isolated) {
+        this.levels = levels;
+        this.levelByDecision = levelByDecision;
+        this.isolated = isolated;
+    }
+
+    public static DMNDecisionSchedule of(DMNModel model) {
+        String namespace = model.getNamespace();
+        List<DecisionNode> decisions = new ArrayList<>();
+        for (DecisionNode decision : model.getDecisions()) {
+            if (namespace.equals(decision.getModelNamespace())) {
+                decisions.add(decision);
+            }
+        }
+
+        Map<DecisionNode, Integer> levelByDecision = new HashMap<>();
+        Set<DecisionNode> cyclic = new HashSet<>();
+        Deque<DecisionNode> visiting = new ArrayDeque<>();
+        for (DecisionNode decision : decisions) {
+            computeLevel(decision, namespace, levelByDecision, visiting, cyclic);
+        }
+
+        List<List<DecisionNode>> levels = new ArrayList<>();
+        Map<DecisionNode, Set<BusinessKnowledgeModelNode>> isolated = new HashMap<>();
+        for (DecisionNode decision : decisions) {
+            int level = levelByDecision.get(decision);
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(decision);
+            Set<BusinessKnowledgeModelNode> requiredBKMs = new HashSet<>();
+            if (!cyclic.contains(decision) && isIsolated(decision, namespace, requiredBKMs)) {
+                isolated.put(decision, Collections.unmodifiableSet(requiredBKMs));
+            }
+        }
+        return new DMNDecisionSchedule(levels, levelByDecision, isolated);
+    }
+
+    private static int computeLevel(DecisionNode decision, String namespace, Map<DecisionNode, Integer> levelByDecision, Deque<DecisionNode> visiting, Set<DecisionNode> cyclic) {
+        Integer computed = levelByDecision.get(decision);
+        if (computed != null) {
+            return computed;
+        }
+        if (visiting.contains(decision)) {
+            // all the decisions from the one closing the cycle to the current one are part of the cycle
+            for (DecisionNode node : visiting) {
+                cyclic.add(node);
+                if (node == decision) {
+                    break;
+                }
+            }
+            return -1;
+        }
+        visiting.push(decision);
+        int level = 0;
+        for (DMNNode dependency : ((DMNBaseNode) decision).getDependencies().values()) {
+            if (dependency instanceof DecisionNode && namespace.equals(dependency.getModelNamespace())) {
+                level = Math.max(level, computeLevel((DecisionNode) dependency, namespace, levelByDecision, visiting, cyclic) + 1);
+            }
+        }
+        visiting.pop();
+        levelByDecision.put(decision, level);
+        return level;
+    }
+
+    private static boolean isIsolated(DecisionNode decision, String namespace, Set<BusinessKnowledgeModelNode> visited) {
+        for (DMNNode dependency : ((DMNBaseNode) decision).getDependencies().values()) {
+            if (!namespace.equals(dependency.getModelNamespace())) {
+                return false;
+            }
+            if (dependency instanceof BusinessKnowledgeModelNode) {
+                if (!isIsolatedBKM((BusinessKnowledgeModelNode) dependency, namespace, visited)) {
+                    return false;
+                }
+            } else if (!(dependency instanceof InputDataNode) && !(dependency instanceof DecisionNode)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isIsolatedBKM(BusinessKnowledgeModelNode bkm, String namespace, Set<BusinessKnowledgeModelNode> visited) {
+        if (!visited.add(bkm)) {
+            return true;
+        }
+        for (DMNNode dependency : ((DMNBaseNode) bkm).getDependencies().values()) {
+            if (!namespace.equals(dependency.getModelNamespace()) || !(dependency instanceof BusinessKnowledgeModelNode)
+                    || !isIsolatedBKM((BusinessKnowledgeModelNode) dependency, namespace, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the decisions of the model grouped by level, the decisions of a level depending only on the ones of the previous levels
+     */
+    public List<List<DecisionNode>> getLevels() {
+        return Collections.unmodifiableList(levels);
+    }
+
+    /**
+     * @return the levels containing only the given decisions and the ones they transitively depend on
+     */
+    public List<List<DecisionNode>> getLevelsRequiredBy(Collection<DecisionNode> decisions) {
+        Set<DecisionNode> required = new HashSet<>();
+        Deque<DecisionNode> toVisit = new ArrayDeque<>(decisions);
+        while (!toVisit.isEmpty()) {
+            DecisionNode decision = toVisit.pop();
+            if (levelByDecision.containsKey(decision) && required.add(decision)) {
+                for (DMNNode dependency : ((DMNBaseNode) decision).getDependencies().values()) {
+                    if (dependency instanceof DecisionNode) {
+                        toVisit.push((DecisionNode) dependency);
+                    }
+                }
+            }
+        }
+        List<List<DecisionNode>> requiredLevels = new ArrayList<>();
+        for (List<DecisionNode> level : levels) {
+            List<DecisionNode> requiredLevel = new ArrayList<>();
+            for (DecisionNode decision : level) {
+                if (required.contains(decision)) {
+                    requiredLevel.add(decision);
+                }
+            }
+            if (!requiredLevel.isEmpty()) {
+                requiredLevels.add(requiredLevel);
+            }
+        }
+        return requiredLevels;
+    }
+
+    /**
+     * @return true if the given decision can be evaluated on another thread once all the previous levels have been evaluated
+     */
+    public boolean isIsolated(DecisionNode decision) {
+        return isolated.containsKey(decision);
+    }
+
+    /**
+     * @return the business knowledge models transitively invoked by the given isolated decision
+     */
+    public Set<BusinessKnowledgeModelNode> getRequiredBKMs(DecisionNode decision) {
+        return isolated.getOrDefault(decision, Collections.emptySet());
+    }
+}
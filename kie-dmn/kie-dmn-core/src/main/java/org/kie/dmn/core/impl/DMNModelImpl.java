@@ -96,6 +96,14 @@ public class DMNModelImpl
      * a compile-time preference to indicate if type-check should be performed during runtime evaluation. 
      */
     private boolean runtimeTypeCheck = false;
+    /**
+     * a compile-time preference to indicate if independent decisions should be evaluated concurrently during runtime evaluation.
+     */
+    private boolean parallelEvaluation = false;
+
+    private transient DMNDecisionSchedule decisionSchedule;
+
+    private transient DMNContextSlots contextSlots;
 
     private Map<String, QName> importAliases = new HashMap<>();
     private ImportChain importChain;
@@ -415,6 +423,45 @@ public class DMNModelImpl
         this.runtimeTypeCheck = runtimeTypeCheck;
     }
 
+    /**
+     * @return a compile-time preference to indicate if independent decisions should be evaluated concurrently during runtime evaluation.
+     */
+    public boolean isParallelEvaluation() {
+        return parallelEvaluation;
+    }
+
+    public void setParallelEvaluation(boolean parallelEvaluation) {
+        this.parallelEvaluation = parallelEvaluation;
+    }
+
+    /**
+     * @return the topological schedule of the decisions of this model, computed at compile time or on first use.
+     */
+    public DMNDecisionSchedule getDecisionSchedule() {
+        if (decisionSchedule == null) {
+            decisionSchedule = DMNDecisionSchedule.of(this);
+        }
+        return decisionSchedule;
+    }
+
+    public void setDecisionSchedule(DMNDecisionSchedule decisionSchedule) {
+        this.decisionSchedule = decisionSchedule;
+    }
+
+    /**
+     * @return the slots of the input data and decisions of this model used by {@link DMNContextArrayImpl}, computed at compile time or on first use.
+     */
+    public DMNContextSlots getContextSlots() {
+        if (contextSlots == null) {
+            contextSlots = DMNContextSlots.of(this);
+        }
+        return contextSlots;
+    }
+
+    public void setContextSlots(DMNContextSlots contextSlots) {
+        this.contextSlots = contextSlots;
+    }
+
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         out.writeObject(serializedAs);
@@ -463,6 +510,9 @@ public class DMNModelImpl
         this.messages  = compiledModel.messages  ;
         this.types     = compiledModel.types     ;
         this.runtimeTypeCheck = compiledModel.runtimeTypeCheck;
+        this.parallelEvaluation = compiledModel.parallelEvaluation;
+        this.decisionSchedule = compiledModel.decisionSchedule;
+        this.contextSlots = compiledModel.contextSlots;
         this.importAliases = compiledModel.importAliases;
     }
 
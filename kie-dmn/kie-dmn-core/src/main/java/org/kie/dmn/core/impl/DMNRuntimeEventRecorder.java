@@ -0,0 +1,236 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateAllEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.AfterInvokeBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateAllEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeInvokeBKMEvent;
+import org.kie.dmn.api.core.event.DMNEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Event manager used by a decision evaluated on another thread: the events are recorded instead of being notified
+ * and then replayed, in the order they were fired, by the thread which has to notify them to the listeners of the
+ * runtime. In this way the listeners are never invoked concurrently and see the events of each decision in the same
+ * order of a sequential evaluation.
+ * <p/>
+ * The events fired against the result of the concurrent evaluation are notified with the result they are replayed to,
+ * as they would have been in a sequential evaluation. After the replay the events are directly notified to the
+ * listeners of the runtime, which is still needed when a function created during the evaluation, and then invoked
+ * by another decision, fires some events.
+ */
+public class DMNRuntimeEventRecorder implements DMNRuntimeEventManager {
+
+    private static final Logger logger = LoggerFactory.getLogger( DMNRuntimeEventRecorder.class );
+
+    private final DMNRuntimeImpl runtime;
+
+    private final DMNResult recordedResult;
+
+    private final Set<DMNRuntimeEventListener> recordingListeners = Collections.singleton(new RecordingListener());
+
+    private final Map<BeforeEvaluateDecisionEvent, BeforeEvaluateDecisionEvent> replayedBeforeDecisionEvents = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private List<Consumer<DMNResult>> events = new ArrayList<>();
+
+    private DMNResult targetResult;
+
+    public DMNRuntimeEventRecorder(DMNRuntimeImpl runtime, DMNResult recordedResult) {
+        this.runtime = runtime;
+        this.recordedResult = recordedResult;
+    }
+
+    @Override
+    public void addListener(DMNRuntimeEventListener listener) {
+        runtime.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(DMNRuntimeEventListener listener) {
+        runtime.removeListener(listener);
+    }
+
+    @Override
+    public synchronized Set<DMNRuntimeEventListener> getListeners() {
+        return events != null ? recordingListeners : runtime.getListeners();
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return runtime.hasListeners();
+    }
+
+    @Override
+    public DMNRuntime getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * Notifies the recorded events to the listeners of the runtime, replacing the recorded result with the given one,
+     * and stops recording
+     */
+    public void replay(DMNResult target) {
+        List<Consumer<DMNResult>> recorded;
+        synchronized (this) {
+            recorded = events;
+            events = null;
+            targetResult = target;
+        }
+        if (recorded == null) {
+            return;
+        }
+        for (Consumer<DMNResult> event : recorded) {
+            event.accept(target);
+        }
+    }
+
+    private synchronized <E extends DMNEvent> void record(E event, Function<DMNResult, E> replayedEvent, BiConsumer<DMNRuntimeEventListener, E> notification) {
+        if (events != null) {
+            events.add(target -> notifyListeners(replayed(event, replayedEvent, target), notification));
+        } else {
+            // already replayed, the listeners of the runtime are notified by the caller
+            notifyListeners(replayed(event, replayedEvent, targetResult), notification);
+        }
+    }
+
+    private <E extends DMNEvent> E replayed(E event, Function<DMNResult, E> replayedEvent, DMNResult target) {
+        return event.getResult() == recordedResult && target != recordedResult ? replayedEvent.apply(target) : event;
+    }
+
+    private <E extends DMNEvent> void notifyListeners(E event, BiConsumer<DMNRuntimeEventListener, E> notification) {
+        for (DMNRuntimeEventListener listener : runtime.getListeners()) {
+            try {
+                notification.accept(listener, event);
+            } catch (Throwable t) {
+                logger.error( "Error notifying listener '"+listener+"'", t );
+            }
+        }
+    }
+
+    private class RecordingListener implements DMNRuntimeEventListener {
+
+        @Override
+        public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+            record(event, r -> {
+                BeforeEvaluateDecisionEvent replayed = new BeforeEvaluateDecisionEventImpl(event.getDecision(), r);
+                replayedBeforeDecisionEvents.put(event, replayed);
+                return replayed;
+            }, DMNRuntimeEventListener::beforeEvaluateDecision);
+        }
+
+        @Override
+        public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+            record(event, r -> {
+                BeforeEvaluateDecisionEvent before = event instanceof AfterEvaluateDecisionEventImpl ? ((AfterEvaluateDecisionEventImpl) event).getBeforeEvent() : null;
+                BeforeEvaluateDecisionEvent replayedBefore = before != null ? replayedBeforeDecisionEvents.remove(before) : null;
+                return new AfterEvaluateDecisionEventImpl(event.getDecision(), r, replayedBefore != null ? replayedBefore : before);
+            }, DMNRuntimeEventListener::afterEvaluateDecision);
+        }
+
+        @Override
+        public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+            record(event, r -> new BeforeEvaluateBKMEventImpl(event.getBusinessKnowledgeModel(), r), DMNRuntimeEventListener::beforeEvaluateBKM);
+        }
+
+        @Override
+        public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+            record(event, r -> new AfterEvaluateBKMEventImpl(event.getBusinessKnowledgeModel(), r), DMNRuntimeEventListener::afterEvaluateBKM);
+        }
+
+        @Override
+        public void beforeEvaluateContextEntry(BeforeEvaluateContextEntryEvent event) {
+            record(event, r -> new BeforeEvaluateContextEntryEventImpl(event.getNodeName(), event.getVariableName(), event.getVariableId(), event.getExpressionId(), r),
+                   DMNRuntimeEventListener::beforeEvaluateContextEntry);
+        }
+
+        @Override
+        public void afterEvaluateContextEntry(AfterEvaluateContextEntryEvent event) {
+            record(event, r -> new AfterEvaluateContextEntryEventImpl(event.getNodeName(), event.getVariableName(), event.getVariableId(), event.getExpressionId(), event.getExpressionResult(), r),
+                   DMNRuntimeEventListener::afterEvaluateContextEntry);
+        }
+
+        @Override
+        public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+            record(event, r -> new BeforeEvaluateDecisionTableEventImpl(event.getNodeName(), event.getDecisionTableName(), event.getDecisionTableId(), r),
+                   DMNRuntimeEventListener::beforeEvaluateDecisionTable);
+        }
+
+        @Override
+        public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+            record(event, r -> new AfterEvaluateDecisionTableEventImpl(event.getNodeName(), event.getDecisionTableName(), event.getDecisionTableId(), r, event.getMatches(), event.getSelected()),
+                   DMNRuntimeEventListener::afterEvaluateDecisionTable);
+        }
+
+        @Override
+        public void beforeEvaluateDecisionService(BeforeEvaluateDecisionServiceEvent event) {
+            record(event, r -> new BeforeEvaluateDecisionServiceEventImpl(event.getDecisionService(), r), DMNRuntimeEventListener::beforeEvaluateDecisionService);
+        }
+
+        @Override
+        public void afterEvaluateDecisionService(AfterEvaluateDecisionServiceEvent event) {
+            record(event, r -> new AfterEvaluateDecisionServiceEventImpl(event.getDecisionService(), r), DMNRuntimeEventListener::afterEvaluateDecisionService);
+        }
+
+        @Override
+        public void beforeInvokeBKM(BeforeInvokeBKMEvent event) {
+            record(event, r -> new BeforeInvokeBKMEventImpl(event.getBusinessKnowledgeModel(), r, event.getInvocationParameters()), DMNRuntimeEventListener::beforeInvokeBKM);
+        }
+
+        @Override
+        public void afterInvokeBKM(AfterInvokeBKMEvent event) {
+            record(event, r -> new AfterInvokeBKMEventImpl(event.getBusinessKnowledgeModel(), r, event.getInvocationResult()), DMNRuntimeEventListener::afterInvokeBKM);
+        }
+
+        @Override
+        public void beforeEvaluateAll(BeforeEvaluateAllEvent event) {
+            record(event, r -> new BeforeEvaluateAllEventImpl(event.getModelNamespace(), event.getModelName(), r), DMNRuntimeEventListener::beforeEvaluateAll);
+        }
+
+        @Override
+        public void afterEvaluateAll(AfterEvaluateAllEvent event) {
+            record(event, r -> new AfterEvaluateAllEventImpl(event.getModelNamespace(), event.getModelName(), r), DMNRuntimeEventListener::afterEvaluateAll);
+        }
+    }
+}
@@ -18,14 +18,22 @@
  */
 package org.kie.dmn.core.impl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.xml.namespace.QName;
 
@@ -44,6 +52,7 @@ import org.kie.dmn.api.core.ast.DecisionServiceNode;
 import org.kie.dmn.api.core.ast.InputDataNode;
 import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
 import org.kie.dmn.core.api.DMNFactory;
 import org.kie.dmn.core.api.EvaluatorResult;
 import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
@@ -55,10 +64,13 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.compiler.RegexCacheSizeOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
 import org.kie.dmn.feel.runtime.FEELFunction;
+import org.kie.dmn.feel.util.RegexPatternCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,6 +87,9 @@ public class DMNRuntimeImpl
 
     private boolean overrideRuntimeTypeCheck = false;
 
+    private boolean overrideParallelEvaluation = false;
+    private Executor parallelExecutor = ForkJoinPool.commonPool();
+
     private DMNResultImplFactory dmnResultFactory = new DMNResultImplFactory();
 
     public DMNRuntimeImpl(DMNRuntimeKB runtimeKB) {
@@ -111,10 +126,15 @@ public class DMNRuntimeImpl
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
         DMNResultImpl result = createResult( model, context );
         DMNRuntimeEventManagerUtils.fireBeforeEvaluateAll( eventManager, model, result );
-        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
-        Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
-        for( DecisionNode decision : decisions ) {
-            evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+        if (performParallelEvaluation(model)) {
+            DMNDecisionSchedule schedule = ((DMNModelImpl) model).getDecisionSchedule();
+            evaluateLevels(result, schedule, schedule.getLevels(), performRuntimeTypeCheck);
+        } else {
+            // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
+            Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+            for( DecisionNode decision : decisions ) {
+                evaluateDecision(this, context, result, decision, performRuntimeTypeCheck);
+            }
         }
         DMNRuntimeEventManagerUtils.fireAfterEvaluateAll( eventManager, model, result );
         return result;
@@ -147,6 +167,9 @@ public class DMNRuntimeImpl
             throw new IllegalArgumentException(MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_EMPTY, "decisionNames"));
         }
         final DMNResultImpl result = createResult( model, context );
+        if (performParallelEvaluation(model)) {
+            evaluateRequiredLevels(model, result, Arrays.stream(decisionNames).map(model::getDecisionByName));
+        }
         for (String name : decisionNames) {
             evaluateByNameInternal( model, context, result, name );
         }
@@ -158,7 +181,7 @@ public class DMNRuntimeImpl
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionByName(name));
         if (decision.isPresent()) {
             final boolean walkingIntoScope = walkIntoImportScopeInternalDecisionInvocation(result, model, decision.get());
-            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
+            evaluateDecision(this, context, result, decision.get(), performRuntimeTypeCheck);
             if (walkingIntoScope) {
                 result.getContext().popScope();
             }
@@ -183,6 +206,9 @@ public class DMNRuntimeImpl
             throw new IllegalArgumentException(MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_EMPTY, "decisionIds"));
         }
         final DMNResultImpl result = createResult( model, context );
+        if (performParallelEvaluation(model)) {
+            evaluateRequiredLevels(model, result, Arrays.stream(decisionIds).map(model::getDecisionById));
+        }
         for ( String id : decisionIds ) {
             evaluateByIdInternal( model, context, result, id );
         }
@@ -194,7 +220,7 @@ public class DMNRuntimeImpl
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionById(id));
         if (decision.isPresent()) {
             final boolean walkingIntoScope = walkIntoImportScopeInternalDecisionInvocation(result, model, decision.get());
-            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
+            evaluateDecision(this, context, result, decision.get(), performRuntimeTypeCheck);
             if (walkingIntoScope) {
                 result.getContext().popScope();
             }
@@ -210,6 +236,94 @@ public class DMNRuntimeImpl
         }
     }
 
+    private void evaluateRequiredLevels(DMNModel model, DMNResultImpl result, Stream<DecisionNode> decisions) {
+        DMNDecisionSchedule schedule = ((DMNModelImpl) model).getDecisionSchedule();
+        List<DecisionNode> required = decisions.filter(Objects::nonNull).collect(Collectors.toList());
+        evaluateLevels(result, schedule, schedule.getLevelsRequiredBy(required), performRuntimeTypeCheck(model));
+    }
+
+    /**
+     * Evaluates the given levels of a {@link DMNDecisionSchedule} one after the other, the isolated decisions of each level
+     * being evaluated concurrently. Every concurrent evaluation works on its own copy of the context and its events are
+     * recorded: the outcomes are then merged into the result, and the events notified against it, following the order
+     * of the level.
+     * The business knowledge models are evaluated by each concurrent evaluation, so that their functions are bound to
+     * its own result and events, and only the value of the decision is merged back.
+     */
+    private void evaluateLevels(DMNResultImpl result, DMNDecisionSchedule schedule, List<List<DecisionNode>> levels, boolean typeCheck) {
+        DMNContext context = result.getContext();
+        Set<String> inputNames = new HashSet<>(context.getAll().keySet());
+        for (List<DecisionNode> level : levels) {
+            List<DecisionNode> isolated = level.stream().filter(schedule::isIsolated).collect(Collectors.toList());
+            if (isolated.size() < 2) {
+                for (DecisionNode decision : level) {
+                    evaluateDecision(this, context, result, decision, typeCheck);
+                }
+                continue;
+            }
+            List<DMNResultImpl> taskResults = new ArrayList<>(isolated.size());
+            List<DMNRuntimeEventRecorder> recorders = new ArrayList<>(isolated.size());
+            List<CompletableFuture<Void>> tasks = new ArrayList<>(isolated.size());
+            for (DecisionNode decision : isolated) {
+                DMNResultImpl taskResult = createTaskResult(result, schedule.getRequiredBKMs(decision), inputNames);
+                DMNRuntimeEventRecorder recorder = new DMNRuntimeEventRecorder(this, taskResult);
+                taskResults.add(taskResult);
+                recorders.add(recorder);
+                tasks.add(CompletableFuture.runAsync(() -> evaluateDecision(recorder, taskResult.getContext(), taskResult, decision, typeCheck), parallelExecutor));
+            }
+            Throwable failure = null;
+            for (int i = 0; i < tasks.size(); i++) {
+                try {
+                    tasks.get(i).join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() != null ? e.getCause() : e;
+                    }
+                    continue;
+                }
+                DMNResultImpl taskResult = taskResults.get(i);
+                String name = isolated.get(i).getName();
+                if (taskResult.getContext().isDefined(name)) {
+                    context.set(name, taskResult.getContext().get(name));
+                }
+                result.addAllUnfiltered(taskResult.getMessages());
+                recorders.get(i).replay(result);
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            } else if (failure != null) {
+                throw new IllegalStateException(failure);
+            }
+            for (DecisionNode decision : level) {
+                if (!schedule.isIsolated(decision)) {
+                    evaluateDecision(this, context, result, decision, typeCheck);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the result of the concurrent evaluation of an isolated decision: it shares the decision results, while the
+     * functions of the required business knowledge models already evaluated by the calling thread are left out of its
+     * context, unless provided as input, so that they are evaluated again against the new result.
+     */
+    private DMNResultImpl createTaskResult(DMNResultImpl result, Set<BusinessKnowledgeModelNode> requiredBKMs, Set<String> inputNames) {
+        DMNContext context = result.getContext().clone();
+        for (BusinessKnowledgeModelNode bkm : requiredBKMs) {
+            if (!inputNames.contains(bkm.getName())) {
+                context.getAll().remove(bkm.getName());
+            }
+        }
+        DMNResultImpl taskResult = dmnResultFactory.newDMNResultImpl(result.getModel());
+        taskResult.setContext(context);
+        for (DMNDecisionResult decisionResult : result.getDecisionResults()) {
+            taskResult.addDecisionResult(decisionResult);
+        }
+        return taskResult;
+    }
+
     @Override
     public void addListener(DMNRuntimeEventListener listener) {
         this.eventManager.addListener( listener );
@@ -324,7 +438,7 @@ public class DMNRuntimeImpl
         return result;
     }
 
-    private void evaluateDecisionService(DMNContext context, DMNResultImpl result, DecisionServiceNode d, boolean typeCheck) {
+    private void evaluateDecisionService(DMNRuntimeEventManager events, DMNContext context, DMNResultImpl result, DecisionServiceNode d, boolean typeCheck) {
         DecisionServiceNodeImpl ds = (DecisionServiceNodeImpl) d;
         if (isNodeValueDefined(result, ds, ds)) {
             // already resolved
@@ -334,7 +448,7 @@ public class DMNRuntimeImpl
         try {
             // a Decision Service when is evaluated as a function does not require any dependency check, as they will be passed as params.
 
-            EvaluatorResult er = ds.getEvaluator().evaluate(this, result);
+            EvaluatorResult er = ds.getEvaluator().evaluate(events, result);
             if (er.getResultType() == EvaluatorResult.ResultType.SUCCESS) {
                 FEELFunction resultFn = (FEELFunction) er.getResult();
                 result.getContext().set(ds.getName(), resultFn);
@@ -352,7 +466,7 @@ public class DMNRuntimeImpl
         }
     }
 
-    private void evaluateBKM(DMNContext context, DMNResultImpl result, BusinessKnowledgeModelNode b, boolean typeCheck) {
+    private void evaluateBKM(DMNRuntimeEventManager events, DMNContext context, DMNResultImpl result, BusinessKnowledgeModelNode b, boolean typeCheck) {
         BusinessKnowledgeModelNodeImpl bkm = (BusinessKnowledgeModelNodeImpl) b;
         if (isNodeValueDefined(result, bkm, bkm)) {
             // already resolved
@@ -372,7 +486,7 @@ public class DMNRuntimeImpl
             return;
         }
         try {
-            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( events, bkm, result );
             for( DMNNode dep : bkm.getDependencies().values() ) {
                 if (typeCheck && !checkDependencyValueIsValid(dep, result)) {
                     MsgUtil.reportMessage( logger,
@@ -392,9 +506,9 @@ public class DMNRuntimeImpl
                 if (!isNodeValueDefined(result, bkm, dep)) {
                     boolean walkingIntoScope = walkIntoImportScope(result, bkm, dep);
                     if( dep instanceof BusinessKnowledgeModelNode ) {
-                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                        evaluateBKM(events, context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
                     } else if (dep instanceof DecisionServiceNode) {
-                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
+                        evaluateDecisionService(events, context, result, (DecisionServiceNode) dep, typeCheck);
                     } else {
                         MsgUtil.reportMessage( logger,
                                                DMNMessage.Severity.ERROR,
@@ -414,7 +528,7 @@ public class DMNRuntimeImpl
                 }
             }
 
-            EvaluatorResult er = bkm.getEvaluator().evaluate( this, result );
+            EvaluatorResult er = bkm.getEvaluator().evaluate( events, result );
             if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
                 final FEELFunction original_fn = (FEELFunction) er.getResult();
                 FEELFunction resultFn = original_fn;
@@ -435,7 +549,7 @@ public class DMNRuntimeImpl
                                    getIdentifier( bkm ),
                                    t.getMessage() );
         } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( events, bkm, result );
         }
     }
 
@@ -544,7 +658,7 @@ public class DMNRuntimeImpl
 
     }
 
-    private boolean evaluateDecision(DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck) {
+    private boolean evaluateDecision(DMNRuntimeEventManager events, DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck) {
         DecisionNodeImpl decision = (DecisionNodeImpl) d;
         String decisionId = d.getModelNamespace().equals(result.getModel().getNamespace()) ? decision.getId() : decision.getModelNamespace() + "#" + decision.getId();
         if (isNodeValueDefined(result, decision, decision)) {
@@ -561,7 +675,7 @@ public class DMNRuntimeImpl
         }
         BeforeEvaluateDecisionEvent beforeEvaluateDecisionEvent = null;
         try {
-            beforeEvaluateDecisionEvent = DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision(eventManager, decision, result);
+            beforeEvaluateDecisionEvent = DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision(events, decision, result);
             boolean missingInput = false;
             DMNDecisionResultImpl dr = (DMNDecisionResultImpl) result.getDecisionResultById(decisionId);
             if (dr == null) { // an imported Decision now evaluated, requires the creation of the decision result:
@@ -608,7 +722,7 @@ public class DMNRuntimeImpl
                 if (!isNodeValueDefined(result, decision, dep)) {
                     boolean walkingIntoScope = walkIntoImportScope(result, decision, dep);
                     if( dep instanceof DecisionNode ) {
-                        if (!evaluateDecision(context, result, (DecisionNode) dep, typeCheck)) {
+                        if (!evaluateDecision(events, context, result, (DecisionNode) dep, typeCheck)) {
                             missingInput = true;
                             DMNMessage message = MsgUtil.reportMessage( logger,
                                                                         DMNMessage.Severity.ERROR,
@@ -622,9 +736,9 @@ public class DMNRuntimeImpl
                             reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
                         }
                     } else if( dep instanceof BusinessKnowledgeModelNode ) {
-                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                        evaluateBKM(events, context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
                     } else if (dep instanceof DecisionServiceNode) {
-                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
+                        evaluateDecisionService(events, context, result, (DecisionServiceNode) dep, typeCheck);
                     } else {
                         missingInput = true;
                         DMNMessage message = MsgUtil.reportMessage( logger,
@@ -661,7 +775,7 @@ public class DMNRuntimeImpl
                 return false;
             }
             try {
-                EvaluatorResult er = decision.getEvaluator().evaluate( this, result );
+                EvaluatorResult er = decision.getEvaluator().evaluate( events, result );
                 if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
                     Object value = er.getResult();
                     if( ! decision.getResultType().isCollection() && value instanceof Collection &&
@@ -721,7 +835,7 @@ public class DMNRuntimeImpl
             }
             return true;
         } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( eventManager, decision, result, beforeEvaluateDecisionEvent);
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( events, decision, result, beforeEvaluateDecisionEvent);
         }
     }
 
@@ -758,9 +872,20 @@ public class DMNRuntimeImpl
         return overrideRuntimeTypeCheck || ((DMNModelImpl) model).isRuntimeTypeCheck();
     }
 
+    public boolean performParallelEvaluation(DMNModel model) {
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        return overrideParallelEvaluation || ((DMNModelImpl) model).isParallelEvaluation();
+    }
+
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.overrideParallelEvaluation = ((ParallelEvaluationOption) option).isParallelEvaluation();
+            this.parallelExecutor = ((ParallelEvaluationOption) option).getExecutor();
+        } else if (option instanceof RegexCacheSizeOption) {
+            // JVM wide: the compiled patterns are shared by all the FEEL built-in functions of every runtime
+            RegexPatternCache.setMaximumSize(((RegexCacheSizeOption) option).getSize());
         }
     }
 
@@ -45,6 +45,7 @@ import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNDecisionLogicCompilerFactory;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.compiler.profiles.ExtendedDMNProfile;
 import org.kie.dmn.core.impl.DMNRuntimeImpl;
@@ -110,6 +111,11 @@ public class DMNRuntimeBuilder {
         return this;
     }
 
+    public DMNRuntimeBuilder setOption(ParallelEvaluationOption option) {
+        ctx.cc.setProperty(option.getPropertyName(), "" + option.isParallelEvaluation());
+        return this;
+    }
+
     public DMNRuntimeBuilder setRootClassLoader(ClassLoader classLoader) {
         ctx.cc.setRootClassLoader(classLoader);
         return this;
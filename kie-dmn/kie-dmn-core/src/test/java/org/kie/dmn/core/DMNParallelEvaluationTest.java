@@ -0,0 +1,221 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.AfterInvokeBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeInvokeBKMEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNDecisionSchedule;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    public DMNParallelEvaluationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Test
+    public void testDecisionSchedule() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        assertThat(dmnModel).isNotNull();
+
+        final DMNDecisionSchedule schedule = ((DMNModelImpl) dmnModel).getDecisionSchedule();
+        assertThat(schedule.getLevels()).hasSize(2);
+        assertThat(names(schedule.getLevels().get(0))).containsExactlyInAnyOrder("Base Vacation Days", "Extra days case 1", "Extra days case 2", "Extra days case 3");
+        assertThat(names(schedule.getLevels().get(1))).containsExactly("Total Vacation Days");
+        assertThat(dmnModel.getDecisions()).allMatch(schedule::isIsolated);
+
+        final List<List<DecisionNode>> required = schedule.getLevelsRequiredBy(List.of(dmnModel.getDecisionByName("Extra days case 1")));
+        assertThat(required).hasSize(1);
+        assertThat(names(required.get(0))).containsExactly("Extra days case 1");
+    }
+
+    @Test
+    public void testParallelEvaluateAll() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        final DMNResult sequentialResult = runtime.evaluateAll(dmnModel, newContext(44, 20));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger tasks = new AtomicInteger();
+            ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(command -> {
+                tasks.incrementAndGet();
+                executor.execute(command);
+            }));
+            final List<String> events = new ArrayList<>();
+            final Set<DMNResult> eventResults = Collections.newSetFromMap(new IdentityHashMap<>());
+            runtime.addListener(new DMNRuntimeEventListener() {
+                @Override
+                public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+                    events.add("before " + event.getDecision().getName());
+                    eventResults.add(event.getResult());
+                }
+
+                @Override
+                public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+                    events.add("after " + event.getDecision().getName());
+                    eventResults.add(event.getResult());
+                }
+            });
+
+            final DMNResult parallelResult = runtime.evaluateAll(dmnModel, newContext(44, 20));
+            assertThat(tasks.get()).isEqualTo(4);
+            assertThat(parallelResult.hasErrors()).isFalse();
+            assertThat(parallelResult.getContext().get("Total Vacation Days")).isEqualTo(BigDecimal.valueOf(24));
+            assertThat(parallelResult.getContext().getAll()).isEqualTo(sequentialResult.getContext().getAll());
+            for (DMNDecisionResult decisionResult : sequentialResult.getDecisionResults()) {
+                assertThat(parallelResult.getDecisionResultByName(decisionResult.getDecisionName()).getEvaluationStatus()).isEqualTo(decisionResult.getEvaluationStatus());
+            }
+
+            // the events of each decision are notified together, the dependent decision last
+            assertThat(events).hasSize(10);
+            for (int i = 0; i < events.size(); i += 2) {
+                assertThat(events.get(i)).startsWith("before ");
+                assertThat(events.get(i + 1)).isEqualTo("after " + events.get(i).substring("before ".length()));
+            }
+            assertThat(events.get(events.size() - 1)).isEqualTo("after Total Vacation Days");
+            // as in a sequential evaluation, the events refer to the result being returned
+            assertThat(eventResults).containsExactly(parallelResult);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelEvaluateByName() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(true));
+
+        final DMNResult dmnResult = runtime.evaluateByName(dmnModel, newContext(16, 1), "Total Vacation Days");
+        assertThat(dmnResult.hasErrors()).isFalse();
+        assertThat(dmnResult.getContext().get("Total Vacation Days")).isEqualTo(BigDecimal.valueOf(27));
+    }
+
+    @Test
+    public void testParallelEvaluateAllInvokingTheSameBKM() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("parallel-bkm.dmn", this.getClass());
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn/parallel-bkm", "parallel-bkm");
+        assertThat(dmnModel).isNotNull();
+        assertThat(dmnModel.hasErrors()).isFalse();
+
+        final DMNDecisionSchedule schedule = ((DMNModelImpl) dmnModel).getDecisionSchedule();
+        assertThat(names(schedule.getLevels().get(0))).containsExactlyInAnyOrder("Incoming Fee", "Outgoing Fee");
+        assertThat(schedule.getRequiredBKMs(dmnModel.getDecisionByName("Incoming Fee"))).extracting(BusinessKnowledgeModelNode::getName).containsExactly("Fee");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger tasks = new AtomicInteger();
+            ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(command -> {
+                tasks.incrementAndGet();
+                executor.execute(command);
+            }));
+            final List<String> events = Collections.synchronizedList(new ArrayList<>());
+            final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            runtime.addListener(new DMNRuntimeEventListener() {
+                @Override
+                public void beforeInvokeBKM(BeforeInvokeBKMEvent event) {
+                    threads.add(Thread.currentThread());
+                    events.add("before invoke " + event.getBusinessKnowledgeModel().getName());
+                }
+
+                @Override
+                public void afterInvokeBKM(AfterInvokeBKMEvent event) {
+                    threads.add(Thread.currentThread());
+                    events.add("after invoke " + event.getBusinessKnowledgeModel().getName());
+                }
+
+                @Override
+                public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+                    threads.add(Thread.currentThread());
+                    events.add("before table " + event.getNodeName());
+                }
+
+                @Override
+                public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+                    threads.add(Thread.currentThread());
+                    events.add("after table " + event.getNodeName());
+                }
+            });
+
+            for (int i = 1; i <= 20; i++) {
+                events.clear();
+                final DMNContext context = DMNFactory.newContext();
+                context.set("Amount", 100 * i);
+                final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+                assertThat(dmnResult.hasErrors()).isFalse();
+                assertThat(dmnResult.getMessages()).isEmpty();
+                assertThat((BigDecimal) dmnResult.getContext().get("Incoming Fee")).isEqualByComparingTo(BigDecimal.valueOf(i));
+                assertThat((BigDecimal) dmnResult.getContext().get("Outgoing Fee")).isEqualByComparingTo(BigDecimal.valueOf(2 * i));
+                assertThat((BigDecimal) dmnResult.getContext().get("Total Fee")).isEqualByComparingTo(BigDecimal.valueOf(3 * i));
+
+                // each invocation notifies its events together, by the calling thread
+                assertThat(events).containsExactly("before invoke Fee", "before table Fee", "after table Fee", "after invoke Fee",
+                                                   "before invoke Fee", "before table Fee", "after table Fee", "after invoke Fee");
+            }
+            assertThat(tasks.get()).isEqualTo(40);
+            assertThat(threads).containsExactly(Thread.currentThread());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static DMNContext newContext(final int age, final int yearsService) {
+        final DMNContext context = DMNFactory.newContext();
+        context.set("Age", age);
+        context.set("Years of Service", yearsService);
+        return context;
+    }
+
+    private static List<String> names(final List<DecisionNode> decisions) {
+        return decisions.stream().map(DecisionNode::getName).collect(Collectors.toList());
+    }
+}
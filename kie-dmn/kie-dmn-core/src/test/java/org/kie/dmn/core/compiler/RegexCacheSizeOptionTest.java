@@ -0,0 +1,59 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.compiler;
+
+import org.junit.After;
+import org.junit.Test;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.feel.util.RegexPatternCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegexCacheSizeOptionTest {
+
+    @After
+    public void resetCache() {
+        RegexPatternCache.setMaximumSize(RegexPatternCache.DEFAULT_SIZE);
+    }
+
+    @Test
+    public void testCompilerPropertyAppliedThroughRuntime() {
+        DMNCompilerConfigurationImpl config = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        config.setProperty(RegexCacheSizeOption.PROPERTY_NAME, "17");
+        assertThat(config.getOption(RegexCacheSizeOption.class).getSize()).isEqualTo(17);
+
+        // the JVM wide size is only changed by explicitly setting the option
+        new DMNCompilerImpl(config);
+        assertThat(RegexPatternCache.getMaximumSize()).isEqualTo(RegexPatternCache.DEFAULT_SIZE);
+
+        new DMNRuntimeImpl(null).setOption(config.getOption(RegexCacheSizeOption.class));
+        assertThat(RegexPatternCache.getMaximumSize()).isEqualTo(17);
+    }
+
+    @Test
+    public void testUnsetPropertyKeepsCurrentSize() {
+        RegexPatternCache.setMaximumSize(33);
+        DMNCompilerConfigurationImpl config = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        assertThat(config.getOption(RegexCacheSizeOption.class).getSize()).isEqualTo(33);
+
+        new DMNCompilerImpl(config);
+        assertThat(RegexPatternCache.getMaximumSize()).isEqualTo(33);
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.core.impl;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.BaseDMNContextTest;
+import org.kie.dmn.core.DMNRuntimeTest;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DMNContextArrayImplTest extends BaseDMNContextTest {
+
+    private static final DMNContextSlots SLOTS = new DMNContextSlots(Arrays.asList("s_entr1", "f_entr3", "s_entr5", "unused"));
+
+    @Test
+    public void testEmptyContext() {
+        DMNContextArrayImpl ctx1 = new DMNContextArrayImpl(SLOTS);
+        testCloneAndAlter(ctx1, Collections.emptyMap(), Collections.emptyMap());
+
+        DMNContextArrayImpl ctx2 = new DMNContextArrayImpl(SLOTS);
+        testPushAndPopScope(ctx2, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    @Test
+    public void testContextWithEntries() {
+        DMNContextArrayImpl ctx1 = new DMNContextArrayImpl(SLOTS, DEFAULT_ENTRIES);
+        testCloneAndAlter(ctx1, DEFAULT_ENTRIES, Collections.emptyMap());
+
+        DMNContextArrayImpl ctx2 = new DMNContextArrayImpl(SLOTS, DEFAULT_ENTRIES);
+        testPushAndPopScope(ctx2, DEFAULT_ENTRIES, Collections.emptyMap());
+    }
+
+    @Test
+    public void testUndefinedSlot() {
+        DMNContextArrayImpl ctx = new DMNContextArrayImpl(SLOTS, DEFAULT_ENTRIES);
+        assertThat(ctx.isDefined("unused")).isFalse();
+        assertThat(ctx.getAll()).doesNotContainKey("unused");
+
+        ctx.set("unused", null);
+        assertThat(ctx.isDefined("unused")).isTrue();
+        assertThat(ctx.getAll()).containsEntry("unused", null).hasSize(DEFAULT_ENTRIES.size() + 1);
+
+        ctx.getAll().remove("unused");
+        assertThat(ctx.isDefined("unused")).isFalse();
+        assertThat(ctx.getAll()).isEqualTo(DEFAULT_ENTRIES);
+    }
+
+    @Test
+    public void testCloneDoesNotShareScopes() {
+        DMNContextArrayImpl ctx = new DMNContextArrayImpl(SLOTS, DEFAULT_ENTRIES);
+        ctx.pushScope(DEFAULT_SCOPE_NAME, DEFAULT_SCOPE_NAMESPACE);
+        ctx.set("s_scEn1", "scopeValue1");
+
+        DMNContext cloned = ctx.clone();
+        assertNamespaceEquals(DEFAULT_SCOPE_NAMESPACE, cloned);
+        cloned.set("i_scEn2", 2);
+        cloned.popScope();
+        ctx.popScope();
+
+        assertThat((Map<String, Object>) ctx.get(DEFAULT_SCOPE_NAME)).containsOnlyKeys("s_scEn1");
+        assertThat((Map<String, Object>) cloned.get(DEFAULT_SCOPE_NAME)).containsOnlyKeys("s_scEn1", "i_scEn2");
+    }
+
+    @Test
+    public void testEvaluateModel() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", DMNRuntimeTest.class);
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        assertThat(dmnModel).isNotNull();
+
+        final DMNContext context = DMNFactory.newContext(dmnModel);
+        assertThat(context).isInstanceOf(DMNContextArrayImpl.class);
+        context.set("Age", 16);
+        context.set("Years of Service", 1);
+
+        final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+        assertThat(dmnResult.hasErrors()).isFalse();
+        assertThat(dmnResult.getContext().get("Total Vacation Days")).isEqualTo(BigDecimal.valueOf(27));
+        assertThat(context.isDefined("Total Vacation Days")).isFalse();
+        assertThat(context.getAll()).hasSize(2);
+    }
+}
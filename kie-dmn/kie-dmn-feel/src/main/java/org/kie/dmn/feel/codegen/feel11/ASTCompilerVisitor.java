@@ -29,6 +29,7 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.body.FieldDeclaration;
 import com.github.javaparser.ast.body.Parameter;
 import com.github.javaparser.ast.expr.BinaryExpr;
@@ -90,6 +91,7 @@ import org.kie.dmn.feel.lang.ast.Visitor;
 import org.kie.dmn.feel.lang.impl.MapBackedType;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.ScopeHelper;
+import org.kie.dmn.feel.parser.feel11.profiles.FastArithmeticFEELProfile.Semantics;
 import org.kie.dmn.feel.util.EvalHelper;
 import org.kie.dmn.feel.util.Msg;
 
@@ -99,6 +101,20 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     ScopeHelper<Type> scopeHelper = new ScopeHelper<>();
 
+    /**
+     * Semantics of the primitive fast path of the arithmetic expressions, null when disabled
+     */
+    private final Semantics arithmeticSemantics;
+    private boolean compilingArithmeticFallback;
+
+    public ASTCompilerVisitor() {
+        this(null);
+    }
+
+    public ASTCompilerVisitor(Semantics arithmeticSemantics) {
+        this.arithmeticSemantics = arithmeticSemantics;
+    }
+
     @Override
     public DirectCompilerResult visit(ASTNode n) {
         throw new UnsupportedOperationException("Not yet implemented");
@@ -220,6 +236,12 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
 
     @Override
     public DirectCompilerResult visit(InfixOpNode n) {
+        if (arithmeticSemantics != null && !compilingArithmeticFallback) {
+            CompiledFEELArithmetic arithmetic = CompiledFEELArithmetic.of(n, arithmeticSemantics, scopeHelper);
+            if (arithmetic != null) {
+                return arithmeticFastPath(n, arithmetic);
+            }
+        }
         DirectCompilerResult left = n.getLeft().accept(this);
         DirectCompilerResult right = n.getRight().accept(this);
         MethodCallExpr expr = Expressions.binary(
@@ -229,6 +251,22 @@ public class ASTCompilerVisitor implements Visitor<DirectCompilerResult> {
         return DirectCompilerResult.of(expr, BuiltInType.UNKNOWN).withFD(left).withFD(right);
     }
 
+    private DirectCompilerResult arithmeticFastPath(InfixOpNode n, CompiledFEELArithmetic arithmetic) {
+        DirectCompilerResult fallback;
+        compilingArithmeticFallback = true;
+        try {
+            fallback = n.accept(this);
+        } finally {
+            compilingArithmeticFallback = false;
+        }
+        Expressions.NamedLambda lambda = Expressions.namedArithmeticLambda(arithmetic.toBlock(fallback.getExpression()), n.getText());
+        DirectCompilerResult r = DirectCompilerResult.of(
+                new MethodCallExpr(lambda.name(), "apply", NodeList.nodeList(FeelCtx.FEELCTX)),
+                BuiltInType.UNKNOWN).withFD(fallback);
+        r.addFieldDeclaration(lambda.field());
+        return r;
+    }
+
     @Override
     public DirectCompilerResult visit(InstanceOfNode n) {
         DirectCompilerResult expr = n.getExpression().accept(this);
@@ -0,0 +1,303 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.codegen.feel11;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.InfixOpNode;
+import org.kie.dmn.feel.lang.ast.InfixOperator;
+import org.kie.dmn.feel.lang.ast.NameRefNode;
+import org.kie.dmn.feel.lang.ast.NumberNode;
+import org.kie.dmn.feel.lang.ast.SignedUnaryNode;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.ScopeHelper;
+import org.kie.dmn.feel.parser.feel11.profiles.FastArithmeticFEELProfile.Semantics;
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * Primitive fast path of the arithmetic expressions made only of <code>+ - *</code> (and <code>/</code> with the
+ * {@link Semantics#IEEE_754} semantics), signs, numeric literals and numeric variables.
+ * <p/>
+ * The generated function reads each variable once and, if all of them have a suitable runtime type, computes the
+ * result with primitive arithmetic; otherwise, or when the primitive result is not representable, it evaluates the
+ * usual <code>BigDecimal</code> expression, so the observable results, including the events and the
+ * <code>null</code> propagation, are the ones of the default compilation.
+ * <p/>
+ * With the {@link Semantics#EXACT} semantics the values are fixed point <code>long</code>s whose scale is computed at
+ * compile time from the literals: the variables must be integers of at most 18 digits and every overflow is
+ * detected, so the result is always equal, in value and scale, to the <code>DECIMAL128</code> one.
+ * The public static methods are used by the generated code.
+ */
+public final class CompiledFEELArithmetic {
+
+    private static final String ARITHMETIC = CompiledFEELArithmetic.class.getCanonicalName();
+
+    private static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+        }
+    }
+
+    private final ScopeHelper<Type> scopeHelper;
+    private final Map<String, String> variables = new LinkedHashMap<>();
+    private String body;
+
+    private CompiledFEELArithmetic(ScopeHelper<Type> scopeHelper) {
+        this.scopeHelper = scopeHelper;
+    }
+
+    /**
+     * Returns the fast path of the given expression, or null if it cannot be computed with primitive arithmetic
+     */
+    static CompiledFEELArithmetic of(InfixOpNode n, Semantics semantics, ScopeHelper<Type> scopeHelper) {
+        if (!isArithmeticOperator(n.getOperator(), semantics)) {
+            return null;
+        }
+        CompiledFEELArithmetic arithmetic = new CompiledFEELArithmetic(scopeHelper);
+        arithmetic.body = semantics == Semantics.EXACT ? arithmetic.exactBody(n) : arithmetic.ieeeBody(n);
+        return arithmetic.body == null ? null : arithmetic;
+    }
+
+    /**
+     * Returns the body of the fast path function, ending with the evaluation of the given fallback expression
+     */
+    BlockStmt toBlock(Expression fallback) {
+        BlockStmt block = StaticJavaParser.parseBlock(body);
+        block.addStatement(new ReturnStmt(fallback));
+        return block;
+    }
+
+    private static boolean isArithmeticOperator(InfixOperator operator, Semantics semantics) {
+        switch (operator) {
+            case ADD:
+            case SUB:
+            case MULT:
+                return true;
+            case DIV:
+                return semantics == Semantics.IEEE_754;
+            default:
+                return false;
+        }
+    }
+
+    private String exactBody(InfixOpNode n) {
+        Term term = exactTerm(n);
+        if (term == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder("{\n");
+        declareVariables(sb);
+        String compute = "try {\n" +
+                "return java.math.BigDecimal.valueOf(" + term.code + ", " + term.scale + ");\n" +
+                "} catch (ArithmeticException e) {\n" +
+                "// overflow of the long value, computed below as BigDecimal\n" +
+                "}\n";
+        guarded(sb, "isExactLong", compute);
+        return sb.append("}").toString();
+    }
+
+    private String ieeeBody(InfixOpNode n) {
+        String code = ieeeTerm(n);
+        if (code == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder("{\n");
+        declareVariables(sb);
+        String compute = "double result = " + code + ";\n" +
+                "if (Double.isFinite(result)) {\n" +
+                "return " + ARITHMETIC + ".ofDouble(result);\n" +
+                "}\n";
+        guarded(sb, "isNumber", compute);
+        return sb.append("}").toString();
+    }
+
+    private void declareVariables(StringBuilder sb) {
+        for (Map.Entry<String, String> variable : variables.entrySet()) {
+            sb.append("Object ").append(variable.getValue()).append(" = ")
+                    .append(FeelCtx.FEELCTX_N).append(".getValue(")
+                    .append(Expressions.stringLiteral(variable.getKey())).append(");\n");
+        }
+    }
+
+    private void guarded(StringBuilder sb, String check, String compute) {
+        if (variables.isEmpty()) {
+            sb.append(compute);
+            return;
+        }
+        sb.append("if (");
+        String separator = "";
+        for (String local : variables.values()) {
+            sb.append(separator).append(ARITHMETIC).append('.').append(check).append('(').append(local).append(')');
+            separator = " && ";
+        }
+        sb.append(") {\n").append(compute).append("}\n");
+    }
+
+    private Term exactTerm(BaseNode node) {
+        if (node instanceof InfixOpNode) {
+            InfixOpNode op = (InfixOpNode) node;
+            if (!isArithmeticOperator(op.getOperator(), Semantics.EXACT)) {
+                return null;
+            }
+            Term left = exactTerm(op.getLeft());
+            Term right = exactTerm(op.getRight());
+            if (left == null || right == null) {
+                return null;
+            }
+            if (op.getOperator() == InfixOperator.MULT) {
+                int scale = left.scale + right.scale;
+                return scale > MAX_SCALE ? null : new Term("Math.multiplyExact(" + left.code + ", " + right.code + ")", scale);
+            }
+            int scale = Math.max(left.scale, right.scale);
+            String method = op.getOperator() == InfixOperator.ADD ? "Math.addExact(" : "Math.subtractExact(";
+            return new Term(method + rescale(left, scale) + ", " + rescale(right, scale) + ")", scale);
+        } else if (node instanceof SignedUnaryNode) {
+            SignedUnaryNode signed = (SignedUnaryNode) node;
+            Term term = signedOperand(signed) ? exactTerm(signed.getExpression()) : null;
+            if (term == null || signed.getSign() == SignedUnaryNode.Sign.POSITIVE) {
+                return term;
+            }
+            return new Term("Math.negateExact(" + term.code + ")", term.scale);
+        } else if (node instanceof NumberNode) {
+            BigDecimal value;
+            try {
+                value = new BigDecimal(node.getText());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (value.scale() < 0 || value.scale() > MAX_SCALE || value.unscaledValue().bitLength() > 62) {
+                return null;
+            }
+            return new Term(value.unscaledValue().longValue() + "L", value.scale());
+        } else if (node instanceof NameRefNode) {
+            String local = variable((NameRefNode) node);
+            return local == null ? null : new Term(ARITHMETIC + ".longValue(" + local + ")", 0);
+        }
+        return null;
+    }
+
+    private String ieeeTerm(BaseNode node) {
+        if (node instanceof InfixOpNode) {
+            InfixOpNode op = (InfixOpNode) node;
+            if (!isArithmeticOperator(op.getOperator(), Semantics.IEEE_754)) {
+                return null;
+            }
+            String left = ieeeTerm(op.getLeft());
+            String right = ieeeTerm(op.getRight());
+            if (left == null || right == null) {
+                return null;
+            }
+            return "(" + left + " " + op.getOperator().symbol + " " + right + ")";
+        } else if (node instanceof SignedUnaryNode) {
+            SignedUnaryNode signed = (SignedUnaryNode) node;
+            String code = signedOperand(signed) ? ieeeTerm(signed.getExpression()) : null;
+            if (code == null || signed.getSign() == SignedUnaryNode.Sign.POSITIVE) {
+                return code;
+            }
+            return "(-" + code + ")";
+        } else if (node instanceof NumberNode) {
+            double value;
+            try {
+                value = new BigDecimal(node.getText()).doubleValue();
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            return Double.isFinite(value) ? Double.toString(value) + "d" : null;
+        } else if (node instanceof NameRefNode) {
+            String local = variable((NameRefNode) node);
+            return local == null ? null : ARITHMETIC + ".doubleValue(" + local + ")";
+        }
+        return null;
+    }
+
+    /**
+     * The default compilation of a sign casts its operand to BigDecimal, so the fast path is not used for a signed
+     * variable, which could be a number of a different type
+     */
+    private static boolean signedOperand(SignedUnaryNode signed) {
+        return !(signed.getExpression() instanceof NameRefNode);
+    }
+
+    private String variable(NameRefNode node) {
+        String name = EvalHelper.normalizeVariableName(node.getText());
+        Type type = scopeHelper.resolve(name).orElse(node.getResultType());
+        if (type != null && type != BuiltInType.NUMBER && type != BuiltInType.UNKNOWN) {
+            return null;
+        }
+        return variables.computeIfAbsent(name, k -> "v" + variables.size());
+    }
+
+    private static String rescale(Term term, int scale) {
+        if (term.scale == scale) {
+            return term.code;
+        }
+        return "Math.multiplyExact(" + term.code + ", " + POWERS_OF_TEN[scale - term.scale] + "L)";
+    }
+
+    private static final class Term {
+
+        private final String code;
+        private final int scale;
+
+        private Term(String code, int scale) {
+            this.code = code;
+            this.scale = scale;
+        }
+    }
+
+    public static boolean isExactLong(Object value) {
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return decimal.scale() == 0 && decimal.precision() <= MAX_SCALE;
+        }
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    public static long longValue(Object value) {
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).longValueExact();
+        }
+        return ((Number) value).longValue();
+    }
+
+    public static boolean isNumber(Object value) {
+        return value instanceof Number;
+    }
+
+    public static double doubleValue(Object value) {
+        return ((Number) value).doubleValue();
+    }
+
+    public static BigDecimal ofDouble(double value) {
+        return EvalHelper.getBigDecimalOrNull(value);
+    }
+}
@@ -92,6 +92,10 @@ public class Constants {
         return "ZZFN_" + CodegenStringUtil.escapeIdentifier(originalText);
     }
 
+    public static String arithmeticName(String originalText) {
+        return "ZZAR_" + CodegenStringUtil.escapeIdentifier(originalText);
+    }
+
     public static FieldDeclaration dtConstant(String name, Expression initializer) {
         return of(parseClassOrInterfaceType(Object.class.getName()), name, initializer);
     }
@@ -35,6 +35,7 @@ import com.github.javaparser.ast.expr.MethodReferenceExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.ExpressionStmt;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 import com.github.javaparser.ast.type.Type;
@@ -313,6 +314,17 @@ public class Expressions {
         return new NamedLambda(new NameExpr(name), lambda, field);
     }
 
+    public static NamedLambda namedArithmeticLambda(BlockStmt body, String text) {
+        LambdaExpr lambda = new LambdaExpr(
+                new NodeList<>(
+                        new Parameter(UNKNOWN_TYPE, FeelCtx.FEELCTX_N)),
+                body,
+                true);
+        String name = Constants.arithmeticName(text);
+        FieldDeclaration field = Constants.function(name, lambda);
+        return new NamedLambda(new NameExpr(name), lambda, field);
+    }
+
     public static LambdaExpr lambda(Expression expr) {
         return new LambdaExpr(
                 new NodeList<>(
@@ -33,6 +33,7 @@ import org.kie.dmn.feel.lang.ast.visitor.ASTTemporalConstantVisitor;
 import org.kie.dmn.feel.lang.impl.CompiledExecutableExpression;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
 import org.kie.dmn.feel.lang.impl.InterpretedExecutableExpression;
+import org.kie.dmn.feel.lang.impl.TieredExecutableExpression;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
 
@@ -83,6 +84,8 @@ public class ProcessedExpression extends ProcessedFEELUnit {
             } else {
                 throw new UnsupportedOperationException("Cannot jit classload on this platform.");
             }
+        } else if (tieredCompiler != null && CAN_PLATFORM_CLASSLOAD && ast != null && !errorListener.isError()) {
+            defaultResult = new TieredExecutableExpression(expression, getInterpreted(), this::getCompiled, tieredCompiler);
         } else { // "legacy" interpreted AST compilation:
             defaultResult = getInterpreted();
         }
@@ -100,7 +103,7 @@ public class ProcessedExpression extends ProcessedFEELUnit {
                                 BuiltInType.UNKNOWN);
             } else {
                 try {
-                    compiledExpression = ast.accept(new ASTCompilerVisitor());
+                    compiledExpression = ast.accept(new ASTCompilerVisitor(arithmeticSemantics));
                 } catch (FEELCompilationError e) {
                     compiledExpression = DirectCompilerResult.of(
                             CompiledFEELSupport.compiledErrorExpression(e.getMessage()),
@@ -24,8 +24,12 @@ import java.util.UUID;
 import org.kie.dmn.feel.lang.CompilerContext;
 import org.kie.dmn.feel.lang.FEELProfile;
 import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.lang.impl.TieredCompiler;
 import org.kie.dmn.feel.parser.feel11.FEELParser;
 import org.kie.dmn.feel.parser.feel11.FEEL_1_1Parser;
+import org.kie.dmn.feel.parser.feel11.profiles.FastArithmeticFEELProfile;
+import org.kie.dmn.feel.parser.feel11.profiles.FastArithmeticFEELProfile.Semantics;
+import org.kie.dmn.feel.parser.feel11.profiles.TieredCompilationFEELProfile;
 
 public abstract class ProcessedFEELUnit implements CompiledFEELExpression {
 
@@ -45,6 +49,8 @@ public abstract class ProcessedFEELUnit implements CompiledFEELExpression {
             new CompiledFEELSupport.SyntaxErrorListener();
     protected final CompilerBytecodeLoader compiler =
             new CompilerBytecodeLoader();
+    protected final Semantics arithmeticSemantics;
+    protected final TieredCompiler tieredCompiler;
 
     ProcessedFEELUnit(String expression,
                       CompilerContext ctx,
@@ -52,6 +58,16 @@ public abstract class ProcessedFEELUnit implements CompiledFEELExpression {
 
         this.expression = expression;
         this.packageName = generateRandomPackage();
+        this.arithmeticSemantics = profiles.stream()
+                .filter(FastArithmeticFEELProfile.class::isInstance)
+                .map(p -> ((FastArithmeticFEELProfile) p).getSemantics())
+                .findFirst()
+                .orElse(null);
+        this.tieredCompiler = profiles.stream()
+                .filter(TieredCompilationFEELProfile.class::isInstance)
+                .map(p -> ((TieredCompilationFEELProfile) p).getTieredCompiler())
+                .findFirst()
+                .orElse(null);
     }
 
     protected FEEL_1_1Parser getFEELParser(String expression, CompilerContext ctx, List<FEELProfile> profiles) {
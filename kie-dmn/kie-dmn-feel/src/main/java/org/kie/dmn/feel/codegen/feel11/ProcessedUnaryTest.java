@@ -18,7 +18,6 @@
  */
 package org.kie.dmn.feel.codegen.feel11;
 
-import java.util.Collections;
 import java.util.List;
 
 import com.github.javaparser.ast.CompilationUnit;
@@ -29,11 +28,14 @@ import org.kie.dmn.feel.lang.FEELProfile;
 import org.kie.dmn.feel.lang.ast.BaseNode;
 import org.kie.dmn.feel.lang.ast.visitor.ASTTemporalConstantVisitor;
 import org.kie.dmn.feel.lang.impl.CompiledExpressionImpl;
+import org.kie.dmn.feel.lang.impl.TieredUnaryTests;
 import org.kie.dmn.feel.lang.impl.UnaryTestCompiledExecutableExpression;
 import org.kie.dmn.feel.lang.impl.UnaryTestInterpretedExecutableExpression;
 import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
 import org.kie.dmn.feel.runtime.UnaryTest;
 
+import static org.kie.dmn.feel.util.ClassLoaderUtil.CAN_PLATFORM_CLASSLOAD;
+
 public class ProcessedUnaryTest extends ProcessedFEELUnit {
 
     private static final String TEMPLATE_RESOURCE = "/TemplateCompiledFEELUnaryTests.java";
@@ -44,7 +46,7 @@ public class ProcessedUnaryTest extends ProcessedFEELUnit {
 
     public ProcessedUnaryTest(String expressions,
                               CompilerContext ctx, List<FEELProfile> profiles) {
-        super(expressions, ctx, Collections.emptyList());
+        super(expressions, ctx, profiles);
         ParseTree tree = getFEELParser(expression, ctx, profiles).unaryTestsRoot();
         ASTBuilderVisitor astVisitor = new ASTBuilderVisitor(ctx.getInputVariableTypes(), ctx.getFEELFeelTypeRegistry());
         BaseNode initialAst = tree.accept(astVisitor);
@@ -61,7 +63,7 @@ public class ProcessedUnaryTest extends ProcessedFEELUnit {
                         errorListener.event().getMessage());
             } else {
                 try {
-                    compiledExpression = ast.accept(new ASTCompilerVisitor());
+                    compiledExpression = ast.accept(new ASTCompilerVisitor(arithmeticSemantics));
                 } catch (FEELCompilationError e) {
                     compiledExpression = CompiledFEELSupport.compiledErrorUnaryTest(e.getMessage());
                 }
@@ -102,6 +104,10 @@ public class ProcessedUnaryTest extends ProcessedFEELUnit {
 
     @Override
     public List<UnaryTest> apply(EvaluationContext evaluationContext) {
-        return getInterpreted().apply(evaluationContext);
+        List<UnaryTest> interpreted = getInterpreted().apply(evaluationContext);
+        if (tieredCompiler != null && CAN_PLATFORM_CLASSLOAD && !errorListener.isError()) {
+            return TieredUnaryTests.of(expression, interpreted, () -> getCompiled().getUnaryTests(), tieredCompiler);
+        }
+        return interpreted;
     }
 }
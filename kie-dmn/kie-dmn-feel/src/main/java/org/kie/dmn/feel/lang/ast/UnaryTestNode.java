@@ -18,6 +18,7 @@
  */
 package org.kie.dmn.feel.lang.ast;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiPredicate;
@@ -25,6 +26,7 @@ import java.util.function.BiPredicate;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.runtime.ConstantUnaryTest;
 import org.kie.dmn.feel.runtime.Range;
 import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.runtime.UnaryTestImpl;
@@ -104,19 +106,19 @@ public class UnaryTestNode
     public UnaryTest evaluate(EvaluationContext ctx) {
         switch ( operator ) {
             case LTE:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) <= 0 ) , value.getText() );
+                return compareUnaryTest( createCompareUnaryTest( (l, r) -> l.compareTo( r ) <= 0 ), false, true );
             case LT:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) < 0 ) , value.getText() );
+                return compareUnaryTest( createCompareUnaryTest( (l, r) -> l.compareTo( r ) < 0 ), false, false );
             case GT:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) > 0 ) , value.getText() );
+                return compareUnaryTest( createCompareUnaryTest( (l, r) -> l.compareTo( r ) > 0 ), true, false );
             case GTE:
-                return new UnaryTestImpl( createCompareUnaryTest( (l, r) -> l.compareTo( r ) >= 0 ) , value.getText() );
+                return compareUnaryTest( createCompareUnaryTest( (l, r) -> l.compareTo( r ) >= 0 ), true, true );
             case EQ:
-                return new UnaryTestImpl( createIsEqualUnaryTest( ) , value.getText() );
+                return equalUnaryTest( createIsEqualUnaryTest( ) );
             case NE:
                 return new UnaryTestImpl( createIsNotEqualUnaryTest( ) , value.getText() );
             case IN:
-                return new UnaryTestImpl( createInUnaryTest() , value.getText() );
+                return inUnaryTest( createInUnaryTest() );
             case NOT:
                 return new UnaryTestImpl( createNotUnaryTest() , value.getText() );
             case TEST:
@@ -126,6 +128,62 @@ public class UnaryTestNode
         return null;
     }
 
+    /**
+     * When the compared value is a number literal, returns a {@link ConstantUnaryTest} describing the matched
+     * half-bounded interval, having the literal as its lower or upper end point.
+     */
+    private UnaryTest compareUnaryTest( UnaryTest test, boolean isLowerBound, boolean closed ) {
+        Object literal = literalValue( value );
+        if ( literal instanceof BigDecimal ) {
+            BigDecimal number = (BigDecimal) literal;
+            return isLowerBound ?
+                    ConstantUnaryTest.interval( test, value.getText(), number, closed, null, false ) :
+                    ConstantUnaryTest.interval( test, value.getText(), null, false, number, closed );
+        }
+        return new UnaryTestImpl( test, value.getText() );
+    }
+
+    private UnaryTest equalUnaryTest( UnaryTest test ) {
+        Object literal = literalValue( value );
+        return literal != null ?
+                ConstantUnaryTest.equalTo( test, value.getText(), literal ) :
+                new UnaryTestImpl( test, value.getText() );
+    }
+
+    private UnaryTest inUnaryTest( UnaryTest test ) {
+        if ( value instanceof RangeNode ) {
+            RangeNode range = (RangeNode) value;
+            // comparisons such as "< 5" are parsed as ranges having a null end point
+            boolean unboundedStart = range.getStart() instanceof NullNode;
+            boolean unboundedEnd = range.getEnd() instanceof NullNode;
+            Object start = unboundedStart ? null : literalValue( range.getStart() );
+            Object end = unboundedEnd ? null : literalValue( range.getEnd() );
+            if ( ( unboundedStart || start instanceof BigDecimal ) && ( unboundedEnd || end instanceof BigDecimal ) && !( unboundedStart && unboundedEnd ) ) {
+                return ConstantUnaryTest.interval( test, value.getText(),
+                                                   (BigDecimal) start, !unboundedStart && range.getLowerBound() == RangeNode.IntervalBoundary.CLOSED,
+                                                   (BigDecimal) end, !unboundedEnd && range.getUpperBound() == RangeNode.IntervalBoundary.CLOSED );
+            }
+        }
+        return new UnaryTestImpl( test, value.getText() );
+    }
+
+    private static Object literalValue( BaseNode node ) {
+        if ( node instanceof NumberNode ) {
+            return ((NumberNode) node).getValue();
+        }
+        if ( node instanceof StringNode ) {
+            return ((StringNode) node).getValue();
+        }
+        if ( node instanceof BooleanNode ) {
+            return ((BooleanNode) node).getValue();
+        }
+        if ( node instanceof SignedUnaryNode && ((SignedUnaryNode) node).getExpression() instanceof NumberNode ) {
+            BigDecimal number = ((NumberNode) ((SignedUnaryNode) node).getExpression()).getValue();
+            return number != null && ((SignedUnaryNode) node).getSign() == SignedUnaryNode.Sign.NEGATIVE ? number.negate() : number;
+        }
+        return null;
+    }
+
     private UnaryTest createCompareUnaryTest( BiPredicate<Comparable, Comparable> op ) {
         return (context, left) -> {
             Object right = value.evaluate( context );
@@ -39,6 +39,7 @@ import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.FEELProfile;
 import org.kie.dmn.feel.lang.Type;
 import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
+import org.kie.dmn.feel.parser.feel11.profiles.TieredCompilationFEELProfile;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.util.ClassLoaderUtil;
@@ -59,6 +60,7 @@ public class FEELImpl
     private final Optional<ExecutionFrameImpl> customFrame;
     private final Collection<FEELFunction> customFunctions;
     private final boolean doCompile;
+    private final TieredCompiler tieredCompiler;
 
     public FEELImpl() {
         this(ClassLoaderUtil.findDefaultClassLoader(), Collections.emptyList());
@@ -93,6 +95,11 @@ public class FEELImpl
             }
         }
         doCompile = profiles.stream().anyMatch(DoCompileFEELProfile.class::isInstance);
+        tieredCompiler = profiles.stream()
+                .filter(TieredCompilationFEELProfile.class::isInstance)
+                .map(p -> ((TieredCompilationFEELProfile) p).getTieredCompiler())
+                .findFirst()
+                .orElse(null);
         customFrame = Optional.ofNullable(frame);
         customFunctions = Collections.unmodifiableCollection(functions.values());
     }
@@ -110,6 +117,14 @@ public class FEELImpl
         return customFunctions;
     }
 
+    /**
+     * Returns the compiler of the expressions evaluated often enough, with its metrics, or null if the tiered
+     * compilation is not enabled
+     */
+    public TieredCompiler getTieredCompiler() {
+        return tieredCompiler;
+    }
+
     @Override
     public CompiledExpression compile(String expression, CompilerContext ctx) {
         return new ProcessedExpression(
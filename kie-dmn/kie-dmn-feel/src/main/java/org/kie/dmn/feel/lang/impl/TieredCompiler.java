@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compiles to bytecode, in the background, the FEEL expressions and unary tests which started interpreted and have
+ * been evaluated {@link #getThreshold()} times, in the same way <code>MVELConstraint</code> jits its conditions.
+ * The compiled version is then swapped in by the caller, while the interpreted one keeps serving the evaluations
+ * until the compilation is done, or forever if it fails.
+ * <p/>
+ * The default threshold can be configured with the {@value #PROPERTY_NAME} system property.
+ * The counters are exposed as metrics of the compilation activity.
+ */
+public class TieredCompiler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TieredCompiler.class);
+
+    public static final String PROPERTY_NAME = "org.kie.dmn.feel.compiler.tiered.threshold";
+
+    public static final int DEFAULT_THRESHOLD = 20;
+
+    private final int threshold;
+    private final Executor executor;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong compiledCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public TieredCompiler() {
+        this(Integer.getInteger(PROPERTY_NAME, DEFAULT_THRESHOLD));
+    }
+
+    public TieredCompiler(int threshold) {
+        this(threshold, ExecutorHolder.executor);
+    }
+
+    public TieredCompiler(int threshold, Executor executor) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("The tiered compilation threshold must be positive: " + threshold);
+        }
+        this.threshold = threshold;
+        this.executor = executor;
+    }
+
+    /**
+     * Schedules the compilation of the given expression, passing its result to the installer on success
+     */
+    <T> void compile(String expression, Supplier<T> compilation, Consumer<T> installer) {
+        pendingCount.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    installer.accept(compilation.get());
+                    compiledCount.incrementAndGet();
+                } catch (Throwable t) {
+                    failedCount.incrementAndGet();
+                    LOG.warn("Cannot compile the FEEL expression '{}', it will stay interpreted", expression, t);
+                } finally {
+                    pendingCount.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingCount.decrementAndGet();
+            failedCount.incrementAndGet();
+            LOG.warn("Compilation of the FEEL expression '{}' rejected, it will stay interpreted", expression);
+        }
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Number of expressions whose compilation has been scheduled but is not yet complete
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Number of expressions compiled to bytecode, that is the number of classes generated so far
+     */
+    public long getCompiledCount() {
+        return compiledCount.get();
+    }
+
+    /**
+     * Number of expressions whose compilation failed or has been rejected, and that stay interpreted
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private static class ExecutorHolder {
+        private static final Executor executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "feel-tiered-compiler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
+import org.kie.dmn.feel.lang.EvaluationContext;
+
+/**
+ * An expression evaluated by the interpreter until it has been invoked {@link TieredCompiler#getThreshold()} times,
+ * then by its compiled version as soon as the {@link TieredCompiler} has generated it.
+ */
+public class TieredExecutableExpression implements CompiledFEELExpression {
+
+    private final String expression;
+    private final TieredCompiler tieredCompiler;
+    private final AtomicInteger invocationCounter = new AtomicInteger();
+
+    private volatile Supplier<? extends CompiledFEELExpression> compilation;
+    private volatile CompiledFEELExpression delegate;
+    private volatile boolean compiled;
+
+    public TieredExecutableExpression(String expression,
+                                      CompiledFEELExpression interpreted,
+                                      Supplier<? extends CompiledFEELExpression> compilation,
+                                      TieredCompiler tieredCompiler) {
+        this.expression = expression;
+        this.delegate = interpreted;
+        this.compilation = compilation;
+        this.tieredCompiler = tieredCompiler;
+    }
+
+    @Override
+    public Object apply(EvaluationContext evaluationContext) {
+        Supplier<? extends CompiledFEELExpression> toBeCompiled = compilation;
+        if (toBeCompiled != null && invocationCounter.incrementAndGet() == tieredCompiler.getThreshold()) {
+            compilation = null;
+            tieredCompiler.compile(expression, toBeCompiled, this::install);
+        }
+        return delegate.apply(evaluationContext);
+    }
+
+    private void install(CompiledFEELExpression compiledExpression) {
+        delegate = compiledExpression;
+        compiled = true;
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+}
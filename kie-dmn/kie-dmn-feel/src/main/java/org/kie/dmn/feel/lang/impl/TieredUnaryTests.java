@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.runtime.ConstantUnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * The unary tests of a list, evaluated by the interpreter until they have been invoked, all together,
+ * {@link TieredCompiler#getThreshold()} times, then by their compiled version as soon as the {@link TieredCompiler}
+ * has generated it.
+ * <p/>
+ * The {@link ConstantUnaryTest}s and the dash are returned as they are, so that the decision tables can still index
+ * them, and are not counted.
+ */
+public class TieredUnaryTests {
+
+    private final String expression;
+    private final TieredCompiler tieredCompiler;
+    private final AtomicInteger invocationCounter = new AtomicInteger();
+
+    private volatile Supplier<List<UnaryTest>> compilation;
+    private volatile List<UnaryTest> delegates;
+
+    private TieredUnaryTests(String expression, List<UnaryTest> interpreted, Supplier<List<UnaryTest>> compilation, TieredCompiler tieredCompiler) {
+        this.expression = expression;
+        this.delegates = interpreted;
+        this.compilation = compilation;
+        this.tieredCompiler = tieredCompiler;
+    }
+
+    public static List<UnaryTest> of(String expression, List<UnaryTest> interpreted, Supplier<List<UnaryTest>> compilation, TieredCompiler tieredCompiler) {
+        TieredUnaryTests tiered = new TieredUnaryTests(expression, interpreted, compilation, tieredCompiler);
+        List<UnaryTest> result = new ArrayList<>(interpreted.size());
+        boolean anyTiered = false;
+        for (int i = 0; i < interpreted.size(); i++) {
+            UnaryTest test = interpreted.get(i);
+            if (test == null || test instanceof ConstantUnaryTest || test instanceof DashNode.DashUnaryTest) {
+                result.add(test);
+            } else {
+                result.add(tiered.new TieredUnaryTest(i, test.toString()));
+                anyTiered = true;
+            }
+        }
+        return anyTiered ? result : interpreted;
+    }
+
+    private UnaryTest get(int index) {
+        Supplier<List<UnaryTest>> toBeCompiled = compilation;
+        if (toBeCompiled != null && invocationCounter.incrementAndGet() == tieredCompiler.getThreshold()) {
+            compilation = null;
+            tieredCompiler.compile(expression, toBeCompiled, this::install);
+        }
+        return delegates.get(index);
+    }
+
+    private void install(List<UnaryTest> compiled) {
+        if (compiled.size() != delegates.size()) {
+            throw new IllegalStateException("Expected " + delegates.size() + " compiled unary tests but found " + compiled.size());
+        }
+        delegates = compiled;
+    }
+
+    private class TieredUnaryTest implements UnaryTest {
+
+        private final int index;
+        private final String text;
+
+        private TieredUnaryTest(int index, String text) {
+            this.index = index;
+            this.text = text;
+        }
+
+        @Override
+        public Boolean apply(EvaluationContext ctx, Object left) {
+            return get(index).apply(ctx, left);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+}
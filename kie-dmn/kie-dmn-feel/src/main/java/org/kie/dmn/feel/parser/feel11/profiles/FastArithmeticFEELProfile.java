@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.parser.feel11.profiles;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.kie.dmn.feel.lang.FEELProfile;
+import org.kie.dmn.feel.runtime.FEELFunction;
+
+/**
+ * When used together with {@link DoCompileFEELProfile}, the arithmetic expressions made only of numeric literals and
+ * variables are compiled to primitive arithmetic, falling back to the default <code>BigDecimal</code> evaluation when
+ * the operands at runtime do not fit the chosen {@link Semantics}.
+ */
+public class FastArithmeticFEELProfile implements FEELProfile {
+
+    public enum Semantics {
+        /**
+         * Fixed point <code>long</code> arithmetic, used only when the result is guaranteed to be identical,
+         * in value and scale, to the <code>DECIMAL128</code> one
+         */
+        EXACT,
+        /**
+         * <code>double</code> arithmetic, trading the decimal precision of the results for speed
+         */
+        IEEE_754
+    }
+
+    private final Semantics semantics;
+
+    public FastArithmeticFEELProfile() {
+        this(Semantics.EXACT);
+    }
+
+    public FastArithmeticFEELProfile(Semantics semantics) {
+        this.semantics = semantics;
+    }
+
+    public Semantics getSemantics() {
+        return semantics;
+    }
+
+    @Override
+    public List<FEELFunction> getFEELFunctions() {
+        return Collections.emptyList();
+    }
+
+}
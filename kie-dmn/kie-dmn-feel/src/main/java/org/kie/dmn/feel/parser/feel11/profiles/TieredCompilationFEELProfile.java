@@ -0,0 +1,63 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.parser.feel11.profiles;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.kie.dmn.feel.lang.FEELProfile;
+import org.kie.dmn.feel.lang.impl.TieredCompiler;
+import org.kie.dmn.feel.runtime.FEELFunction;
+
+/**
+ * Starts the FEEL expressions and unary tests interpreted, and compiles them to bytecode in the background once
+ * they have been evaluated a number of times. The expressions already compiled upfront because of
+ * {@link DoCompileFEELProfile} are not affected.
+ */
+public class TieredCompilationFEELProfile implements FEELProfile {
+
+    private final TieredCompiler tieredCompiler;
+
+    public TieredCompilationFEELProfile() {
+        this(new TieredCompiler());
+    }
+
+    public TieredCompilationFEELProfile(int threshold) {
+        this(new TieredCompiler(threshold));
+    }
+
+    public TieredCompilationFEELProfile(int threshold, Executor executor) {
+        this(new TieredCompiler(threshold, executor));
+    }
+
+    public TieredCompilationFEELProfile(TieredCompiler tieredCompiler) {
+        this.tieredCompiler = tieredCompiler;
+    }
+
+    public TieredCompiler getTieredCompiler() {
+        return tieredCompiler;
+    }
+
+    @Override
+    public List<FEELFunction> getFEELFunctions() {
+        return Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime;
+
+import java.math.BigDecimal;
+
+/**
+ * A unary test whose outcome only depends on constant values known at compile time: either the equality with
+ * a literal, or the inclusion in a numeric interval. Exposing these constants allows decision tables to index
+ * their input entries, while the evaluation is still delegated to the original unary test.
+ */
+public class ConstantUnaryTest extends UnaryTestImpl {
+
+    private final Object equalTo;
+
+    private final BigDecimal low;
+    private final boolean lowClosed;
+    private final BigDecimal high;
+    private final boolean highClosed;
+
+    private ConstantUnaryTest(UnaryTest delegate, String text, Object equalTo, BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed) {
+        super(delegate, text);
+        this.equalTo = equalTo;
+        this.low = low;
+        this.lowClosed = lowClosed;
+        this.high = high;
+        this.highClosed = highClosed;
+    }
+
+    /**
+     * Creates a test matching the values equal to the given literal, that must be a BigDecimal, a String or a Boolean
+     */
+    public static ConstantUnaryTest equalTo(UnaryTest delegate, String text, Object literal) {
+        return new ConstantUnaryTest(delegate, text, literal, null, false, null, false);
+    }
+
+    /**
+     * Creates a test matching the numbers included in the given interval, where a null end point means unbounded
+     */
+    public static ConstantUnaryTest interval(UnaryTest delegate, String text, BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed) {
+        return new ConstantUnaryTest(delegate, text, null, low, lowClosed, high, highClosed);
+    }
+
+    public boolean isEquality() {
+        return equalTo != null;
+    }
+
+    public Object getEqualTo() {
+        return equalTo;
+    }
+
+    public BigDecimal getLow() {
+        return low;
+    }
+
+    public boolean isLowClosed() {
+        return lowClosed;
+    }
+
+    public BigDecimal getHigh() {
+        return high;
+    }
+
+    public boolean isHighClosed() {
+        return highClosed;
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.runtime.ConstantUnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * Index of the input entries of a decision table. For each input column, the entries made only of
+ * {@link ConstantUnaryTest}s are bucketed by literal value in a hash map, or in an interval tree when they are
+ * numeric intervals, so that the rules possibly matching a given input can be found without evaluating them.
+ * The entries which can't be indexed are kept apart and still need to be evaluated.
+ */
+class DTIndex {
+
+    private final ColumnIndex[] columns;
+
+    private DTIndex(ColumnIndex[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the index of the given rules, or null if none of their input entries can be indexed
+     */
+    static DTIndex create(List<DTDecisionRule> rules, int inputsCount) {
+        ColumnIndex[] columns = new ColumnIndex[inputsCount];
+        boolean indexed = false;
+        for ( int i = 0; i < inputsCount; i++ ) {
+            columns[i] = ColumnIndex.create( rules, i );
+            indexed |= columns[i] != null;
+        }
+        return indexed ? new DTIndex( columns ) : null;
+    }
+
+    /**
+     * Returns the rules that can match the given input on the given column, or null if the column can't
+     * be looked up for this input, so that all its entries have to be evaluated
+     */
+    BitSet candidates(int column, Object input) {
+        ColumnIndex index = columns[column];
+        return index != null ? index.candidates( input ) : null;
+    }
+
+    /**
+     * Returns true if the entry of the given rule on the given column still needs to be evaluated
+     * after the column has been looked up
+     */
+    boolean requiresEvaluation(int column, int rule) {
+        return columns[column].toBeEvaluated.get( rule );
+    }
+
+    private static class ColumnIndex {
+        private final BitSet any = new BitSet();
+        private final BitSet toBeEvaluated = new BitSet();
+        private final Map<Object, BitSet> equalities = new HashMap<>();
+        private final List<DTIntervalTree.Interval> intervals = new ArrayList<>();
+        private DTIntervalTree intervalTree;
+
+        private static ColumnIndex create(List<DTDecisionRule> rules, int column) {
+            ColumnIndex index = new ColumnIndex();
+            boolean indexed = false;
+            for ( int rule = 0; rule < rules.size(); rule++ ) {
+                List<UnaryTest> entries = rules.get( rule ).getInputEntry();
+                if ( column >= entries.size() || !index.add( rule, entries.get( column ) ) ) {
+                    index.toBeEvaluated.set( rule );
+                } else {
+                    indexed = true;
+                }
+            }
+            if ( !indexed ) {
+                return null;
+            }
+            index.intervalTree = index.intervals.isEmpty() ? null : new DTIntervalTree( index.intervals );
+            return index;
+        }
+
+        private boolean add(int rule, UnaryTest entry) {
+            List<UnaryTest> tests;
+            if ( entry instanceof DTInputEntry ) {
+                tests = ((DTInputEntry) entry).getTests();
+            } else {
+                tests = Collections.singletonList( entry );
+            }
+            for ( UnaryTest test : tests ) {
+                if ( test instanceof DashNode.DashUnaryTest ) {
+                    any.set( rule );
+                    return true;
+                }
+                if ( !( test instanceof ConstantUnaryTest ) ) {
+                    return false;
+                }
+            }
+            for ( UnaryTest test : tests ) {
+                ConstantUnaryTest constant = (ConstantUnaryTest) test;
+                if ( constant.isEquality() ) {
+                    equalities.computeIfAbsent( toKey( constant.getEqualTo() ), k -> new BitSet() ).set( rule );
+                } else {
+                    intervals.add( new DTIntervalTree.Interval( constant.getLow(), constant.isLowClosed(), constant.getHigh(), constant.isHighClosed(), rule ) );
+                }
+            }
+            return true;
+        }
+
+        private BitSet candidates(Object input) {
+            if ( !( input instanceof BigDecimal ) ) {
+                // comparing a non numeric value with an interval can raise an error, so only evaluating it is safe
+                if ( !( input instanceof String || input instanceof Boolean ) || intervalTree != null ) {
+                    return null;
+                }
+            }
+            BitSet candidates = (BitSet) any.clone();
+            candidates.or( toBeEvaluated );
+            BitSet equal = equalities.get( toKey( input ) );
+            if ( equal != null ) {
+                candidates.or( equal );
+            }
+            if ( intervalTree != null ) {
+                intervalTree.collect( (BigDecimal) input, candidates );
+            }
+            return candidates;
+        }
+
+        private static Object toKey(Object value) {
+            // FEEL compares numbers regardless of their scale
+            return value instanceof BigDecimal ? ((BigDecimal) value).stripTrailingZeros() : value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.util.List;
+
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * The input entry of a decision rule, matching when any of its unary tests is satisfied.
+ * Keeping the single tests accessible allows the decision table to index the entry.
+ */
+public class DTInputEntry implements UnaryTest {
+
+    private final List<UnaryTest> tests;
+
+    public DTInputEntry(List<UnaryTest> tests) {
+        this.tests = tests;
+    }
+
+    public List<UnaryTest> getTests() {
+        return tests;
+    }
+
+    @Override
+    public Boolean apply(EvaluationContext ctx, Object o) {
+        for ( UnaryTest test : tests ) {
+            Boolean result = test.apply( ctx, o );
+            if ( result != null && result ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return tests.toString();
+    }
+}
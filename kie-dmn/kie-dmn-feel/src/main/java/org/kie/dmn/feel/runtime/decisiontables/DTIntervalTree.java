@@ -0,0 +1,176 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A static centered interval tree over numeric intervals, each one labelled with the index of the decision rule
+ * it belongs to, allowing to find all the rules having an interval that includes a given number in O(log n + k).
+ */
+class DTIntervalTree {
+
+    static class Interval {
+        private final BigDecimal low;
+        private final boolean lowClosed;
+        private final BigDecimal high;
+        private final boolean highClosed;
+        private final int rule;
+
+        Interval(BigDecimal low, boolean lowClosed, BigDecimal high, boolean highClosed, int rule) {
+            this.low = low;
+            this.lowClosed = lowClosed;
+            this.high = high;
+            this.highClosed = highClosed;
+            this.rule = rule;
+        }
+
+        boolean isEmpty() {
+            if ( low == null || high == null ) {
+                return false;
+            }
+            int c = low.compareTo( high );
+            return c > 0 || ( c == 0 && !( lowClosed && highClosed ) );
+        }
+
+        boolean includes(BigDecimal x) {
+            if ( low != null ) {
+                int c = low.compareTo( x );
+                if ( c > 0 || ( c == 0 && !lowClosed ) ) {
+                    return false;
+                }
+            }
+            if ( high != null ) {
+                int c = high.compareTo( x );
+                return c > 0 || ( c == 0 && highClosed );
+            }
+            return true;
+        }
+    }
+
+    // unbounded end points are sorted first, as the lowest low and the highest high
+    private static final Comparator<Interval> BY_LOW = (i1, i2) -> i1.low == null ? ( i2.low == null ? 0 : -1 ) : ( i2.low == null ? 1 : i1.low.compareTo( i2.low ) );
+    private static final Comparator<Interval> BY_HIGH_DESCENDING = (i1, i2) -> i1.high == null ? ( i2.high == null ? 0 : -1 ) : ( i2.high == null ? 1 : i2.high.compareTo( i1.high ) );
+
+    private static class Node {
+        private final BigDecimal center;
+        private final Interval[] byLow;
+        private final Interval[] byHigh;
+        private final Node left;
+        private final Node right;
+
+        private Node(BigDecimal center, List<Interval> overlapping, Node left, Node right) {
+            this.center = center;
+            this.byLow = overlapping.toArray( new Interval[overlapping.size()] );
+            this.byHigh = overlapping.toArray( new Interval[overlapping.size()] );
+            Arrays.sort( byLow, BY_LOW );
+            Arrays.sort( byHigh, BY_HIGH_DESCENDING );
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    private final Node root;
+
+    DTIntervalTree(List<Interval> intervals) {
+        List<Interval> nonEmpty = new ArrayList<>();
+        for ( Interval interval : intervals ) {
+            if ( !interval.isEmpty() ) {
+                nonEmpty.add( interval );
+            }
+        }
+        this.root = build( nonEmpty );
+    }
+
+    /**
+     * Sets in the given BitSet the rules having an interval including the given number
+     */
+    void collect(BigDecimal x, BitSet rules) {
+        Node node = root;
+        while ( node != null ) {
+            int c = x.compareTo( node.center );
+            if ( c < 0 ) {
+                // all the intervals of this node end after x, so only their lower end point matters
+                for ( Interval interval : node.byLow ) {
+                    if ( interval.low != null && interval.low.compareTo( x ) > 0 ) {
+                        break;
+                    }
+                    if ( interval.includes( x ) ) {
+                        rules.set( interval.rule );
+                    }
+                }
+                node = node.left;
+            } else if ( c > 0 ) {
+                for ( Interval interval : node.byHigh ) {
+                    if ( interval.high != null && interval.high.compareTo( x ) < 0 ) {
+                        break;
+                    }
+                    if ( interval.includes( x ) ) {
+                        rules.set( interval.rule );
+                    }
+                }
+                node = node.right;
+            } else {
+                for ( Interval interval : node.byLow ) {
+                    if ( interval.includes( x ) ) {
+                        rules.set( interval.rule );
+                    }
+                }
+                node = null;
+            }
+        }
+    }
+
+    private static Node build(List<Interval> intervals) {
+        if ( intervals.isEmpty() ) {
+            return null;
+        }
+        List<BigDecimal> endPoints = new ArrayList<>();
+        for ( Interval interval : intervals ) {
+            if ( interval.low != null ) {
+                endPoints.add( interval.low );
+            }
+            if ( interval.high != null ) {
+                endPoints.add( interval.high );
+            }
+        }
+        endPoints.sort( Comparator.naturalOrder() );
+        // the center is an end point of at least one interval, which is then kept by this node, so both subtrees are smaller
+        BigDecimal center = endPoints.get( endPoints.size() / 2 );
+
+        List<Interval> lower = new ArrayList<>();
+        List<Interval> higher = new ArrayList<>();
+        List<Interval> overlapping = new ArrayList<>();
+        for ( Interval interval : intervals ) {
+            if ( interval.high != null && interval.high.compareTo( center ) < 0 ) {
+                lower.add( interval );
+            } else if ( interval.low != null && interval.low.compareTo( center ) > 0 ) {
+                higher.add( interval );
+            } else {
+                overlapping.add( interval );
+            }
+        }
+        return new Node( center, overlapping, build( lower ), build( higher ) );
+    }
+}
@@ -19,6 +19,7 @@
 package org.kie.dmn.feel.runtime.decisiontables;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -62,6 +63,9 @@ public class DecisionTableImpl implements DecisionTable {
 
     private FEEL feel;
 
+    private volatile boolean indexed;
+    private DTIndex index;
+
     public DecisionTableImpl(String name,
                              List<String> parameterNames,
                              List<DTInputClause> inputs,
@@ -251,9 +255,36 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        DTIndex dtIndex = getIndex();
+        BitSet candidates = null;
+        boolean[] lookedUp = null;
+        if ( dtIndex != null ) {
+            lookedUp = new boolean[params.length];
+            for ( int i = 0; i < params.length; i++ ) {
+                BitSet columnCandidates = dtIndex.candidates( i, params[i] );
+                if ( columnCandidates != null ) {
+                    lookedUp[i] = true;
+                    if ( candidates == null ) {
+                        candidates = columnCandidates;
+                    } else {
+                        candidates.and( columnCandidates );
+                    }
+                }
+            }
+        }
+        if ( candidates == null ) {
+            for ( DTDecisionRule decisionRule : decisionRules ) {
+                if ( matches( ctx, params, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            // the candidates are iterated in the order of the table, so the hit policies see the same sequence of matches
+            for ( int rule = candidates.nextSetBit( 0 ); rule >= 0; rule = candidates.nextSetBit( rule + 1 ) ) {
+                DTDecisionRule decisionRule = decisionRules.get( rule );
+                if ( matches( ctx, params, decisionRule, rule, dtIndex, lookedUp ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -277,17 +308,45 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private boolean matches(EvaluationContext ctx, Object[] params, DTDecisionRule rule) {
         for( int i = 0; i < params.length; i++ ) {
-            CompiledExpression compiledInput = inputs.get(i).getCompiledInput();
-            if ( compiledInput instanceof CompiledFEELExpression) {
-                ctx.setValue("?", ((CompiledFEELExpression) compiledInput).apply(ctx));
+            if( ! satisfies( ctx, params, rule, i ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the parameters match a single rule, already selected by the index on the looked up columns:
+     * only the entries that the index couldn't resolve are evaluated
+     */
+    private boolean matches(EvaluationContext ctx, Object[] params, DTDecisionRule rule, int ruleIndex, DTIndex dtIndex, boolean[] lookedUp) {
+        for( int i = 0; i < params.length; i++ ) {
+            if ( lookedUp[i] && !dtIndex.requiresEvaluation( i, ruleIndex ) ) {
+                continue;
             }
-            if( ! satisfies( ctx, params[i], rule.getInputEntry().get( i ) ) ) {
+            if( ! satisfies( ctx, params, rule, i ) ) {
                 return false;
             }
         }
         return true;
     }
 
+    private boolean satisfies(EvaluationContext ctx, Object[] params, DTDecisionRule rule, int i) {
+        CompiledExpression compiledInput = inputs.get(i).getCompiledInput();
+        if ( compiledInput instanceof CompiledFEELExpression) {
+            ctx.setValue("?", ((CompiledFEELExpression) compiledInput).apply(ctx));
+        }
+        return satisfies( ctx, params[i], rule.getInputEntry().get( i ) );
+    }
+
+    private DTIndex getIndex() {
+        if ( !indexed ) {
+            index = DTIndex.create( decisionRules, inputs.size() );
+            indexed = true;
+        }
+        return index;
+    }
+
     /**
      * Checks that a given parameter matches a single cell test
      * @param ctx
@@ -20,6 +20,7 @@ package org.kie.dmn.feel.runtime.functions;
 
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
+import org.kie.dmn.feel.util.RegexPatternCache;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -45,7 +46,7 @@ public class MatchesFunction
         }
         try {
             int f = processFlags( flags );
-            Pattern p = Pattern.compile( pattern, f );
+            Pattern p = RegexPatternCache.compile( pattern, f );
             Matcher m = p.matcher( input );
             return FEELFnResult.ofResult( m.find() );
         } catch ( PatternSyntaxException e ) {
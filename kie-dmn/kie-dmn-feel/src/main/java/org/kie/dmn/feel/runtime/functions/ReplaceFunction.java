@@ -20,6 +20,7 @@ package org.kie.dmn.feel.runtime.functions;
 
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
+import org.kie.dmn.feel.util.RegexPatternCache;
 
 public class ReplaceFunction
         extends BaseFEELFunction {
@@ -52,7 +53,7 @@ public class ReplaceFunction
             flagsString = "";
         }
 
-        return FEELFnResult.ofResult( input.replaceAll( flagsString + pattern, replacement ) );
+        return FEELFnResult.ofResult( RegexPatternCache.compile( flagsString + pattern ).matcher( input ).replaceAll( replacement ) );
     }
 
 }
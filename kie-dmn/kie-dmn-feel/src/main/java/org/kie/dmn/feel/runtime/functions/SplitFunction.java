@@ -24,6 +24,7 @@ import java.util.regex.PatternSyntaxException;
 
 import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
+import org.kie.dmn.feel.util.RegexPatternCache;
 
 public class SplitFunction
         extends BaseFEELFunction {
@@ -41,7 +42,7 @@ public class SplitFunction
             return FEELFnResult.ofError( new InvalidParametersEvent( Severity.ERROR, "delimiter", "cannot be null" ) );
         }
         try {
-            String[] split = string.split(delimiter, -1);
+            String[] split = RegexPatternCache.compile(delimiter).split(string, -1);
             return FEELFnResult.ofResult( Arrays.asList( split ) );
         } catch ( PatternSyntaxException e ) {
             return FEELFnResult.ofError( new InvalidParametersEvent( Severity.ERROR, "delimiter", "is invalid and can not be compiled", e ) );
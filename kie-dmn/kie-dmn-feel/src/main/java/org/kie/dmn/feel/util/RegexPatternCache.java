@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, thread-safe, approximately least recently used cache of the compiled regular expressions used by the
+ * FEEL built-in functions (matches, replace, split), so that constant patterns are compiled only once.
+ * <p/>
+ * Lookups are lock-free: each hit only records a logical access time on the cached entry, and the least recently
+ * used entries are looked for, under a lock, only when an insertion exceeds the maximum size.
+ * <p/>
+ * The built-in functions are shared by all the FEEL instances, so this cache is global to the JVM: its maximum size
+ * can be configured with the {@value #PROPERTY_NAME} system property or DMN compiler property, and changing it
+ * affects every runtime. A size of 0 disables the cache.
+ */
+public class RegexPatternCache {
+
+    public static final String PROPERTY_NAME = "org.kie.dmn.feel.regex.cache.size";
+
+    public static final int DEFAULT_SIZE = 256;
+
+    private static final ConcurrentMap<Pair<String, Integer>, CachedPattern> CACHE = new ConcurrentHashMap<>();
+
+    private static final AtomicLong CLOCK = new AtomicLong();
+
+    private static final Object EVICTION_LOCK = new Object();
+
+    private static volatile int maximumSize = Integer.getInteger(PROPERTY_NAME, DEFAULT_SIZE);
+
+    private static class CachedPattern {
+        private final Pattern pattern;
+        private volatile long lastUsed;
+
+        private CachedPattern(Pattern pattern) {
+            this.pattern = pattern;
+            this.lastUsed = CLOCK.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the compiled pattern for the given regular expression and flags.
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid
+     * @throws IllegalArgumentException if the flags are invalid
+     */
+    public static Pattern compile(String regex, int flags) {
+        if (maximumSize <= 0) {
+            return Pattern.compile(regex, flags);
+        }
+        Pair<String, Integer> key = new Pair<>(regex, flags);
+        CachedPattern cached = CACHE.get(key);
+        if (cached != null) {
+            cached.lastUsed = CLOCK.incrementAndGet();
+            return cached.pattern;
+        }
+        // compiled outside of any lock, at worst the same pattern is compiled twice concurrently
+        CachedPattern compiled = new CachedPattern(Pattern.compile(regex, flags));
+        cached = CACHE.putIfAbsent(key, compiled);
+        if (cached != null) {
+            cached.lastUsed = CLOCK.incrementAndGet();
+            return cached.pattern;
+        }
+        if (CACHE.size() > maximumSize) {
+            evictLeastRecentlyUsed();
+        }
+        return compiled.pattern;
+    }
+
+    public static Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    public static int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum size of the cache for the whole JVM, evicting the least recently used patterns if needed
+     */
+    public static void setMaximumSize(int size) {
+        maximumSize = size;
+        evictLeastRecentlyUsed();
+    }
+
+    private static void evictLeastRecentlyUsed() {
+        synchronized (EVICTION_LOCK) {
+            while (CACHE.size() > Math.max(maximumSize, 0)) {
+                Map.Entry<Pair<String, Integer>, CachedPattern> eldest = null;
+                for (Map.Entry<Pair<String, Integer>, CachedPattern> entry : CACHE.entrySet()) {
+                    if (eldest == null || entry.getValue().lastUsed < eldest.getValue().lastUsed) {
+                        eldest = entry;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                CACHE.remove(eldest.getKey(), eldest.getValue());
+            }
+        }
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private RegexPatternCache() {
+        // not allowed for util class.
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.codegen.feel11;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.Test;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
+import org.kie.dmn.feel.parser.feel11.FEELParser;
+import org.kie.dmn.feel.parser.feel11.FEEL_1_1Parser;
+import org.kie.dmn.feel.parser.feel11.profiles.FastArithmeticFEELProfile.Semantics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.entry;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.mapOf;
+
+public class CompiledFEELArithmeticTest {
+
+    private static final Map<String, Type> NUMBERS = mapOf(entry("a", BuiltInType.NUMBER), entry("b", BuiltInType.NUMBER));
+
+    @Test
+    public void testExactIntegers() {
+        assertSameAsDefault("a * 2.5 + b - 0.25", Semantics.EXACT, 4, 3);
+        assertSameAsDefault("-(a - b) * 3", Semantics.EXACT, 4, 7);
+        assertThat(evaluate("a * 2.5 + b - 0.25", Semantics.EXACT, 4, 3)).isEqualTo(new BigDecimal("12.75"));
+    }
+
+    @Test
+    public void testExactFallsBackForDecimalsAndOverflow() {
+        assertSameAsDefault("a * 2.5 + b", Semantics.EXACT, new BigDecimal("1.5"), 3);
+        assertSameAsDefault("a * b", Semantics.EXACT, 999_999_999_999_999_999L, 999_999_999_999_999_999L);
+        assertSameAsDefault("a + b * 0.000000000000000001", Semantics.EXACT, 999_999_999_999_999_999L, 3);
+    }
+
+    @Test
+    public void testNullOperands() {
+        assertThat(evaluate("a * 2 + b", Semantics.EXACT, null, 3)).isNull();
+        assertThat(evaluate("a * 2 + b", Semantics.IEEE_754, 1, null)).isNull();
+    }
+
+    @Test
+    public void testNonNumericOperands() {
+        assertThat(evaluate("a + b", Semantics.EXACT, "foo", "bar")).isEqualTo("foobar");
+        assertThat(evaluate("a + b", Semantics.IEEE_754, "foo", "bar")).isEqualTo("foobar");
+    }
+
+    @Test
+    public void testIeee754() {
+        assertThat(evaluate("a / b", Semantics.IEEE_754, 1, 4)).isEqualTo(new BigDecimal("0.25"));
+        assertThat(evaluate("a * 0.5 - b", Semantics.IEEE_754, 3, 1)).isEqualTo(new BigDecimal("0.5"));
+        assertThat(evaluate("a / b", Semantics.IEEE_754, 1, 0)).isNull();
+    }
+
+    @Test
+    public void testFastPathIsGenerated() {
+        assertThat(hasFastPath("a * 2.5 + b", Semantics.EXACT)).isTrue();
+        assertThat(hasFastPath("a / b", Semantics.EXACT)).isFalse();
+        assertThat(hasFastPath("a / b", Semantics.IEEE_754)).isTrue();
+        assertThat(hasFastPath("a ** 2", Semantics.IEEE_754)).isFalse();
+        assertThat(hasFastPath("a * 2.5 + b", null)).isFalse();
+    }
+
+    private void assertSameAsDefault(String input, Semantics semantics, Object a, Object b) {
+        Object expected = evaluate(input, null, a, b);
+        assertThat(evaluate(input, semantics, a, b)).isEqualTo(expected);
+    }
+
+    private Object evaluate(String input, Semantics semantics, Object a, Object b) {
+        DirectCompilerResult directResult = compile(input, semantics);
+        CompiledFEELExpression compiled = new CompilerBytecodeLoader().makeFromJPExpression(input, directResult.getExpression(), directResult.getFieldDeclarations());
+        EvaluationContext context = CodegenTestUtil.newEmptyEvaluationContext();
+        context.setValue("a", a);
+        context.setValue("b", b);
+        return compiled.apply(context);
+    }
+
+    private boolean hasFastPath(String input, Semantics semantics) {
+        return compile(input, semantics).getFieldDeclarations().stream()
+                .anyMatch(fd -> fd.getVariable(0).getNameAsString().startsWith("ZZAR_"));
+    }
+
+    private DirectCompilerResult compile(String input, Semantics semantics) {
+        FEEL_1_1Parser parser = FEELParser.parse(null, input, NUMBERS, Collections.emptyMap(), Collections.emptyList(), Collections.emptyList(), null);
+        ParseTree tree = parser.compilation_unit();
+        BaseNode node = new ASTBuilderVisitor(NUMBERS, null).visit(tree);
+        return node.accept(new ASTCompilerVisitor(semantics));
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.lang.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.profiles.TieredCompilationFEELProfile;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.entry;
+import static org.kie.dmn.feel.util.DynamicTypeUtils.mapOf;
+
+public class TieredCompilerTest {
+
+    private static final int THRESHOLD = 3;
+
+    private final TieredCompiler tieredCompiler = new TieredCompiler(THRESHOLD, Runnable::run);
+    private final FEEL feel = FEEL.newInstance(List.of(new TieredCompilationFEELProfile(tieredCompiler)));
+
+    @Test
+    public void testExpressionIsCompiledAfterThreshold() {
+        CompilerContext ctx = feel.newCompilerContext();
+        ctx.addInputVariableType("a", BuiltInType.NUMBER);
+        CompiledExpression expression = feel.compile("a * 2 + 1", ctx);
+
+        for (int i = 0; i < THRESHOLD - 1; i++) {
+            assertThat(feel.evaluate(expression, mapOf(entry("a", 5)))).isEqualTo(BigDecimal.valueOf(11));
+        }
+        assertThat(tieredCompiler.getCompiledCount()).isZero();
+
+        for (int i = 0; i < THRESHOLD; i++) {
+            assertThat(feel.evaluate(expression, mapOf(entry("a", 5)))).isEqualTo(BigDecimal.valueOf(11));
+        }
+        assertThat(tieredCompiler.getCompiledCount()).isEqualTo(1);
+        assertThat(tieredCompiler.getFailedCount()).isZero();
+        assertThat(tieredCompiler.getPendingCount()).isZero();
+        assertThat(((FEELImpl) feel).getTieredCompiler()).isSameAs(tieredCompiler);
+    }
+
+    @Test
+    public void testUnaryTestsAreCompiledAfterThreshold() {
+        List<UnaryTest> tests = feel.evaluateUnaryTests("> date(\"2020-01-01\"), 10");
+        EvaluationContext ctx = ((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), Collections.emptyMap());
+
+        for (int i = 0; i < THRESHOLD * 2; i++) {
+            assertThat(tests.get(0).apply(ctx, LocalDate.of(2021, 1, 1))).isTrue();
+            assertThat(tests.get(0).apply(ctx, LocalDate.of(2019, 1, 1))).isFalse();
+            assertThat(tests.get(1).apply(ctx, BigDecimal.TEN)).isTrue();
+        }
+        assertThat(tieredCompiler.getCompiledCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testNotCompiledBelowThreshold() {
+        CompiledExpression expression = feel.compile("\"a\" + \"b\"", feel.newCompilerContext());
+        assertThat(feel.evaluate(expression, Collections.emptyMap())).isEqualTo("ab");
+        assertThat(tieredCompiler.getCompiledCount()).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.impl.FEELImpl;
+import org.kie.dmn.feel.runtime.ConstantUnaryTest;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DecisionTableIndexTest {
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testConstantUnaryTests() {
+        assertThat(feel.evaluateUnaryTests("5")).allMatch(ConstantUnaryTest.class::isInstance);
+        assertThat(feel.evaluateUnaryTests("\"a\", \"b\"")).allMatch(ConstantUnaryTest.class::isInstance);
+        assertThat(feel.evaluateUnaryTests("[1..10), < -3, >= 7")).allMatch(ConstantUnaryTest.class::isInstance);
+        assertThat(feel.evaluateUnaryTests("> x")).noneMatch(ConstantUnaryTest.class::isInstance);
+        assertThat(feel.evaluateUnaryTests("not(5)")).noneMatch(ConstantUnaryTest.class::isInstance);
+    }
+
+    @Test
+    public void testIndexedMatchesAreTheSameAsLinearScan() {
+        String[] ageEntries = { "-", "18", "< 18", ">= 65", "[18..65)", "(30..40]", "> x", "not(50)", "1, 2, [3..5]", "-3" };
+        String[] categoryEntries = { "-", "\"A\"", "\"B\", \"C\"", "not(\"A\")" };
+
+        Random random = new Random(0);
+        List<DTDecisionRule> rules = new ArrayList<>();
+        List<String> ageTexts = new ArrayList<>();
+        List<String> categoryTexts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String age = ageEntries[random.nextInt(ageEntries.length)];
+            String category = categoryEntries[random.nextInt(categoryEntries.length)];
+            DTDecisionRule rule = new DTDecisionRule(i);
+            rule.getInputEntry().add(new DTInputEntry(feel.evaluateUnaryTests(age, Collections.emptyMap())));
+            rule.getInputEntry().add(new DTInputEntry(feel.evaluateUnaryTests(category, Collections.emptyMap())));
+            rule.getOutputEntry().add(feel.compile(String.valueOf(i), feel.newCompilerContext()));
+            rules.add(rule);
+            ageTexts.add(age);
+            categoryTexts.add(category);
+        }
+
+        List<DTInputClause> inputs = Arrays.asList(new DTInputClause("age", null, null, null, false),
+                                                   new DTInputClause("category", null, null, null, false));
+        List<DTOutputClause> outputs = Collections.singletonList(new DTOutputClause("result", null));
+        DecisionTableImpl dt = new DecisionTableImpl("index test", Arrays.asList("age", "category"), inputs, outputs, rules, HitPolicy.RULE_ORDER, feel);
+
+        Object[] ages = { BigDecimal.valueOf(-3), BigDecimal.ZERO, new BigDecimal("18.00"), BigDecimal.valueOf(30), BigDecimal.valueOf(35),
+                BigDecimal.valueOf(40), BigDecimal.valueOf(50), BigDecimal.valueOf(65), BigDecimal.valueOf(4), null };
+        Object[] categories = { "A", "B", "C", "D", null };
+        for (Object age : ages) {
+            for (Object category : categories) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("age", age);
+                variables.put("category", category);
+                variables.put("x", BigDecimal.valueOf(20));
+
+                List<BigDecimal> expected = new ArrayList<>();
+                for (int i = 0; i < rules.size(); i++) {
+                    if (matches(rules.get(i).getInputEntry().get(0), age, variables) && matches(rules.get(i).getInputEntry().get(1), category, variables)) {
+                        expected.add(BigDecimal.valueOf(i));
+                    }
+                }
+
+                Object result = dt.evaluate(newContext(variables), new Object[0]).getOrElse(null);
+                if (expected.isEmpty()) {
+                    assertThat(result).as("age %s, category %s", age, category).isNull();
+                } else {
+                    assertThat(result).as("age %s, category %s", age, category).isEqualTo(expected);
+                }
+            }
+        }
+    }
+
+    private boolean matches(UnaryTest test, Object value, Map<String, Object> variables) {
+        try {
+            return test.apply(newContext(variables), value);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private EvaluationContext newContext(Map<String, Object> variables) {
+        return ((FEELImpl) feel).newEvaluationContext(Collections.emptyList(), variables);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.dmn.feel.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RegexPatternCacheTest {
+
+    @After
+    public void resetCache() {
+        RegexPatternCache.setMaximumSize(RegexPatternCache.DEFAULT_SIZE);
+        RegexPatternCache.clear();
+    }
+
+    @Test
+    public void testSamePatternIsReused() {
+        Pattern pattern = RegexPatternCache.compile("^fo*", Pattern.CASE_INSENSITIVE);
+        assertThat(RegexPatternCache.compile("^fo*", Pattern.CASE_INSENSITIVE)).isSameAs(pattern);
+        assertThat(RegexPatternCache.compile("^fo*", 0)).isNotSameAs(pattern);
+        assertThat(RegexPatternCache.compile("^fo*", 0).flags()).isZero();
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        RegexPatternCache.clear();
+        RegexPatternCache.setMaximumSize(4);
+        for (int i = 0; i < 20; i++) {
+            RegexPatternCache.compile("a{" + i + "}");
+            assertThat(RegexPatternCache.size()).isLessThanOrEqualTo(4);
+        }
+
+        RegexPatternCache.setMaximumSize(0);
+        assertThat(RegexPatternCache.size()).isZero();
+        assertThat(RegexPatternCache.compile("b+")).isNotSameAs(RegexPatternCache.compile("b+"));
+        assertThat(RegexPatternCache.size()).isZero();
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        RegexPatternCache.clear();
+        RegexPatternCache.setMaximumSize(3);
+        Pattern a = RegexPatternCache.compile("a+");
+        Pattern b = RegexPatternCache.compile("b+");
+        RegexPatternCache.compile("c+");
+
+        // using a makes b the least recently used pattern
+        assertThat(RegexPatternCache.compile("a+")).isSameAs(a);
+        RegexPatternCache.compile("d+");
+
+        assertThat(RegexPatternCache.size()).isEqualTo(3);
+        assertThat(RegexPatternCache.compile("a+")).isSameAs(a);
+        assertThat(RegexPatternCache.compile("b+")).isNotSameAs(b);
+    }
+
+    @Test
+    public void testConcurrentCompileStaysBounded() throws Exception {
+        RegexPatternCache.clear();
+        RegexPatternCache.setMaximumSize(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String regex = "x{" + (i % 16) + "}";
+                        assertThat(RegexPatternCache.compile(regex).pattern()).isEqualTo(regex);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(RegexPatternCache.size()).isLessThanOrEqualTo(8);
+    }
+}
@@ -42,7 +42,6 @@ import org.kie.dmn.core.ast.EvaluatorResultImpl;
 import org.kie.dmn.core.compiler.DMNCompilerContext;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DecisionCompiler;
-import org.kie.dmn.core.impl.DMNContextImpl;
 import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.core.impl.DMNResultImpl;
 import org.kie.dmn.core.internal.utils.DRGAnalysisUtils;
@@ -246,7 +245,7 @@ public class MultiInstanceDecisionLogic {
         public EvaluatorResult evaluate(DMNRuntimeEventManager eventManager, DMNResult dmnr) {
             DMNResultImpl result = (DMNResultImpl) dmnr;
             DMNContext previousContext = result.getContext();
-            DMNContextImpl dmnContext = (DMNContextImpl) previousContext.clone();
+            DMNContext dmnContext = previousContext.clone();
             result.setContext( dmnContext );
             
             List<? super Object> invokationResults = new ArrayList<>();
@@ -261,7 +260,7 @@ public class MultiInstanceDecisionLogic {
                 }
                 for ( Object cycledValue : cycleOn ) {
                     DMNContext nonCycledContext = result.getContext();
-                    DMNContextImpl cyclingContext = (DMNContextImpl) nonCycledContext.clone();
+                    DMNContext cyclingContext = nonCycledContext.clone();
                     result.setContext( cyclingContext );
                     
                     cyclingContext.set(contextIteratorName, cycledValue);
@@ -24,13 +24,18 @@ import org.kie.api.conf.SingleValueRuleBaseOption;
 /**
  * Determines is the engine should evaluate rules and execute their consequences sequentially or in parallel.
  *
- * drools.parallelExecution = &lt;sequential|parallel_evaluation|fully_parallel&gt;
+ * drools.parallelExecution = &lt;sequential|parallel_evaluation|fully_parallel|partitioned&gt;
+ *
+ * PARTITIONED behaves as FULLY_PARALLEL but also gives each partition of the rule base a propagation task, scheduled
+ * on the shared kie executor whenever the partition has pending propagations, that drains the propagation queue of
+ * that partition under its own lock, so that the network propagation of inserted facts runs concurrently across the
+ * partitions and doesn't have to wait for the next fireAllRules.
  *
  * DEFAULT = SEQUENTIAL
  */
 public enum ParallelExecutionOption implements SingleValueRuleBaseOption {
 
-    SEQUENTIAL, PARALLEL_EVALUATION, FULLY_PARALLEL;
+    SEQUENTIAL, PARALLEL_EVALUATION, FULLY_PARALLEL, PARTITIONED;
 
     public static final String PROPERTY_NAME = "drools.parallelExecution";
 
@@ -51,6 +56,9 @@ public enum ParallelExecutionOption implements SingleValueRuleBaseOption {
         if ("fully_parallel".equalsIgnoreCase(value)) {
             return FULLY_PARALLEL;
         }
+        if ("partitioned".equalsIgnoreCase(value)) {
+            return PARTITIONED;
+        }
         throw new IllegalArgumentException("Illegal enum value '" + value + "' for ParallelExecution");
     }
 
@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.internal.runtime.conf;
+
+import org.kie.api.conf.OptionKey;
+import org.kie.api.runtime.conf.SingleValueRuleRuntimeOption;
+
+/**
+ * An enum to configure how a session schedules the expiration of events, both the ones retracted because of
+ * their @expires offset and the ones leaving a sliding time window.
+ *
+ * With "JOBS" every expiration is a job of its own on the session's timer service. With "TIMER_WHEEL" the
+ * expirations are kept in a hierarchical timing wheel with a millisecond granularity, driven by a single
+ * job on the timer service that fires once for each time slot holding at least one due expiration.
+ *
+ * drools.expirationScheduling = &lt;jobs|timerwheel&gt;
+ *
+ * DEFAULT = jobs
+ */
+public enum ExpirationSchedulingOption implements SingleValueRuleRuntimeOption {
+
+    JOBS("jobs"),
+    TIMER_WHEEL("timerwheel");
+
+    /**
+     * The property name for the expiration scheduling configuration
+     */
+    public static final String PROPERTY_NAME = "drools.expirationScheduling";
+
+    public static OptionKey<ExpirationSchedulingOption> KEY = new OptionKey<>(TYPE, PROPERTY_NAME);
+
+    private final String option;
+
+    ExpirationSchedulingOption(String option) {
+        this.option = option;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public String getAsString() {
+        return option;
+    }
+
+    public String toString() {
+        return "ExpirationSchedulingOption( " + option + " )";
+    }
+
+    public static ExpirationSchedulingOption determineExpirationScheduling(String option) {
+        if ( JOBS.getAsString().equalsIgnoreCase( option ) ) {
+            return JOBS;
+        } else if ( TIMER_WHEEL.getAsString().equalsIgnoreCase( option ) ) {
+            return TIMER_WHEEL;
+        }
+        throw new IllegalArgumentException( "Illegal enum value '" + option + "' for ExpirationSchedulingOption" );
+    }
+}
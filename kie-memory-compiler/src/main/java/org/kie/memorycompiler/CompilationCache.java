@@ -0,0 +1,61 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.memorycompiler;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of compiled bytecode. Each entry contains all the classes generated by the compilation of a group of sources
+ * and is identified by a key that the compiler calculates from the content of those sources and of everything
+ * they depend on, so a cached entry never needs to be invalidated: when the sources change the key changes too.
+ * <p/>
+ * The key also covers the class loaders used for the compilation and their classpath, and the bytecode of the
+ * classes that the sources name explicitly, through imports or fully qualified names, so a change of a dependency
+ * causes a cache miss. Classes only reached through wildcard imports are covered by the classpath alone.
+ */
+public interface CompilationCache {
+
+    /**
+     * Value of the {@link JavaConfiguration#JAVA_COMPILER_CACHE_PROPERTY} property enabling the in memory cache.
+     * Any other value is interpreted as the directory where the compiled classes are cached.
+     */
+    String MEMORY_CACHE = "memory";
+
+    /**
+     * Returns the classes cached with the given key, indexed by their resource path, or null if there are none
+     */
+    Map<String, byte[]> get(String key);
+
+    void put(String key, Map<String, byte[]> classes);
+
+    static CompilationCache getCompilationCache(String configuration) {
+        if (configuration == null || configuration.isEmpty()) {
+            return null;
+        }
+        return CacheHolder.CACHES.computeIfAbsent(configuration, c -> c.equalsIgnoreCase(MEMORY_CACHE) ?
+                new MemoryCompilationCache() :
+                new DirectoryCompilationCache(new File(c)));
+    }
+
+    class CacheHolder {
+        private static final Map<String, CompilationCache> CACHES = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.memorycompiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link CompilationCache} storing each entry in a file of a local directory, so that it can be shared among
+ * different JVMs and survives to their restart. Failures while reading or writing the cache are never propagated:
+ * a corrupted or missing entry is simply recompiled.
+ */
+public class DirectoryCompilationCache implements CompilationCache {
+
+    private static final String ENTRY_EXTENSION = ".classes";
+
+    private final File directory;
+
+    public DirectoryCompilationCache(File directory) {
+        this.directory = directory;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public Map<String, byte[]> get(String key) {
+        File entryFile = new File(directory, key + ENTRY_EXTENSION);
+        if (!entryFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entryFile.toPath())))) {
+            int size = in.readInt();
+            Map<String, byte[]> classes = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                String resourcePath = in.readUTF();
+                byte[] bytecode = new byte[in.readInt()];
+                in.readFully(bytecode);
+                classes.put(resourcePath, bytecode);
+            }
+            return classes;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String key, Map<String, byte[]> classes) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory.toPath());
+            tempFile = Files.createTempFile(directory.toPath(), key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+            }
+            Path entryFile = new File(directory, key + ENTRY_EXTENSION).toPath();
+            try {
+                Files.move(tempFile, entryFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, entryFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException e) {
+            // the cache is only an optimization, the classes will be compiled again next time
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+}
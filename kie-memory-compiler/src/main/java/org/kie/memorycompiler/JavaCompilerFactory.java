@@ -44,6 +44,8 @@ public class JavaCompilerFactory {
         JavaCompilerSettings settings = compiler.createDefaultSettings();
         settings.setTargetVersion( lngLevel );
         settings.setSourceVersion( lngLevel );
+        settings.setParallelism( Integer.getInteger( JavaConfiguration.JAVA_COMPILER_PARALLELISM_PROPERTY, 1 ) );
+        settings.setCompilationCache( CompilationCache.getCompilationCache( System.getProperty( JavaConfiguration.JAVA_COMPILER_CACHE_PROPERTY ) ) );
         return settings;
     }
 
@@ -39,6 +39,8 @@ public class JavaCompilerSettings {
     private boolean deprecations = false;
     private boolean debug = false;
     private List<File> classpaths;
+    private int parallelism = 1;
+    private CompilationCache compilationCache;
 
     private final List<String> options;
 
@@ -56,6 +58,8 @@ public class JavaCompilerSettings {
         warnings = pSettings.warnings;
         deprecations = pSettings.deprecations;
         debug = pSettings.debug;
+        parallelism = pSettings.parallelism;
+        compilationCache = pSettings.compilationCache;
         options = pSettings.options;
     }
     
@@ -132,6 +136,30 @@ public class JavaCompilerSettings {
         classpaths.add(classpath);
     }
 
+    /**
+     * Number of threads among which the compiler can split the sources of a single compilation.
+     * Not all compilers support it, the ones that don't always compile in the calling thread.
+     */
+    public void setParallelism( final int pParallelism ) {
+        parallelism = Math.max(1, pParallelism);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Cache of already compiled bytecode reused when the same sources are compiled again.
+     * Not all compilers support it, the ones that don't simply ignore it.
+     */
+    public void setCompilationCache( final CompilationCache pCompilationCache ) {
+        compilationCache = pCompilationCache;
+    }
+
+    public CompilationCache getCompilationCache() {
+        return compilationCache;
+    }
+
     public List<String> getOptions() {
         return options;
     }
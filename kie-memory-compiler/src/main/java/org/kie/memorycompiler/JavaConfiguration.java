@@ -32,6 +32,8 @@ import org.kie.memorycompiler.jdknative.NativeJavaCompiler;
  * 
  * drools.dialect.java.compiler = <ECLIPSE|NATIVE>
  * drools.dialect.java.compiler.lnglevel = <1.5|1.6>
+ * drools.dialect.java.compiler.parallelism = <number of compilation threads, 1 by default>
+ * drools.dialect.java.compiler.cache = <memory|path of the cache directory>
  * 
  * The default compiler is Eclipse and the default lngLevel is 1.5.
  * The lngLevel will attempt to autodiscover your system using the 
@@ -44,6 +46,8 @@ public class JavaConfiguration {
 
     public static final String JAVA_COMPILER_PROPERTY = "drools.dialect.java.compiler";
     public static final String JAVA_LANG_LEVEL_PROPERTY = "drools.dialect.java.compiler.lnglevel";
+    public static final String JAVA_COMPILER_PARALLELISM_PROPERTY = "drools.dialect.java.compiler.parallelism";
+    public static final String JAVA_COMPILER_CACHE_PROPERTY = "drools.dialect.java.compiler.cache";
 
     public enum CompilerType {
         ECLIPSE("org.drools.ecj.EclipseJavaCompiler"),
@@ -41,18 +41,40 @@ import java.io.Writer;
 import java.net.JarURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.jar.JarEntry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.kie.memorycompiler.AbstractJavaCompiler;
+import org.kie.memorycompiler.CompilationCache;
 import org.kie.memorycompiler.CompilationProblem;
 import org.kie.memorycompiler.CompilationResult;
 import org.kie.memorycompiler.JavaCompilerSettings;
@@ -62,8 +84,27 @@ import org.drools.util.PortablePath;
 import org.kie.memorycompiler.resources.ResourceReader;
 import org.kie.memorycompiler.resources.ResourceStore;
 
+import static org.drools.util.StringUtils.bytesToHex;
+
 public class NativeJavaCompiler extends AbstractJavaCompiler {
 
+    private static final Pattern PACKAGE_DECLARATION = Pattern.compile( "^\\s*package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE );
+
+    private static final Pattern QUALIFIED_NAME = Pattern.compile( "[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*(\\.[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*)+" );
+
+    /**
+     * The sources compiled by a shard can refer to the ones of all the other shards, that are then only attributed
+     * without generating their classes. Those sources have also to take precedence over the stale classes with the
+     * same name possibly present in the class loader.
+     */
+    private static final List<String> SHARD_OPTIONS = Arrays.asList( "-implicit:none", "-Xprefer:source" );
+
+    /**
+     * Minimum number of sources compiled by each shard, in order to not waste time attributing the sources
+     * referred by too many different shards
+     */
+    static final int MIN_SHARD_SIZE = 32;
+
     private JavaCompilerFinder javaCompilerFinder;
 
 	public JavaCompilerSettings createDefaultSettings() {
@@ -84,9 +125,28 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
                                       ResourceStore pStore,
                                       ClassLoader pClassLoader,
                                       JavaCompilerSettings pSettings) {
-        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
         JavaCompiler compiler = getJavaCompiler();
 
+        if (pSettings.getParallelism() > 1 || pSettings.getCompilationCache() != null) {
+            return new ShardedCompilation( compiler, pClassLoader, pSettings ).compile( pResourcePaths, pReader, pStore );
+        }
+
+        final List<JavaFileObject> units = new ArrayList<>();
+        for (final String sourcePath : pResourcePaths) {
+            units.add( new CompilationUnit( PortablePath.of(sourcePath), pReader ) );
+        }
+        return compileUnits( compiler, units, Collections.emptyMap(), pClassLoader, pSettings, Collections.emptyList(), pStore::write );
+    }
+
+    private CompilationResult compileUnits( JavaCompiler compiler,
+                                            List<JavaFileObject> units,
+                                            Map<String, List<JavaFileObject>> sourcePath,
+                                            ClassLoader pClassLoader,
+                                            JavaCompilerSettings pSettings,
+                                            List<String> additionalOptions,
+                                            BiConsumer<String, byte[]> output) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
         try (StandardJavaFileManager jFileManager = compiler.getStandardFileManager(diagnostics, null, Charset.forName(pSettings.getSourceEncoding()))) {
             try {
                 jFileManager.setLocation( StandardLocation.CLASS_PATH, pSettings.getClasspathLocations() );
@@ -95,17 +155,13 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
                 // ignore if cannot set the classpath
             }
 
-            try (MemoryFileManager fileManager = new MemoryFileManager( jFileManager, pClassLoader )) {
-                final List<JavaFileObject> units = new ArrayList<>();
-                for (final String sourcePath : pResourcePaths) {
-                    units.add( new CompilationUnit( PortablePath.of(sourcePath), pReader ) );
-                }
-
-                Iterable<String> options = new NativeJavaCompilerSettings( pSettings ).toOptionsList();
+            try (MemoryFileManager fileManager = new MemoryFileManager( jFileManager, pClassLoader, sourcePath )) {
+                List<String> options = new NativeJavaCompilerSettings( pSettings ).toOptionsList();
+                options.addAll( additionalOptions );
 
                 if ( compiler.getTask( null, fileManager, diagnostics, options, null, units ).call() ) {
                     for (CompilationOutput compilationOutput : fileManager.getOutputs()) {
-                        pStore.write( compilationOutput.getBinaryName().replace( '.', '/' ) + ".class", compilationOutput.toByteArray() );
+                        output.accept( compilationOutput.getBinaryName().replace( '.', '/' ) + ".class", compilationOutput.toByteArray() );
                     }
                     return new CompilationResult( new CompilationProblem[0] );
                 }
@@ -123,6 +179,334 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         }
     }
 
+    /**
+     * Compilation splitting the sources in shards compiled in parallel, each one with all the other sources available
+     * on the source path but without generating their classes. The classes generated for each package are also cached
+     * with a key derived from the content of the package and of all the packages it transitively refers to, so when
+     * the same sources are compiled again only the packages affected by a change are actually recompiled.
+     */
+    private class ShardedCompilation {
+
+        private final JavaCompiler compiler;
+        private final ClassLoader classLoader;
+        private final JavaCompilerSettings settings;
+        private final CompilationCache cache;
+
+        private ShardedCompilation(JavaCompiler compiler, ClassLoader classLoader, JavaCompilerSettings settings) {
+            this.compiler = compiler;
+            this.classLoader = classLoader;
+            this.settings = settings;
+            this.cache = settings.getCompilationCache();
+        }
+
+        CompilationResult compile(String[] pResourcePaths, ResourceReader pReader, ResourceStore pStore) {
+            Map<String, List<JavaFileObject>> sourcesByPackage = new TreeMap<>();
+            for (final String sourcePath : pResourcePaths) {
+                CompilationUnit unit = new CompilationUnit( PortablePath.of(sourcePath), pReader );
+                sourcesByPackage.computeIfAbsent( unit.getPackageName(), p -> new ArrayList<>() ).add( unit );
+            }
+            // the order of the sources affects neither the compilation nor the cache key
+            sourcesByPackage.values().forEach( units -> units.sort( Comparator.comparing( unit -> unit.toUri().toString() ) ) );
+
+            Map<String, String> cacheKeys = cache != null ? calculateCacheKeys( sourcesByPackage ) : Collections.emptyMap();
+
+            Map<String, byte[]> classes = new HashMap<>();
+            List<JavaFileObject> toBeCompiled = new ArrayList<>();
+            Set<String> compiledPackages = new HashSet<>();
+            for (Map.Entry<String, List<JavaFileObject>> entry : sourcesByPackage.entrySet()) {
+                Map<String, byte[]> cachedClasses = cache != null ? cache.get( cacheKeys.get( entry.getKey() ) ) : null;
+                if (cachedClasses != null) {
+                    classes.putAll( cachedClasses );
+                } else {
+                    toBeCompiled.addAll( entry.getValue() );
+                    compiledPackages.add( entry.getKey() );
+                }
+            }
+
+            if (!toBeCompiled.isEmpty()) {
+                List<Map<String, byte[]>> shardOutputs = new ArrayList<>();
+                CompilationProblem[] problems = compileShards( split( toBeCompiled ), sourcesByPackage, shardOutputs );
+                if (problems.length > 0) {
+                    return new CompilationResult( problems );
+                }
+
+                Map<String, Map<String, byte[]>> classesByPackage = new HashMap<>();
+                for (Map<String, byte[]> shardOutput : shardOutputs) {
+                    for (Map.Entry<String, byte[]> compiledClass : shardOutput.entrySet()) {
+                        classes.put( compiledClass.getKey(), compiledClass.getValue() );
+                        classesByPackage.computeIfAbsent( getPackageOfResource( compiledClass.getKey() ), p -> new HashMap<>() )
+                                .put( compiledClass.getKey(), compiledClass.getValue() );
+                    }
+                }
+
+                if (cache != null) {
+                    for (String pkg : compiledPackages) {
+                        cache.put( cacheKeys.get( pkg ), classesByPackage.getOrDefault( pkg, Collections.emptyMap() ) );
+                    }
+                }
+            }
+
+            for (Map.Entry<String, byte[]> compiledClass : classes.entrySet()) {
+                pStore.write( compiledClass.getKey(), compiledClass.getValue() );
+            }
+            return new CompilationResult( new CompilationProblem[0] );
+        }
+
+        private List<List<JavaFileObject>> split(List<JavaFileObject> units) {
+            int shardSize = Math.max( MIN_SHARD_SIZE, (units.size() + settings.getParallelism() - 1) / settings.getParallelism() );
+            List<List<JavaFileObject>> shards = new ArrayList<>();
+            for (int i = 0; i < units.size(); i += shardSize) {
+                shards.add( units.subList( i, Math.min( i + shardSize, units.size() ) ) );
+            }
+            return shards;
+        }
+
+        private CompilationProblem[] compileShards(List<List<JavaFileObject>> shards, Map<String, List<JavaFileObject>> sourcePath, List<Map<String, byte[]>> shardOutputs) {
+            List<Callable<ShardResult>> tasks = new ArrayList<>();
+            for (List<JavaFileObject> shard : shards) {
+                tasks.add( () -> {
+                    Map<String, byte[]> output = new HashMap<>();
+                    CompilationResult result = compileUnits( compiler, shard, sourcePath, classLoader, settings, SHARD_OPTIONS, output::put );
+                    return new ShardResult( result, output );
+                } );
+            }
+
+            List<ShardResult> results = new ArrayList<>();
+            if (tasks.size() == 1) {
+                try {
+                    results.add( tasks.get( 0 ).call() );
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new KieMemoryCompilerException( e.getMessage(), e );
+                }
+            } else {
+                ExecutorService executor = Executors.newFixedThreadPool( Math.min( settings.getParallelism(), tasks.size() ), NativeJavaCompiler::newCompilerThread );
+                try {
+                    for (Future<ShardResult> future : executor.invokeAll( tasks )) {
+                        results.add( future.get() );
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new KieMemoryCompilerException( "Interrupted while compiling", e );
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new KieMemoryCompilerException( e.getCause().getMessage(), e.getCause() );
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            // the errors in a source are reported by all the shards referring to it, so they have to be deduplicated
+            Map<String, CompilationProblem> problems = new LinkedHashMap<>();
+            for (ShardResult result : results) {
+                for (CompilationProblem problem : result.result.getErrors()) {
+                    problems.putIfAbsent( problem.getFileName() + ":" + problem.getStartLine() + ":" + problem.getStartColumn() + ":" + problem.getMessage(), problem );
+                }
+                shardOutputs.add( result.output );
+            }
+            return problems.values().toArray( new CompilationProblem[problems.size()] );
+        }
+
+        private Map<String, String> calculateCacheKeys(Map<String, List<JavaFileObject>> sourcesByPackage) {
+            Map<String, String> contentHashes = new HashMap<>();
+            Map<String, Set<String>> referencedNames = new HashMap<>();
+            Set<String> sourceClassNames = new HashSet<>();
+            for (Map.Entry<String, List<JavaFileObject>> entry : sourcesByPackage.entrySet()) {
+                MessageDigest digest = createDigest();
+                Set<String> names = new HashSet<>();
+                for (JavaFileObject unit : entry.getValue()) {
+                    String content = (( CompilationUnit ) unit).getContent();
+                    digest.update( unit.toUri().toString().getBytes( StandardCharsets.UTF_8 ) );
+                    digest.update( content.getBytes( StandardCharsets.UTF_8 ) );
+                    collectQualifiedNamePrefixes( content, names );
+                    sourceClassNames.add( (( CompilationUnit ) unit).getBinaryName() );
+                }
+                contentHashes.put( entry.getKey(), bytesToHex( digest.digest() ) );
+                referencedNames.put( entry.getKey(), names );
+            }
+
+            // a package can refer to another one only through its name, either in an import or in a fully qualified name
+            Map<String, List<String>> dependencies = new HashMap<>();
+            for (String pkg : sourcesByPackage.keySet()) {
+                List<String> pkgDependencies = new ArrayList<>();
+                for (String other : sourcesByPackage.keySet()) {
+                    if (!other.equals(pkg) && !other.isEmpty() && referencedNames.get( pkg ).contains( other )) {
+                        pkgDependencies.add( other );
+                    }
+                }
+                dependencies.put( pkg, pkgDependencies );
+            }
+
+            String settingsHash = calculateSettingsHash();
+            Map<String, String> storeHashes = calculateStoreHashes( sourceClassNames );
+            Map<String, String> classHashes = new HashMap<>();
+
+            Map<String, String> cacheKeys = new HashMap<>();
+            for (String pkg : sourcesByPackage.keySet()) {
+                Set<String> pkgDependencies = transitiveDependencies( pkg, dependencies );
+                MessageDigest digest = createDigest();
+                digest.update( settingsHash.getBytes( StandardCharsets.UTF_8 ) );
+                for (String dependency : pkgDependencies) {
+                    digest.update( dependency.getBytes( StandardCharsets.UTF_8 ) );
+                    digest.update( contentHashes.get( dependency ).getBytes( StandardCharsets.UTF_8 ) );
+                }
+                for (Map.Entry<String, String> storeHash : storeHashes.entrySet()) {
+                    if (isReferenced( storeHash.getKey(), pkgDependencies, referencedNames )) {
+                        digest.update( storeHash.getKey().getBytes( StandardCharsets.UTF_8 ) );
+                        digest.update( storeHash.getValue().getBytes( StandardCharsets.UTF_8 ) );
+                    }
+                }
+                Set<String> pkgReferencedNames = new TreeSet<>();
+                for (String dependency : pkgDependencies) {
+                    pkgReferencedNames.addAll( referencedNames.get( dependency ) );
+                }
+                for (String name : pkgReferencedNames) {
+                    if (!sourceClassNames.contains( name )) {
+                        String classHash = classHashes.computeIfAbsent( name, this::calculateClassHash );
+                        if (!classHash.isEmpty()) {
+                            digest.update( name.getBytes( StandardCharsets.UTF_8 ) );
+                            digest.update( classHash.getBytes( StandardCharsets.UTF_8 ) );
+                        }
+                    }
+                }
+                cacheKeys.put( pkg, bytesToHex( digest.digest() ) );
+            }
+            return cacheKeys;
+        }
+
+        private boolean isReferenced(String pkg, Set<String> pkgDependencies, Map<String, Set<String>> referencedNames) {
+            if (pkgDependencies.contains( pkg )) {
+                return true;
+            }
+            for (String dependency : pkgDependencies) {
+                if (referencedNames.get( dependency ).contains( pkg )) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Set<String> transitiveDependencies(String pkg, Map<String, List<String>> dependencies) {
+            Set<String> visited = new TreeSet<>();
+            Deque<String> toBeVisited = new ArrayDeque<>();
+            toBeVisited.add( pkg );
+            while (!toBeVisited.isEmpty()) {
+                String current = toBeVisited.poll();
+                if (visited.add( current )) {
+                    toBeVisited.addAll( dependencies.get( current ) );
+                }
+            }
+            return visited;
+        }
+
+        private String calculateSettingsHash() {
+            MessageDigest digest = createDigest();
+            digest.update( System.getProperty( "java.version", "" ).getBytes( StandardCharsets.UTF_8 ) );
+            digest.update( String.join( " ", new NativeJavaCompilerSettings( settings ).toOptionsList() ).getBytes( StandardCharsets.UTF_8 ) );
+            if (settings.getClasspathLocations() != null) {
+                digest.update( settings.getClasspathLocations().toString().getBytes( StandardCharsets.UTF_8 ) );
+            }
+            // the classes visible to the sources depend on the class loaders and on their classpath
+            for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+                digest.update( loader.getClass().getName().getBytes( StandardCharsets.UTF_8 ) );
+                if (loader instanceof URLClassLoader) {
+                    digest.update( Arrays.toString( (( URLClassLoader ) loader).getURLs() ).getBytes( StandardCharsets.UTF_8 ) );
+                }
+            }
+            digest.update( System.getProperty( "java.class.path", "" ).getBytes( StandardCharsets.UTF_8 ) );
+            return bytesToHex( digest.digest() );
+        }
+
+        /**
+         * Hash of the bytecode of the class with the given name provided by the class loader, or an empty string
+         * if the name doesn't identify any such class. The classes of the JDK are covered by the java version.
+         */
+        private String calculateClassHash(String className) {
+            if (className.startsWith( "java." ) || className.startsWith( "javax." ) || classLoader == null) {
+                return "";
+            }
+            try (InputStream is = classLoader.getResourceAsStream( className.replace( '.', '/' ) + ".class" )) {
+                if (is == null) {
+                    return "";
+                }
+                MessageDigest digest = createDigest();
+                digest.update( is.readAllBytes() );
+                return bytesToHex( digest.digest() );
+            } catch (IOException e) {
+                // an unreadable class can't be cached safely, so the key is made unique
+                return className + "@" + System.nanoTime();
+            }
+        }
+
+        /**
+         * Hashes, grouped by package, of the classes already compiled in the class loader that the sources can refer to.
+         * The classes having the same name of one of the sources are excluded because those sources take precedence.
+         */
+        private Map<String, String> calculateStoreHashes(Set<String> sourceClassNames) {
+            if (!(classLoader instanceof StoreClassLoader) || (( StoreClassLoader ) classLoader).getStore() == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, MessageDigest> digests = new TreeMap<>();
+            for (Map.Entry<String, byte[]> entry : new TreeMap<>( (( StoreClassLoader ) classLoader).getStore() ).entrySet()) {
+                String className = MemoryFileManager.convertResourceToClassName( entry.getKey() );
+                int innerClassSeparator = className.indexOf( '$' );
+                if (sourceClassNames.contains( innerClassSeparator > 0 ? className.substring( 0, innerClassSeparator ) : className )) {
+                    continue;
+                }
+                int lastDot = className.lastIndexOf( '.' );
+                MessageDigest digest = digests.computeIfAbsent( lastDot > 0 ? className.substring( 0, lastDot ) : "", p -> createDigest() );
+                digest.update( entry.getKey().getBytes( StandardCharsets.UTF_8 ) );
+                digest.update( entry.getValue() );
+            }
+            Map<String, String> storeHashes = new TreeMap<>();
+            digests.forEach( (pkg, digest) -> storeHashes.put( pkg, bytesToHex( digest.digest() ) ) );
+            return storeHashes;
+        }
+    }
+
+    private static class ShardResult {
+        private final CompilationResult result;
+        private final Map<String, byte[]> output;
+
+        private ShardResult(CompilationResult result, Map<String, byte[]> output) {
+            this.result = result;
+            this.output = output;
+        }
+    }
+
+    static void collectQualifiedNamePrefixes(String content, Set<String> names) {
+        Matcher matcher = QUALIFIED_NAME.matcher( content );
+        while (matcher.find()) {
+            String qualifiedName = matcher.group();
+            for (int dot = qualifiedName.indexOf( '.' ); dot > 0; dot = qualifiedName.indexOf( '.', dot + 1 )) {
+                names.add( qualifiedName.substring( 0, dot ) );
+            }
+            names.add( qualifiedName );
+        }
+    }
+
+    private static Thread newCompilerThread(Runnable runnable) {
+        Thread thread = new Thread( runnable, "kie-java-compiler" );
+        thread.setDaemon( true );
+        return thread;
+    }
+
+    private static String getPackageOfResource(String resourcePath) {
+        int lastSlash = resourcePath.lastIndexOf( '/' );
+        return lastSlash > 0 ? resourcePath.substring( 0, lastSlash ).replace( '/', '.' ) : "";
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance( "SHA-256" );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException( e );
+        }
+    }
+
     private JavaCompiler getJavaCompiler() {
         JavaCompiler compiler = null;
         Throwable cause = null;
@@ -143,14 +527,18 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         }
     }
 
-    private static class CompilationUnit extends SimpleJavaFileObject {
+    private static class CompilationUnit extends SimpleJavaFileObject implements DroolsJavaFileObject {
 
         public static final Charset UTF8_CHARSET = Charset.forName("UTF-8");
 
+        private final PortablePath path;
         private final String content;
 
+        private String packageName;
+
         CompilationUnit(PortablePath path, String content) {
             super(URI.create("memo:///" + path.asString()), Kind.SOURCE);
+            this.path = path;
             this.content = content;
         }
 
@@ -162,6 +550,25 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
         public CharSequence getCharContent(boolean encodingErrors) throws IOException {
             return content;
         }
+
+        String getContent() {
+            return content;
+        }
+
+        String getPackageName() {
+            if (packageName == null) {
+                Matcher matcher = PACKAGE_DECLARATION.matcher(content);
+                packageName = matcher.find() ? matcher.group(1) : "";
+            }
+            return packageName;
+        }
+
+        @Override
+        public String getBinaryName() {
+            String fileName = path.getFileName();
+            String className = fileName.endsWith(Kind.SOURCE.extension) ? fileName.substring(0, fileName.length() - Kind.SOURCE.extension.length()) : fileName;
+            return getPackageName().isEmpty() ? className : getPackageName() + "." + className;
+        }
     }
 
     private interface DroolsJavaFileObject extends JavaFileObject {
@@ -303,10 +710,25 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
     private static class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
         private final List<CompilationOutput> outputs = new ArrayList<>();
         private final ClassLoader classLoader;
+        private final Map<String, List<JavaFileObject>> sourcePath;
 
-        MemoryFileManager(JavaFileManager fileManager, ClassLoader classLoader) {
+        MemoryFileManager(JavaFileManager fileManager, ClassLoader classLoader, Map<String, List<JavaFileObject>> sourcePath) {
             super(fileManager);
             this.classLoader = classLoader;
+            this.sourcePath = sourcePath;
+        }
+
+        @Override
+        public boolean isSameFile(FileObject a, FileObject b) {
+            if (a instanceof DroolsJavaFileObject || b instanceof DroolsJavaFileObject) {
+                return a.toUri().equals(b.toUri());
+            }
+            return super.isSameFile(a, b);
+        }
+
+        @Override
+        public boolean hasLocation(Location location) {
+            return (location == StandardLocation.SOURCE_PATH && !sourcePath.isEmpty()) || super.hasLocation(location);
         }
 
         @Override
@@ -323,6 +745,9 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
 
         @Override
         public Iterable<JavaFileObject> list(Location location, String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) throws IOException {
+            if (location == StandardLocation.SOURCE_PATH && !sourcePath.isEmpty()) {
+                return listSources(packageName, kinds, recurse);
+            }
             Iterable<JavaFileObject> fileManagerList = super.list(location, packageName, kinds, recurse);
             if (location != StandardLocation.CLASS_PATH || packageName.startsWith("java.") || packageName.equals("java")) {
                 return fileManagerList;
@@ -332,6 +757,22 @@ public class NativeJavaCompiler extends AbstractJavaCompiler {
             return externalClasses.isEmpty() ? fileManagerList : new AggregatingIterable<>(fileManagerList, externalClasses);
         }
 
+        private List<JavaFileObject> listSources(String packageName, Set<JavaFileObject.Kind> kinds, boolean recurse) {
+            if (!kinds.contains(JavaFileObject.Kind.SOURCE)) {
+                return Collections.emptyList();
+            }
+            if (!recurse) {
+                return sourcePath.getOrDefault(packageName, Collections.emptyList());
+            }
+            List<JavaFileObject> sources = new ArrayList<>();
+            for (Map.Entry<String, List<JavaFileObject>> entry : sourcePath.entrySet()) {
+                if (packageName.isEmpty() || entry.getKey().equals(packageName) || entry.getKey().startsWith(packageName + ".")) {
+                    sources.addAll(entry.getValue());
+                }
+            }
+            return sources;
+        }
+
         private List<JavaFileObject> findCompiledClassInPackage(String packageName) {
             List<JavaFileObject> compiledList = new ArrayList<>();
             if (classLoader instanceof StoreClassLoader ) {
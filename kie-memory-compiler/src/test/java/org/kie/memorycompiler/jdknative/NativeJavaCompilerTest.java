@@ -18,10 +18,30 @@
  */
 package org.kie.memorycompiler.jdknative;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
 import javax.tools.JavaCompiler;
 
+import org.drools.util.PortablePath;
 import org.junit.Test;
+import org.kie.memorycompiler.CompilationCache;
+import org.kie.memorycompiler.CompilationResult;
+import org.kie.memorycompiler.JavaCompilerSettings;
 import org.kie.memorycompiler.KieMemoryCompilerException;
+import org.kie.memorycompiler.MemoryCompilationCache;
+import org.kie.memorycompiler.resources.MemoryResourceReader;
+import org.kie.memorycompiler.resources.MemoryResourceStore;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 public class NativeJavaCompilerTest {
 
@@ -43,6 +63,217 @@ public class NativeJavaCompilerTest {
 		compiler.compile(null, null, null, null, null);
 	}
 	
+	@Test
+	public void compileInParallelShards() throws Exception {
+		MemoryResourceReader reader = new MemoryResourceReader();
+		String[] sources = new String[100];
+		for (int i = 0; i < sources.length; i++) {
+			sources[i] = addSource(reader, "org.test.a", "A" + i, "public int get() { return new org.test.b.B" + i + "().get() + " + i + "; }");
+		}
+		for (int i = 0; i < sources.length; i++) {
+			addSource(reader, "org.test.b", "B" + i, "public int get() { return " + i + "; }");
+		}
+		String[] allSources = new String[sources.length * 2];
+		for (int i = 0; i < sources.length; i++) {
+			allSources[i] = sources[i];
+			allSources[sources.length + i] = "src/main/java/org/test/b/B" + i + ".java";
+		}
+
+		NativeJavaCompiler compiler = new NativeJavaCompiler();
+		JavaCompilerSettings settings = compiler.createDefaultSettings();
+		settings.setParallelism(4);
+
+		MemoryResourceStore store = new MemoryResourceStore();
+		CompilationResult result = compiler.compile(allSources, reader, store, getClass().getClassLoader(), settings);
+		assertThat(result.getErrors()).isEmpty();
+		assertThat(store.getResources()).hasSize(200);
+
+		ClassLoader classLoader = new StoreLoader(getClass().getClassLoader(), store);
+		Object a42 = classLoader.loadClass("org.test.a.A42").getConstructor().newInstance();
+		assertThat(a42.getClass().getMethod("get").invoke(a42)).isEqualTo(84);
+	}
+
+	@Test
+	public void compilationErrorsInShardsAreReportedOnce() {
+		MemoryResourceReader reader = new MemoryResourceReader();
+		String[] sources = new String[70];
+		for (int i = 0; i < sources.length; i++) {
+			sources[i] = addSource(reader, "org.test.a", "A" + i, "public int get() { return new Wrong().get(); }");
+		}
+		sources[0] = addSource(reader, "org.test.a", "Wrong", "public int get() { return \"wrong\"; }");
+
+		NativeJavaCompiler compiler = new NativeJavaCompiler();
+		JavaCompilerSettings settings = compiler.createDefaultSettings();
+		settings.setParallelism(2);
+
+		MemoryResourceStore store = new MemoryResourceStore();
+		CompilationResult result = compiler.compile(sources, reader, store, getClass().getClassLoader(), settings);
+		assertThat(result.getErrors()).hasSize(1);
+		assertThat(result.getErrors()[0].getFileName()).contains("Wrong.java");
+		assertThat(store.getResources()).isEmpty();
+	}
+
+	@Test
+	public void recompileOnlyAffectedPackages() {
+		MemoryResourceReader reader = new MemoryResourceReader();
+		String[] sources = new String[] {
+				addSource(reader, "org.test.a", "A", "public int get() { return new org.test.b.B().get(); }"),
+				addSource(reader, "org.test.b", "B", "public int get() { return 1; }"),
+				addSource(reader, "org.test.c", "C", "public int get() { return 2; }")
+		};
+
+		NativeJavaCompiler compiler = new NativeJavaCompiler();
+		JavaCompilerSettings settings = compiler.createDefaultSettings();
+		CountingCompilationCache cache = new CountingCompilationCache();
+		settings.setCompilationCache(cache);
+
+		MemoryResourceStore store = new MemoryResourceStore();
+		assertThat(compiler.compile(sources, reader, store, getClass().getClassLoader(), settings).getErrors()).isEmpty();
+		assertThat(cache.puts).isEqualTo(3);
+		assertThat(store.getResources()).hasSize(3);
+
+		// nothing changed: everything comes from the cache
+		store = new MemoryResourceStore();
+		assertThat(compiler.compile(sources, reader, store, getClass().getClassLoader(), settings).getErrors()).isEmpty();
+		assertThat(cache.puts).isEqualTo(3);
+		assertThat(store.getResources()).hasSize(3);
+
+		// org.test.c isn't used by anybody else
+		addSource(reader, "org.test.c", "C", "public int get() { return 3; }");
+		assertThat(compiler.compile(sources, reader, new MemoryResourceStore(), getClass().getClassLoader(), settings).getErrors()).isEmpty();
+		assertThat(cache.puts).isEqualTo(4);
+
+		// org.test.a depends on org.test.b so both have to be recompiled
+		addSource(reader, "org.test.b", "B", "public int get() { return 4; }");
+		store = new MemoryResourceStore();
+		assertThat(compiler.compile(sources, reader, store, getClass().getClassLoader(), settings).getErrors()).isEmpty();
+		assertThat(cache.puts).isEqualTo(6);
+		assertThat(store.getResources()).containsKeys(PortablePath.of("org/test/a/A.class"), PortablePath.of("org/test/b/B.class"), PortablePath.of("org/test/c/C.class"));
+	}
+
+	@Test
+	public void recompileWhenDependencyChanges() throws Exception {
+		NativeJavaCompiler compiler = new NativeJavaCompiler();
+		File dependencyV1 = createDependencyJar(compiler, "public static int get() { return 1; }");
+		File dependencyV2 = createDependencyJar(compiler, "public static int get() { return 2; }");
+
+		MemoryResourceReader reader = new MemoryResourceReader();
+		String[] sources = new String[] {
+				addSource(reader, "org.test.a", "A", "public int get() { return org.dep.D.get(); }")
+		};
+
+		JavaCompilerSettings settings = compiler.createDefaultSettings();
+		CountingCompilationCache cache = new CountingCompilationCache();
+		settings.setCompilationCache(cache);
+
+		try (DependencyClassLoader classLoader = new DependencyClassLoader(getClass().getClassLoader(), dependencyV1)) {
+			assertThat(compiler.compile(sources, reader, new MemoryResourceStore(), classLoader, settings).getErrors()).isEmpty();
+			assertThat(cache.puts).isEqualTo(1);
+
+			assertThat(compiler.compile(sources, reader, new MemoryResourceStore(), classLoader, settings).getErrors()).isEmpty();
+			assertThat(cache.puts).isEqualTo(1);
+
+			// same sources and same class loader, but the referenced class changed
+			classLoader.setJar(dependencyV2);
+			assertThat(compiler.compile(sources, reader, new MemoryResourceStore(), classLoader, settings).getErrors()).isEmpty();
+			assertThat(cache.puts).isEqualTo(2);
+		}
+	}
+
+	private File createDependencyJar(NativeJavaCompiler compiler, String body) throws IOException {
+		MemoryResourceReader reader = new MemoryResourceReader();
+		String[] sources = new String[] { addSource(reader, "org.dep", "D", body) };
+		MemoryResourceStore store = new MemoryResourceStore();
+		assertThat(compiler.compile(sources, reader, store, getClass().getClassLoader(), compiler.createDefaultSettings()).getErrors()).isEmpty();
+
+		File jar = Files.createTempFile("dependency", ".jar").toFile();
+		jar.deleteOnExit();
+		try (JarOutputStream jos = new JarOutputStream(Files.newOutputStream(jar.toPath()))) {
+			jos.putNextEntry(new JarEntry("org/"));
+			jos.putNextEntry(new JarEntry("org/dep/"));
+			jos.putNextEntry(new JarEntry("org/dep/D.class"));
+			jos.write(store.read(PortablePath.of("org/dep/D.class")));
+			jos.closeEntry();
+		}
+		return jar;
+	}
+
+	private static String addSource(MemoryResourceReader reader, String pkg, String className, String body) {
+		String path = "src/main/java/" + pkg.replace('.', '/') + "/" + className + ".java";
+		String source = "package " + pkg + ";\n\npublic class " + className + " {\n    " + body + "\n}\n";
+		reader.add(path, source.getBytes());
+		return path;
+	}
+
+	private static class CountingCompilationCache implements CompilationCache {
+
+		private final CompilationCache delegate = new MemoryCompilationCache();
+
+		private int puts;
+
+		@Override
+		public Map<String, byte[]> get(String key) {
+			return delegate.get(key);
+		}
+
+		@Override
+		public void put(String key, Map<String, byte[]> classes) {
+			puts++;
+			delegate.put(key, classes);
+		}
+	}
+
+	private static class StoreLoader extends ClassLoader {
+
+		private final Map<String, byte[]> classes = new HashMap<>();
+
+		StoreLoader(ClassLoader parent, MemoryResourceStore store) {
+			super(parent);
+			store.getResources().forEach((path, bytecode) -> classes.put(path.asClassName(), bytecode));
+		}
+
+		@Override
+		protected Class<?> findClass(String name) throws ClassNotFoundException {
+			byte[] bytecode = classes.get(name);
+			if (bytecode == null) {
+				throw new ClassNotFoundException(name);
+			}
+			return defineClass(name, bytecode, 0, bytecode.length);
+		}
+	}
+
+	private static class DependencyClassLoader extends ClassLoader implements AutoCloseable {
+
+		private URLClassLoader jarLoader;
+
+		DependencyClassLoader(ClassLoader parent, File jar) throws IOException {
+			super(parent);
+			setJar(jar);
+		}
+
+		void setJar(File jar) throws IOException {
+			close();
+			jarLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null);
+		}
+
+		@Override
+		protected URL findResource(String name) {
+			return jarLoader.findResource(name);
+		}
+
+		@Override
+		protected Enumeration<URL> findResources(String name) throws IOException {
+			return jarLoader.findResources(name);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (jarLoader != null) {
+				jarLoader.close();
+			}
+		}
+	}
+
 	private static class NullJavaCompilerFinder implements JavaCompilerFinder {
 
 		@Override
@@ -19,6 +19,7 @@
 package org.kie.pmml.api.runtime;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.kie.api.pmml.PMML4Result;
@@ -34,6 +35,17 @@ public interface PMMLRuntime {
      */
     PMML4Result evaluate(final String modelName, final PMMLRuntimeContext context);
 
+    /**
+     * Evaluate the model over a batch of rows, given as one numeric column for each input field.
+     * Only the model itself is evaluated: transformations, output fields and listeners are not managed, and
+     * <code>Double.NaN</code> marks missing values and results
+     * @param modelName the name of the model to evaluate
+     * @param columns the input values, mapped by field name; all the arrays must have the same length
+     * @param context the context used to retrieve the model
+     * @return the result of the evaluation of each row
+     */
+    double[] evaluate(final String modelName, final Map<String, double[]> columns, final PMMLRuntimeContext context);
+
     /**
      * Returns a list of all models available to this runtime
      * @return the list of available models. An empty list in
@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.pmml.commons.model;
+
+import java.util.Map;
+
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+/**
+ * Interface used to define if a given <code>KiePMMLModel</code> may be evaluated over a whole batch of rows at once.
+ * <p>
+ * Input values are provided as <b>columns</b>, i.e. one primitive array for each (numeric) field, all of the same
+ * length; the returned array contains one result for each row. The evaluation is done with plain counted loops over
+ * the arrays, so that the JIT may unroll and vectorize them.
+ * <p>
+ * The batch evaluation only covers the model itself: preprocessing (transformations, missing value replacement),
+ * output fields and reason codes are not managed, and <code>Double.NaN</code> is used to mark missing values/results.
+ */
+public interface IsBatchEvaluable {
+
+    /**
+     * Evaluate the given <code>columns</code>, returning one result for each row
+     * @param columns
+     * @return
+     * @throws KiePMMLException if the given columns do not have the same length or if the current model can not be
+     * evaluated in batch
+     */
+    double[] evaluate(final Map<String, double[]> columns);
+
+    /**
+     * Returns the number of rows of the given <code>columns</code>
+     * @param columns
+     * @return
+     * @throws KiePMMLException if no column is provided or if the columns do not have the same length
+     */
+    static int getRows(final Map<String, double[]> columns) {
+        if (columns == null || columns.isEmpty()) {
+            throw new KiePMMLException("No column provided for batch evaluation");
+        }
+        int toReturn = -1;
+        for (Map.Entry<String, double[]> entry : columns.entrySet()) {
+            int length = entry.getValue().length;
+            if (toReturn == -1) {
+                toReturn = length;
+            } else if (length != toReturn) {
+                throw new KiePMMLException(String.format("Column %s has %s rows instead of %s", entry.getKey(),
+                                                         length, toReturn));
+            }
+        }
+        return toReturn;
+    }
+}
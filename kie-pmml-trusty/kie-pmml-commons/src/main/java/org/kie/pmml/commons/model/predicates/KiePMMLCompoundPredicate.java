@@ -18,6 +18,7 @@
  */
 package org.kie.pmml.commons.model.predicates;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,6 +75,88 @@ public class KiePMMLCompoundPredicate extends KiePMMLPredicate {
         return toReturn != null && toReturn;
     }
 
+    /**
+     * With the <code>surrogate</code> operator each row takes the evaluation of the first predicate which is not
+     * <b>unknown</b> for it, or <code>false</code> if all of them are
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public boolean[] evaluate(final Map<String, double[]> columns, final int rows) {
+        if (booleanOperator == BOOLEAN_OPERATOR.SURROGATE) {
+            return evaluateSurrogate(columns, rows);
+        }
+        boolean[] toReturn = null;
+        for (KiePMMLPredicate kiePMMLPredicate : kiePMMLPredicates) {
+            boolean[] evaluation = kiePMMLPredicate.evaluate(columns, rows);
+            if (toReturn == null) {
+                toReturn = evaluation;
+                continue;
+            }
+            switch (booleanOperator) {
+                case OR:
+                    for (int i = 0; i < rows; i++) {
+                        toReturn[i] |= evaluation[i];
+                    }
+                    break;
+                case AND:
+                    for (int i = 0; i < rows; i++) {
+                        toReturn[i] &= evaluation[i];
+                    }
+                    break;
+                case XOR:
+                    for (int i = 0; i < rows; i++) {
+                        toReturn[i] ^= evaluation[i];
+                    }
+                    break;
+                default:
+                    throw new KiePMMLException("Unknown BOOLEAN_OPERATOR " + booleanOperator);
+            }
+        }
+        return toReturn != null ? toReturn : new boolean[rows];
+    }
+
+    /**
+     * With the <code>surrogate</code> operator a row is <b>unknown</b> when all the predicates are unknown for it,
+     * with the other operators when any of them is
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public boolean[] evaluateUnknown(final Map<String, double[]> columns, final int rows) {
+        boolean surrogate = booleanOperator == BOOLEAN_OPERATOR.SURROGATE;
+        boolean[] toReturn = new boolean[rows];
+        if (surrogate) {
+            Arrays.fill(toReturn, true);
+        }
+        for (KiePMMLPredicate kiePMMLPredicate : kiePMMLPredicates) {
+            boolean[] unknown = kiePMMLPredicate.evaluateUnknown(columns, rows);
+            for (int i = 0; i < rows; i++) {
+                toReturn[i] = surrogate ? toReturn[i] & unknown[i] : toReturn[i] | unknown[i];
+            }
+        }
+        return toReturn;
+    }
+
+    private boolean[] evaluateSurrogate(final Map<String, double[]> columns, final int rows) {
+        boolean[] toReturn = new boolean[rows];
+        // rows already taken by a previous predicate
+        boolean[] decided = new boolean[rows];
+        for (KiePMMLPredicate kiePMMLPredicate : kiePMMLPredicates) {
+            boolean[] evaluation = kiePMMLPredicate.evaluate(columns, rows);
+            boolean[] unknown = kiePMMLPredicate.evaluateUnknown(columns, rows);
+            for (int i = 0; i < rows; i++) {
+                if (!decided[i] && !unknown[i]) {
+                    toReturn[i] = evaluation[i];
+                    decided[i] = true;
+                }
+            }
+        }
+        return toReturn;
+    }
+
     @Override
     public String getId() {
         return id;
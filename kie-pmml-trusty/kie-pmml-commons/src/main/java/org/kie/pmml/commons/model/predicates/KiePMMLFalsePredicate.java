@@ -51,6 +51,16 @@ public class KiePMMLFalsePredicate extends KiePMMLPredicate {
         return false;
     }
 
+    @Override
+    public boolean[] evaluate(final Map<String, double[]> columns, final int rows) {
+        return new boolean[rows];
+    }
+
+    @Override
+    public boolean[] evaluateUnknown(final Map<String, double[]> columns, final int rows) {
+        return new boolean[rows];
+    }
+
     @Override
     public String toString() {
         return "KiePMMLFalsePredicate{" +
@@ -21,6 +21,7 @@ package org.kie.pmml.commons.model.predicates;
 import java.util.List;
 import java.util.Map;
 
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLExtension;
 import org.kie.pmml.commons.model.abstracts.AbstractKiePMMLComponent;
 
@@ -37,4 +38,29 @@ public abstract class KiePMMLPredicate extends AbstractKiePMMLComponent {
      * @return
      */
     public abstract boolean evaluate(Map<String, Object> values);
+
+    /**
+     * Returns the evaluation of the given numeric <code>columns</code>, one element for each of the given <b>rows</b>.
+     * <code>Double.NaN</code> is considered a missing value, and a missing column evaluates to <code>false</code>
+     * for all the rows
+     * @param columns
+     * @param rows
+     * @return
+     * @throws KiePMMLException if the current <code>KiePMMLPredicate</code> can not be evaluated in batch
+     */
+    public boolean[] evaluate(final Map<String, double[]> columns, final int rows) {
+        throw new KiePMMLException(String.format("%s can not be evaluated in batch", getClass().getSimpleName()));
+    }
+
+    /**
+     * Returns, for each of the given <b>rows</b>, whether the evaluation of the given numeric <code>columns</code> is
+     * <b>unknown</b> because of missing values, as needed by the <code>surrogate</code> operator
+     * @param columns
+     * @param rows
+     * @return
+     * @throws KiePMMLException if the current <code>KiePMMLPredicate</code> can not be evaluated in batch
+     */
+    public boolean[] evaluateUnknown(final Map<String, double[]> columns, final int rows) {
+        throw new KiePMMLException(String.format("%s can not be evaluated in batch", getClass().getSimpleName()));
+    }
 }
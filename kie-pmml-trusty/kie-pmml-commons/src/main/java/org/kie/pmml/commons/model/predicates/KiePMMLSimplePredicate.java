@@ -18,6 +18,7 @@
  */
 package org.kie.pmml.commons.model.predicates;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -61,6 +62,109 @@ public class KiePMMLSimplePredicate extends KiePMMLPredicate {
         return toReturn;
     }
 
+    /**
+     * Numeric values are compared as <code>double</code>s, while a non-numeric <b>value</b> never equals a number.
+     * <code>Double.NaN</code> elements are considered missing, so they only satisfy <code>isMissing</code>
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public boolean[] evaluate(final Map<String, double[]> columns, final int rows) {
+        boolean[] toReturn = new boolean[rows];
+        double[] column = getColumn(columns, rows);
+        if (operator == OPERATOR.IS_MISSING || operator == OPERATOR.IS_NOT_MISSING) {
+            boolean missing = operator == OPERATOR.IS_MISSING;
+            if (column == null) {
+                Arrays.fill(toReturn, missing);
+                return toReturn;
+            }
+            for (int i = 0; i < rows; i++) {
+                toReturn[i] = Double.isNaN(column[i]) == missing;
+            }
+            return toReturn;
+        }
+        if (column == null) {
+            return toReturn;
+        }
+        if (!(value instanceof Number)) {
+            if (operator == OPERATOR.NOT_EQUAL) {
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = !Double.isNaN(column[i]);
+                }
+            }
+            return toReturn;
+        }
+        final double threshold = ((Number) value).doubleValue();
+        switch (operator) {
+            case EQUAL:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] == threshold;
+                }
+                break;
+            case NOT_EQUAL:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] != threshold && !Double.isNaN(column[i]);
+                }
+                break;
+            case LESS_THAN:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] < threshold;
+                }
+                break;
+            case LESS_OR_EQUAL:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] <= threshold;
+                }
+                break;
+            case GREATER_THAN:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] > threshold;
+                }
+                break;
+            case GREATER_OR_EQUAL:
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] = column[i] >= threshold;
+                }
+                break;
+            default:
+                throw new KiePMMLException("Unknown OPERATOR " + operator);
+        }
+        return toReturn;
+    }
+
+    /**
+     * The evaluation is unknown for the rows missing the value of the field, unless the predicate checks
+     * whether it is missing
+     * @param columns
+     * @param rows
+     * @return
+     */
+    @Override
+    public boolean[] evaluateUnknown(final Map<String, double[]> columns, final int rows) {
+        boolean[] toReturn = new boolean[rows];
+        if (operator == OPERATOR.IS_MISSING || operator == OPERATOR.IS_NOT_MISSING) {
+            return toReturn;
+        }
+        double[] column = getColumn(columns, rows);
+        if (column == null) {
+            Arrays.fill(toReturn, true);
+            return toReturn;
+        }
+        for (int i = 0; i < rows; i++) {
+            toReturn[i] = Double.isNaN(column[i]);
+        }
+        return toReturn;
+    }
+
+    private double[] getColumn(final Map<String, double[]> columns, final int rows) {
+        double[] column = columns.get(name);
+        if (column != null && column.length != rows) {
+            throw new KiePMMLException(String.format("Column %s has %s rows instead of %s", name, column.length, rows));
+        }
+        return column;
+    }
+
     @Override
     public String getName() {
         return name;
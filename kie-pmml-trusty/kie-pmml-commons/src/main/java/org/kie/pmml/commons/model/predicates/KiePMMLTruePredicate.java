@@ -18,6 +18,7 @@
  */
 package org.kie.pmml.commons.model.predicates;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -56,6 +57,18 @@ public class KiePMMLTruePredicate extends KiePMMLPredicate {
         return true;
     }
 
+    @Override
+    public boolean[] evaluate(final Map<String, double[]> columns, final int rows) {
+        boolean[] toReturn = new boolean[rows];
+        Arrays.fill(toReturn, true);
+        return toReturn;
+    }
+
+    @Override
+    public boolean[] evaluateUnknown(final Map<String, double[]> columns, final int rows) {
+        return new boolean[rows];
+    }
+
     @Override
     public String toString() {
         return "KiePMMLTruePredicate{" +
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import org.kie.pmml.api.enums.ARRAY_TYPE;
 import org.kie.pmml.api.enums.BOOLEAN_OPERATOR;
 import org.kie.pmml.api.enums.IN_NOTIN;
+import org.kie.pmml.api.enums.OPERATOR;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -284,6 +285,51 @@ public class KiePMMLCompoundPredicateTest {
         assertThat(KiePMMLCompoundPredicate.surrogateOperator(aBoolean, aBoolean2)).isTrue();
     }
 
+    @Test
+    void evaluateBatch() {
+        final String firstName = "FIRST";
+        final String secondName = "SECOND";
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(firstName, new double[]{1.0, 5.0, 1.0, 5.0});
+        columns.put(secondName, new double[]{1.0, 1.0, 5.0, 5.0});
+        final List<KiePMMLPredicate> kiePMMLPredicates = Arrays.asList(getKiePMMLSimplePredicate(firstName),
+                                                                      getKiePMMLSimplePredicate(secondName));
+        assertThat(getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.AND, kiePMMLPredicates).evaluate(columns, 4))
+                .containsExactly(false, false, false, true);
+        assertThat(getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.OR, kiePMMLPredicates).evaluate(columns, 4))
+                .containsExactly(false, true, true, true);
+        assertThat(getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.XOR, kiePMMLPredicates).evaluate(columns, 4))
+                .containsExactly(false, true, true, false);
+        assertThat(getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.SURROGATE, kiePMMLPredicates).evaluate(columns, 4))
+                .containsExactly(false, true, false, true);
+        assertThat(getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.AND, Collections.emptyList()).evaluate(columns, 4))
+                .containsExactly(false, false, false, false);
+    }
+
+    @Test
+    void evaluateBatchSurrogateWithMissingValues() {
+        final String firstName = "FIRST";
+        final String secondName = "SECOND";
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(firstName, new double[]{1.0, Double.NaN, Double.NaN, 5.0});
+        columns.put(secondName, new double[]{5.0, 5.0, Double.NaN, 1.0});
+        final KiePMMLCompoundPredicate surrogate =
+                getKiePMMLCompoundPredicate(BOOLEAN_OPERATOR.SURROGATE,
+                                            Arrays.asList(getKiePMMLSimplePredicate(firstName),
+                                                          getKiePMMLSimplePredicate(secondName)));
+        // the second predicate is used where the first one is unknown, and no predicate is known for the third row
+        assertThat(surrogate.evaluate(columns, 4)).containsExactly(false, true, false, true);
+        assertThat(surrogate.evaluateUnknown(columns, 4)).containsExactly(false, false, true, false);
+    }
+
+    private KiePMMLSimplePredicate getKiePMMLSimplePredicate(final String predicateName) {
+        return KiePMMLSimplePredicate.builder(predicateName,
+                                              Collections.emptyList(),
+                                              OPERATOR.GREATER_THAN)
+                .withValue(3)
+                .build();
+    }
+
     private KiePMMLCompoundPredicate getKiePMMLCompoundPredicate(final BOOLEAN_OPERATOR booleanOperator,
                                                                  final List<KiePMMLPredicate> kiePMMLPredicates) {
 
@@ -24,6 +24,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
@@ -118,6 +119,74 @@ public class KiePMMLSimplePredicateTest {
         });
     }
 
+    @Test
+    void evaluateBatchNumeric() {
+        final double[] column = {1.0, 43.0, 44.5, Double.NaN};
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(SIMPLE_PREDICATE_NAME, column);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.EQUAL, 43).evaluate(columns, column.length))
+                .containsExactly(false, true, false, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.NOT_EQUAL, 43).evaluate(columns, column.length))
+                .containsExactly(true, false, true, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.LESS_THAN, 43).evaluate(columns, column.length))
+                .containsExactly(true, false, false, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.LESS_OR_EQUAL, 43).evaluate(columns, column.length))
+                .containsExactly(true, true, false, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.GREATER_THAN, 43).evaluate(columns, column.length))
+                .containsExactly(false, false, true, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.GREATER_OR_EQUAL, 43).evaluate(columns, column.length))
+                .containsExactly(false, true, true, false);
+    }
+
+    @Test
+    void evaluateBatchMissingColumn() {
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put("FAKE", new double[]{43.0, 44.0});
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.EQUAL, 43).evaluate(columns, 2)).containsExactly(false, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.NOT_EQUAL, 43).evaluate(columns, 2)).containsExactly(false,
+                                                                                                           false);
+    }
+
+    @Test
+    void evaluateBatchString() {
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(SIMPLE_PREDICATE_NAME, new double[]{43.0, Double.NaN});
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.EQUAL, "43").evaluate(columns, 2)).containsExactly(false, false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.NOT_EQUAL, "43").evaluate(columns, 2)).containsExactly(true,
+                                                                                                             false);
+    }
+
+    @Test
+    void evaluateBatchMissing() {
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(SIMPLE_PREDICATE_NAME, new double[]{43.0, Double.NaN});
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.IS_MISSING, null).evaluate(columns, 2)).containsExactly(false,
+                                                                                                             true);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.IS_NOT_MISSING, null).evaluate(columns, 2)).containsExactly(true,
+                                                                                                                 false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.IS_MISSING, null).evaluateUnknown(columns, 2)).containsExactly(false,
+                                                                                                                    false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.EQUAL, 43).evaluateUnknown(columns, 2)).containsExactly(false,
+                                                                                                             true);
+
+        final Map<String, double[]> otherColumns = new HashMap<>();
+        otherColumns.put("FAKE", new double[]{43.0, 44.0});
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.IS_MISSING, null).evaluate(otherColumns, 2)).containsExactly(true,
+                                                                                                                  true);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.IS_NOT_MISSING, null).evaluate(otherColumns, 2)).containsExactly(false,
+                                                                                                                      false);
+        assertThat(getKiePMMLSimplePredicate(OPERATOR.EQUAL, 43).evaluateUnknown(otherColumns, 2)).containsExactly(true,
+                                                                                                                  true);
+    }
+
+    @Test
+    void evaluateBatchWrongRows() {
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(SIMPLE_PREDICATE_NAME, new double[]{43.0});
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> getKiePMMLSimplePredicate(OPERATOR.EQUAL,
+                                                                                                     43).evaluate(columns, 2));
+    }
+
     private KiePMMLSimplePredicate getKiePMMLSimplePredicate(final OPERATOR operator,
                                                              final Object value) {
         return KiePMMLSimplePredicate.builder(SIMPLE_PREDICATE_NAME,
@@ -18,10 +18,14 @@
  */
 package org.kie.pmml.evaluator.core.executor;
 
+import java.util.Map;
+
 import org.kie.api.pmml.PMML4Result;
 import org.kie.pmml.api.enums.PMML_MODEL;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.commons.model.IsBatchEvaluable;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
 public interface PMMLModelEvaluator<E extends KiePMMLModel> {
@@ -41,4 +45,19 @@ public interface PMMLModelEvaluator<E extends KiePMMLModel> {
      * @throws KiePMMLInternalException
      */
     PMML4Result evaluate(final E model, final PMMLRuntimeContext context);
+
+    /**
+     * Evaluate the model over a batch of rows, given as one numeric column for each input field
+     * @param model the model to evaluate
+     * @param columns the input values, mapped by field name
+     * @return the result of the evaluation of each row
+     * @throws KiePMMLException if the given model can not be evaluated in batch
+     * @see IsBatchEvaluable
+     */
+    default double[] evaluate(final E model, final Map<String, double[]> columns) {
+        if (!(model instanceof IsBatchEvaluable)) {
+            throw new KiePMMLException(String.format("Model %s can not be evaluated in batch", model.getName()));
+        }
+        return ((IsBatchEvaluable) model).evaluate(columns);
+    }
 }
@@ -79,6 +79,12 @@ public class PMMLRuntimeInternalImpl implements PMMLRuntime {
         return ((EfestoOutputPMML) output).getOutputData();
     }
 
+    @Override
+    public double[] evaluate(String modelName, Map<String, double[]> columns, PMMLRuntimeContext context) {
+        logger.debug("evaluate {} in batch", modelName);
+        return PMMLRuntimeHelper.evaluate(modelName, columns, context);
+    }
+
     @Override
     public List<PMMLModel> getPMMLModels(PMMLRuntimeContext context) {
         logger.debug("getPMMLModels {}", context);
@@ -175,6 +175,28 @@ public class PMMLRuntimeHelper {
         return toReturn;
     }
 
+    /**
+     * Evaluate the model with the given name, from the file of the given <code>PMMLRuntimeContext</code>, over a
+     * batch of rows. Pre/post processing and listeners are skipped
+     * @param modelName
+     * @param columns
+     * @param context
+     * @return
+     * @throws KiePMMLException if the model is not found or can not be evaluated in batch
+     */
+    public static double[] evaluate(final String modelName, final Map<String, double[]> columns,
+                                    final PMMLRuntimeContext context) {
+        logger.trace("evaluate {} in batch", modelName);
+        final KiePMMLModel model = getPMMLModel(context.getFileName(), modelName, context)
+                .map(KiePMMLModel.class::cast)
+                .orElseThrow(() -> new KiePMMLException(String.format("Model %s not found in %s", modelName,
+                                                                      context.getFileName())));
+        PMMLModelEvaluator executor = getFromPMMLModelType(model.getPmmlMODEL())
+                .orElseThrow(() -> new KiePMMLException(String.format("PMMLModelEvaluator not found for model %s",
+                                                                      model.getPmmlMODEL())));
+        return executor.evaluate(model, columns);
+    }
+
     static EfestoOutputPMML getEfestoOutput(KiePMMLModelFactory kiePMMLModelFactory, EfestoInputPMML darInputPMML) {
         List<KiePMMLModel> kiePMMLModels = kiePMMLModelFactory.getKiePMMLModels();
         PMML4Result result = evaluate(kiePMMLModels, darInputPMML.getInputData());
@@ -58,6 +58,7 @@ import org.dmg.pmml.regression.RegressionModel;
 import org.dmg.pmml.regression.RegressionTable;
 import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.exceptions.KiePMMLInternalException;
+import org.kie.pmml.api.iinterfaces.SerializableDoubleUnaryOperator;
 import org.kie.pmml.api.iinterfaces.SerializableFunction;
 import org.kie.pmml.compiler.commons.utils.JavaParserUtils;
 import org.kie.pmml.models.regression.compiler.dto.RegressionCompilationDTO;
@@ -90,6 +91,8 @@ public class KiePMMLRegressionTableFactory {
     static final String KIE_PMML_REGRESSION_TABLE_TEMPLATE = "KiePMMLRegressionTableTemplate";
     static final String GETKIEPMML_TABLE = "getKiePMMLTable";
     static final String NUMERIC_FUNCTION_MAP = "numericFunctionMap";
+    static final String NUMERIC_COEFFICIENT_MAP = "numericCoefficientMap";
+    static final String NUMERIC_EXPONENT_MAP = "numericExponentMap";
     static final String CATEGORICAL_FUNCTION_MAP = "categoricalFunctionMap";
     static final String PREDICTOR_TERM_FUNCTION_MAP = "predictorTermFunctionMap";
     static final ClassOrInterfaceDeclaration REGRESSION_TABLE_TEMPLATE;
@@ -147,18 +150,26 @@ public class KiePMMLRegressionTableFactory {
 
         final Map<String, SerializableFunction<Double, Double>> numericPredictorsMap =
                 getNumericPredictorsMap(regressionTable.getNumericPredictors());
+        final Map<String, Double> numericCoefficientsMap =
+                getNumericCoefficientsMap(regressionTable.getNumericPredictors());
+        final Map<String, Double> numericExponentsMap = getNumericExponentsMap(regressionTable.getNumericPredictors());
         final Map<String, SerializableFunction<String, Double>> categoricalPredictorsMap =
                 getCategoricalPredictorsMap(regressionTable.getCategoricalPredictors());
         final Map<String, SerializableFunction<Map<String, Object>, Double>> predictorTermFunctionMap =
                 getPredictorTermsMap(regressionTable.getPredictorTerms());
         final SerializableFunction<Double, Double> resultUpdater =
                 getResultUpdaterFunction(compilationDTO.getDefaultNormalizationMethod());
+        final SerializableDoubleUnaryOperator batchResultUpdater =
+                getBatchResultUpdaterFunction(compilationDTO.getDefaultNormalizationMethod());
         final Double intercept = regressionTable.getIntercept() != null ? regressionTable.getIntercept().doubleValue() : null;
         return KiePMMLRegressionTable.builder(UUID.randomUUID().toString(), Collections.emptyList())
                 .withNumericFunctionMap(numericPredictorsMap)
+                .withNumericCoefficientMap(numericCoefficientsMap)
+                .withNumericExponentMap(numericExponentsMap)
                 .withCategoricalFunctionMap(categoricalPredictorsMap)
                 .withPredictorTermsFunctionMap(predictorTermFunctionMap)
                 .withResultUpdater(resultUpdater)
+                .withBatchResultUpdater(batchResultUpdater)
                 .withIntercept(intercept)
                 .withTargetField(compilationDTO.getTargetFieldName())
                 .withTargetCategory(regressionTable.getTargetCategory())
@@ -210,6 +221,32 @@ public class KiePMMLRegressionTableFactory {
                                           KiePMMLRegressionTableFactory::getNumericPredictorEntry));
     }
 
+    /**
+     * Create the <b>NumericPredictor</b>s coefficients <code>Map</code>, used by batch evaluation
+     *
+     * @param numericPredictors
+     * @return
+     */
+    static Map<String, Double> getNumericCoefficientsMap(final List<NumericPredictor> numericPredictors) {
+        return numericPredictors.stream()
+                .collect(Collectors.toMap(numericPredictor ->numericPredictor.getField(),
+                                          numericPredictor -> numericPredictor.getCoefficient().doubleValue()));
+    }
+
+    /**
+     * Create the <b>NumericPredictor</b>s exponents <code>Map</code>, used by batch evaluation; <b>NumericPredictor</b>s
+     * whose exponent is 1 are not included
+     *
+     * @param numericPredictors
+     * @return
+     */
+    static Map<String, Double> getNumericExponentsMap(final List<NumericPredictor> numericPredictors) {
+        return numericPredictors.stream()
+                .filter(numericPredictor -> !Objects.equals(1, numericPredictor.getExponent()))
+                .collect(Collectors.toMap(numericPredictor ->numericPredictor.getField(),
+                                          numericPredictor -> numericPredictor.getExponent().doubleValue()));
+    }
+
     /**
      * Create a <b>NumericPredictor</b> <code>Entry</code>
      *
@@ -341,6 +378,42 @@ public class KiePMMLRegressionTableFactory {
         }
     }
 
+    static SerializableDoubleUnaryOperator getBatchResultUpdaterFunction(final RegressionModel.NormalizationMethod normalizationMethod) {
+        if (UNSUPPORTED_NORMALIZATION_METHODS.contains(normalizationMethod)) {
+            return null;
+        } else {
+            return getBatchResultUpdaterSupportedFunction(normalizationMethod);
+        }
+    }
+
+    /**
+     * Create a primitive <b>batchResultUpdater</b>, counterpart of the one returned by
+     * {@link #getResultUpdaterSupportedFunction(RegressionModel.NormalizationMethod)}
+     *
+     * @param normalizationMethod
+     * @return
+     */
+    static SerializableDoubleUnaryOperator getBatchResultUpdaterSupportedFunction(final RegressionModel.NormalizationMethod normalizationMethod) {
+        switch (normalizationMethod) {
+            case SOFTMAX:
+                return AbstractKiePMMLTable::updateSOFTMAXResult;
+            case LOGIT:
+                return AbstractKiePMMLTable::updateLOGITResult;
+            case EXP:
+                return AbstractKiePMMLTable::updateEXPResult;
+            case PROBIT:
+                return AbstractKiePMMLTable::updatePROBITResult;
+            case CLOGLOG:
+                return AbstractKiePMMLTable::updateCLOGLOGResult;
+            case CAUCHIT:
+                return AbstractKiePMMLTable::updateCAUCHITResult;
+            case NONE:
+                return AbstractKiePMMLTable::updateNONEResult;
+            default:
+                throw new KiePMMLException("Unexpected NormalizationMethod " + normalizationMethod);
+        }
+    }
+
     // not-public code-generation
 
     static void setStaticGetter(final RegressionTable regressionTable,
@@ -358,6 +431,15 @@ public class KiePMMLRegressionTableFactory {
         createPopulatedHashMap(newBody, numericFunctionMapName, Arrays.asList(String.class.getSimpleName(),
                                                                               "SerializableFunction<Double, Double>"),
                                numericPredictorsMap);
+        String numericCoefficientMapName = String.format(VARIABLE_NAME_TEMPLATE, NUMERIC_COEFFICIENT_MAP,
+                                                         variableName);
+        createPopulatedHashMap(newBody, numericCoefficientMapName, Arrays.asList(String.class.getSimpleName(),
+                                                                                 Double.class.getSimpleName()),
+                               getDoubleExpressions(getNumericCoefficientsMap(regressionTable.getNumericPredictors())));
+        String numericExponentMapName = String.format(VARIABLE_NAME_TEMPLATE, NUMERIC_EXPONENT_MAP, variableName);
+        createPopulatedHashMap(newBody, numericExponentMapName, Arrays.asList(String.class.getSimpleName(),
+                                                                              Double.class.getSimpleName()),
+                               getDoubleExpressions(getNumericExponentsMap(regressionTable.getNumericPredictors())));
 
         final Map<String, Expression> categoricalPredictorFunctionsMap =
                 getCategoricalPredictorsExpressions(regressionTable.getCategoricalPredictors(), newBody, variableName);
@@ -388,6 +470,10 @@ public class KiePMMLRegressionTableFactory {
         getChainedMethodCallExprFrom("withNumericFunctionMap", initializer).setArgument(0,
                                                                                         new NameExpr(numericFunctionMapName) {
                                                                                         });
+        getChainedMethodCallExprFrom("withNumericCoefficientMap", initializer).setArgument(0,
+                                                                                           new NameExpr(numericCoefficientMapName));
+        getChainedMethodCallExprFrom("withNumericExponentMap", initializer).setArgument(0,
+                                                                                        new NameExpr(numericExponentMapName));
         getChainedMethodCallExprFrom("withCategoricalFunctionMap", initializer).setArgument(0,
                                                                                             new NameExpr(categoricalFunctionMapName));
         getChainedMethodCallExprFrom("withPredictorTermsFunctionMap", initializer).setArgument(0,
@@ -402,6 +488,10 @@ public class KiePMMLRegressionTableFactory {
         final Expression resultUpdaterExpression =
                 getResultUpdaterExpression(compilationDTO.getDefaultNormalizationMethod());
         getChainedMethodCallExprFrom("withResultUpdater", initializer).setArgument(0, resultUpdaterExpression);
+        final Expression batchResultUpdaterExpression =
+                getBatchResultUpdaterExpression(compilationDTO.getDefaultNormalizationMethod());
+        getChainedMethodCallExprFrom("withBatchResultUpdater", initializer).setArgument(0,
+                                                                                        batchResultUpdaterExpression);
         regressionTableBody.getStatements().forEach(newBody::addStatement);
         staticGetterMethod.setBody(newBody);
     }
@@ -435,6 +525,31 @@ public class KiePMMLRegressionTableFactory {
         return toReturn;
     }
 
+    static Expression getBatchResultUpdaterExpression(final RegressionModel.NormalizationMethod normalizationMethod) {
+        if (UNSUPPORTED_NORMALIZATION_METHODS.contains(normalizationMethod)) {
+            return new NullLiteralExpr();
+        } else {
+            return getBatchResultUpdaterSupportedExpression(normalizationMethod);
+        }
+    }
+
+    /**
+     * Create a <b>batchResultUpdater</b> <code>CastExpr</code>
+     *
+     * @param normalizationMethod
+     * @return
+     */
+    static MethodReferenceExpr getBatchResultUpdaterSupportedExpression(final RegressionModel.NormalizationMethod normalizationMethod) {
+        final String thisExpressionMethodName = String.format("update%sResult", normalizationMethod.name());
+        final CastExpr castExpr = new CastExpr();
+        castExpr.setType(SerializableDoubleUnaryOperator.class.getCanonicalName());
+        castExpr.setExpression(KiePMMLRegressionTable.class.getSimpleName());
+        final MethodReferenceExpr toReturn = new MethodReferenceExpr();
+        toReturn.setScope(castExpr);
+        toReturn.setIdentifier(thisExpressionMethodName);
+        return toReturn;
+    }
+
     /**
      * Create <b>NumericPredictor</b>s <code>CastExpr</code>es
      *
@@ -447,6 +562,18 @@ public class KiePMMLRegressionTableFactory {
                                           KiePMMLRegressionTableFactory::getNumericPredictorExpression));
     }
 
+    /**
+     * Create the <code>Expression</code>s of the given <code>Double</code>s
+     *
+     * @param source
+     * @return
+     */
+    static Map<String, Expression> getDoubleExpressions(final Map<String, Double> source) {
+        final Map<String, Expression> toReturn = new HashMap<>();
+        source.forEach((key, value) -> toReturn.put(key, getExpressionForObject(value)));
+        return toReturn;
+    }
+
     /**
      * Create a <b>NumericPredictor</b> <code>CastExpr</code>
      *
@@ -55,6 +55,7 @@ import org.dmg.pmml.regression.RegressionTable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.kie.pmml.api.enums.RESULT_FEATURE;
+import org.kie.pmml.api.iinterfaces.SerializableDoubleUnaryOperator;
 import org.kie.pmml.api.iinterfaces.SerializableFunction;
 import org.kie.pmml.commons.model.KiePMMLOutputField;
 import org.kie.pmml.compiler.api.dto.CommonCompilationDTO;
@@ -90,6 +91,7 @@ public class KiePMMLRegressionTableFactoryTest extends AbstractKiePMMLRegression
     private static final String TEST_05_SOURCE = "KiePMMLRegressionTableFactoryTest_05.txt";
     private static final String TEST_06_SOURCE = "KiePMMLRegressionTableFactoryTest_06.txt";
     private static final String TEST_07_SOURCE = "KiePMMLRegressionTableFactoryTest_07.txt";
+    private static final String TEST_08_SOURCE = "KiePMMLRegressionTableFactoryTest_08.txt";
 
     private static CompilationUnit COMPILATION_UNIT;
     private static ClassOrInterfaceDeclaration MODEL_TEMPLATE;
@@ -384,6 +386,23 @@ public class KiePMMLRegressionTableFactoryTest extends AbstractKiePMMLRegression
                 assertThat(KiePMMLRegressionTableFactory.getResultUpdaterFunction(normalizationMethod)).isNotNull());
     }
 
+    @Test
+    void getBatchResultUpdaterUnsupportedFunction() {
+        UNSUPPORTED_NORMALIZATION_METHODS.forEach(normalizationMethod ->
+                assertThat(KiePMMLRegressionTableFactory.getBatchResultUpdaterFunction(normalizationMethod)).isNull());
+    }
+
+    @Test
+    void getBatchResultUpdaterSupportedFunction() {
+        SUPPORTED_NORMALIZATION_METHODS.forEach(normalizationMethod -> {
+            SerializableDoubleUnaryOperator retrieved =
+                    KiePMMLRegressionTableFactory.getBatchResultUpdaterFunction(normalizationMethod);
+            assertThat(retrieved).isNotNull();
+            assertThat(retrieved.applyAsDouble(0.35))
+                    .isEqualTo(KiePMMLRegressionTableFactory.getResultUpdaterFunction(normalizationMethod).apply(0.35));
+        });
+    }
+
     @Test
     void setStaticGetter() throws IOException {
         regressionTable = getRegressionTable(3.5, "professional");
@@ -433,6 +452,7 @@ public class KiePMMLRegressionTableFactoryTest extends AbstractKiePMMLRegression
                 List.class,
                 Map.class,
                 KiePMMLRegressionTable.class,
+                SerializableDoubleUnaryOperator.class,
                 SerializableFunction.class);
         commonValidateCompilationWithImports(staticGetterMethod, imports);
     }
@@ -472,6 +492,31 @@ public class KiePMMLRegressionTableFactoryTest extends AbstractKiePMMLRegression
         assertThat(JavaParserUtils.equalsNode(expected, retrieved)).isTrue();
     }
 
+    @Test
+    void getBatchResultUpdaterExpressionWithSupportedMethods() {
+        SUPPORTED_NORMALIZATION_METHODS.forEach(normalizationMethod -> {
+            Expression retrieved =
+                    KiePMMLRegressionTableFactory.getBatchResultUpdaterExpression(normalizationMethod);
+            try {
+                String text = getFileContent(TEST_08_SOURCE);
+                Expression expected = JavaParserUtils.parseExpression(String.format(text,
+                        normalizationMethod.name()));
+                assertThat(JavaParserUtils.equalsNode(expected, retrieved)).isTrue();
+            } catch (IOException e) {
+                fail(e.getMessage());
+            }
+        });
+    }
+
+    @Test
+    void getBatchResultUpdaterExpression() {
+        UNSUPPORTED_NORMALIZATION_METHODS.forEach(normalizationMethod -> {
+            Expression retrieved =
+                    KiePMMLRegressionTableFactory.getBatchResultUpdaterExpression(normalizationMethod);
+            assertThat(retrieved).isInstanceOf(NullLiteralExpr.class);
+        });
+    }
+
     @Test
     void getNumericPredictorsExpressions() {
         final List<NumericPredictor> numericPredictors = IntStream.range(0, 3).mapToObj(index -> {
@@ -18,12 +18,15 @@
  */
 package org.kie.pmml.models.regression.model;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 import org.apache.commons.math3.distribution.NormalDistribution;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+import org.kie.pmml.api.iinterfaces.SerializableDoubleUnaryOperator;
 import org.kie.pmml.api.iinterfaces.SerializableFunction;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.commons.model.KiePMMLExtension;
@@ -33,10 +36,20 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
 
     private static final long serialVersionUID = -7899446939844650691L;
     protected Map<String, SerializableFunction<Double, Double>> numericFunctionMap = new HashMap<>();
+    /**
+     * Coefficients and exponents of the numeric predictors, used by the batch evaluation instead of the
+     * <b>numericFunctionMap</b>
+     */
+    protected Map<String, Double> numericCoefficientMap = new HashMap<>();
+    protected Map<String, Double> numericExponentMap = new HashMap<>();
     protected Map<String, SerializableFunction<String, Double>> categoricalFunctionMap = new HashMap<>();
     protected Map<String, SerializableFunction<Map<String, Object>, Double>> predictorTermsFunctionMap =
             new HashMap<>();
     protected SerializableFunction<Double, Double> resultUpdater;
+    /**
+     * Primitive counterpart of the <b>resultUpdater</b>, used by the batch evaluation to avoid boxing every row
+     */
+    protected SerializableDoubleUnaryOperator batchResultUpdater;
     protected double intercept;
     protected String targetField;
     protected Object targetCategory;
@@ -73,6 +86,58 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
         return result;
     }
 
+    /**
+     * Batch version of {@link #evaluateRegression(Map, PMMLRuntimeContext)}, evaluating all the given <b>rows</b> at
+     * once: each numeric predictor is applied to its whole column with a plain loop, so that the JIT may vectorize it.
+     * Missing columns and <code>Double.NaN</code> cells are ignored, as missing keys are for the single-row evaluation
+     * @param columns
+     * @param rows
+     * @return
+     * @throws KiePMMLException if the current table contains categorical predictors or predictor terms
+     */
+    public double[] evaluateRegression(final Map<String, double[]> columns, final int rows) {
+        if (!categoricalFunctionMap.isEmpty() || !predictorTermsFunctionMap.isEmpty()) {
+            throw new KiePMMLException(String.format("Table %s with categorical predictors or predictor terms can " +
+                                                             "not be evaluated in batch", name));
+        }
+        if (numericCoefficientMap.size() != numericFunctionMap.size()) {
+            throw new KiePMMLException(String.format("Missing numeric coefficients for table %s", name));
+        }
+        final double[] toReturn = new double[rows];
+        Arrays.fill(toReturn, intercept);
+        for (String key : numericFunctionMap.keySet()) {
+            final double[] column = columns.get(key);
+            if (column == null) {
+                continue;
+            }
+            if (column.length != rows) {
+                throw new KiePMMLException(String.format("Column %s has %s rows instead of %s", key, column.length,
+                                                         rows));
+            }
+            final double coefficient = numericCoefficientMap.get(key);
+            final double exponent = numericExponentMap.getOrDefault(key, 1.0);
+            if (exponent == 1.0) {
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] += Double.isNaN(column[i]) ? 0.0 : column[i] * coefficient;
+                }
+            } else {
+                for (int i = 0; i < rows; i++) {
+                    toReturn[i] += Double.isNaN(column[i]) ? 0.0 : Math.pow(column[i], exponent) * coefficient;
+                }
+            }
+        }
+        if (batchResultUpdater != null) {
+            for (int i = 0; i < rows; i++) {
+                toReturn[i] = batchResultUpdater.applyAsDouble(toReturn[i]);
+            }
+        } else if (resultUpdater != null) {
+            for (int i = 0; i < rows; i++) {
+                toReturn[i] = resultUpdater.apply(toReturn[i]);
+            }
+        }
+        return toReturn;
+    }
+
     public String getTargetField() {
         return targetField;
     }
@@ -81,6 +146,14 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
         return numericFunctionMap;
     }
 
+    public Map<String, Double> getNumericCoefficientMap() {
+        return numericCoefficientMap;
+    }
+
+    public Map<String, Double> getNumericExponentMap() {
+        return numericExponentMap;
+    }
+
     public Map<String, SerializableFunction<String, Double>> getCategoricalFunctionMap() {
         return categoricalFunctionMap;
     }
@@ -112,31 +185,31 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
         return valuesMap.getOrDefault(input.toString(), 0.0);
     }
 
-    public static double updateSOFTMAXResult(final Double y) {
+    public static double updateSOFTMAXResult(final double y) {
         return 1.0 / (1.0 + Math.exp(-y));
     }
 
-    public static double updateLOGITResult(final Double y) {
+    public static double updateLOGITResult(final double y) {
         return 1.0 / (1.0 + Math.exp(-y));
     }
 
-    public static double updateEXPResult(final Double y) {
+    public static double updateEXPResult(final double y) {
         return Math.exp(y);
     }
 
-    public static double updatePROBITResult(final Double y) {
+    public static double updatePROBITResult(final double y) {
         return new NormalDistribution().cumulativeProbability(y);
     }
 
-    public static double updateCLOGLOGResult(final Double y) {
+    public static double updateCLOGLOGResult(final double y) {
         return 1.0 - Math.exp(-Math.exp(y));
     }
 
-    public static double updateCAUCHITResult(final Double y) {
+    public static double updateCAUCHITResult(final double y) {
         return 0.5 + (1 / Math.PI) * Math.atan(y);
     }
 
-    public static double updateNONEResult(final Double y) {
+    public static double updateNONEResult(final double y) {
         return y;
     }
 
@@ -153,6 +226,20 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
             return this;
         }
 
+        public Builder<T> withNumericCoefficientMap(Map<String, Double> numericCoefficientMap) {
+            if (numericCoefficientMap != null) {
+                toBuild.numericCoefficientMap.putAll(numericCoefficientMap);
+            }
+            return this;
+        }
+
+        public Builder<T> withNumericExponentMap(Map<String, Double> numericExponentMap) {
+            if (numericExponentMap != null) {
+                toBuild.numericExponentMap.putAll(numericExponentMap);
+            }
+            return this;
+        }
+
         public Builder<T> withCategoricalFunctionMap(Map<String, SerializableFunction<String, Double>> categoricalFunctionMap) {
             if (categoricalFunctionMap != null) {
                 toBuild.categoricalFunctionMap.putAll(categoricalFunctionMap);
@@ -175,6 +262,13 @@ public abstract class AbstractKiePMMLTable extends AbstractKiePMMLComponent {
             return this;
         }
 
+        public Builder<T> withBatchResultUpdater(SerializableDoubleUnaryOperator batchResultUpdater) {
+            if (batchResultUpdater != null) {
+                toBuild.batchResultUpdater = batchResultUpdater;
+            }
+            return this;
+        }
+
         public Builder<T> withIntercept(Double intercept) {
             if (intercept != null) {
                 toBuild.intercept = intercept;
@@ -60,6 +60,18 @@ public final class KiePMMLClassificationTable extends AbstractKiePMMLTable {
         return predictedEntry.getKey();
     }
 
+    /**
+     * The result of a <b>Classification</b> is the predicted category, so it can not be evaluated in batch
+     * @param columns
+     * @param rows
+     * @return
+     * @throws KiePMMLException
+     */
+    @Override
+    public double[] evaluateRegression(final Map<String, double[]> columns, final int rows) {
+        throw new KiePMMLException("Classification table " + name + " can not be evaluated in batch");
+    }
+
     /**
      * A <b>Classification</b> is considered <b>binary</b> if it is of <b>CATEGORICAL</b> type and contains
      * <b>exactly</b> two Regression tables
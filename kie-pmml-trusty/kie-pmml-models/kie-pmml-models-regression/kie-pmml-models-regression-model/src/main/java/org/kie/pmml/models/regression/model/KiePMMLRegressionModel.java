@@ -24,13 +24,14 @@ import java.util.Map;
 import org.kie.pmml.api.enums.MINING_FUNCTION;
 import org.kie.pmml.api.enums.PMML_MODEL;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.commons.model.IsBatchEvaluable;
 import org.kie.pmml.commons.model.IsInterpreted;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
 /**
  * @see <a href=http://dmg.org/pmml/v4-4/Regression.html>Regression</a>
  */
-public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterpreted {
+public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterpreted, IsBatchEvaluable {
 
     private static final long serialVersionUID = -6870859552385880008L;
     private AbstractKiePMMLTable regressionTable;
@@ -49,6 +50,11 @@ public class KiePMMLRegressionModel extends KiePMMLModel implements IsInterprete
         return regressionTable.evaluateRegression(requestData, context);
     }
 
+    @Override
+    public double[] evaluate(final Map<String, double[]> columns) {
+        return regressionTable.evaluateRegression(columns, IsBatchEvaluable.getRows(columns));
+    }
+
     public AbstractKiePMMLTable getRegressionTable() {
         return regressionTable;
     }
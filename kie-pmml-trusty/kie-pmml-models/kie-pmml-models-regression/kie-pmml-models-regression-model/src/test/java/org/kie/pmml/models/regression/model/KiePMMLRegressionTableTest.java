@@ -24,12 +24,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.iinterfaces.SerializableFunction;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.mock;
 
 public class KiePMMLRegressionTableTest {
@@ -82,6 +86,83 @@ public class KiePMMLRegressionTableTest {
         assertThat(retrieved).isEqualTo(expectedResult);
     }
 
+    @Test
+    void evaluateRegressionBatch() {
+        final KiePMMLRegressionTable numericRegressionTable = getNumericKiePMMLRegressionTable();
+        final double[] firstColumn = {36.2, 8.12, 0.33, -4.5};
+        final double[] secondColumn = {11.2, 3.17, 11.57, 0.0};
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(FIRST_NUMERIC_INPUT, firstColumn);
+        columns.put(SECOND_NUMERIC_INPUT, secondColumn);
+        double[] retrieved = numericRegressionTable.evaluateRegression(columns, firstColumn.length);
+        assertThat(retrieved).hasSize(firstColumn.length);
+        for (int i = 0; i < firstColumn.length; i++) {
+            Map<String, Object> input = new HashMap<>();
+            input.put(FIRST_NUMERIC_INPUT, firstColumn[i]);
+            input.put(SECOND_NUMERIC_INPUT, secondColumn[i]);
+            double expected = (double) numericRegressionTable.evaluateRegression(input,
+                                                                                 mock(PMMLRuntimeContext.class));
+            assertThat(retrieved[i]).isCloseTo(expected, within(1e-12));
+        }
+        // missing columns are ignored
+        columns.remove(SECOND_NUMERIC_INPUT);
+        retrieved = numericRegressionTable.evaluateRegression(columns, firstColumn.length);
+        Map<String, Object> input = new HashMap<>();
+        input.put(FIRST_NUMERIC_INPUT, firstColumn[0]);
+        double expected = (double) numericRegressionTable.evaluateRegression(input, mock(PMMLRuntimeContext.class));
+        assertThat(retrieved[0]).isCloseTo(expected, within(1e-12));
+    }
+
+    @Test
+    void evaluateRegressionBatchWithMissingValues() {
+        final KiePMMLRegressionTable numericRegressionTable = getNumericKiePMMLRegressionTable();
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(FIRST_NUMERIC_INPUT, new double[]{36.2, Double.NaN});
+        columns.put(SECOND_NUMERIC_INPUT, new double[]{Double.NaN, 3.17});
+        double[] retrieved = numericRegressionTable.evaluateRegression(columns, 2);
+        // a missing cell is skipped, as a missing key is by the single-row evaluation
+        Map<String, Object> input = new HashMap<>();
+        input.put(FIRST_NUMERIC_INPUT, 36.2);
+        assertThat(retrieved[0]).isCloseTo((double) numericRegressionTable.evaluateRegression(input,
+                                                                                              mock(PMMLRuntimeContext.class)),
+                                           within(1e-12));
+        input = new HashMap<>();
+        input.put(SECOND_NUMERIC_INPUT, 3.17);
+        assertThat(retrieved[1]).isCloseTo((double) numericRegressionTable.evaluateRegression(input,
+                                                                                              mock(PMMLRuntimeContext.class)),
+                                           within(1e-12));
+    }
+
+    @Test
+    void evaluateRegressionBatchWithCategoricalPredictors() {
+        initKiePMMLRegressionTableTest(36.2, 11.2, 24.5, 13.2, 27.527624309392266);
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put(FIRST_NUMERIC_INPUT, new double[]{36.2});
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> regressionTable.evaluateRegression(columns, 1));
+    }
+
+    private KiePMMLRegressionTable getNumericKiePMMLRegressionTable() {
+        Map<String, SerializableFunction<Double, Double>> numericFunctionMapLocal = new HashMap<>();
+        numericFunctionMapLocal.put(FIRST_NUMERIC_INPUT,
+                                    input -> KiePMMLRegressionTable.evaluateNumericWithExponent(input, 0.02, 2.0));
+        numericFunctionMapLocal.put(SECOND_NUMERIC_INPUT,
+                                    input -> KiePMMLRegressionTable.evaluateNumericWithoutExponent(input, -1.3));
+        Map<String, Double> numericCoefficientMapLocal = new HashMap<>();
+        numericCoefficientMapLocal.put(FIRST_NUMERIC_INPUT, 0.02);
+        numericCoefficientMapLocal.put(SECOND_NUMERIC_INPUT, -1.3);
+        Map<String, Double> numericExponentMapLocal = new HashMap<>();
+        numericExponentMapLocal.put(FIRST_NUMERIC_INPUT, 2.0);
+        return KiePMMLRegressionTable.builder("", Collections.emptyList())
+                .withTargetField(TARGET_FIELD)
+                .withNumericFunctionMap(numericFunctionMapLocal)
+                .withNumericCoefficientMap(numericCoefficientMapLocal)
+                .withNumericExponentMap(numericExponentMapLocal)
+                .withIntercept(0.5)
+                .withResultUpdater(KiePMMLRegressionTable::updateLOGITResult)
+                .withBatchResultUpdater(KiePMMLRegressionTable::updateLOGITResult)
+                .build();
+    }
+
     private KiePMMLRegressionTable getKiePMMLRegressionTable() {
         Map<String, SerializableFunction<Double, Double>> numericFunctionMapLocal = new HashMap<>();
         numericFunctionMapLocal.put(FIRST_NUMERIC_INPUT, FIRST_NUMERIC_FUNCTION);
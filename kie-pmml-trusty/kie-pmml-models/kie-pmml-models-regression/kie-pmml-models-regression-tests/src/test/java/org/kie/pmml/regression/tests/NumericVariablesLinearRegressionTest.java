@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.kie.api.pmml.PMML4Result;
@@ -31,6 +32,7 @@ import org.kie.pmml.api.runtime.PMMLRuntime;
 import org.kie.pmml.models.tests.AbstractPMMLTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 public class NumericVariablesLinearRegressionTest extends AbstractPMMLTest {
 
@@ -77,4 +79,31 @@ public class NumericVariablesLinearRegressionTest extends AbstractPMMLTest {
         assertThat((Double) pmml4Result.getResultVariables().get(TARGET_FIELD))
                 .isEqualTo(regressionFunction(x, y));
     }
+
+    @Test
+    void testNumericVariableLinearRegressionBatch() {
+        final Collection<Object[]> data = data();
+        final double[] xs = new double[data.size()];
+        final double[] ys = new double[data.size()];
+        int i = 0;
+        for (Object[] row : data) {
+            xs[i] = ((Number) row[0]).doubleValue();
+            ys[i] = ((Number) row[1]).doubleValue();
+            i++;
+        }
+        final Map<String, double[]> columns = new HashMap<>();
+        columns.put("x", xs);
+        columns.put("y", ys);
+        double[] retrieved = evaluate(pmmlRuntime, FILE_NAME_NO_SUFFIX, MODEL_NAME, columns);
+
+        assertThat(retrieved).hasSize(xs.length);
+        for (i = 0; i < xs.length; i++) {
+            final Map<String, Object> inputData = new HashMap<>();
+            inputData.put("x", xs[i]);
+            inputData.put("y", ys[i]);
+            PMML4Result pmml4Result = evaluate(pmmlRuntime, inputData, FILE_NAME_NO_SUFFIX, MODEL_NAME);
+            assertThat(retrieved[i]).isCloseTo((Double) pmml4Result.getResultVariables().get(TARGET_FIELD),
+                                               within(0.0000001));
+        }
+    }
 }
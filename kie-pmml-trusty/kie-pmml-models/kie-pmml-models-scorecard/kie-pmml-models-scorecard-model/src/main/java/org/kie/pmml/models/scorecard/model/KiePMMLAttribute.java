@@ -21,6 +21,7 @@ package org.kie.pmml.models.scorecard.model;
 import java.util.List;
 import java.util.Map;
 
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.KiePMMLExtension;
 import org.kie.pmml.commons.model.KiePMMLOutputField;
 import org.kie.pmml.commons.model.abstracts.AbstractKiePMMLComponent;
@@ -54,6 +55,31 @@ public class KiePMMLAttribute extends AbstractKiePMMLComponent {
         return complexPartialScore != null ? complexPartialScore.evaluate(defineFunctions, derivedFields, outputFields, inputData) : partialScore;
     }
 
+    /**
+     * Add the <b>partialScore</b> to the given <code>scores</code> for each row matching the <b>predicate</b> and
+     * not already <code>assigned</code> by a previous <code>KiePMMLAttribute</code>, flagging it as assigned
+     * @param columns
+     * @param scores
+     * @param assigned
+     * @throws KiePMMLException if the current <code>KiePMMLAttribute</code> has a <b>complexPartialScore</b>
+     */
+    public void evaluate(final Map<String, double[]> columns, final double[] scores, final boolean[] assigned) {
+        if (complexPartialScore != null) {
+            throw new KiePMMLException("ComplexPartialScore can not be evaluated in batch");
+        }
+        if (partialScore == null) {
+            return;
+        }
+        final double score = partialScore.doubleValue();
+        final boolean[] matching = predicate.evaluate(columns, scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            if (matching[i] && !assigned[i]) {
+                scores[i] += score;
+                assigned[i] = true;
+            }
+        }
+    }
+
     public String getReasonCode() {
         return reasonCode;
     }
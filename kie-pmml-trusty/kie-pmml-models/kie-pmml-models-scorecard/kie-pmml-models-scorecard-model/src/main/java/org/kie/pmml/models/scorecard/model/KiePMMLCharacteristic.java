@@ -64,6 +64,23 @@ public class KiePMMLCharacteristic extends AbstractKiePMMLComponent {
         return null;
     }
 
+    /**
+     * Add the score of the <b>first</b> matching <code>KiePMMLAttribute</code> to the given <code>scores</code>,
+     * flagging the rows with a matching attribute as <code>matched</code>
+     * @param columns
+     * @param scores
+     * @param matched
+     */
+    public void evaluate(final Map<String, double[]> columns, final double[] scores, final boolean[] matched) {
+        final boolean[] assigned = new boolean[scores.length];
+        for (KiePMMLAttribute attribute : attributes) {
+            attribute.evaluate(columns, scores, assigned);
+        }
+        for (int i = 0; i < scores.length; i++) {
+            matched[i] |= assigned[i];
+        }
+    }
+
     public String getReasonCode() {
         return reasonCode;
     }
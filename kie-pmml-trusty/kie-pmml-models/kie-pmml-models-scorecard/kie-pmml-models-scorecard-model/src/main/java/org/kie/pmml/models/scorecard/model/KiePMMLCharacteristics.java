@@ -18,6 +18,7 @@
  */
 package org.kie.pmml.models.scorecard.model;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -118,6 +119,30 @@ public class KiePMMLCharacteristics extends AbstractKiePMMLComponent {
         return Optional.ofNullable(accumulator);
     }
 
+    /**
+     * Batch version of {@link #evaluate(List, List, List, Map, PMMLRuntimeContext, Number, REASONCODE_ALGORITHM, boolean, Number)}:
+     * returns, for each row, the sum of the <code>initialScore</code> and of the matching <code>Characteristic</code>s
+     * scores, or <code>Double.NaN</code> if no <code>Characteristic</code> matches. Reason codes are not evaluated
+     * @param columns
+     * @param rows
+     * @param initialScore
+     * @return
+     */
+    public double[] evaluate(final Map<String, double[]> columns, final int rows, final Number initialScore) {
+        final double[] toReturn = new double[rows];
+        Arrays.fill(toReturn, initialScore != null ? initialScore.doubleValue() : 0);
+        final boolean[] matched = new boolean[rows];
+        for (KiePMMLCharacteristic characteristic : characteristics) {
+            characteristic.evaluate(columns, toReturn, matched);
+        }
+        for (int i = 0; i < rows; i++) {
+            if (!matched[i]) {
+                toReturn[i] = Double.NaN;
+            }
+        }
+        return toReturn;
+    }
+
     private void populateReasonCodes(final KiePMMLCharacteristic.ReasonCodeValue evaluation,
                                      final KiePMMLCharacteristic characteristic,
                                      final REASONCODE_ALGORITHM reasoncodeAlgorithm,
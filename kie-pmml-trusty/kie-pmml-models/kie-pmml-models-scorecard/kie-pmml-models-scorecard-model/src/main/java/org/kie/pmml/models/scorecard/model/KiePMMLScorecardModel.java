@@ -25,12 +25,13 @@ import java.util.Map;
 
 import org.kie.pmml.api.enums.REASONCODE_ALGORITHM;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
+import org.kie.pmml.commons.model.IsBatchEvaluable;
 import org.kie.pmml.commons.model.KiePMMLExtension;
 import org.kie.pmml.commons.model.KiePMMLModel;
 import org.kie.pmml.commons.transformations.KiePMMLDefineFunction;
 import org.kie.pmml.commons.transformations.KiePMMLDerivedField;
 
-public class KiePMMLScorecardModel extends KiePMMLModel {
+public class KiePMMLScorecardModel extends KiePMMLModel implements IsBatchEvaluable {
 
     private static final long serialVersionUID = 1798360806171346217L;
 
@@ -79,4 +80,15 @@ public class KiePMMLScorecardModel extends KiePMMLModel {
                                         baselineScore).orElse(null);
     }
 
+    /**
+     * Transformations are not applied, so the <code>Characteristic</code>s may only refer to the given
+     * <code>columns</code>; reason codes are not evaluated
+     * @param columns
+     * @return
+     */
+    @Override
+    public double[] evaluate(final Map<String, double[]> columns) {
+        return characteristics.evaluate(columns, IsBatchEvaluable.getRows(columns), initialScore);
+    }
+
 }
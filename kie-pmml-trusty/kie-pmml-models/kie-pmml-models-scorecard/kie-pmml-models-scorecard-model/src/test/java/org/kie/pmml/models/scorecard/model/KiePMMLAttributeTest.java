@@ -25,6 +25,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.kie.pmml.api.enums.DATA_TYPE;
 import org.kie.pmml.api.enums.OP_TYPE;
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.commons.model.expressions.KiePMMLApply;
 import org.kie.pmml.commons.model.expressions.KiePMMLConstant;
 import org.kie.pmml.commons.model.expressions.KiePMMLFieldRef;
@@ -33,6 +34,7 @@ import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 import org.kie.pmml.commons.transformations.KiePMMLDerivedField;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 public class KiePMMLAttributeTest {
 
@@ -83,6 +85,40 @@ public class KiePMMLAttributeTest {
                 Collections.emptyMap())).isEqualTo(expected);
     }
 
+    @Test
+    void evaluateBatchMatchingAttribute() {
+        KiePMMLAttribute attribute = KiePMMLAttribute.builder(ATTRIBUTE, Collections.emptyList(), KiePMMLTruePredicate.builder(Collections.emptyList()).build())
+                .withPartialScore(value1)
+                .build();
+        double[] scores = {1.0, 2.0, 3.0};
+        boolean[] assigned = {false, true, false};
+        attribute.evaluate(Collections.emptyMap(), scores, assigned);
+        assertThat(scores).containsExactly(1.0 + value1, 2.0, 3.0 + value1);
+        assertThat(assigned).containsExactly(true, true, true);
+    }
+
+    @Test
+    void evaluateBatchNotMatchingAttribute() {
+        KiePMMLAttribute attribute = KiePMMLAttribute.builder(ATTRIBUTE, Collections.emptyList(), KiePMMLFalsePredicate.builder(Collections.emptyList()).build())
+                .withPartialScore(value1)
+                .build();
+        double[] scores = {1.0, 2.0};
+        boolean[] assigned = new boolean[2];
+        attribute.evaluate(Collections.emptyMap(), scores, assigned);
+        assertThat(scores).containsExactly(1.0, 2.0);
+        assertThat(assigned).containsExactly(false, false);
+    }
+
+    @Test
+    void evaluateBatchComplexPartialScore() {
+        KiePMMLAttribute attribute = KiePMMLAttribute.builder(ATTRIBUTE, Collections.emptyList(), KiePMMLTruePredicate.builder(Collections.emptyList()).build())
+                .withComplexPartialScore(getKiePMMLComplexPartialScore())
+                .build();
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> attribute.evaluate(Collections.emptyMap(),
+                                                                                               new double[1],
+                                                                                               new boolean[1]));
+    }
+
     private KiePMMLComplexPartialScore getKiePMMLComplexPartialScore() {
         // <ComplexPartialScore>
         //     <Apply function="/">
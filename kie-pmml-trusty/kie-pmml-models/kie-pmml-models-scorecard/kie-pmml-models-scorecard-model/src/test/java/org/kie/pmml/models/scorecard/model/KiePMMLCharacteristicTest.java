@@ -22,7 +22,9 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
+import org.kie.pmml.api.enums.OPERATOR;
 import org.kie.pmml.commons.model.predicates.KiePMMLFalsePredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate;
 import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -130,4 +132,34 @@ public class KiePMMLCharacteristicTest {
         assertThat(retrieved.getReasonCode()).isEqualTo(REASON_CODE_2);
         assertThat(retrieved.getScore()).isEqualTo(value2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void evaluateBatchFirstMatchingAttribute() {
+        KiePMMLAttribute attribute1 = KiePMMLAttribute.builder(ATTRIBUTE_1, Collections.emptyList(),
+                                                               KiePMMLSimplePredicate.builder(CUSTOM_FIELD,
+                                                                                              Collections.emptyList(),
+                                                                                              OPERATOR.LESS_THAN)
+                                                                       .withValue(10)
+                                                                       .build())
+                .withPartialScore(value1)
+                .build();
+        KiePMMLAttribute attribute2 = KiePMMLAttribute.builder(ATTRIBUTE_2, Collections.emptyList(),
+                                                               KiePMMLSimplePredicate.builder(CUSTOM_FIELD,
+                                                                                              Collections.emptyList(),
+                                                                                              OPERATOR.LESS_THAN)
+                                                                       .withValue(20)
+                                                                       .build())
+                .withPartialScore(value2)
+                .build();
+        KiePMMLCharacteristic kiePMMLCharacteristic = KiePMMLCharacteristic.builder(CUSTOM_FIELD, Collections.emptyList(), Arrays.asList(attribute1, attribute2))
+                .withBaselineScore(baselineScore)
+                .withReasonCode(REASON_CODE)
+                .build();
+        double[] scores = new double[4];
+        boolean[] matched = {false, false, false, true};
+        kiePMMLCharacteristic.evaluate(Collections.singletonMap(CUSTOM_FIELD, new double[]{5, 15, 25, Double.NaN}),
+                                       scores, matched);
+        assertThat(scores).containsExactly(value1, value2, 0.0, 0.0);
+        assertThat(matched).containsExactly(true, true, false, true);
+    }
+}
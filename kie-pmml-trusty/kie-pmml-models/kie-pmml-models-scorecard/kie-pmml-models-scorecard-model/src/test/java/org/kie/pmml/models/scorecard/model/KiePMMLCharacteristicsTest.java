@@ -21,13 +21,16 @@ package org.kie.pmml.models.scorecard.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.kie.pmml.api.enums.OPERATOR;
 import org.kie.pmml.api.enums.REASONCODE_ALGORITHM;
 import org.kie.pmml.commons.model.predicates.KiePMMLFalsePredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate;
 import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 import org.kie.pmml.commons.testingutility.PMMLRuntimeContextTest;
 
@@ -72,6 +75,55 @@ public class KiePMMLCharacteristicsTest {
         assertThat(outputFieldsMap.get("REASON_CODE_11")).isEqualTo(EVALUATION_11);
     }
 
+    @Test
+    void evaluateBatch() {
+        Double initialScore = 25.23;
+        KiePMMLCharacteristics kiePMMLCharacteristics = new KiePMMLCharacteristics("NAME", Collections.emptyList(),
+                                                                                   getKiePMMLCharacteristicList());
+        double[] retrieved = kiePMMLCharacteristics.evaluate(Collections.emptyMap(), 2, initialScore);
+        Double expected = initialScore + value2 + value1 + 1;
+        assertThat(retrieved).containsExactly(expected, expected);
+    }
+
+    @Test
+    void evaluateBatchNotMatchingRows() {
+        // <Characteristic name="CUSTOM_FIELD_0">
+        //   <Attribute partialScore="100">
+        //     <SimplePredicate field="CUSTOM_FIELD_0" operator="lessThan" value="10"/>
+        //   </Attribute>
+        // </Characteristic>
+        // <Characteristic name="CUSTOM_FIELD_1">
+        //   <Attribute partialScore="5">
+        //     <SimplePredicate field="CUSTOM_FIELD_1" operator="greaterThan" value="10"/>
+        //   </Attribute>
+        // </Characteristic>
+        List<KiePMMLCharacteristic> characteristicList = new ArrayList<>();
+        characteristicList.add(getKiePMMLCharacteristic(CUSTOM_FIELD + 0, OPERATOR.LESS_THAN, value1));
+        characteristicList.add(getKiePMMLCharacteristic(CUSTOM_FIELD + 1, OPERATOR.GREATER_THAN, value2));
+        KiePMMLCharacteristics kiePMMLCharacteristics = new KiePMMLCharacteristics("NAME", Collections.emptyList(),
+                                                                                   characteristicList);
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put(CUSTOM_FIELD + 0, new double[]{5, 15, 5, Double.NaN});
+        columns.put(CUSTOM_FIELD + 1, new double[]{15, 15, 5, Double.NaN});
+        double[] retrieved = kiePMMLCharacteristics.evaluate(columns, 4, null);
+        assertThat(retrieved[0]).isEqualTo(value1 + value2);
+        assertThat(retrieved[1]).isEqualTo(value2);
+        assertThat(retrieved[2]).isEqualTo(value1);
+        assertThat(retrieved[3]).isNaN();
+    }
+
+    private KiePMMLCharacteristic getKiePMMLCharacteristic(String field, OPERATOR operator, Double partialScore) {
+        KiePMMLSimplePredicate predicate = KiePMMLSimplePredicate.builder(field, Collections.emptyList(), operator)
+                .withValue(10)
+                .build();
+        KiePMMLAttribute attribute = KiePMMLAttribute.builder(ATTRIBUTE_1 + field, Collections.emptyList(), predicate)
+                .withPartialScore(partialScore)
+                .build();
+        return KiePMMLCharacteristic.builder(field, Collections.emptyList(), Collections.singletonList(attribute))
+                .withBaselineScore(baselineScore)
+                .build();
+    }
+
     private List<KiePMMLCharacteristic> getKiePMMLCharacteristicList() {
         List<KiePMMLCharacteristic> toReturn = new ArrayList<>();
         // <Characteristic name="CUSTOM_FIELD_0" baselineScore="123" reasonCode="REASONCODE_0">
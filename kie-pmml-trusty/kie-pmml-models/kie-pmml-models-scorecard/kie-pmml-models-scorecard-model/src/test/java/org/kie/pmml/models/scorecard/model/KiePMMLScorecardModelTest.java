@@ -21,12 +21,15 @@ package org.kie.pmml.models.scorecard.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.kie.pmml.api.enums.OPERATOR;
 import org.kie.pmml.api.enums.REASONCODE_ALGORITHM;
 import org.kie.pmml.commons.model.predicates.KiePMMLFalsePredicate;
+import org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate;
 import org.kie.pmml.commons.model.predicates.KiePMMLTruePredicate;
 import org.kie.pmml.commons.testingutility.PMMLRuntimeContextTest;
 
@@ -72,6 +75,92 @@ public class KiePMMLScorecardModelTest {
         assertThat(outputFieldsMap.get("REASON_CODE_11")).isEqualTo(EVALUATION_11);
     }
 
+    @Test
+    void evaluateBatch() {
+        Double initialScore = 25.23;
+        KiePMMLScorecardModel kiePMMLScorecardModel = new KiePMMLScorecardModel("FILENAME",
+                                                                                MODEL_NAME,
+                                                                                Collections.emptyList(),
+                                                                                getBatchKiePMMLCharacteristics(),
+                                                                                initialScore,
+                                                                                false,
+                                                                                REASONCODE_ALGORITHM.POINTS_BELOW,
+                                                                                0);
+        double[] field0 = {5, 15, 25, Double.NaN, 5};
+        double[] field1 = {1, 20, Double.NaN, Double.NaN, 20};
+        Map<String, double[]> columns = new HashMap<>();
+        columns.put(CUSTOM_FIELD + 0, field0);
+        columns.put(CUSTOM_FIELD + 1, field1);
+        double[] retrieved = kiePMMLScorecardModel.evaluate(columns);
+        assertThat(retrieved).hasSize(field0.length);
+        for (int i = 0; i < field0.length; i++) {
+            Map<String, Object> requestData = new HashMap<>();
+            if (!Double.isNaN(field0[i])) {
+                requestData.put(CUSTOM_FIELD + 0, field0[i]);
+            }
+            if (!Double.isNaN(field1[i])) {
+                requestData.put(CUSTOM_FIELD + 1, field1[i]);
+            }
+            Object expected = kiePMMLScorecardModel.evaluate(requestData, new PMMLRuntimeContextTest());
+            if (expected == null) {
+                assertThat(retrieved[i]).isNaN();
+            } else {
+                assertThat(retrieved[i]).isEqualTo(((Number) expected).doubleValue());
+            }
+        }
+        assertThat(retrieved[0]).isEqualTo(initialScore + value1);
+        assertThat(retrieved[3]).isNaN();
+    }
+
+    private KiePMMLCharacteristics getBatchKiePMMLCharacteristics() {
+        // <Characteristic name="CUSTOM_FIELD_0" baselineScore="123">
+        //   <Attribute partialScore="100">
+        //     <SimplePredicate field="CUSTOM_FIELD_0" operator="lessThan" value="10"/>
+        //   </Attribute>
+        //   <Attribute partialScore="5">
+        //     <SimplePredicate field="CUSTOM_FIELD_0" operator="lessThan" value="20"/>
+        //   </Attribute>
+        // </Characteristic>
+        // <Characteristic name="CUSTOM_FIELD_1" baselineScore="123">
+        //   <Attribute partialScore="100">
+        //     <SimplePredicate field="CUSTOM_FIELD_1" operator="greaterOrEqual" value="10"/>
+        //   </Attribute>
+        // </Characteristic>
+        List<KiePMMLCharacteristic> toReturn = new ArrayList<>();
+        toReturn.add(KiePMMLCharacteristic.builder(CUSTOM_FIELD + 0,
+                                                   Collections.emptyList(),
+                                                   Arrays.asList(getKiePMMLAttribute(ATTRIBUTE_1 + 0,
+                                                                                     CUSTOM_FIELD + 0,
+                                                                                     OPERATOR.LESS_THAN, 10,
+                                                                                     value1),
+                                                                 getKiePMMLAttribute(ATTRIBUTE_2 + 0,
+                                                                                     CUSTOM_FIELD + 0,
+                                                                                     OPERATOR.LESS_THAN, 20,
+                                                                                     value2)))
+                             .withBaselineScore(baselineScore)
+                             .build());
+        toReturn.add(KiePMMLCharacteristic.builder(CUSTOM_FIELD + 1,
+                                                   Collections.emptyList(),
+                                                   Collections.singletonList(getKiePMMLAttribute(ATTRIBUTE_1 + 1,
+                                                                                                 CUSTOM_FIELD + 1,
+                                                                                                 OPERATOR.GREATER_OR_EQUAL,
+                                                                                                 10,
+                                                                                                 value1)))
+                             .withBaselineScore(baselineScore)
+                             .build());
+        return new KiePMMLCharacteristics("NAME", Collections.emptyList(), toReturn);
+    }
+
+    private KiePMMLAttribute getKiePMMLAttribute(String name, String field, OPERATOR operator, Object value,
+                                                 Double partialScore) {
+        KiePMMLSimplePredicate predicate = KiePMMLSimplePredicate.builder(field, Collections.emptyList(), operator)
+                .withValue(value)
+                .build();
+        return KiePMMLAttribute.builder(name, Collections.emptyList(), predicate)
+                .withPartialScore(partialScore)
+                .build();
+    }
+
     private KiePMMLCharacteristics getKiePMMLCharacteristics() {
         return new KiePMMLCharacteristics("NAME", Collections.emptyList(),
                                           getKiePMMLCharacteristicList());
@@ -76,12 +76,29 @@ public class AbstractPMMLTest {
                                    final String modelName,
                                    final Set<PMMLListener> pmmlListeners) {
         final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, inputData);
+        return pmmlRuntime.evaluate(modelName, getPMMLRuntimeContext(pmmlRuntime, pmmlRequestData, fileName,
+                                                                     pmmlListeners));
+    }
+
+    protected double[] evaluate(final PMMLRuntime pmmlRuntime,
+                                final String fileName,
+                                final String modelName,
+                                final Map<String, double[]> columns) {
+        final PMMLRequestData pmmlRequestData = getPMMLRequestData(modelName, Collections.emptyMap());
+        return pmmlRuntime.evaluate(modelName, columns, getPMMLRuntimeContext(pmmlRuntime, pmmlRequestData, fileName,
+                                                                              Collections.emptySet()));
+    }
+
+    private PMMLRuntimeContext getPMMLRuntimeContext(final PMMLRuntime pmmlRuntime,
+                                                     final PMMLRequestData pmmlRequestData,
+                                                     final String fileName,
+                                                     final Set<PMMLListener> pmmlListeners) {
         KieMemoryCompiler.MemoryCompilerClassLoader memoryCompilerClassLoader =
                 new KieMemoryCompiler.MemoryCompilerClassLoader(Thread.currentThread().getContextClassLoader());
         PMMLRuntimeContext context = new PMMLRuntimeContextImpl(pmmlRequestData, fileName, pmmlListeners,
                                                              memoryCompilerClassLoader);
         context.getGeneratedResourcesMap().putAll(((PMMLRuntimeInternalImpl)pmmlRuntime).getGeneratedResourcesMap());
-        return pmmlRuntime.evaluate(modelName, context);
+        return context;
     }
 
     protected PMMLListenerTest getPMMLListener() {
@@ -0,0 +1,244 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.TypeExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import org.dmg.pmml.False;
+import org.dmg.pmml.Field;
+import org.dmg.pmml.Predicate;
+import org.dmg.pmml.ScoreDistribution;
+import org.dmg.pmml.SimplePredicate;
+import org.dmg.pmml.True;
+import org.dmg.pmml.tree.Node;
+import org.kie.pmml.api.enums.DATA_TYPE;
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.models.tree.model.KiePMMLFlatTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.github.javaparser.StaticJavaParser.parseClassOrInterfaceType;
+import static org.kie.pmml.compiler.api.utils.ModelUtils.getDataType;
+import static org.kie.pmml.compiler.commons.utils.CommonCodegenUtils.getExpressionForObject;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.getKiePMMLScoreDistribution;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.getScoreExpression;
+
+/**
+ * Class meant to generate the code that populates the {@link KiePMMLFlatTree} of a <code>KiePMMLTreeModel</code>,
+ * when all the predicates of the tree are numeric comparisons
+ */
+public class KiePMMLFlatTreeFactory {
+
+    static final String FLAT_TREE = "flatTree";
+    static final String FLAT_TREE_BUILDER = "flatTreeBuilder";
+    static final String POPULATE_FLAT_TREE = "populateFlatTree";
+    static final String ADD_NODE = "addNode";
+    /**
+     * Maximum number of nodes and score distributions added by each generated method, to stay far from the 64KB
+     * limit of the method bytecode
+     */
+    static final int METHOD_SIZE_LIMIT = 500;
+    private static final Set<SimplePredicate.Operator> SUPPORTED_OPERATORS =
+            EnumSet.of(SimplePredicate.Operator.LESS_THAN,
+                       SimplePredicate.Operator.LESS_OR_EQUAL,
+                       SimplePredicate.Operator.GREATER_THAN,
+                       SimplePredicate.Operator.GREATER_OR_EQUAL);
+    private static final Logger logger = LoggerFactory.getLogger(KiePMMLFlatTreeFactory.class.getName());
+
+    private KiePMMLFlatTreeFactory() {
+        // Avoid instantiation
+    }
+
+    /**
+     * Return <code>true</code> if all the predicates of the given <code>Node</code> and of its nested ones are
+     * <b>True</b>, <b>False</b> or <code>SimplePredicate</code>s comparing a numeric field with a numeric value
+     * @param node
+     * @param fields
+     * @return
+     */
+    public static boolean isFlattenable(final Node node, final List<Field<?>> fields) {
+        if (!isFlattenable(node.getPredicate(), fields)) {
+            return false;
+        }
+        if (node.hasNodes()) {
+            for (Node nestedNode : node.getNodes()) {
+                if (!isFlattenable(nestedNode, fields)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add to the given <code>ClassOrInterfaceDeclaration</code> the <b>populateFlatTree(?)</b> methods and append
+     * to the given constructor body their invocations and the <b>flatTree</b> assignment
+     * <p>
+     *     <code>org.kie.pmml.models.tree.model.KiePMMLFlatTree.Builder flatTreeBuilder = org.kie.pmml.models.tree.model.KiePMMLFlatTree.builder(1.0);</code>
+     *     <code>populateFlatTree0(flatTreeBuilder);</code>
+     *     <code>flatTree = flatTreeBuilder.build();</code>
+     * </p>
+     *
+     * @param modelTemplate
+     * @param constructorBody
+     * @param node the root node
+     * @param fields
+     * @param missingValuePenalty
+     */
+    static void populateFlatTree(final ClassOrInterfaceDeclaration modelTemplate,
+                                 final BlockStmt constructorBody,
+                                 final Node node,
+                                 final List<Field<?>> fields,
+                                 final Double missingValuePenalty) {
+        logger.trace("populateFlatTree {}", modelTemplate.getName());
+        final ClassOrInterfaceType builderType =
+                parseClassOrInterfaceType(KiePMMLFlatTree.Builder.class.getCanonicalName());
+        final MethodCallExpr builderInit = new MethodCallExpr();
+        builderInit.setScope(new TypeExpr(parseClassOrInterfaceType(KiePMMLFlatTree.class.getName())));
+        builderInit.setName("builder");
+        builderInit.addArgument(getExpressionForObject(missingValuePenalty != null ? missingValuePenalty : 1.0));
+        constructorBody.addStatement(new VariableDeclarationExpr(new VariableDeclarator(builderType,
+                                                                                        FLAT_TREE_BUILDER,
+                                                                                        builderInit)));
+        final List<BlockStmt> methodBodies = new ArrayList<>();
+        populateNodes(methodBodies, new int[]{METHOD_SIZE_LIMIT}, node, 0, fields);
+        for (int i = 0; i < methodBodies.size(); i++) {
+            final String methodName = POPULATE_FLAT_TREE + i;
+            final MethodDeclaration methodDeclaration = modelTemplate.addMethod(methodName,
+                                                                                Modifier.Keyword.PRIVATE,
+                                                                                Modifier.Keyword.STATIC);
+            methodDeclaration.addParameter(new Parameter(builderType.clone(), FLAT_TREE_BUILDER));
+            methodDeclaration.setBody(methodBodies.get(i));
+            constructorBody.addStatement(new MethodCallExpr(null, methodName,
+                                                            NodeList.nodeList(new NameExpr(FLAT_TREE_BUILDER))));
+        }
+        constructorBody.addStatement(new AssignExpr(new NameExpr(FLAT_TREE),
+                                                    new MethodCallExpr(new NameExpr(FLAT_TREE_BUILDER), "build"),
+                                                    AssignExpr.Operator.ASSIGN));
+    }
+
+    /**
+     * Recursively add the <b>addNode(?)</b> invocations of the given <code>Node</code> and of its nested ones,
+     * in depth-first pre-order, starting a new method body when <code>METHOD_SIZE_LIMIT</code> is reached
+     * @param methodBodies
+     * @param currentSize one element array holding the size of the last method body
+     * @param node
+     * @param depth
+     * @param fields
+     */
+    static void populateNodes(final List<BlockStmt> methodBodies,
+                              final int[] currentSize,
+                              final Node node,
+                              final int depth,
+                              final List<Field<?>> fields) {
+        final int size = 1 + (node.hasScoreDistributions() ? node.getScoreDistributions().size() : 0);
+        if (currentSize[0] + size > METHOD_SIZE_LIMIT) {
+            methodBodies.add(new BlockStmt());
+            currentSize[0] = 0;
+        }
+        currentSize[0] += size;
+        methodBodies.get(methodBodies.size() - 1).addStatement(getAddNodeExpression(node, depth, fields));
+        if (node.hasNodes()) {
+            for (Node nestedNode : node.getNodes()) {
+                populateNodes(methodBodies, currentSize, nestedNode, depth + 1, fields);
+            }
+        }
+    }
+
+    /**
+     * Return the <b>addNode(?)</b> invocation for the given <code>Node</code>
+     * <p>
+     *     <code>flatTreeBuilder.addNode(1, "petal_length", org.kie.pmml.api.enums.OPERATOR.LESS_THAN, 2.45, "setosa", java.util.Arrays.asList(...));</code>
+     * </p>
+     * @param node
+     * @param depth
+     * @param fields
+     * @return
+     */
+    static MethodCallExpr getAddNodeExpression(final Node node, final int depth, final List<Field<?>> fields) {
+        final MethodCallExpr toReturn = new MethodCallExpr(new NameExpr(FLAT_TREE_BUILDER), ADD_NODE);
+        toReturn.addArgument(new IntegerLiteralExpr(String.valueOf(depth)));
+        final Predicate predicate = node.getPredicate();
+        if (predicate instanceof SimplePredicate) {
+            final SimplePredicate simplePredicate = (SimplePredicate) predicate;
+            final OPERATOR operator = OPERATOR.byName(simplePredicate.getOperator().value());
+            toReturn.addArgument(new StringLiteralExpr(simplePredicate.getField()));
+            toReturn.addArgument(new NameExpr(OPERATOR.class.getName() + "." + operator.name()));
+            toReturn.addArgument(getExpressionForObject(getNumericValue(simplePredicate, fields).doubleValue()));
+        } else {
+            toReturn.addArgument(new BooleanLiteralExpr(predicate instanceof True));
+        }
+        toReturn.addArgument(getScoreExpression(node.getScore()));
+        toReturn.addArgument(getScoreDistributionsExpression(node));
+        return toReturn;
+    }
+
+    static Expression getScoreDistributionsExpression(final Node node) {
+        if (!node.hasScoreDistributions()) {
+            return new NullLiteralExpr();
+        }
+        final NodeList<Expression> arguments = new NodeList<>();
+        int counter = 0;
+        for (ScoreDistribution scoreDistribution : node.getScoreDistributions()) {
+            arguments.add(getKiePMMLScoreDistribution(String.format("scoreDistribution_%s", counter), scoreDistribution));
+            counter++;
+        }
+        return new MethodCallExpr(new TypeExpr(parseClassOrInterfaceType(Arrays.class.getName())), "asList",
+                                  arguments);
+    }
+
+    private static boolean isFlattenable(final Predicate predicate, final List<Field<?>> fields) {
+        if (predicate instanceof True || predicate instanceof False) {
+            return true;
+        }
+        if (!(predicate instanceof SimplePredicate)) {
+            return false;
+        }
+        final SimplePredicate simplePredicate = (SimplePredicate) predicate;
+        return SUPPORTED_OPERATORS.contains(simplePredicate.getOperator()) && getNumericValue(simplePredicate, fields) != null;
+    }
+
+    private static Number getNumericValue(final SimplePredicate simplePredicate, final List<Field<?>> fields) {
+        final DATA_TYPE dataType = DATA_TYPE.byName(getDataType(fields, simplePredicate.getField()).value());
+        final Object actualValue = dataType.getActualValue(simplePredicate.getValue());
+        return actualValue instanceof Number ? (Number) actualValue : null;
+    }
+}
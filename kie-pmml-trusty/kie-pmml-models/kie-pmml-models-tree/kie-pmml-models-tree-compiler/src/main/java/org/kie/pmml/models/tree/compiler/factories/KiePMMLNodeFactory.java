@@ -330,14 +330,16 @@ public class KiePMMLNodeFactory {
      * @param scoreParam
      */
     static void populateEvaluateNodeWithScore(final BlockStmt toPopulate, Object scoreParam) {
-        final Expression scoreExpression;
+        CommonCodegenUtils.setVariableDeclaratorValue(toPopulate, SCORE, getScoreExpression(scoreParam));
+    }
+
+    static Expression getScoreExpression(final Object scoreParam) {
         if (scoreParam == null) {
-            scoreExpression = new NullLiteralExpr();
+            return new NullLiteralExpr();
         } else {
             String scoreParamExpr = scoreParam instanceof String ? String.format("\"%s\"", scoreParam) : scoreParam.toString();
-            scoreExpression = new NameExpr(scoreParamExpr);
+            return new NameExpr(scoreParamExpr);
         }
-        CommonCodegenUtils.setVariableDeclaratorValue(toPopulate, SCORE, scoreExpression);
     }
 
     /**
@@ -37,6 +37,8 @@ import org.slf4j.LoggerFactory;
 
 import static org.kie.pmml.commons.Constants.MISSING_DEFAULT_CONSTRUCTOR;
 import static org.kie.pmml.compiler.commons.utils.JavaParserUtils.MAIN_CLASS_NOT_FOUND;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.isFlattenable;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.populateFlatTree;
 import static org.kie.pmml.models.tree.compiler.factories.KiePMMLNodeFactory.getKiePMMLNodeSourcesMap;
 import static org.kie.pmml.models.tree.compiler.utils.KiePMMLTreeModelUtils.createNodeClassName;
 
@@ -90,5 +92,10 @@ public class KiePMMLTreeModelFactory {
         nodeReference.setScope(new NameExpr(fullNodeClassName));
         nodeReference.setIdentifier("evaluateNode");
         CommonCodegenUtils.setAssignExpressionValue(body, "nodeFunction", nodeReference);
+        // set flat tree, used instead of the node function when all the predicates are numeric comparisons
+        if (isFlattenable(compilationDTO.getNode(), compilationDTO.getFields())) {
+            populateFlatTree(modelTemplate, body, compilationDTO.getNode(), compilationDTO.getFields(),
+                             compilationDTO.getMissingValuePenalty());
+        }
     }
 }
@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.pmml.models.tree.compiler.factories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import org.dmg.pmml.DataDictionary;
+import org.dmg.pmml.Field;
+import org.dmg.pmml.PMML;
+import org.dmg.pmml.tree.Node;
+import org.dmg.pmml.tree.TreeModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.kie.pmml.compiler.api.testutils.TestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.kie.pmml.compiler.api.CommonTestingUtils.getFieldsFromDataDictionaryAndDerivedFields;
+import static org.kie.pmml.compiler.api.utils.ModelUtils.getDerivedFields;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.FLAT_TREE;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.FLAT_TREE_BUILDER;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.METHOD_SIZE_LIMIT;
+import static org.kie.pmml.models.tree.compiler.factories.KiePMMLFlatTreeFactory.POPULATE_FLAT_TREE;
+
+public class KiePMMLFlatTreeFactoryTest {
+
+    private static final String NUMERIC_SOURCE = "NumericTree.pmml";
+    private static final String SOURCE_1 = "TreeSample.pmml";
+    private static final String IRIS_SOURCE = "irisTree.pmml";
+    private static Node numericNode;
+    private static List<Field<?>> numericFields;
+
+    @BeforeAll
+    public static void setupClass() throws Exception {
+        PMML pmml = TestUtils.loadFromFile(NUMERIC_SOURCE);
+        TreeModel model = (TreeModel) pmml.getModels().get(0);
+        numericNode = model.getNode();
+        numericFields = getFields(pmml, model);
+    }
+
+    @Test
+    void isFlattenable() throws Exception {
+        assertThat(KiePMMLFlatTreeFactory.isFlattenable(numericNode, numericFields)).isTrue();
+        // equal predicates
+        PMML pmml = TestUtils.loadFromFile(SOURCE_1);
+        TreeModel model = (TreeModel) pmml.getModels().get(0);
+        assertThat(KiePMMLFlatTreeFactory.isFlattenable(model.getNode(), getFields(pmml, model))).isFalse();
+        // compound predicates
+        pmml = TestUtils.loadFromFile(IRIS_SOURCE);
+        model = (TreeModel) pmml.getModels().get(0);
+        assertThat(KiePMMLFlatTreeFactory.isFlattenable(model.getNode(), getFields(pmml, model))).isFalse();
+    }
+
+    @Test
+    void populateFlatTree() {
+        ClassOrInterfaceDeclaration modelTemplate = new ClassOrInterfaceDeclaration();
+        modelTemplate.setName("TreeModel");
+        BlockStmt body = new BlockStmt();
+        KiePMMLFlatTreeFactory.populateFlatTree(modelTemplate, body, numericNode, numericFields, null);
+        assertThat(body.getStatements()).hasSize(3);
+        assertThat(body.getStatement(0).toString())
+                .isEqualTo("org.kie.pmml.models.tree.model.KiePMMLFlatTree.Builder " + FLAT_TREE_BUILDER +
+                                   " = org.kie.pmml.models.tree.model.KiePMMLFlatTree.builder(1.0);");
+        assertThat(body.getStatement(1).toString()).isEqualTo(POPULATE_FLAT_TREE + "0(" + FLAT_TREE_BUILDER + ");");
+        assertThat(body.getStatement(2).toString()).isEqualTo(FLAT_TREE + " = " + FLAT_TREE_BUILDER + ".build();");
+        List<MethodDeclaration> methods = modelTemplate.getMethodsByName(POPULATE_FLAT_TREE + "0");
+        assertThat(methods).hasSize(1);
+        BlockStmt methodBody = methods.get(0).getBody().orElseThrow(IllegalStateException::new);
+        assertThat(methodBody.getStatements()).hasSize(5);
+        assertThat(methodBody.getStatement(0).toString()).startsWith(FLAT_TREE_BUILDER + ".addNode(0, true, \"will play\", java.util.Arrays.asList(");
+        assertThat(methodBody.getStatement(1).toString())
+                .isEqualTo(FLAT_TREE_BUILDER + ".addNode(1, \"temperature\", org.kie.pmml.api.enums.OPERATOR.GREATER_THAN, 90.0, \"no play\", null);");
+        assertThat(methodBody.getStatement(2).toString())
+                .isEqualTo(FLAT_TREE_BUILDER + ".addNode(2, \"humidity\", org.kie.pmml.api.enums.OPERATOR.LESS_OR_EQUAL, 40.0, \"may play\", null);");
+        assertThat(methodBody.getStatement(3).toString())
+                .isEqualTo(FLAT_TREE_BUILDER + ".addNode(1, \"humidity\", org.kie.pmml.api.enums.OPERATOR.GREATER_OR_EQUAL, 80.0, \"may play\", null);");
+        assertThat(methodBody.getStatement(4).toString())
+                .isEqualTo(FLAT_TREE_BUILDER + ".addNode(1, false, \"will play\", null);");
+    }
+
+    @Test
+    void populateNodes() {
+        // the numeric tree weights 8: 5 nodes and 3 score distributions
+        int trees = METHOD_SIZE_LIMIT / 8 + 1;
+        List<BlockStmt> methodBodies = new ArrayList<>();
+        int[] currentSize = {METHOD_SIZE_LIMIT};
+        for (int i = 0; i < trees; i++) {
+            KiePMMLFlatTreeFactory.populateNodes(methodBodies, currentSize, numericNode, 0, numericFields);
+        }
+        assertThat(methodBodies).hasSize(2);
+        int statements = methodBodies.stream().mapToInt(methodBody -> methodBody.getStatements().size()).sum();
+        assertThat(statements).isEqualTo(trees * 5);
+        assertThat(methodBodies.get(1).getStatements().size()).isLessThan(5);
+        methodBodies.forEach(methodBody -> assertThat(methodBody.findAll(MethodCallExpr.class)).isNotEmpty());
+    }
+
+    private static List<Field<?>> getFields(PMML pmml, TreeModel model) {
+        DataDictionary dataDictionary = pmml.getDataDictionary();
+        return getFieldsFromDataDictionaryAndDerivedFields(dataDictionary,
+                                                           getDerivedFields(pmml.getTransformationDictionary(),
+                                                                            model.getLocalTransformations()));
+    }
+}
@@ -0,0 +1,284 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.pmml.models.tree.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+import org.kie.pmml.commons.model.tuples.KiePMMLProbabilityConfidence;
+
+/**
+ * Flattened, array based representation of a tree whose predicates are all numeric comparisons (or constant
+ * <b>True</b>/<b>False</b>), evaluated with a plain loop over a <code>double[]</code> row instead of the chain of
+ * generated <b>evaluateNode</b> functions.
+ * <p>
+ * Nodes are stored in depth-first pre-order, so the first child of a node (if any) always follows it; the other
+ * children are reached through <code>nextSiblings</code>. Missing or non numeric inputs are represented
+ * as <code>NaN</code>, that makes every comparison fail, as done by {@link org.kie.pmml.commons.model.predicates.KiePMMLSimplePredicate}.
+ * Evaluation follows the <i>returnLastPrediction</i> strategy of the generated nodes: when no child matches,
+ * the last matching node is returned.
+ */
+public class KiePMMLFlatTree implements Serializable {
+
+    private static final long serialVersionUID = 3525236512359839541L;
+
+    static final byte TRUE = 0;
+    static final byte FALSE = 1;
+    static final byte LESS_THAN = 2;
+    static final byte LESS_OR_EQUAL = 3;
+    static final byte GREATER_THAN = 4;
+    static final byte GREATER_OR_EQUAL = 5;
+
+    private final String[] fieldNames;
+    private final int[] fieldIndexes;
+    private final byte[] operators;
+    private final double[] thresholds;
+    private final int[] firstChildren;
+    private final int[] nextSiblings;
+    private final Object[] scores;
+    private final List<LinkedHashMap<String, Double>> probabilityMaps;
+
+    private KiePMMLFlatTree(final Builder builder) {
+        int size = builder.operators.size();
+        fieldNames = builder.fieldNames.toArray(new String[0]);
+        fieldIndexes = new int[size];
+        operators = new byte[size];
+        thresholds = new double[size];
+        firstChildren = new int[size];
+        nextSiblings = new int[size];
+        scores = builder.scores.toArray();
+        probabilityMaps = builder.probabilityMaps;
+        for (int i = 0; i < size; i++) {
+            fieldIndexes[i] = builder.fieldIndexes.get(i);
+            operators[i] = builder.operators.get(i);
+            thresholds[i] = builder.thresholds.get(i);
+            firstChildren[i] = builder.firstChildren.get(i);
+            nextSiblings[i] = builder.nextSiblings.get(i);
+        }
+    }
+
+    public static Builder builder(final double missingValuePenalty) {
+        return new Builder(missingValuePenalty);
+    }
+
+    /**
+     * @return the names of the input fields, in the order expected by {@link #toRow(Map)} and {@link #evaluate(double[][])}
+     */
+    public String[] getFieldNames() {
+        return fieldNames.clone();
+    }
+
+    public int size() {
+        return operators.length;
+    }
+
+    /**
+     * Resolve the given input data in a row of <code>double</code>s, ordered as {@link #getFieldNames()}
+     * @param requestData
+     * @return
+     */
+    public double[] toRow(final Map<String, Object> requestData) {
+        double[] toReturn = new double[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            Object value = requestData.get(fieldNames[i]);
+            toReturn[i] = value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+        }
+        return toReturn;
+    }
+
+    /**
+     * Return the index of the node selected by the given row, or <code>-1</code> if the root node does not match
+     * @param row
+     * @return
+     */
+    public int findNode(final double[] row) {
+        if (!matches(0, row)) {
+            return -1;
+        }
+        int node = 0;
+        int child = firstChildren[0];
+        while (child != -1) {
+            if (matches(child, row)) {
+                node = child;
+                child = firstChildren[child];
+            } else {
+                child = nextSiblings[child];
+            }
+        }
+        return node;
+    }
+
+    public Object getScore(final int node) {
+        return node < 0 ? null : scores[node];
+    }
+
+    /**
+     * Return a copy of the probability map of the given node, empty if <code>node</code> is <code>-1</code>
+     * @param node
+     * @return
+     */
+    public LinkedHashMap<String, Double> getProbabilityMap(final int node) {
+        return node < 0 ? new LinkedHashMap<>() : new LinkedHashMap<>(probabilityMaps.get(node));
+    }
+
+    /**
+     * Evaluate the score of each of the given rows; <code>null</code> is returned for rows not matching the root node
+     * @param rows
+     * @return
+     */
+    public Object[] evaluate(final double[][] rows) {
+        Object[] toReturn = new Object[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i].length != fieldNames.length) {
+                throw new KiePMMLException(String.format("Row %s has %s values, %s expected", i, rows[i].length,
+                                                         fieldNames.length));
+            }
+            toReturn[i] = getScore(findNode(rows[i]));
+        }
+        return toReturn;
+    }
+
+    private boolean matches(final int node, final double[] row) {
+        switch (operators[node]) {
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case LESS_THAN:
+                return row[fieldIndexes[node]] < thresholds[node];
+            case LESS_OR_EQUAL:
+                return row[fieldIndexes[node]] <= thresholds[node];
+            case GREATER_THAN:
+                return row[fieldIndexes[node]] > thresholds[node];
+            case GREATER_OR_EQUAL:
+                return row[fieldIndexes[node]] >= thresholds[node];
+            default:
+                throw new KiePMMLException("Unknown operator " + operators[node]);
+        }
+    }
+
+    /**
+     * Builder fed with the nodes in depth-first pre-order, each one with its own <b>depth</b> (<code>0</code> for the root)
+     */
+    public static class Builder {
+
+        private final double missingValuePenalty;
+        private final List<String> fieldNames = new ArrayList<>();
+        private final List<Integer> fieldIndexes = new ArrayList<>();
+        private final List<Byte> operators = new ArrayList<>();
+        private final List<Double> thresholds = new ArrayList<>();
+        private final List<Integer> firstChildren = new ArrayList<>();
+        private final List<Integer> nextSiblings = new ArrayList<>();
+        private final List<Object> scores = new ArrayList<>();
+        private final List<LinkedHashMap<String, Double>> probabilityMaps = new ArrayList<>();
+        // path from the root to the last added node
+        private final List<Integer> path = new ArrayList<>();
+        // last child added to each node of the path
+        private final List<Integer> lastChildren = new ArrayList<>();
+
+        private Builder(final double missingValuePenalty) {
+            this.missingValuePenalty = missingValuePenalty;
+        }
+
+        public Builder addNode(final int depth, final boolean predicate, final Object score,
+                               final List<KiePMMLScoreDistribution> scoreDistributions) {
+            return addNode(depth, -1, predicate ? TRUE : FALSE, 0, score, scoreDistributions);
+        }
+
+        public Builder addNode(final int depth, final String fieldName, final OPERATOR operator, final double value,
+                               final Object score, final List<KiePMMLScoreDistribution> scoreDistributions) {
+            final byte toAdd = getOperator(operator);
+            checkDepth(depth);
+            int fieldIndex = fieldNames.indexOf(fieldName);
+            if (fieldIndex == -1) {
+                fieldIndex = fieldNames.size();
+                fieldNames.add(fieldName);
+            }
+            return addNode(depth, fieldIndex, toAdd, value, score, scoreDistributions);
+        }
+
+        public KiePMMLFlatTree build() {
+            if (operators.isEmpty()) {
+                throw new KiePMMLException("Missing root node");
+            }
+            return new KiePMMLFlatTree(this);
+        }
+
+        private Builder addNode(final int depth, final int fieldIndex, final byte operator, final double value,
+                                final Object score, final List<KiePMMLScoreDistribution> scoreDistributions) {
+            checkDepth(depth);
+            int node = operators.size();
+            fieldIndexes.add(fieldIndex);
+            operators.add(operator);
+            thresholds.add(value);
+            firstChildren.add(-1);
+            nextSiblings.add(-1);
+            scores.add(score);
+            LinkedHashMap<String, Double> probabilityMap = new LinkedHashMap<>();
+            for (Map.Entry<String, KiePMMLProbabilityConfidence> entry :
+                    KiePMMLNode.getProbabilityConfidenceMap(scoreDistributions, missingValuePenalty).entrySet()) {
+                probabilityMap.put(entry.getKey(), entry.getValue().getProbability());
+            }
+            probabilityMaps.add(probabilityMap);
+            while (path.size() > depth) {
+                path.remove(path.size() - 1);
+                lastChildren.remove(lastChildren.size() - 1);
+            }
+            if (depth > 0) {
+                int parent = path.get(depth - 1);
+                int previousSibling = lastChildren.get(depth - 1);
+                if (previousSibling == -1) {
+                    firstChildren.set(parent, node);
+                } else {
+                    nextSiblings.set(previousSibling, node);
+                }
+                lastChildren.set(depth - 1, node);
+            }
+            path.add(node);
+            lastChildren.add(-1);
+            return this;
+        }
+
+        private void checkDepth(final int depth) {
+            if (depth < 0 || depth > path.size() || (depth == 0 && !operators.isEmpty())) {
+                throw new KiePMMLException(String.format("Unexpected depth %s for node %s", depth, operators.size()));
+            }
+        }
+
+        private static byte getOperator(final OPERATOR operator) {
+            switch (operator) {
+                case LESS_THAN:
+                    return LESS_THAN;
+                case LESS_OR_EQUAL:
+                    return LESS_OR_EQUAL;
+                case GREATER_THAN:
+                    return GREATER_THAN;
+                case GREATER_OR_EQUAL:
+                    return GREATER_OR_EQUAL;
+                default:
+                    throw new KiePMMLException("Operator " + operator + " is not supported by flattened trees");
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.kie.pmml.api.exceptions.KiePMMLException;
 import org.kie.pmml.api.runtime.PMMLRuntimeContext;
 import org.kie.pmml.commons.model.KiePMMLModel;
 
@@ -30,6 +31,10 @@ public abstract class KiePMMLTreeModel extends KiePMMLModel {
     private static final long serialVersionUID = -5158590062736070465L;
 
     protected Function<Map<String, Object>, KiePMMLNodeResult> nodeFunction;
+    /**
+     * Array based copy of the tree, set only when all its predicates are numeric comparisons
+     */
+    protected KiePMMLFlatTree flatTree;
 
     protected KiePMMLTreeModel(String fileName, String modelName) {
         super(fileName, modelName, Collections.emptyList());
@@ -38,9 +43,39 @@ public abstract class KiePMMLTreeModel extends KiePMMLModel {
     @Override
     public Object evaluate(final Map<String, Object> requestData,
                            final PMMLRuntimeContext context) {
+        if (flatTree != null) {
+            int node = flatTree.findNode(flatTree.toRow(requestData));
+            context.setProbabilityResultMap(flatTree.getProbabilityMap(node));
+            return flatTree.getScore(node);
+        }
         KiePMMLNodeResult kiePMMLNodeResult = nodeFunction.apply(requestData);
         context.setProbabilityResultMap(kiePMMLNodeResult.getProbabilityMap());
         return kiePMMLNodeResult.getScore();
     }
 
+    /**
+     * Evaluate the scores of the given rows, whose values are ordered as {@link #getFlatTreeFieldNames()}
+     * and are <code>NaN</code> when missing
+     * @param rows
+     * @return
+     */
+    public Object[] evaluate(final double[][] rows) {
+        return getFlatTree().evaluate(rows);
+    }
+
+    public String[] getFlatTreeFieldNames() {
+        return getFlatTree().getFieldNames();
+    }
+
+    public boolean isFlattened() {
+        return flatTree != null;
+    }
+
+    private KiePMMLFlatTree getFlatTree() {
+        if (flatTree == null) {
+            throw new KiePMMLException("Model " + name + " can not be evaluated in batch: it contains non numeric predicates");
+        }
+        return flatTree;
+    }
+
 }
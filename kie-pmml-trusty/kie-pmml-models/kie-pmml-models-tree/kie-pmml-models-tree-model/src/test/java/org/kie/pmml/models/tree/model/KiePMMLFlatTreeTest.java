@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.kie.pmml.models.tree.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kie.pmml.api.enums.OPERATOR;
+import org.kie.pmml.api.exceptions.KiePMMLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class KiePMMLFlatTreeTest {
+
+    private static final double NaN = Double.NaN;
+
+    private KiePMMLFlatTree flatTree;
+
+    @BeforeEach
+    void setup() {
+        List<KiePMMLScoreDistribution> rootDistributions = Arrays.asList(
+                new KiePMMLScoreDistribution("scoreDistribution_0", null, "will play", 60, null, null),
+                new KiePMMLScoreDistribution("scoreDistribution_1", null, "no play", 40, null, null));
+        flatTree = KiePMMLFlatTree.builder(1.0)
+                .addNode(0, true, "will play", rootDistributions)
+                .addNode(1, "temperature", OPERATOR.GREATER_THAN, 90, "no play", null)
+                .addNode(2, "humidity", OPERATOR.LESS_OR_EQUAL, 40, "may play", null)
+                .addNode(1, "humidity", OPERATOR.GREATER_OR_EQUAL, 80, "may play", null)
+                .addNode(1, false, "no play", null)
+                .build();
+    }
+
+    @Test
+    void getFieldNames() {
+        assertThat(flatTree.getFieldNames()).containsExactly("temperature", "humidity");
+        assertThat(flatTree.size()).isEqualTo(5);
+    }
+
+    @Test
+    void toRow() {
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("temperature", 95);
+        requestData.put("humidity", "high");
+        assertThat(flatTree.toRow(requestData)).containsExactly(95.0, NaN);
+    }
+
+    @Test
+    void findNode() {
+        assertThat(flatTree.findNode(new double[]{95, 30})).isEqualTo(2);
+        // no matching child: last prediction
+        assertThat(flatTree.findNode(new double[]{95, 50})).isEqualTo(1);
+        // first matching child wins
+        assertThat(flatTree.findNode(new double[]{95, 90})).isEqualTo(1);
+        assertThat(flatTree.findNode(new double[]{70, 90})).isEqualTo(3);
+        assertThat(flatTree.findNode(new double[]{70, 50})).isZero();
+        // missing values never match
+        assertThat(flatTree.findNode(new double[]{NaN, NaN})).isZero();
+        assertThat(flatTree.findNode(new double[]{95, NaN})).isEqualTo(1);
+    }
+
+    @Test
+    void findNodeNotMatchingRoot() {
+        KiePMMLFlatTree toVerify = KiePMMLFlatTree.builder(1.0)
+                .addNode(0, "temperature", OPERATOR.LESS_THAN, 90, "will play", null)
+                .build();
+        assertThat(toVerify.findNode(new double[]{95})).isEqualTo(-1);
+        assertThat(toVerify.getScore(-1)).isNull();
+        assertThat(toVerify.getProbabilityMap(-1)).isEmpty();
+    }
+
+    @Test
+    void getProbabilityMap() {
+        LinkedHashMap<String, Double> retrieved = flatTree.getProbabilityMap(0);
+        assertThat(retrieved).containsExactly(Map.entry("will play", 0.6), Map.entry("no play", 0.4));
+        retrieved.clear();
+        assertThat(flatTree.getProbabilityMap(0)).hasSize(2);
+        assertThat(flatTree.getProbabilityMap(1)).isEmpty();
+    }
+
+    @Test
+    void evaluate() {
+        double[][] rows = {{95, 30}, {95, 50}, {70, 90}, {70, 50}, {NaN, NaN}};
+        assertThat(flatTree.evaluate(rows)).containsExactly("may play", "no play", "may play", "will play", "will play");
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> flatTree.evaluate(new double[][]{{95}}));
+    }
+
+    @Test
+    void builderWrongDepth() {
+        KiePMMLFlatTree.Builder builder = KiePMMLFlatTree.builder(1.0);
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> builder.addNode(1, true, null, null));
+        builder.addNode(0, true, null, null);
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> builder.addNode(0, true, null, null));
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> builder.addNode(2, true, null, null));
+        assertThatExceptionOfType(KiePMMLException.class)
+                .isThrownBy(() -> builder.addNode(1, "temperature", OPERATOR.EQUAL, 90, null, null));
+        assertThatExceptionOfType(KiePMMLException.class).isThrownBy(() -> KiePMMLFlatTree.builder(1.0).build());
+    }
+}